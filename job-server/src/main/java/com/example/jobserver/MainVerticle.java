@@ -2,12 +2,14 @@ package com.example.jobserver;
 
 import com.example.jobserver.config.AppConfig;
 import com.example.jobserver.config.AppModule;
+import com.example.jobserver.metrics.MetricsRegistry;
+import com.example.jobserver.web.BatchSubmitHandler;
 import com.example.jobserver.web.OpenApiJobRouter;
 
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Promise;
-import io.vertx.core.ThreadingModel;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.StaticHandler;
@@ -30,34 +32,98 @@ public class MainVerticle extends AbstractVerticle {
         // 2. Initialize all dependencies
         AppModule appModule = new AppModule(vertx, config);
 
-        // 3. Deploy Worker Verticles (runs on worker thread pool)
+        // 3. Deploy Worker Verticles (worker thread pool by default; event loop or virtual threads via config)
         DeploymentOptions workerOptions = new DeploymentOptions()
-            .setThreadingModel(ThreadingModel.WORKER)
+            .setThreadingModel(config.getWorkerThreadingModel())
             .setInstances(config.getWorkerInstances());
 
         vertx.deployVerticle(appModule::createWorkerVerticle, workerOptions, ar -> {
             if (ar.succeeded()) {
-                log.info("Deployed {} JobWorkerVerticle instances: {}", config.getWorkerInstances(), ar.result());
+                log.info("Deployed {} JobWorkerVerticle instances ({}): {}", config.getWorkerInstances(),
+                    config.getWorkerThreadingModel(), ar.result());
             } else {
                 log.error("Failed to deploy JobWorkerVerticle", ar.cause());
             }
         });
 
-        // 4. Create OpenAPI router and start HTTP server
+        // 4. Deploy the lease reaper (re-queues jobs orphaned by dead workers)
+        vertx.deployVerticle(appModule.createLeaseReaperVerticle(), ar -> {
+            if (ar.succeeded()) {
+                log.info("Deployed LeaseReaperVerticle: {}", ar.result());
+            } else {
+                log.error("Failed to deploy LeaseReaperVerticle", ar.cause());
+            }
+        });
+
+        // 5. Deploy the queue depth monitor (drives 429 admission control)
+        vertx.deployVerticle(appModule.createQueueDepthMonitorVerticle(), ar -> {
+            if (ar.failed()) {
+                log.error("Failed to deploy QueueDepthMonitorVerticle", ar.cause());
+            }
+        });
+
+        // 6. Deploy priority aging (stops low-priority jobs from starving)
+        vertx.deployVerticle(appModule.createPriorityAgingVerticle(), ar -> {
+            if (ar.failed()) {
+                log.error("Failed to deploy PriorityAgingVerticle", ar.cause());
+            }
+        });
+
+        // 7. Deploy the fair-share refresh (finds users with pending jobs submitted elsewhere)
+        vertx.deployVerticle(appModule.createFairShareRefreshVerticle(), ar -> {
+            if (ar.failed()) {
+                log.error("Failed to deploy FairShareRefreshVerticle", ar.cause());
+            }
+        });
+
+        // 8. Deploy the scheduled job dispatcher (timer wheel for delayed jobs)
+        vertx.deployVerticle(appModule.createScheduledJobDispatcherVerticle(), ar -> {
+            if (ar.failed()) {
+                log.error("Failed to deploy ScheduledJobDispatcherVerticle", ar.cause());
+            }
+        });
+
+        // 9. Deploy partition maintenance when enabled (daily partitions of the jobs tables, dropped past retention)
+        if (config.isJobPartitioningEnabled()) {
+            vertx.deployVerticle(appModule.createPartitionMaintenanceVerticle(), ar -> {
+                if (ar.failed()) {
+                    log.error("Failed to deploy PartitionMaintenanceVerticle", ar.cause());
+                }
+            });
+        }
+
+        // 10. Deploy the archiver when enabled (old finished jobs move to jobs_archive in throttled chunks)
+        if (config.isArchiveEnabled()) {
+            vertx.deployVerticle(appModule.createJobArchiverVerticle(), ar -> {
+                if (ar.failed()) {
+                    log.error("Failed to deploy JobArchiverVerticle", ar.cause());
+                }
+            });
+        }
+
+        // 11. Create OpenAPI router and start HTTP server
         OpenApiJobRouter openApiRouter = new OpenApiJobRouter(appModule.getJobService());
+        BatchSubmitHandler batchSubmitHandler =
+            new BatchSubmitHandler(appModule.getJobService(), config.getBatchSubmitChunkSize());
 
         openApiRouter.createRouter(vertx)
-            .onSuccess(apiRouter -> startHttpServer(config, apiRouter, startPromise))
+            .onSuccess(apiRouter -> startHttpServer(config, apiRouter, batchSubmitHandler,
+                appModule.getMetricsRegistry(), startPromise))
             .onFailure(err -> {
                 log.error("Failed to create OpenAPI router", err);
                 startPromise.fail(err);
             });
     }
 
-    private void startHttpServer(AppConfig config, Router apiRouter, Promise<Void> startPromise) {
+    private void startHttpServer(AppConfig config, Router apiRouter, BatchSubmitHandler batchSubmitHandler,
+                                 MetricsRegistry metricsRegistry, Promise<Void> startPromise) {
         Router mainRouter = Router.router(vertx);
 
-        // Body handler for all routes
+        // Bulk submission streams its body, so it is routed ahead of the body handler
+        // (as a regex: in a plain path ":batch" would be a path parameter)
+        mainRouter.routeWithRegex(HttpMethod.POST, "/jobs:batch").handler(batchSubmitHandler);
+
+        // Body handler for all other routes
         mainRouter.route().handler(BodyHandler.create());
 
         // Swagger UI - accessible at /docs or /swagger
@@ -80,6 +146,13 @@ public class MainVerticle extends AbstractVerticle {
                 .sendFile("openapi.yaml");
         });
 
+        // Runtime metrics (worker load, external limiter, ...) as JSON
+        mainRouter.get("/metrics").handler(ctx -> {
+            ctx.response()
+                .putHeader("Content-Type", "application/json")
+                .end(metricsRegistry.snapshot().encode());
+        });
+
         // Mount OpenAPI routes at root (paths defined in openapi.yaml)
         mainRouter.route("/*").subRouter(apiRouter);
 
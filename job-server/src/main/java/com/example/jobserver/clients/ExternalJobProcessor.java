@@ -4,7 +4,25 @@ import com.example.jobserver.model.Job;
 import com.example.jobserver.model.JobResult;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
 public interface ExternalJobProcessor {
     Future<JobResult> process(Job job);
-}
\ No newline at end of file
+
+    /**
+     * Same as {@link #process(Job)}, but gives up as soon as {@code abort} fails (job timed out or was
+     * cancelled): the returned future then fails with the same cause right away, so the caller gets its
+     * slot back without waiting for the external service.
+     *
+     * <p>The default only stops waiting and lets the call finish in the background; implementations
+     * that can abort the call itself should override this.
+     */
+    default Future<JobResult> process(Job job, Future<Void> abort) {
+        Promise<JobResult> promise = Promise.promise();
+        process(job)
+            .onSuccess(promise::tryComplete)
+            .onFailure(promise::tryFail);
+        abort.onFailure(promise::tryFail);
+        return promise.future();
+    }
+}
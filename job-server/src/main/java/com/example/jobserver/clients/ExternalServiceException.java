@@ -0,0 +1,19 @@
+package com.example.jobserver.clients;
+
+/**
+ * The external service answered with an error status.
+ * Carries the status code so callers can tell transient failures (5xx, 429) from rejected jobs.
+ */
+public class ExternalServiceException extends RuntimeException {
+
+    private final int statusCode;
+
+    public ExternalServiceException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
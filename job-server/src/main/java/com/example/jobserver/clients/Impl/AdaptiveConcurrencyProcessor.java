@@ -0,0 +1,208 @@
+package com.example.jobserver.clients.Impl;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobResult;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Builder;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Decorator that limits concurrent calls to any {@link ExternalJobProcessor} and adapts the limit
+ * to what the downstream service can currently take (AIMD on latency and errors):
+ * <ul>
+ *   <li>the limit grows by {@code 1/limit} per successful call made while the limit was saturated;</li>
+ *   <li>it shrinks by {@code backoffRatio} when a call fails or its RTT exceeds
+ *       {@code latencyTolerance} x the no-load RTT, at most once per observed RTT.</li>
+ * </ul>
+ * The no-load RTT is the minimum over a window of samples. It may only creep up slowly between
+ * windows, so a service that is saturated for a whole window cannot talk the limiter into more load.
+ *
+ * <p>Calls above the limit wait in a FIFO queue. Callers come from several worker contexts, so state is
+ * guarded by this object's monitor and queued calls are started on their caller's context.
+ * An aborted call leaves the queue right away; a cancelled one is not taken as a congestion signal,
+ * while a timeout is.
+ */
+public class AdaptiveConcurrencyProcessor implements ExternalJobProcessor {
+
+    private static final int RTT_SAMPLES_KEPT = 100;
+    private static final int MIN_RTT_WINDOW = 500;
+    private static final double MAX_BASELINE_GROWTH = 1.25;
+
+    private final ExternalJobProcessor delegate;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private final long[] recentRttNanos = new long[RTT_SAMPLES_KEPT];
+    private long recentRttCount;
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private long lastDecreaseNanos;
+    private long lastRttNanos;
+
+    @Builder
+    public AdaptiveConcurrencyProcessor(ExternalJobProcessor delegate, int initialLimit, int minLimit, int maxLimit,
+                                        double latencyTolerance, double backoffRatio) {
+        this.delegate = delegate;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public Future<JobResult> process(Job job) {
+        return process(job, Promise.<Void>promise().future());
+    }
+
+    @Override
+    public Future<JobResult> process(Job job, Future<Void> abort) {
+        Context context = Vertx.currentContext();
+        Promise<JobResult> promise = Promise.promise();
+        Runnable call = () -> {
+            if (context != null) {
+                context.runOnContext(v -> invoke(job, abort, promise));
+            } else {
+                invoke(job, abort, promise);
+            }
+        };
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = inFlight < (int) limit;
+            if (startNow) {
+                inFlight++;
+            } else {
+                waiting.add(call);
+            }
+        }
+        if (startNow) {
+            invoke(job, abort, promise);
+        } else {
+            abort.onFailure(err -> {
+                boolean dequeued;
+                synchronized (this) {
+                    dequeued = waiting.remove(call);
+                }
+                if (dequeued) {
+                    promise.tryFail(err);
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    private void invoke(Job job, Future<Void> abort, Promise<JobResult> promise) {
+        long start = System.nanoTime();
+        boolean saturated;
+        synchronized (this) {
+            saturated = inFlight >= (int) limit;
+        }
+        Future<JobResult> result;
+        try {
+            result = delegate.process(job, abort);
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+        result.onComplete(ar -> {
+            boolean cancelled = ar.failed() && ar.cause() instanceof CancellationException;
+            onComplete(System.nanoTime() - start, ar.succeeded(), saturated, !cancelled);
+            promise.handle(ar);
+        });
+    }
+
+    private void onComplete(long rttNanos, boolean success, boolean saturated, boolean adapt) {
+        Runnable next = null;
+        synchronized (this) {
+            inFlight--;
+            if (adapt) {
+                adapt(rttNanos, success, saturated);
+            }
+            if (inFlight < (int) limit && !waiting.isEmpty()) {
+                inFlight++;
+                next = waiting.poll();
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    /**
+     * AIMD step for one completed call. Caller holds the monitor.
+     */
+    private void adapt(long rttNanos, boolean success, boolean saturated) {
+        recordRtt(rttNanos);
+
+        long now = System.nanoTime();
+        boolean congested = !success || rttNanos > minRttNanos * latencyTolerance;
+        if (congested) {
+            // One multiplicative decrease per RTT: a burst of slow responses is a single congestion event
+            if (now - lastDecreaseNanos > lastRttNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        lastRttNanos = rttNanos;
+    }
+
+    private void recordRtt(long rttNanos) {
+        recentRttNanos[(int) (recentRttCount++ % RTT_SAMPLES_KEPT)] = rttNanos;
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (minRttNanos == Long.MAX_VALUE || rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+        }
+        if (++windowSamples >= MIN_RTT_WINDOW) {
+            minRttNanos = (long) Math.min(windowMinRttNanos, minRttNanos * MAX_BASELINE_GROWTH);
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    /**
+     * Snapshot for {@code GET /metrics}: current limit, load and the most recent RTT samples in ms.
+     */
+    public synchronized JsonObject metrics() {
+        JsonArray rtts = new JsonArray();
+        long samples = Math.min(recentRttCount, RTT_SAMPLES_KEPT);
+        for (long i = recentRttCount - samples; i < recentRttCount; i++) {
+            rtts.add(recentRttNanos[(int) (i % RTT_SAMPLES_KEPT)] / 1_000_000.0);
+        }
+        return new JsonObject()
+            .put("limit", (int) limit)
+            .put("inFlight", inFlight)
+            .put("queued", waiting.size())
+            .put("minRttMs", minRttNanos == Long.MAX_VALUE ? null : minRttNanos / 1_000_000.0)
+            .put("recentRttMs", rtts);
+    }
+}
@@ -1,27 +1,51 @@
 package com.example.jobserver.clients.Impl;
 
 import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.clients.ExternalServiceException;
 import com.example.jobserver.model.Job;
 import com.example.jobserver.model.JobResult;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.client.WebClient;
-import lombok.RequiredArgsConstructor;  
 
 import lombok.extern.slf4j.Slf4j;
 
 
 @Slf4j
-@RequiredArgsConstructor
 public class ThirdPartyPythonClient implements ExternalJobProcessor {
 
-    private final WebClient client;
+    private final HttpClient client;
     private final String externalApiUrl;
 
+    public ThirdPartyPythonClient(HttpClient client, String externalApiUrl) {
+        this.client = client;
+        this.externalApiUrl = externalApiUrl;
+    }
 
     @Override
     public Future<JobResult> process(Job job) {
+        return send(job, null);
+    }
+
+    /**
+     * Resets the HTTP request when {@code abort} fails, so a hung call does not keep its connection either.
+     */
+    @Override
+    public Future<JobResult> process(Job job, Future<Void> abort) {
+        Promise<JobResult> promise = Promise.promise();
+        send(job, abort)
+            .onSuccess(promise::tryComplete)
+            .onFailure(promise::tryFail);
+        abort.onFailure(promise::tryFail);
+        return promise.future();
+    }
+
+    private Future<JobResult> send(Job job, Future<Void> abort) {
         JsonObject body = new JsonObject().put("jobId", job.getId());
 
         // Build full absolute URL and use postAbs()
@@ -31,14 +55,24 @@ public class ThirdPartyPythonClient implements ExternalJobProcessor {
 
         log.info("Calling external API: {} for job {}", fullUrl, job.getId());
 
-        return client.postAbs(fullUrl)
-            .sendJsonObject(body)
-            .map(resp -> {
-                if (resp.statusCode() >= 400) {
-                    throw new RuntimeException("External API returned error: " + resp.statusCode() + " - " + resp.bodyAsString());
+        RequestOptions options = new RequestOptions()
+            .setMethod(HttpMethod.POST)
+            .setAbsoluteURI(fullUrl)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+        return client.request(options)
+            .compose(request -> {
+                if (abort != null) {
+                    abort.onFailure(err -> request.reset(0, err));
                 }
-                return new JobResult(resp.bodyAsJsonObject());
+                return request.send(body.toBuffer());
             })
+            .compose(resp -> resp.body().map(buffer -> {
+                if (resp.statusCode() >= 400) {
+                    throw new ExternalServiceException(resp.statusCode(),
+                        "External API returned error: " + resp.statusCode() + " - " + buffer);
+                }
+                return new JobResult(buffer.toJsonObject());
+            }))
             .onFailure(err -> log.error("Failed to process job {}: {}", job.getId(), err.getMessage()))
             .onSuccess(result -> log.info("Job {} processed successfully", job.getId()));
     }
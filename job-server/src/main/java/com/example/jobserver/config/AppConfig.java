@@ -1,8 +1,14 @@
 package com.example.jobserver.config;
 
+import com.example.jobserver.model.PayloadCodec;
+
+import io.vertx.core.ThreadingModel;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Application configuration - loaded from environment variables with defaults.
  */
@@ -16,9 +22,76 @@ public class AppConfig {
     private final String dbPassword;
     private final String dbName;
     private final int dbPoolSize;
+    private final int dbMaxWaitQueueSize;
+    private final long dbConnectTimeoutMs;
+    private final long dbAcquireTimeoutMs;
+    private final long dbIdleTimeoutMs;
+    private final long dbMaxLifetimeMs;
+    private final int dbPoolEventLoopSize;
+    private final boolean dbPoolShared;
+    private final boolean dbCachePreparedStatements;
+    private final int dbPreparedStatementCacheMaxSize;
+    private final int dbPreparedStatementCacheSqlLimit;
+    private final int dbPipeliningLimit;
+    private final int dbPipelinedPoolSize;
+    private final int sqlStatementCacheSize;
+    private final boolean insertBatchingEnabled;
+    private final long insertBatchMaxDelayMs;
+    private final int insertBatchMaxSize;
+    private final int batchSubmitChunkSize;
+    private final boolean writeBehindEnabled;
+    private final long writeBehindMaxDelayMs;
+    private final int writeBehindMaxBatchSize;
     private final int httpPort;
     private final int workerInstances;
+    private final ThreadingModel workerThreadingModel;
     private final String externalApiUrl;
+    private final boolean externalAdaptiveLimitEnabled;
+    private final int externalLimitInitial;
+    private final int externalLimitMin;
+    private final int externalLimitMax;
+    private final double externalLimitLatencyTolerance;
+    private final double externalLimitBackoffRatio;
+    private final int workerClaimBatchSize;
+    private final int workerMaxInFlight;
+    private final int workerLocalQueueSize;
+    private final int globalMaxInFlight;
+    private final int queueHighWaterMark;
+    private final long queueDepthRefreshMs;
+    private final long workerPollIntervalMs;
+    private final long jobLeaseSeconds;
+    private final int jobDefaultTimeoutSeconds;
+    private final long leaseReaperIntervalMs;
+    private final int leaseReaperBatchSize;
+    private final long priorityAgingMs;
+    private final int priorityAgingBatchSize;
+    private final int fairShareQuantum;
+    private final Map<Long, Integer> userWeights;
+    private final long fairShareRefreshMs;
+    private final int fairShareMaxUsers;
+    private final long schedulerTickMs;
+    private final long schedulerHorizonMs;
+    private final int schedulerLoadBatchSize;
+    private final int retryMaxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final double retryJitter;
+    private final double retryBudgetPerSecond;
+    private final int retryBudgetBurst;
+    private final boolean jobPartitioningEnabled;
+    private final int jobPartitionAheadDays;
+    private final int jobPartitionRetentionDays;
+    private final long jobPartitionMaintenanceMs;
+    private final boolean archiveEnabled;
+    private final int archiveAfterDays;
+    private final int archiveChunkSize;
+    private final long archiveIntervalMs;
+    private final long archiveTargetChunkMs;
+    private final long archiveMinPauseMs;
+    private final long archiveMaxPauseMs;
+    private final boolean payloadCompressionEnabled;
+    private final PayloadCodec payloadCompressionCodec;
+    private final int payloadCompressionThresholdBytes;
 
     /**
      * Load configuration from environment variables with sensible defaults.
@@ -31,15 +104,84 @@ public class AppConfig {
             .dbPassword(getEnv("DB_PASS", "root"))
             .dbName(getEnv("DB_NAME", "jobs"))
             .dbPoolSize(getEnvInt("DB_POOL_SIZE", 10))
+            .dbMaxWaitQueueSize(getEnvInt("DB_MAX_WAIT_QUEUE_SIZE", -1))
+            .dbConnectTimeoutMs(getEnvLong("DB_CONNECT_TIMEOUT_MS", 5000L))
+            .dbAcquireTimeoutMs(getEnvLong("DB_ACQUIRE_TIMEOUT_MS", 30000L))
+            .dbIdleTimeoutMs(getEnvLong("DB_IDLE_TIMEOUT_MS", 0L))
+            .dbMaxLifetimeMs(getEnvLong("DB_MAX_LIFETIME_MS", 0L))
+            .dbPoolEventLoopSize(getEnvInt("DB_POOL_EVENT_LOOP_SIZE", 0))
+            .dbPoolShared(getEnvBoolean("DB_POOL_SHARED", false))
+            .dbCachePreparedStatements(getEnvBoolean("DB_CACHE_PREPARED_STATEMENTS", true))
+            .dbPreparedStatementCacheMaxSize(getEnvInt("DB_PREPARED_STATEMENT_CACHE_MAX_SIZE", 256))
+            .dbPreparedStatementCacheSqlLimit(getEnvInt("DB_PREPARED_STATEMENT_CACHE_SQL_LIMIT", 16384))
+            .dbPipeliningLimit(getEnvInt("DB_PIPELINING_LIMIT", 1))
+            .dbPipelinedPoolSize(getEnvInt("DB_PIPELINED_POOL_SIZE", 2))
+            .sqlStatementCacheSize(getEnvInt("SQL_STATEMENT_CACHE_SIZE", 256))
+            .insertBatchingEnabled(getEnvBoolean("INSERT_BATCHING_ENABLED", false))
+            .insertBatchMaxDelayMs(getEnvLong("INSERT_BATCH_MAX_DELAY_MS", 2L))
+            .insertBatchMaxSize(getEnvInt("INSERT_BATCH_MAX_SIZE", 100))
+            .batchSubmitChunkSize(getEnvInt("BATCH_SUBMIT_CHUNK_SIZE", 500))
+            .writeBehindEnabled(getEnvBoolean("WRITE_BEHIND_ENABLED", false))
+            .writeBehindMaxDelayMs(getEnvLong("WRITE_BEHIND_MAX_DELAY_MS", 5L))
+            .writeBehindMaxBatchSize(getEnvInt("WRITE_BEHIND_MAX_BATCH_SIZE", 100))
             .httpPort(getEnvInt("HTTP_PORT", 8067))
             .workerInstances(getEnvInt("WORKER_INSTANCES", 4))
+            .workerThreadingModel(ThreadingModel.valueOf(getEnv("WORKER_THREADING_MODEL", "WORKER")))
             .externalApiUrl(getEnv("EXTERNAL_API_URL", "http://localhost:8081/"))
+            .externalAdaptiveLimitEnabled(getEnvBoolean("EXTERNAL_ADAPTIVE_LIMIT_ENABLED", true))
+            .externalLimitInitial(getEnvInt("EXTERNAL_LIMIT_INITIAL", 10))
+            .externalLimitMin(getEnvInt("EXTERNAL_LIMIT_MIN", 1))
+            .externalLimitMax(getEnvInt("EXTERNAL_LIMIT_MAX", 200))
+            .externalLimitLatencyTolerance(getEnvDouble("EXTERNAL_LIMIT_LATENCY_TOLERANCE", 2.0))
+            .externalLimitBackoffRatio(getEnvDouble("EXTERNAL_LIMIT_BACKOFF_RATIO", 0.9))
+            .workerClaimBatchSize(getEnvInt("WORKER_CLAIM_BATCH_SIZE", 10))
+            .workerMaxInFlight(getEnvInt("WORKER_MAX_IN_FLIGHT", 10))
+            .workerLocalQueueSize(getEnvInt("WORKER_LOCAL_QUEUE_SIZE", 10))
+            .globalMaxInFlight(getEnvInt("GLOBAL_MAX_IN_FLIGHT", 40))
+            .queueHighWaterMark(getEnvInt("QUEUE_HIGH_WATER_MARK", 10000))
+            .queueDepthRefreshMs(getEnvLong("QUEUE_DEPTH_REFRESH_MS", 1000L))
+            .workerPollIntervalMs(getEnvLong("WORKER_POLL_INTERVAL_MS", 1000L))
+            .jobLeaseSeconds(getEnvLong("JOB_LEASE_SECONDS", 15L))
+            .jobDefaultTimeoutSeconds(getEnvInt("JOB_DEFAULT_TIMEOUT_SECONDS", 300))
+            .leaseReaperIntervalMs(getEnvLong("LEASE_REAPER_INTERVAL_MS", 5000L))
+            .leaseReaperBatchSize(getEnvInt("LEASE_REAPER_BATCH_SIZE", 500))
+            .priorityAgingMs(getEnvLong("PRIORITY_AGING_MS", 60000L))
+            .priorityAgingBatchSize(getEnvInt("PRIORITY_AGING_BATCH_SIZE", 1000))
+            .fairShareQuantum(getEnvInt("FAIR_SHARE_QUANTUM", 5))
+            .userWeights(getEnvWeights("USER_WEIGHTS"))
+            .fairShareRefreshMs(getEnvLong("FAIR_SHARE_REFRESH_MS", 1000L))
+            .fairShareMaxUsers(getEnvInt("FAIR_SHARE_MAX_USERS", 10000))
+            .schedulerTickMs(getEnvLong("SCHEDULER_TICK_MS", 100L))
+            .schedulerHorizonMs(getEnvLong("SCHEDULER_HORIZON_MS", 300000L))
+            .schedulerLoadBatchSize(getEnvInt("SCHEDULER_LOAD_BATCH_SIZE", 1000))
+            .retryMaxAttempts(getEnvInt("RETRY_MAX_ATTEMPTS", 5))
+            .retryBaseDelayMs(getEnvLong("RETRY_BASE_DELAY_MS", 1000L))
+            .retryMaxDelayMs(getEnvLong("RETRY_MAX_DELAY_MS", 300000L))
+            .retryJitter(getEnvDouble("RETRY_JITTER", 1.0))
+            .retryBudgetPerSecond(getEnvDouble("RETRY_BUDGET_PER_SECOND", 10.0))
+            .retryBudgetBurst(getEnvInt("RETRY_BUDGET_BURST", 100))
+            .jobPartitioningEnabled(getEnvBoolean("JOB_PARTITIONING_ENABLED", false))
+            .jobPartitionAheadDays(getEnvInt("JOB_PARTITION_AHEAD_DAYS", 7))
+            .jobPartitionRetentionDays(getEnvInt("JOB_PARTITION_RETENTION_DAYS", 30))
+            .jobPartitionMaintenanceMs(getEnvLong("JOB_PARTITION_MAINTENANCE_MS", 3600000L))
+            .archiveEnabled(getEnvBoolean("ARCHIVE_ENABLED", false))
+            .archiveAfterDays(getEnvInt("ARCHIVE_AFTER_DAYS", 30))
+            .archiveChunkSize(getEnvInt("ARCHIVE_CHUNK_SIZE", 500))
+            .archiveIntervalMs(getEnvLong("ARCHIVE_INTERVAL_MS", 600000L))
+            .archiveTargetChunkMs(getEnvLong("ARCHIVE_TARGET_CHUNK_MS", 100L))
+            .archiveMinPauseMs(getEnvLong("ARCHIVE_MIN_PAUSE_MS", 10L))
+            .archiveMaxPauseMs(getEnvLong("ARCHIVE_MAX_PAUSE_MS", 10000L))
+            .payloadCompressionEnabled(getEnvBoolean("PAYLOAD_COMPRESSION_ENABLED", false))
+            .payloadCompressionCodec(PayloadCodec.valueOf(getEnv("PAYLOAD_COMPRESSION_CODEC", "DEFLATE")))
+            .payloadCompressionThresholdBytes(getEnvInt("PAYLOAD_COMPRESSION_THRESHOLD_BYTES", 16384))
             .build();
     }
 
     public String getJdbcUrl() {
         return String.format(
-            "jdbc:mysql://%s:%d/%s?allowPublicKeyRetrieval=true&useSSL=false",
+            // Sessions on UTC, like the pool's, so migrations compute timestamps on the same clock
+            "jdbc:mysql://%s:%d/%s?allowPublicKeyRetrieval=true&useSSL=false"
+                + "&connectionTimeZone=UTC&forceConnectionTimeZoneToSession=true",
             dbHost, dbPort, dbName
         );
     }
@@ -55,5 +197,47 @@ public class AppConfig {
         }
         return Integer.parseInt(value);
     }
-}
 
+    private static long getEnvLong(String key, long defaultValue) {
+        String value = System.getenv().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Long.parseLong(value);
+    }
+
+    private static double getEnvDouble(String key, double defaultValue) {
+        String value = System.getenv().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value);
+    }
+
+    private static boolean getEnvBoolean(String key, boolean defaultValue) {
+        String value = System.getenv().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Parses {@code userId=weight} pairs separated by commas, e.g. {@code 1=4,7=2}.
+     */
+    private static Map<Long, Integer> getEnvWeights(String key) {
+        Map<Long, Integer> weights = new HashMap<>();
+        String value = System.getenv().get(key);
+        if (value == null || value.isBlank()) {
+            return weights;
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid " + key + " entry '" + pair + "', expected userId=weight");
+            }
+            weights.put(Long.parseLong(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
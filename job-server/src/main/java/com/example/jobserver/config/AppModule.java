@@ -1,27 +1,56 @@
 package com.example.jobserver.config;
 
 import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.clients.Impl.AdaptiveConcurrencyProcessor;
 import com.example.jobserver.clients.Impl.ThirdPartyPythonClient;
+import com.example.jobserver.metrics.MetricsRegistry;
 import com.example.jobserver.repositories.JobRepository;
 import com.example.jobserver.repositories.ProjectRepository;
 import com.example.jobserver.repositories.UserRepository;
+import com.example.jobserver.repositories.impl.BatchedInsertJobRepository;
+import com.example.jobserver.repositories.impl.JobPartitionRepositoryImpl;
 import com.example.jobserver.repositories.impl.JobRepositoryImpl;
+import com.example.jobserver.repositories.impl.JooqExecutor;
+import com.example.jobserver.repositories.impl.PayloadCompression;
+import com.example.jobserver.repositories.impl.WriteBehindJobRepository;
 import com.example.jobserver.service.JobService;
 import com.example.jobserver.service.impl.JobServiceImpl;
+import com.example.jobserver.worker.BlockingJobWorkerVerticle;
+import com.example.jobserver.worker.FairShareRefreshVerticle;
+import com.example.jobserver.worker.FairShareScheduler;
+import com.example.jobserver.worker.JobArchiverVerticle;
 import com.example.jobserver.worker.JobWorkerVerticle;
+import com.example.jobserver.worker.LeaseReaperVerticle;
+import com.example.jobserver.worker.PartitionMaintenanceVerticle;
+import com.example.jobserver.worker.PriorityAgingVerticle;
+import com.example.jobserver.worker.QueueDepthMonitorVerticle;
+import com.example.jobserver.worker.RetryBudget;
+import com.example.jobserver.worker.RetryPolicy;
+import com.example.jobserver.worker.ScheduledJobDispatcherVerticle;
+import com.example.jobserver.worker.WorkerLoad;
 
 import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.ext.web.client.WebClient;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mysqlclient.MySQLBuilder;
 import io.vertx.mysqlclient.MySQLConnectOptions;
-import io.vertx.mysqlclient.MySQLPool;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlConnection;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dependency injection module - creates and wires all application components.
@@ -39,6 +68,10 @@ public class AppModule {
     private final ExternalJobProcessor externalProcessor;
     private final JobService jobService;
     private final JobWorkerVerticle jobWorkerVerticle;
+    private final WorkerLoad workerLoad;
+    private final FairShareScheduler fairShareScheduler;
+    private final RetryPolicy retryPolicy;
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
 
     public AppModule(Vertx vertx, AppConfig config) {
         this.config = config;
@@ -50,36 +83,168 @@ public class AppModule {
         runMigrations(config);
         
         // 3. Repositories
-        this.jobRepository = new JobRepositoryImpl(dbPool);
+        this.jobRepository = createJobRepository(vertx, dbPool, config);
         this.userRepository = createUserRepository(dbPool);
         this.projectRepository = createProjectRepository(dbPool);
         
         // 4. External processor
-        WebClient webClient = WebClient.create(vertx);
-        this.externalProcessor = new ThirdPartyPythonClient(webClient,config.getExternalApiUrl());
+        HttpClient httpClient = vertx.createHttpClient();
+        this.externalProcessor = createExternalProcessor(httpClient, config);
         
-        // 5. Worker verticle
-        this.jobWorkerVerticle = new JobWorkerVerticle(jobRepository, externalProcessor);
+        // 5. Worker verticle (all instances share the node-wide load limits)
+        this.workerLoad = new WorkerLoad(config.getGlobalMaxInFlight(), config.getQueueHighWaterMark());
+        this.fairShareScheduler = new FairShareScheduler(config.getFairShareQuantum(), config.getUserWeights());
+        this.retryPolicy = RetryPolicy.builder()
+            .maxAttempts(config.getRetryMaxAttempts())
+            .baseDelay(Duration.ofMillis(config.getRetryBaseDelayMs()))
+            .maxDelay(Duration.ofMillis(config.getRetryMaxDelayMs()))
+            .jitter(config.getRetryJitter())
+            .budget(new RetryBudget(config.getRetryBudgetPerSecond(), config.getRetryBudgetBurst()))
+            .build();
+        this.jobWorkerVerticle = createWorkerVerticle();
+        metricsRegistry.register("workers", () -> new JsonObject()
+            .put("inFlight", workerLoad.getInFlight())
+            .put("globalMaxInFlight", workerLoad.getGlobalMaxInFlight())
+            .put("locallyQueued", workerLoad.getLocallyQueued())
+            .put("queueDepth", workerLoad.getQueueDepth())
+            .put("highWaterMark", workerLoad.getHighWaterMark()));
+        metricsRegistry.register("fairShare", fairShareScheduler::metrics);
+        metricsRegistry.register("retries", retryPolicy::metrics);
         
         // 6. Services
         EventBus eventBus = vertx.eventBus();
-        this.jobService = new JobServiceImpl(jobRepository, userRepository, projectRepository, eventBus);
+        this.jobService = new JobServiceImpl(jobRepository, userRepository, projectRepository, eventBus, workerLoad);
         
         log.info("AppModule initialized successfully");
     }
 
-    private Pool createDatabasePool(Vertx vertx, AppConfig config) {
-        MySQLConnectOptions connectOptions = new MySQLConnectOptions()
+    /**
+     * The MySQL pool, tuned from {@code config}. Public so the pool benchmark builds the same pool.
+     */
+    public static Pool createDatabasePool(Vertx vertx, AppConfig config) {
+        return MySQLBuilder.pool()
+            .with(poolOptions(config))
+            .connectingTo(connectOptions(config))
+            .withConnectHandler(AppModule::useUtc)
+            .using(vertx)
+            .build();
+    }
+
+    /**
+     * The executor for the jOOQ repository. The prepared statement cache lets each connection reuse the
+     * statements it renders instead of preparing them on every call. With {@code DB_PIPELINING_LIMIT} above 1,
+     * single statements go to a pipelined client of its own {@code DB_PIPELINED_POOL_SIZE} connections, each
+     * carrying several statements at once; transactions stay on {@code dbPool}, because a pipelined client
+     * cannot lend out a connection.
+     */
+    public static JooqExecutor createJooqExecutor(Vertx vertx, Pool dbPool, AppConfig config) {
+        DSLContext dsl = DSL.using(SQLDialect.MYSQL);
+        if (config.getDbPipeliningLimit() <= 1) {
+            return new JooqExecutor(dbPool, dsl, config.getSqlStatementCacheSize());
+        }
+        SqlClient statementClient = MySQLBuilder.client()
+            .with(poolOptions(config)
+                .setMaxSize(config.getDbPipelinedPoolSize())
+                // Kept apart from a shared dbPool, which would otherwise be found under the default name
+                .setName(PoolOptions.DEFAULT_NAME + "-pipelined"))
+            .connectingTo(connectOptions(config))
+            .withConnectHandler(AppModule::useUtc)
+            .using(vertx)
+            .build();
+        return new JooqExecutor(statementClient, dbPool, dsl, config.getSqlStatementCacheSize());
+    }
+
+    /**
+     * Puts a new connection's session on UTC, the clock the repository writes timestamps in, so what MySQL
+     * computes itself ({@code CURRENT_TIMESTAMP} defaults, the {@code UNIX_TIMESTAMP} partition bounds) agrees
+     * with it. Then hands the connection to the pool.
+     */
+    private static void useUtc(SqlConnection connection) {
+        connection.query("SET time_zone = '+00:00'").execute()
+            .onFailure(err -> log.error("Failed to set the session time zone to UTC: {}", err.getMessage()))
+            .onComplete(ar -> connection.close());
+    }
+
+    private static MySQLConnectOptions connectOptions(AppConfig config) {
+        return new MySQLConnectOptions()
             .setPort(config.getDbPort())
             .setHost(config.getDbHost())
             .setDatabase(config.getDbName())
             .setUser(config.getDbUser())
             .setPassword(config.getDbPassword())
-            .setSsl(false);
+            .setSsl(false)
+            .setConnectTimeout((int) config.getDbConnectTimeoutMs())
+            .setCachePreparedStatements(config.isDbCachePreparedStatements())
+            .setPreparedStatementCacheMaxSize(config.getDbPreparedStatementCacheMaxSize())
+            .setPreparedStatementCacheSqlLimit(config.getDbPreparedStatementCacheSqlLimit())
+            .setPipeliningLimit(config.getDbPipeliningLimit());
+    }
 
-        PoolOptions poolOptions = new PoolOptions().setMaxSize(config.getDbPoolSize());
-        
-        return MySQLPool.pool(vertx, connectOptions, poolOptions);
+    private static PoolOptions poolOptions(AppConfig config) {
+        PoolOptions poolOptions = new PoolOptions()
+            .setMaxSize(config.getDbPoolSize())
+            .setMaxWaitQueueSize(config.getDbMaxWaitQueueSize())
+            .setConnectionTimeout((int) config.getDbAcquireTimeoutMs())
+            .setConnectionTimeoutUnit(TimeUnit.MILLISECONDS)
+            .setIdleTimeout((int) config.getDbIdleTimeoutMs())
+            .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+            .setMaxLifetime((int) config.getDbMaxLifetimeMs())
+            .setMaxLifetimeUnit(TimeUnit.MILLISECONDS)
+            .setShared(config.isDbPoolShared());
+        if (config.getDbIdleTimeoutMs() > 0 || config.getDbMaxLifetimeMs() > 0) {
+            // Idle and expired connections are only closed by the cleaner
+            poolOptions.setPoolCleanerPeriod(1000);
+        }
+        if (config.getDbPoolEventLoopSize() > 0) {
+            // Spread connections over several event loops instead of the one creating the pool
+            poolOptions.setEventLoopSize(config.getDbPoolEventLoopSize());
+        }
+        return poolOptions;
+    }
+
+    /**
+     * The jOOQ repository, behind the stages that batch submissions and group-commit job transitions when enabled.
+     */
+    private JobRepository createJobRepository(Vertx vertx, Pool dbPool, AppConfig config) {
+        JooqExecutor executor = createJooqExecutor(vertx, dbPool, config);
+        metricsRegistry.register("sqlStatements", executor::metrics);
+        PayloadCompression compression = config.isPayloadCompressionEnabled()
+            ? new PayloadCompression(config.getPayloadCompressionCodec(), config.getPayloadCompressionThresholdBytes())
+            : PayloadCompression.OFF;
+        JobRepository repository = new JobRepositoryImpl(executor, compression);
+        if (config.isInsertBatchingEnabled()) {
+            BatchedInsertJobRepository batchedInsert = new BatchedInsertJobRepository(repository, vertx,
+                config.getInsertBatchMaxDelayMs(), config.getInsertBatchMaxSize());
+            metricsRegistry.register("insertBatching", batchedInsert::metrics);
+            repository = batchedInsert;
+        }
+        if (config.isWriteBehindEnabled()) {
+            WriteBehindJobRepository writeBehind = new WriteBehindJobRepository(repository, vertx,
+                config.getWriteBehindMaxDelayMs(), config.getWriteBehindMaxBatchSize());
+            metricsRegistry.register("writeBehind", writeBehind::metrics);
+            repository = writeBehind;
+        }
+        return repository;
+    }
+
+    /**
+     * The Python client, wrapped in an adaptive concurrency limiter unless disabled.
+     */
+    private ExternalJobProcessor createExternalProcessor(HttpClient httpClient, AppConfig config) {
+        ExternalJobProcessor client = new ThirdPartyPythonClient(httpClient, config.getExternalApiUrl());
+        if (!config.isExternalAdaptiveLimitEnabled()) {
+            return client;
+        }
+        AdaptiveConcurrencyProcessor limited = AdaptiveConcurrencyProcessor.builder()
+            .delegate(client)
+            .initialLimit(config.getExternalLimitInitial())
+            .minLimit(config.getExternalLimitMin())
+            .maxLimit(config.getExternalLimitMax())
+            .latencyTolerance(config.getExternalLimitLatencyTolerance())
+            .backoffRatio(config.getExternalLimitBackoffRatio())
+            .build();
+        metricsRegistry.register("externalLimiter", limited::metrics);
+        return limited;
     }
 
     private void runMigrations(AppConfig config) {
@@ -105,10 +270,63 @@ public class AppModule {
 
     /**
      * Factory method to create a new JobWorkerVerticle instance.
-     * Used for deploying multiple worker instances.
+     * Used for deploying multiple worker instances; the blocking-style variant for virtual threads.
      */
     public JobWorkerVerticle createWorkerVerticle() {
-        return new JobWorkerVerticle(jobRepository, externalProcessor);
+        if (config.getWorkerThreadingModel() == ThreadingModel.VIRTUAL_THREAD) {
+            return new BlockingJobWorkerVerticle(jobRepository, externalProcessor, workerLoad, fairShareScheduler,
+                retryPolicy, config);
+        }
+        return new JobWorkerVerticle(jobRepository, externalProcessor, workerLoad, fairShareScheduler, retryPolicy,
+            config);
+    }
+
+    /**
+     * Factory method for the verticle that recovers jobs whose worker lease expired.
+     */
+    public LeaseReaperVerticle createLeaseReaperVerticle() {
+        return new LeaseReaperVerticle(jobRepository, config);
+    }
+
+    /**
+     * Factory method for the verticle that keeps the queue depth in {@link WorkerLoad} up to date.
+     */
+    public QueueDepthMonitorVerticle createQueueDepthMonitorVerticle() {
+        return new QueueDepthMonitorVerticle(jobRepository, workerLoad, config.getQueueDepthRefreshMs());
     }
-}
 
+    /**
+     * Factory method for the verticle that ages waiting jobs into higher priority lanes.
+     */
+    public PriorityAgingVerticle createPriorityAgingVerticle() {
+        return new PriorityAgingVerticle(jobRepository, config);
+    }
+
+    /**
+     * Factory method for the verticle that keeps the fair-share scheduler's set of active users in sync with the DB.
+     */
+    public FairShareRefreshVerticle createFairShareRefreshVerticle() {
+        return new FairShareRefreshVerticle(jobRepository, fairShareScheduler,
+            config.getFairShareRefreshMs(), config.getFairShareMaxUsers());
+    }
+
+    /**
+     * Factory method for the verticle that releases delayed jobs when they fall due.
+     */
+    public ScheduledJobDispatcherVerticle createScheduledJobDispatcherVerticle() {
+        return new ScheduledJobDispatcherVerticle(jobRepository, config);
+    }
+
+    /**
+     * Factory method for the verticle that partitions the jobs tables by day and rotates their partitions.
+     */
+    public PartitionMaintenanceVerticle createPartitionMaintenanceVerticle() {
+        return new PartitionMaintenanceVerticle(new JobPartitionRepositoryImpl(dbPool), config);
+    }
+
+    public JobArchiverVerticle createJobArchiverVerticle() {
+        JobArchiverVerticle archiver = new JobArchiverVerticle(jobRepository, config);
+        metricsRegistry.register("archive", archiver::metrics);
+        return archiver;
+    }
+}
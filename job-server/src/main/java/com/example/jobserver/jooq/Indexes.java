@@ -24,6 +24,10 @@ public class Indexes {
     // -------------------------------------------------------------------------
 
     public static final Index FLYWAY_SCHEMA_HISTORY_FLYWAY_SCHEMA_HISTORY_S_IDX = Internal.createIndex(DSL.name("flyway_schema_history_s_idx"), FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY, new OrderField[] { FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY.SUCCESS }, false);
+    public static final Index JOBS_IDX_JOBS_STATUS_EFFECTIVE_PRIORITY_CREATED_AT = Internal.createIndex(DSL.name("idx_jobs_status_effective_priority_created_at"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.STATUS, Jobs.JOBS_.EFFECTIVE_PRIORITY.desc(), Jobs.JOBS_.CREATED_AT }, false);
+    public static final Index JOBS_IDX_JOBS_STATUS_LEASE_EXPIRES_AT = Internal.createIndex(DSL.name("idx_jobs_status_lease_expires_at"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.STATUS, Jobs.JOBS_.LEASE_EXPIRES_AT }, false);
+    public static final Index JOBS_IDX_JOBS_STATUS_RUN_AT = Internal.createIndex(DSL.name("idx_jobs_status_run_at"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.STATUS, Jobs.JOBS_.RUN_AT }, false);
+    public static final Index JOBS_IDX_JOBS_STATUS_USER_EFFECTIVE_PRIORITY_CREATED_AT = Internal.createIndex(DSL.name("idx_jobs_status_user_effective_priority_created_at"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.STATUS, Jobs.JOBS_.USER_ID, Jobs.JOBS_.EFFECTIVE_PRIORITY.desc(), Jobs.JOBS_.CREATED_AT }, false);
+    public static final Index JOBS_IDX_JOBS_USER_CREATED_AT = Internal.createIndex(DSL.name("idx_jobs_user_created_at"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.USER_ID, Jobs.JOBS_.CREATED_AT, Jobs.JOBS_.ID, Jobs.JOBS_.STATUS, Jobs.JOBS_.PRIORITY, Jobs.JOBS_.PROJECT_ID }, false);
     public static final Index JOBS_PROJECT_ID = Internal.createIndex(DSL.name("project_id"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.PROJECT_ID }, false);
-    public static final Index JOBS_USER_ID = Internal.createIndex(DSL.name("user_id"), Jobs.JOBS_, new OrderField[] { Jobs.JOBS_.USER_ID }, false);
 }
@@ -5,6 +5,8 @@ package com.example.jobserver.jooq;
 
 
 import com.example.jobserver.jooq.tables.FlywaySchemaHistory;
+import com.example.jobserver.jooq.tables.JobPayloads;
+import com.example.jobserver.jooq.tables.JobsArchive;
 import com.example.jobserver.jooq.tables.Projects;
 import com.example.jobserver.jooq.tables.Users;
 
@@ -34,11 +36,21 @@ public class Jobs extends SchemaImpl {
      */
     public final FlywaySchemaHistory FLYWAY_SCHEMA_HISTORY = FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY;
 
+    /**
+     * The table <code>jobs.job_payloads</code>.
+     */
+    public final JobPayloads JOB_PAYLOADS = JobPayloads.JOB_PAYLOADS;
+
     /**
      * The table <code>jobs.jobs</code>.
      */
     public final com.example.jobserver.jooq.tables.Jobs JOBS_ = com.example.jobserver.jooq.tables.Jobs.JOBS_;
 
+    /**
+     * The table <code>jobs.jobs_archive</code>.
+     */
+    public final JobsArchive JOBS_ARCHIVE = JobsArchive.JOBS_ARCHIVE;
+
     /**
      * The table <code>jobs.projects</code>.
      */
@@ -66,7 +78,9 @@ public class Jobs extends SchemaImpl {
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY,
+            JobPayloads.JOB_PAYLOADS,
             com.example.jobserver.jooq.tables.Jobs.JOBS_,
+            JobsArchive.JOBS_ARCHIVE,
             Projects.PROJECTS,
             Users.USERS
         );
@@ -5,10 +5,14 @@ package com.example.jobserver.jooq;
 
 
 import com.example.jobserver.jooq.tables.FlywaySchemaHistory;
+import com.example.jobserver.jooq.tables.JobPayloads;
 import com.example.jobserver.jooq.tables.Jobs;
+import com.example.jobserver.jooq.tables.JobsArchive;
 import com.example.jobserver.jooq.tables.Projects;
 import com.example.jobserver.jooq.tables.Users;
 import com.example.jobserver.jooq.tables.records.FlywaySchemaHistoryRecord;
+import com.example.jobserver.jooq.tables.records.JobPayloadsRecord;
+import com.example.jobserver.jooq.tables.records.JobsArchiveRecord;
 import com.example.jobserver.jooq.tables.records.JobsRecord;
 import com.example.jobserver.jooq.tables.records.ProjectsRecord;
 import com.example.jobserver.jooq.tables.records.UsersRecord;
@@ -32,7 +36,9 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final UniqueKey<FlywaySchemaHistoryRecord> KEY_FLYWAY_SCHEMA_HISTORY_PRIMARY = Internal.createUniqueKey(FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY, DSL.name("KEY_flyway_schema_history_PRIMARY"), new TableField[] { FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY.INSTALLED_RANK }, true);
-    public static final UniqueKey<JobsRecord> KEY_JOBS_PRIMARY = Internal.createUniqueKey(Jobs.JOBS_, DSL.name("KEY_jobs_PRIMARY"), new TableField[] { Jobs.JOBS_.ID }, true);
+    public static final UniqueKey<JobPayloadsRecord> KEY_JOB_PAYLOADS_PRIMARY = Internal.createUniqueKey(JobPayloads.JOB_PAYLOADS, DSL.name("KEY_job_payloads_PRIMARY"), new TableField[] { JobPayloads.JOB_PAYLOADS.JOB_ID, JobPayloads.JOB_PAYLOADS.CREATED_AT }, true);
+    public static final UniqueKey<JobsRecord> KEY_JOBS_PRIMARY = Internal.createUniqueKey(Jobs.JOBS_, DSL.name("KEY_jobs_PRIMARY"), new TableField[] { Jobs.JOBS_.ID, Jobs.JOBS_.CREATED_AT }, true);
+    public static final UniqueKey<JobsArchiveRecord> KEY_JOBS_ARCHIVE_PRIMARY = Internal.createUniqueKey(JobsArchive.JOBS_ARCHIVE, DSL.name("KEY_jobs_archive_PRIMARY"), new TableField[] { JobsArchive.JOBS_ARCHIVE.ID }, true);
     public static final UniqueKey<ProjectsRecord> KEY_PROJECTS_PRIMARY = Internal.createUniqueKey(Projects.PROJECTS, DSL.name("KEY_projects_PRIMARY"), new TableField[] { Projects.PROJECTS.ID }, true);
     public static final UniqueKey<UsersRecord> KEY_USERS_EMAIL = Internal.createUniqueKey(Users.USERS, DSL.name("KEY_users_email"), new TableField[] { Users.USERS.EMAIL }, true);
     public static final UniqueKey<UsersRecord> KEY_USERS_PRIMARY = Internal.createUniqueKey(Users.USERS, DSL.name("KEY_users_PRIMARY"), new TableField[] { Users.USERS.ID }, true);
@@ -5,7 +5,9 @@ package com.example.jobserver.jooq;
 
 
 import com.example.jobserver.jooq.tables.FlywaySchemaHistory;
+import com.example.jobserver.jooq.tables.JobPayloads;
 import com.example.jobserver.jooq.tables.Jobs;
+import com.example.jobserver.jooq.tables.JobsArchive;
 import com.example.jobserver.jooq.tables.Projects;
 import com.example.jobserver.jooq.tables.Users;
 
@@ -21,11 +23,21 @@ public class Tables {
      */
     public static final FlywaySchemaHistory FLYWAY_SCHEMA_HISTORY = FlywaySchemaHistory.FLYWAY_SCHEMA_HISTORY;
 
+    /**
+     * The table <code>jobs.job_payloads</code>.
+     */
+    public static final JobPayloads JOB_PAYLOADS = JobPayloads.JOB_PAYLOADS;
+
     /**
      * The table <code>jobs.jobs</code>.
      */
     public static final Jobs JOBS_ = Jobs.JOBS_;
 
+    /**
+     * The table <code>jobs.jobs_archive</code>.
+     */
+    public static final JobsArchive JOBS_ARCHIVE = JobsArchive.JOBS_ARCHIVE;
+
     /**
      * The table <code>jobs.projects</code>.
      */
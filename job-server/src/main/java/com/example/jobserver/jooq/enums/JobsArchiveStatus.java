@@ -0,0 +1,60 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.enums;
+
+
+import org.jooq.Catalog;
+import org.jooq.EnumType;
+import org.jooq.Schema;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public enum JobsArchiveStatus implements EnumType {
+
+    COMPLETED("COMPLETED"),
+
+    FAILED("FAILED"),
+
+    DEAD_LETTER("DEAD_LETTER"),
+
+    CANCELLED("CANCELLED");
+
+    private final String literal;
+
+    private JobsArchiveStatus(String literal) {
+        this.literal = literal;
+    }
+
+    @Override
+    public Catalog getCatalog() {
+        return null;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return null;
+    }
+
+    @Override
+    public String getLiteral() {
+        return literal;
+    }
+
+    /**
+     * Lookup a value of this EnumType by its literal. Returns
+     * <code>null</code>, if no such value could be found, see {@link
+     * EnumType#lookupLiteral(Class, String)}.
+     */
+    public static JobsArchiveStatus lookupLiteral(String literal) {
+        return EnumType.lookupLiteral(JobsArchiveStatus.class, literal);
+    }
+}
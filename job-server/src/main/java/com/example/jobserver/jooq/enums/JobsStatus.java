@@ -21,7 +21,13 @@ public enum JobsStatus implements EnumType {
 
     COMPLETED("COMPLETED"),
 
-    FAILED("FAILED");
+    FAILED("FAILED"),
+
+    SCHEDULED("SCHEDULED"),
+
+    DEAD_LETTER("DEAD_LETTER"),
+
+    CANCELLED("CANCELLED");
 
     private final String literal;
 
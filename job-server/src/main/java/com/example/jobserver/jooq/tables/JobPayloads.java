@@ -0,0 +1,249 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables;
+
+
+import com.example.jobserver.jooq.Jobs;
+import com.example.jobserver.jooq.Keys;
+import com.example.jobserver.jooq.tables.records.JobPayloadsRecord;
+import com.example.jobserver.repositories.impl.JobIdConverter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Name;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobPayloads extends TableImpl<JobPayloadsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>jobs.job_payloads</code>
+     */
+    public static final JobPayloads JOB_PAYLOADS = new JobPayloads();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<JobPayloadsRecord> getRecordType() {
+        return JobPayloadsRecord.class;
+    }
+
+    /**
+     * The column <code>jobs.job_payloads.job_id</code>.
+     */
+    public final TableField<JobPayloadsRecord, String> JOB_ID = createField(DSL.name("job_id"), SQLDataType.BINARY(16).nullable(false), this, "", new JobIdConverter());
+
+    /**
+     * The column <code>jobs.job_payloads.created_at</code>.
+     */
+    public final TableField<JobPayloadsRecord, LocalDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.LOCALDATETIME(0).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.LOCALDATETIME)), this, "");
+
+    /**
+     * The column <code>jobs.job_payloads.parameters</code>.
+     */
+    public final TableField<JobPayloadsRecord, JSON> PARAMETERS = createField(DSL.name("parameters"), SQLDataType.JSON, this, "");
+
+    /**
+     * The column <code>jobs.job_payloads.parameters_packed</code>.
+     */
+    public final TableField<JobPayloadsRecord, byte[]> PARAMETERS_PACKED = createField(DSL.name("parameters_packed"), SQLDataType.BLOB, this, "");
+
+    /**
+     * The column <code>jobs.job_payloads.result</code>.
+     */
+    public final TableField<JobPayloadsRecord, JSON> RESULT = createField(DSL.name("result"), SQLDataType.JSON, this, "");
+
+    /**
+     * The column <code>jobs.job_payloads.result_packed</code>.
+     */
+    public final TableField<JobPayloadsRecord, byte[]> RESULT_PACKED = createField(DSL.name("result_packed"), SQLDataType.BLOB, this, "");
+
+    private JobPayloads(Name alias, Table<JobPayloadsRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private JobPayloads(Name alias, Table<JobPayloadsRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>jobs.job_payloads</code> table reference
+     */
+    public JobPayloads(String alias) {
+        this(DSL.name(alias), JOB_PAYLOADS);
+    }
+
+    /**
+     * Create an aliased <code>jobs.job_payloads</code> table reference
+     */
+    public JobPayloads(Name alias) {
+        this(alias, JOB_PAYLOADS);
+    }
+
+    /**
+     * Create a <code>jobs.job_payloads</code> table reference
+     */
+    public JobPayloads() {
+        this(DSL.name("job_payloads"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Jobs.JOBS;
+    }
+
+    @Override
+    public UniqueKey<JobPayloadsRecord> getPrimaryKey() {
+        return Keys.KEY_JOB_PAYLOADS_PRIMARY;
+    }
+
+
+    @Override
+    public JobPayloads as(String alias) {
+        return new JobPayloads(DSL.name(alias), this);
+    }
+
+    @Override
+    public JobPayloads as(Name alias) {
+        return new JobPayloads(alias, this);
+    }
+
+    @Override
+    public JobPayloads as(Table<?> alias) {
+        return new JobPayloads(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobPayloads rename(String name) {
+        return new JobPayloads(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobPayloads rename(Name name) {
+        return new JobPayloads(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobPayloads rename(Table<?> name) {
+        return new JobPayloads(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads where(Condition condition) {
+        return new JobPayloads(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobPayloads where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobPayloads where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobPayloads where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobPayloads where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobPayloads whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
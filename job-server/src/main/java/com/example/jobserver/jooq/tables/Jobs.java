@@ -10,6 +10,7 @@ import com.example.jobserver.jooq.enums.JobsStatus;
 import com.example.jobserver.jooq.tables.Projects.ProjectsPath;
 import com.example.jobserver.jooq.tables.Users.UsersPath;
 import com.example.jobserver.jooq.tables.records.JobsRecord;
+import com.example.jobserver.repositories.impl.JobIdConverter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,7 +22,6 @@ import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Index;
 import org.jooq.InverseForeignKey;
-import org.jooq.JSON;
 import org.jooq.Name;
 import org.jooq.Path;
 import org.jooq.PlainSQL;
@@ -64,7 +64,7 @@ public class Jobs extends TableImpl<JobsRecord> {
     /**
      * The column <code>jobs.jobs.id</code>.
      */
-    public final TableField<JobsRecord, String> ID = createField(DSL.name("id"), SQLDataType.VARCHAR(36).nullable(false), this, "");
+    public final TableField<JobsRecord, String> ID = createField(DSL.name("id"), SQLDataType.BINARY(16).nullable(false), this, "", new JobIdConverter());
 
     /**
      * The column <code>jobs.jobs.user_id</code>.
@@ -79,27 +79,52 @@ public class Jobs extends TableImpl<JobsRecord> {
     /**
      * The column <code>jobs.jobs.status</code>.
      */
-    public final TableField<JobsRecord, JobsStatus> STATUS = createField(DSL.name("status"), SQLDataType.VARCHAR(10).nullable(false).asEnumDataType(JobsStatus.class), this, "");
+    public final TableField<JobsRecord, JobsStatus> STATUS = createField(DSL.name("status"), SQLDataType.VARCHAR(11).nullable(false).asEnumDataType(JobsStatus.class), this, "");
 
     /**
-     * The column <code>jobs.jobs.parameters</code>.
+     * The column <code>jobs.jobs.priority</code>.
      */
-    public final TableField<JobsRecord, JSON> PARAMETERS = createField(DSL.name("parameters"), SQLDataType.JSON.nullable(false), this, "");
+    public final TableField<JobsRecord, Byte> PRIORITY = createField(DSL.name("priority"), SQLDataType.TINYINT.nullable(false).defaultValue(DSL.inline("5", SQLDataType.TINYINT)), this, "");
 
     /**
-     * The column <code>jobs.jobs.result</code>.
+     * The column <code>jobs.jobs.effective_priority</code>.
      */
-    public final TableField<JobsRecord, JSON> RESULT = createField(DSL.name("result"), SQLDataType.JSON, this, "");
+    public final TableField<JobsRecord, Byte> EFFECTIVE_PRIORITY = createField(DSL.name("effective_priority"), SQLDataType.TINYINT.nullable(false).defaultValue(DSL.inline("5", SQLDataType.TINYINT)), this, "");
+
+    /**
+     * The column <code>jobs.jobs.run_at</code>.
+     */
+    public final TableField<JobsRecord, LocalDateTime> RUN_AT = createField(DSL.name("run_at"), SQLDataType.LOCALDATETIME(3), this, "");
+
+    /**
+     * The column <code>jobs.jobs.attempts</code>.
+     */
+    public final TableField<JobsRecord, Integer> ATTEMPTS = createField(DSL.name("attempts"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.inline("0", SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>jobs.jobs.timeout_seconds</code>.
+     */
+    public final TableField<JobsRecord, Integer> TIMEOUT_SECONDS = createField(DSL.name("timeout_seconds"), SQLDataType.INTEGER, this, "");
 
     /**
      * The column <code>jobs.jobs.error_message</code>.
      */
     public final TableField<JobsRecord, String> ERROR_MESSAGE = createField(DSL.name("error_message"), SQLDataType.CLOB, this, "");
 
+    /**
+     * The column <code>jobs.jobs.lease_owner</code>.
+     */
+    public final TableField<JobsRecord, String> LEASE_OWNER = createField(DSL.name("lease_owner"), SQLDataType.VARCHAR(64), this, "");
+
+    /**
+     * The column <code>jobs.jobs.lease_expires_at</code>.
+     */
+    public final TableField<JobsRecord, LocalDateTime> LEASE_EXPIRES_AT = createField(DSL.name("lease_expires_at"), SQLDataType.LOCALDATETIME(3), this, "");
+
     /**
      * The column <code>jobs.jobs.created_at</code>.
      */
-    public final TableField<JobsRecord, LocalDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.LOCALDATETIME(0).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.LOCALDATETIME)), this, "");
+    public final TableField<JobsRecord, LocalDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.LOCALDATETIME(0).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.LOCALDATETIME)), this, "");
 
     /**
      * The column <code>jobs.jobs.updated_at</code>.
@@ -175,7 +200,7 @@ public class Jobs extends TableImpl<JobsRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.JOBS_PROJECT_ID, Indexes.JOBS_USER_ID);
+        return Arrays.asList(Indexes.JOBS_IDX_JOBS_STATUS_EFFECTIVE_PRIORITY_CREATED_AT, Indexes.JOBS_IDX_JOBS_STATUS_LEASE_EXPIRES_AT, Indexes.JOBS_IDX_JOBS_STATUS_RUN_AT, Indexes.JOBS_IDX_JOBS_STATUS_USER_EFFECTIVE_PRIORITY_CREATED_AT, Indexes.JOBS_IDX_JOBS_USER_CREATED_AT, Indexes.JOBS_PROJECT_ID);
     }
 
     @Override
@@ -0,0 +1,300 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables;
+
+
+import com.example.jobserver.jooq.Jobs;
+import com.example.jobserver.jooq.Keys;
+import com.example.jobserver.jooq.enums.JobsArchiveStatus;
+import com.example.jobserver.jooq.tables.records.JobsArchiveRecord;
+import com.example.jobserver.repositories.impl.JobIdConverter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Name;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobsArchive extends TableImpl<JobsArchiveRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>jobs.jobs_archive</code>
+     */
+    public static final JobsArchive JOBS_ARCHIVE = new JobsArchive();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<JobsArchiveRecord> getRecordType() {
+        return JobsArchiveRecord.class;
+    }
+
+    /**
+     * The column <code>jobs.jobs_archive.id</code>.
+     */
+    public final TableField<JobsArchiveRecord, String> ID = createField(DSL.name("id"), SQLDataType.BINARY(16).nullable(false), this, "", new JobIdConverter());
+
+    /**
+     * The column <code>jobs.jobs_archive.user_id</code>.
+     */
+    public final TableField<JobsArchiveRecord, Long> USER_ID = createField(DSL.name("user_id"), SQLDataType.BIGINT.nullable(false), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.project_id</code>.
+     */
+    public final TableField<JobsArchiveRecord, Long> PROJECT_ID = createField(DSL.name("project_id"), SQLDataType.BIGINT, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.status</code>.
+     */
+    public final TableField<JobsArchiveRecord, JobsArchiveStatus> STATUS = createField(DSL.name("status"), SQLDataType.VARCHAR(11).nullable(false).asEnumDataType(JobsArchiveStatus.class), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.priority</code>.
+     */
+    public final TableField<JobsArchiveRecord, Byte> PRIORITY = createField(DSL.name("priority"), SQLDataType.TINYINT.nullable(false), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.run_at</code>.
+     */
+    public final TableField<JobsArchiveRecord, LocalDateTime> RUN_AT = createField(DSL.name("run_at"), SQLDataType.LOCALDATETIME(3), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.attempts</code>.
+     */
+    public final TableField<JobsArchiveRecord, Integer> ATTEMPTS = createField(DSL.name("attempts"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.timeout_seconds</code>.
+     */
+    public final TableField<JobsArchiveRecord, Integer> TIMEOUT_SECONDS = createField(DSL.name("timeout_seconds"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.error_message</code>.
+     */
+    public final TableField<JobsArchiveRecord, String> ERROR_MESSAGE = createField(DSL.name("error_message"), SQLDataType.CLOB, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.created_at</code>.
+     */
+    public final TableField<JobsArchiveRecord, LocalDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.LOCALDATETIME(0).nullable(false), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.updated_at</code>.
+     */
+    public final TableField<JobsArchiveRecord, LocalDateTime> UPDATED_AT = createField(DSL.name("updated_at"), SQLDataType.LOCALDATETIME(0), this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.parameters</code>.
+     */
+    public final TableField<JobsArchiveRecord, JSON> PARAMETERS = createField(DSL.name("parameters"), SQLDataType.JSON, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.parameters_packed</code>.
+     */
+    public final TableField<JobsArchiveRecord, byte[]> PARAMETERS_PACKED = createField(DSL.name("parameters_packed"), SQLDataType.BLOB, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.result</code>.
+     */
+    public final TableField<JobsArchiveRecord, JSON> RESULT = createField(DSL.name("result"), SQLDataType.JSON, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.result_packed</code>.
+     */
+    public final TableField<JobsArchiveRecord, byte[]> RESULT_PACKED = createField(DSL.name("result_packed"), SQLDataType.BLOB, this, "");
+
+    /**
+     * The column <code>jobs.jobs_archive.archived_at</code>.
+     */
+    public final TableField<JobsArchiveRecord, LocalDateTime> ARCHIVED_AT = createField(DSL.name("archived_at"), SQLDataType.LOCALDATETIME(0).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.LOCALDATETIME)), this, "");
+
+    private JobsArchive(Name alias, Table<JobsArchiveRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private JobsArchive(Name alias, Table<JobsArchiveRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>jobs.jobs_archive</code> table reference
+     */
+    public JobsArchive(String alias) {
+        this(DSL.name(alias), JOBS_ARCHIVE);
+    }
+
+    /**
+     * Create an aliased <code>jobs.jobs_archive</code> table reference
+     */
+    public JobsArchive(Name alias) {
+        this(alias, JOBS_ARCHIVE);
+    }
+
+    /**
+     * Create a <code>jobs.jobs_archive</code> table reference
+     */
+    public JobsArchive() {
+        this(DSL.name("jobs_archive"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Jobs.JOBS;
+    }
+
+    @Override
+    public UniqueKey<JobsArchiveRecord> getPrimaryKey() {
+        return Keys.KEY_JOBS_ARCHIVE_PRIMARY;
+    }
+
+
+    @Override
+    public JobsArchive as(String alias) {
+        return new JobsArchive(DSL.name(alias), this);
+    }
+
+    @Override
+    public JobsArchive as(Name alias) {
+        return new JobsArchive(alias, this);
+    }
+
+    @Override
+    public JobsArchive as(Table<?> alias) {
+        return new JobsArchive(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobsArchive rename(String name) {
+        return new JobsArchive(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobsArchive rename(Name name) {
+        return new JobsArchive(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public JobsArchive rename(Table<?> name) {
+        return new JobsArchive(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive where(Condition condition) {
+        return new JobsArchive(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobsArchive where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobsArchive where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobsArchive where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public JobsArchive where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public JobsArchive whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
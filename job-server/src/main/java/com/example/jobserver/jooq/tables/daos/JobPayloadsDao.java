@@ -0,0 +1,133 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.daos;
+
+
+import com.example.jobserver.jooq.tables.JobPayloads;
+import com.example.jobserver.jooq.tables.records.JobPayloadsRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.JSON;
+import org.jooq.Record2;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobPayloadsDao extends DAOImpl<JobPayloadsRecord, com.example.jobserver.jooq.tables.pojos.JobPayloads, Record2<String, LocalDateTime>> {
+
+    /**
+     * Create a new JobPayloadsDao without any configuration
+     */
+    public JobPayloadsDao() {
+        super(JobPayloads.JOB_PAYLOADS, com.example.jobserver.jooq.tables.pojos.JobPayloads.class);
+    }
+
+    /**
+     * Create a new JobPayloadsDao with an attached configuration
+     */
+    public JobPayloadsDao(Configuration configuration) {
+        super(JobPayloads.JOB_PAYLOADS, com.example.jobserver.jooq.tables.pojos.JobPayloads.class, configuration);
+    }
+
+    @Override
+    public Record2<String, LocalDateTime> getId(com.example.jobserver.jooq.tables.pojos.JobPayloads object) {
+        return compositeKeyRecord(object.getJobId(), object.getCreatedAt());
+    }
+
+    /**
+     * Fetch records that have <code>job_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfJobId(String lowerInclusive, String upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.JOB_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>job_id IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByJobId(String... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.JOB_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>created_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfCreatedAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.CREATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>created_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByCreatedAt(LocalDateTime... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.CREATED_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>parameters BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfParameters(JSON lowerInclusive, JSON upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.PARAMETERS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>parameters IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByParameters(JSON... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.PARAMETERS, values);
+    }
+
+    /**
+     * Fetch records that have <code>parameters_packed BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfParametersPacked(byte[] lowerInclusive, byte[] upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.PARAMETERS_PACKED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>parameters_packed IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByParametersPacked(byte[]... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.PARAMETERS_PACKED, values);
+    }
+
+    /**
+     * Fetch records that have <code>result BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfResult(JSON lowerInclusive, JSON upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.RESULT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>result IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByResult(JSON... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.RESULT, values);
+    }
+
+    /**
+     * Fetch records that have <code>result_packed BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchRangeOfResultPacked(byte[] lowerInclusive, byte[] upperInclusive) {
+        return fetchRange(JobPayloads.JOB_PAYLOADS.RESULT_PACKED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>result_packed IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobPayloads> fetchByResultPacked(byte[]... values) {
+        return fetch(JobPayloads.JOB_PAYLOADS.RESULT_PACKED, values);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.daos;
+
+
+import com.example.jobserver.jooq.enums.JobsArchiveStatus;
+import com.example.jobserver.jooq.tables.JobsArchive;
+import com.example.jobserver.jooq.tables.records.JobsArchiveRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.JSON;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobsArchiveDao extends DAOImpl<JobsArchiveRecord, com.example.jobserver.jooq.tables.pojos.JobsArchive, String> {
+
+    /**
+     * Create a new JobsArchiveDao without any configuration
+     */
+    public JobsArchiveDao() {
+        super(JobsArchive.JOBS_ARCHIVE, com.example.jobserver.jooq.tables.pojos.JobsArchive.class);
+    }
+
+    /**
+     * Create a new JobsArchiveDao with an attached configuration
+     */
+    public JobsArchiveDao(Configuration configuration) {
+        super(JobsArchive.JOBS_ARCHIVE, com.example.jobserver.jooq.tables.pojos.JobsArchive.class, configuration);
+    }
+
+    @Override
+    public String getId(com.example.jobserver.jooq.tables.pojos.JobsArchive object) {
+        return object.getId();
+    }
+
+    /**
+     * Fetch records that have <code>id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfId(String lowerInclusive, String upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>id IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchById(String... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>id = value</code>
+     */
+    public com.example.jobserver.jooq.tables.pojos.JobsArchive fetchOneById(String value) {
+        return fetchOne(JobsArchive.JOBS_ARCHIVE.ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>id = value</code>
+     */
+    public Optional<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchOptionalById(String value) {
+        return fetchOptional(JobsArchive.JOBS_ARCHIVE.ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>user_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfUserId(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.USER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>user_id IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByUserId(Long... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.USER_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>project_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfProjectId(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.PROJECT_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>project_id IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByProjectId(Long... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.PROJECT_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>status BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfStatus(JobsArchiveStatus lowerInclusive, JobsArchiveStatus upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.STATUS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>status IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByStatus(JobsArchiveStatus... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.STATUS, values);
+    }
+
+    /**
+     * Fetch records that have <code>priority BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfPriority(Byte lowerInclusive, Byte upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.PRIORITY, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>priority IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByPriority(Byte... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.PRIORITY, values);
+    }
+
+    /**
+     * Fetch records that have <code>run_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfRunAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.RUN_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>run_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByRunAt(LocalDateTime... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.RUN_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>attempts BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfAttempts(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.ATTEMPTS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>attempts IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByAttempts(Integer... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.ATTEMPTS, values);
+    }
+
+    /**
+     * Fetch records that have <code>timeout_seconds BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfTimeoutSeconds(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.TIMEOUT_SECONDS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>timeout_seconds IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByTimeoutSeconds(Integer... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.TIMEOUT_SECONDS, values);
+    }
+
+    /**
+     * Fetch records that have <code>error_message BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfErrorMessage(String lowerInclusive, String upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.ERROR_MESSAGE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>error_message IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByErrorMessage(String... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.ERROR_MESSAGE, values);
+    }
+
+    /**
+     * Fetch records that have <code>created_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfCreatedAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.CREATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>created_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByCreatedAt(LocalDateTime... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.CREATED_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>updated_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfUpdatedAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.UPDATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>updated_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByUpdatedAt(LocalDateTime... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.UPDATED_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>parameters BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfParameters(JSON lowerInclusive, JSON upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.PARAMETERS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>parameters IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByParameters(JSON... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.PARAMETERS, values);
+    }
+
+    /**
+     * Fetch records that have <code>parameters_packed BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfParametersPacked(byte[] lowerInclusive, byte[] upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.PARAMETERS_PACKED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>parameters_packed IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByParametersPacked(byte[]... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.PARAMETERS_PACKED, values);
+    }
+
+    /**
+     * Fetch records that have <code>result BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfResult(JSON lowerInclusive, JSON upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.RESULT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>result IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByResult(JSON... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.RESULT, values);
+    }
+
+    /**
+     * Fetch records that have <code>result_packed BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfResultPacked(byte[] lowerInclusive, byte[] upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.RESULT_PACKED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>result_packed IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByResultPacked(byte[]... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.RESULT_PACKED, values);
+    }
+
+    /**
+     * Fetch records that have <code>archived_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchRangeOfArchivedAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(JobsArchive.JOBS_ARCHIVE.ARCHIVED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>archived_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.JobsArchive> fetchByArchivedAt(LocalDateTime... values) {
+        return fetch(JobsArchive.JOBS_ARCHIVE.ARCHIVED_AT, values);
+    }
+}
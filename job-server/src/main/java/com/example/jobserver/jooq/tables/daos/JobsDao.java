@@ -10,10 +10,9 @@ import com.example.jobserver.jooq.tables.records.JobsRecord;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.jooq.Configuration;
-import org.jooq.JSON;
+import org.jooq.Record2;
 import org.jooq.impl.DAOImpl;
 
 
@@ -21,7 +20,7 @@ import org.jooq.impl.DAOImpl;
  * This class is generated by jOOQ.
  */
 @SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
-public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tables.pojos.Jobs, String> {
+public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tables.pojos.Jobs, Record2<String, LocalDateTime>> {
 
     /**
      * Create a new JobsDao without any configuration
@@ -38,8 +37,8 @@ public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tabl
     }
 
     @Override
-    public String getId(com.example.jobserver.jooq.tables.pojos.Jobs object) {
-        return object.getId();
+    public Record2<String, LocalDateTime> getId(com.example.jobserver.jooq.tables.pojos.Jobs object) {
+        return compositeKeyRecord(object.getId(), object.getCreatedAt());
     }
 
     /**
@@ -57,20 +56,6 @@ public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tabl
         return fetch(Jobs.JOBS_.ID, values);
     }
 
-    /**
-     * Fetch a unique record that has <code>id = value</code>
-     */
-    public com.example.jobserver.jooq.tables.pojos.Jobs fetchOneById(String value) {
-        return fetchOne(Jobs.JOBS_.ID, value);
-    }
-
-    /**
-     * Fetch a unique record that has <code>id = value</code>
-     */
-    public Optional<com.example.jobserver.jooq.tables.pojos.Jobs> fetchOptionalById(String value) {
-        return fetchOptional(Jobs.JOBS_.ID, value);
-    }
-
     /**
      * Fetch records that have <code>user_id BETWEEN lowerInclusive AND
      * upperInclusive</code>
@@ -117,33 +102,78 @@ public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tabl
     }
 
     /**
-     * Fetch records that have <code>parameters BETWEEN lowerInclusive AND
+     * Fetch records that have <code>priority BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfPriority(Byte lowerInclusive, Byte upperInclusive) {
+        return fetchRange(Jobs.JOBS_.PRIORITY, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>priority IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByPriority(Byte... values) {
+        return fetch(Jobs.JOBS_.PRIORITY, values);
+    }
+
+    /**
+     * Fetch records that have <code>effective_priority BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfEffectivePriority(Byte lowerInclusive, Byte upperInclusive) {
+        return fetchRange(Jobs.JOBS_.EFFECTIVE_PRIORITY, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>effective_priority IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByEffectivePriority(Byte... values) {
+        return fetch(Jobs.JOBS_.EFFECTIVE_PRIORITY, values);
+    }
+
+    /**
+     * Fetch records that have <code>run_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfRunAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(Jobs.JOBS_.RUN_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>run_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByRunAt(LocalDateTime... values) {
+        return fetch(Jobs.JOBS_.RUN_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>attempts BETWEEN lowerInclusive AND
      * upperInclusive</code>
      */
-    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfParameters(JSON lowerInclusive, JSON upperInclusive) {
-        return fetchRange(Jobs.JOBS_.PARAMETERS, lowerInclusive, upperInclusive);
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfAttempts(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Jobs.JOBS_.ATTEMPTS, lowerInclusive, upperInclusive);
     }
 
     /**
-     * Fetch records that have <code>parameters IN (values)</code>
+     * Fetch records that have <code>attempts IN (values)</code>
      */
-    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByParameters(JSON... values) {
-        return fetch(Jobs.JOBS_.PARAMETERS, values);
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByAttempts(Integer... values) {
+        return fetch(Jobs.JOBS_.ATTEMPTS, values);
     }
 
     /**
-     * Fetch records that have <code>result BETWEEN lowerInclusive AND
+     * Fetch records that have <code>timeout_seconds BETWEEN lowerInclusive AND
      * upperInclusive</code>
      */
-    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfResult(JSON lowerInclusive, JSON upperInclusive) {
-        return fetchRange(Jobs.JOBS_.RESULT, lowerInclusive, upperInclusive);
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfTimeoutSeconds(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Jobs.JOBS_.TIMEOUT_SECONDS, lowerInclusive, upperInclusive);
     }
 
     /**
-     * Fetch records that have <code>result IN (values)</code>
+     * Fetch records that have <code>timeout_seconds IN (values)</code>
      */
-    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByResult(JSON... values) {
-        return fetch(Jobs.JOBS_.RESULT, values);
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByTimeoutSeconds(Integer... values) {
+        return fetch(Jobs.JOBS_.TIMEOUT_SECONDS, values);
     }
 
     /**
@@ -161,6 +191,36 @@ public class JobsDao extends DAOImpl<JobsRecord, com.example.jobserver.jooq.tabl
         return fetch(Jobs.JOBS_.ERROR_MESSAGE, values);
     }
 
+    /**
+     * Fetch records that have <code>lease_owner BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfLeaseOwner(String lowerInclusive, String upperInclusive) {
+        return fetchRange(Jobs.JOBS_.LEASE_OWNER, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>lease_owner IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByLeaseOwner(String... values) {
+        return fetch(Jobs.JOBS_.LEASE_OWNER, values);
+    }
+
+    /**
+     * Fetch records that have <code>lease_expires_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchRangeOfLeaseExpiresAt(LocalDateTime lowerInclusive, LocalDateTime upperInclusive) {
+        return fetchRange(Jobs.JOBS_.LEASE_EXPIRES_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>lease_expires_at IN (values)</code>
+     */
+    public List<com.example.jobserver.jooq.tables.pojos.Jobs> fetchByLeaseExpiresAt(LocalDateTime... values) {
+        return fetch(Jobs.JOBS_.LEASE_EXPIRES_AT, values);
+    }
+
     /**
      * Fetch records that have <code>created_at BETWEEN lowerInclusive AND
      * upperInclusive</code>
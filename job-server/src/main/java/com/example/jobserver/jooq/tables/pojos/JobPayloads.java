@@ -0,0 +1,215 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.pojos;
+
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.jooq.JSON;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobPayloads implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jobId;
+    private LocalDateTime createdAt;
+    private JSON parameters;
+    private byte[] parametersPacked;
+    private JSON result;
+    private byte[] resultPacked;
+
+    public JobPayloads() {}
+
+    public JobPayloads(JobPayloads value) {
+        this.jobId = value.jobId;
+        this.createdAt = value.createdAt;
+        this.parameters = value.parameters;
+        this.parametersPacked = value.parametersPacked;
+        this.result = value.result;
+        this.resultPacked = value.resultPacked;
+    }
+
+    public JobPayloads(
+        String jobId,
+        LocalDateTime createdAt,
+        JSON parameters,
+        byte[] parametersPacked,
+        JSON result,
+        byte[] resultPacked
+    ) {
+        this.jobId = jobId;
+        this.createdAt = createdAt;
+        this.parameters = parameters;
+        this.parametersPacked = parametersPacked;
+        this.result = result;
+        this.resultPacked = resultPacked;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.job_id</code>.
+     */
+    public String getJobId() {
+        return this.jobId;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.job_id</code>.
+     */
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.created_at</code>.
+     */
+    public LocalDateTime getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.created_at</code>.
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.parameters</code>.
+     */
+    public JSON getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.parameters</code>.
+     */
+    public void setParameters(JSON parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.parameters_packed</code>.
+     */
+    public byte[] getParametersPacked() {
+        return this.parametersPacked;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.parameters_packed</code>.
+     */
+    public void setParametersPacked(byte[] parametersPacked) {
+        this.parametersPacked = parametersPacked;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.result</code>.
+     */
+    public JSON getResult() {
+        return this.result;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.result</code>.
+     */
+    public void setResult(JSON result) {
+        this.result = result;
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.result_packed</code>.
+     */
+    public byte[] getResultPacked() {
+        return this.resultPacked;
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.result_packed</code>.
+     */
+    public void setResultPacked(byte[] resultPacked) {
+        this.resultPacked = resultPacked;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final JobPayloads other = (JobPayloads) obj;
+        if (this.jobId == null) {
+            if (other.jobId != null)
+                return false;
+        }
+        else if (!this.jobId.equals(other.jobId))
+            return false;
+        if (this.createdAt == null) {
+            if (other.createdAt != null)
+                return false;
+        }
+        else if (!this.createdAt.equals(other.createdAt))
+            return false;
+        if (this.parameters == null) {
+            if (other.parameters != null)
+                return false;
+        }
+        else if (!this.parameters.equals(other.parameters))
+            return false;
+        if (this.parametersPacked == null) {
+            if (other.parametersPacked != null)
+                return false;
+        }
+        else if (!Arrays.equals(this.parametersPacked, other.parametersPacked))
+            return false;
+        if (this.result == null) {
+            if (other.result != null)
+                return false;
+        }
+        else if (!this.result.equals(other.result))
+            return false;
+        if (this.resultPacked == null) {
+            if (other.resultPacked != null)
+                return false;
+        }
+        else if (!Arrays.equals(this.resultPacked, other.resultPacked))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.jobId == null) ? 0 : this.jobId.hashCode());
+        result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
+        result = prime * result + ((this.parameters == null) ? 0 : this.parameters.hashCode());
+        result = prime * result + ((this.parametersPacked == null) ? 0 : Arrays.hashCode(this.parametersPacked));
+        result = prime * result + ((this.result == null) ? 0 : this.result.hashCode());
+        result = prime * result + ((this.resultPacked == null) ? 0 : Arrays.hashCode(this.resultPacked));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("JobPayloads (");
+
+        sb.append(jobId);
+        sb.append(", ").append(createdAt);
+        sb.append(", ").append(parameters);
+        sb.append(", ").append("[binary...]");
+        sb.append(", ").append(result);
+        sb.append(", ").append("[binary...]");
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -9,8 +9,6 @@ import com.example.jobserver.jooq.enums.JobsStatus;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
-import org.jooq.JSON;
-
 
 /**
  * This class is generated by jOOQ.
@@ -24,9 +22,14 @@ public class Jobs implements Serializable {
     private Long userId;
     private Long projectId;
     private JobsStatus status;
-    private JSON parameters;
-    private JSON result;
+    private Byte priority;
+    private Byte effectivePriority;
+    private LocalDateTime runAt;
+    private Integer attempts;
+    private Integer timeoutSeconds;
     private String errorMessage;
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -37,9 +40,14 @@ public class Jobs implements Serializable {
         this.userId = value.userId;
         this.projectId = value.projectId;
         this.status = value.status;
-        this.parameters = value.parameters;
-        this.result = value.result;
+        this.priority = value.priority;
+        this.effectivePriority = value.effectivePriority;
+        this.runAt = value.runAt;
+        this.attempts = value.attempts;
+        this.timeoutSeconds = value.timeoutSeconds;
         this.errorMessage = value.errorMessage;
+        this.leaseOwner = value.leaseOwner;
+        this.leaseExpiresAt = value.leaseExpiresAt;
         this.createdAt = value.createdAt;
         this.updatedAt = value.updatedAt;
     }
@@ -49,9 +57,14 @@ public class Jobs implements Serializable {
         Long userId,
         Long projectId,
         JobsStatus status,
-        JSON parameters,
-        JSON result,
+        Byte priority,
+        Byte effectivePriority,
+        LocalDateTime runAt,
+        Integer attempts,
+        Integer timeoutSeconds,
         String errorMessage,
+        String leaseOwner,
+        LocalDateTime leaseExpiresAt,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
     ) {
@@ -59,9 +72,14 @@ public class Jobs implements Serializable {
         this.userId = userId;
         this.projectId = projectId;
         this.status = status;
-        this.parameters = parameters;
-        this.result = result;
+        this.priority = priority;
+        this.effectivePriority = effectivePriority;
+        this.runAt = runAt;
+        this.attempts = attempts;
+        this.timeoutSeconds = timeoutSeconds;
         this.errorMessage = errorMessage;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -123,31 +141,73 @@ public class Jobs implements Serializable {
     }
 
     /**
-     * Getter for <code>jobs.jobs.parameters</code>.
+     * Getter for <code>jobs.jobs.priority</code>.
+     */
+    public Byte getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.priority</code>.
+     */
+    public void setPriority(Byte priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.effective_priority</code>.
+     */
+    public Byte getEffectivePriority() {
+        return this.effectivePriority;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.effective_priority</code>.
+     */
+    public void setEffectivePriority(Byte effectivePriority) {
+        this.effectivePriority = effectivePriority;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.run_at</code>.
+     */
+    public LocalDateTime getRunAt() {
+        return this.runAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.run_at</code>.
      */
-    public JSON getParameters() {
-        return this.parameters;
+    public void setRunAt(LocalDateTime runAt) {
+        this.runAt = runAt;
     }
 
     /**
-     * Setter for <code>jobs.jobs.parameters</code>.
+     * Getter for <code>jobs.jobs.attempts</code>.
      */
-    public void setParameters(JSON parameters) {
-        this.parameters = parameters;
+    public Integer getAttempts() {
+        return this.attempts;
     }
 
     /**
-     * Getter for <code>jobs.jobs.result</code>.
+     * Setter for <code>jobs.jobs.attempts</code>.
      */
-    public JSON getResult() {
-        return this.result;
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
     }
 
     /**
-     * Setter for <code>jobs.jobs.result</code>.
+     * Getter for <code>jobs.jobs.timeout_seconds</code>.
      */
-    public void setResult(JSON result) {
-        this.result = result;
+    public Integer getTimeoutSeconds() {
+        return this.timeoutSeconds;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.timeout_seconds</code>.
+     */
+    public void setTimeoutSeconds(Integer timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
     }
 
     /**
@@ -164,6 +224,34 @@ public class Jobs implements Serializable {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * Getter for <code>jobs.jobs.lease_owner</code>.
+     */
+    public String getLeaseOwner() {
+        return this.leaseOwner;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.lease_owner</code>.
+     */
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.lease_expires_at</code>.
+     */
+    public LocalDateTime getLeaseExpiresAt() {
+        return this.leaseExpiresAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.lease_expires_at</code>.
+     */
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     /**
      * Getter for <code>jobs.jobs.created_at</code>.
      */
@@ -225,17 +313,35 @@ public class Jobs implements Serializable {
         }
         else if (!this.status.equals(other.status))
             return false;
-        if (this.parameters == null) {
-            if (other.parameters != null)
+        if (this.priority == null) {
+            if (other.priority != null)
+                return false;
+        }
+        else if (!this.priority.equals(other.priority))
+            return false;
+        if (this.effectivePriority == null) {
+            if (other.effectivePriority != null)
+                return false;
+        }
+        else if (!this.effectivePriority.equals(other.effectivePriority))
+            return false;
+        if (this.runAt == null) {
+            if (other.runAt != null)
+                return false;
+        }
+        else if (!this.runAt.equals(other.runAt))
+            return false;
+        if (this.attempts == null) {
+            if (other.attempts != null)
                 return false;
         }
-        else if (!this.parameters.equals(other.parameters))
+        else if (!this.attempts.equals(other.attempts))
             return false;
-        if (this.result == null) {
-            if (other.result != null)
+        if (this.timeoutSeconds == null) {
+            if (other.timeoutSeconds != null)
                 return false;
         }
-        else if (!this.result.equals(other.result))
+        else if (!this.timeoutSeconds.equals(other.timeoutSeconds))
             return false;
         if (this.errorMessage == null) {
             if (other.errorMessage != null)
@@ -243,6 +349,18 @@ public class Jobs implements Serializable {
         }
         else if (!this.errorMessage.equals(other.errorMessage))
             return false;
+        if (this.leaseOwner == null) {
+            if (other.leaseOwner != null)
+                return false;
+        }
+        else if (!this.leaseOwner.equals(other.leaseOwner))
+            return false;
+        if (this.leaseExpiresAt == null) {
+            if (other.leaseExpiresAt != null)
+                return false;
+        }
+        else if (!this.leaseExpiresAt.equals(other.leaseExpiresAt))
+            return false;
         if (this.createdAt == null) {
             if (other.createdAt != null)
                 return false;
@@ -266,9 +384,14 @@ public class Jobs implements Serializable {
         result = prime * result + ((this.userId == null) ? 0 : this.userId.hashCode());
         result = prime * result + ((this.projectId == null) ? 0 : this.projectId.hashCode());
         result = prime * result + ((this.status == null) ? 0 : this.status.hashCode());
-        result = prime * result + ((this.parameters == null) ? 0 : this.parameters.hashCode());
-        result = prime * result + ((this.result == null) ? 0 : this.result.hashCode());
+        result = prime * result + ((this.priority == null) ? 0 : this.priority.hashCode());
+        result = prime * result + ((this.effectivePriority == null) ? 0 : this.effectivePriority.hashCode());
+        result = prime * result + ((this.runAt == null) ? 0 : this.runAt.hashCode());
+        result = prime * result + ((this.attempts == null) ? 0 : this.attempts.hashCode());
+        result = prime * result + ((this.timeoutSeconds == null) ? 0 : this.timeoutSeconds.hashCode());
         result = prime * result + ((this.errorMessage == null) ? 0 : this.errorMessage.hashCode());
+        result = prime * result + ((this.leaseOwner == null) ? 0 : this.leaseOwner.hashCode());
+        result = prime * result + ((this.leaseExpiresAt == null) ? 0 : this.leaseExpiresAt.hashCode());
         result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
         result = prime * result + ((this.updatedAt == null) ? 0 : this.updatedAt.hashCode());
         return result;
@@ -282,9 +405,14 @@ public class Jobs implements Serializable {
         sb.append(", ").append(userId);
         sb.append(", ").append(projectId);
         sb.append(", ").append(status);
-        sb.append(", ").append(parameters);
-        sb.append(", ").append(result);
+        sb.append(", ").append(priority);
+        sb.append(", ").append(effectivePriority);
+        sb.append(", ").append(runAt);
+        sb.append(", ").append(attempts);
+        sb.append(", ").append(timeoutSeconds);
         sb.append(", ").append(errorMessage);
+        sb.append(", ").append(leaseOwner);
+        sb.append(", ").append(leaseExpiresAt);
         sb.append(", ").append(createdAt);
         sb.append(", ").append(updatedAt);
 
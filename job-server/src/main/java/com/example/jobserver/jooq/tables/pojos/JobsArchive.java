@@ -0,0 +1,477 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.pojos;
+
+
+import com.example.jobserver.jooq.enums.JobsArchiveStatus;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.jooq.JSON;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobsArchive implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+    private Long userId;
+    private Long projectId;
+    private JobsArchiveStatus status;
+    private Byte priority;
+    private LocalDateTime runAt;
+    private Integer attempts;
+    private Integer timeoutSeconds;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private JSON parameters;
+    private byte[] parametersPacked;
+    private JSON result;
+    private byte[] resultPacked;
+    private LocalDateTime archivedAt;
+
+    public JobsArchive() {}
+
+    public JobsArchive(JobsArchive value) {
+        this.id = value.id;
+        this.userId = value.userId;
+        this.projectId = value.projectId;
+        this.status = value.status;
+        this.priority = value.priority;
+        this.runAt = value.runAt;
+        this.attempts = value.attempts;
+        this.timeoutSeconds = value.timeoutSeconds;
+        this.errorMessage = value.errorMessage;
+        this.createdAt = value.createdAt;
+        this.updatedAt = value.updatedAt;
+        this.parameters = value.parameters;
+        this.parametersPacked = value.parametersPacked;
+        this.result = value.result;
+        this.resultPacked = value.resultPacked;
+        this.archivedAt = value.archivedAt;
+    }
+
+    public JobsArchive(
+        String id,
+        Long userId,
+        Long projectId,
+        JobsArchiveStatus status,
+        Byte priority,
+        LocalDateTime runAt,
+        Integer attempts,
+        Integer timeoutSeconds,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        JSON parameters,
+        byte[] parametersPacked,
+        JSON result,
+        byte[] resultPacked,
+        LocalDateTime archivedAt
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.projectId = projectId;
+        this.status = status;
+        this.priority = priority;
+        this.runAt = runAt;
+        this.attempts = attempts;
+        this.timeoutSeconds = timeoutSeconds;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.parameters = parameters;
+        this.parametersPacked = parametersPacked;
+        this.result = result;
+        this.resultPacked = resultPacked;
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.id</code>.
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.id</code>.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.user_id</code>.
+     */
+    public Long getUserId() {
+        return this.userId;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.user_id</code>.
+     */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.project_id</code>.
+     */
+    public Long getProjectId() {
+        return this.projectId;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.project_id</code>.
+     */
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.status</code>.
+     */
+    public JobsArchiveStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.status</code>.
+     */
+    public void setStatus(JobsArchiveStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.priority</code>.
+     */
+    public Byte getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.priority</code>.
+     */
+    public void setPriority(Byte priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.run_at</code>.
+     */
+    public LocalDateTime getRunAt() {
+        return this.runAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.run_at</code>.
+     */
+    public void setRunAt(LocalDateTime runAt) {
+        this.runAt = runAt;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.attempts</code>.
+     */
+    public Integer getAttempts() {
+        return this.attempts;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.attempts</code>.
+     */
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.timeout_seconds</code>.
+     */
+    public Integer getTimeoutSeconds() {
+        return this.timeoutSeconds;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.timeout_seconds</code>.
+     */
+    public void setTimeoutSeconds(Integer timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.error_message</code>.
+     */
+    public String getErrorMessage() {
+        return this.errorMessage;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.error_message</code>.
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.created_at</code>.
+     */
+    public LocalDateTime getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.created_at</code>.
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.updated_at</code>.
+     */
+    public LocalDateTime getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.updated_at</code>.
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.parameters</code>.
+     */
+    public JSON getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.parameters</code>.
+     */
+    public void setParameters(JSON parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.parameters_packed</code>.
+     */
+    public byte[] getParametersPacked() {
+        return this.parametersPacked;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.parameters_packed</code>.
+     */
+    public void setParametersPacked(byte[] parametersPacked) {
+        this.parametersPacked = parametersPacked;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.result</code>.
+     */
+    public JSON getResult() {
+        return this.result;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.result</code>.
+     */
+    public void setResult(JSON result) {
+        this.result = result;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.result_packed</code>.
+     */
+    public byte[] getResultPacked() {
+        return this.resultPacked;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.result_packed</code>.
+     */
+    public void setResultPacked(byte[] resultPacked) {
+        this.resultPacked = resultPacked;
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.archived_at</code>.
+     */
+    public LocalDateTime getArchivedAt() {
+        return this.archivedAt;
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.archived_at</code>.
+     */
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final JobsArchive other = (JobsArchive) obj;
+        if (this.id == null) {
+            if (other.id != null)
+                return false;
+        }
+        else if (!this.id.equals(other.id))
+            return false;
+        if (this.userId == null) {
+            if (other.userId != null)
+                return false;
+        }
+        else if (!this.userId.equals(other.userId))
+            return false;
+        if (this.projectId == null) {
+            if (other.projectId != null)
+                return false;
+        }
+        else if (!this.projectId.equals(other.projectId))
+            return false;
+        if (this.status == null) {
+            if (other.status != null)
+                return false;
+        }
+        else if (!this.status.equals(other.status))
+            return false;
+        if (this.priority == null) {
+            if (other.priority != null)
+                return false;
+        }
+        else if (!this.priority.equals(other.priority))
+            return false;
+        if (this.runAt == null) {
+            if (other.runAt != null)
+                return false;
+        }
+        else if (!this.runAt.equals(other.runAt))
+            return false;
+        if (this.attempts == null) {
+            if (other.attempts != null)
+                return false;
+        }
+        else if (!this.attempts.equals(other.attempts))
+            return false;
+        if (this.timeoutSeconds == null) {
+            if (other.timeoutSeconds != null)
+                return false;
+        }
+        else if (!this.timeoutSeconds.equals(other.timeoutSeconds))
+            return false;
+        if (this.errorMessage == null) {
+            if (other.errorMessage != null)
+                return false;
+        }
+        else if (!this.errorMessage.equals(other.errorMessage))
+            return false;
+        if (this.createdAt == null) {
+            if (other.createdAt != null)
+                return false;
+        }
+        else if (!this.createdAt.equals(other.createdAt))
+            return false;
+        if (this.updatedAt == null) {
+            if (other.updatedAt != null)
+                return false;
+        }
+        else if (!this.updatedAt.equals(other.updatedAt))
+            return false;
+        if (this.parameters == null) {
+            if (other.parameters != null)
+                return false;
+        }
+        else if (!this.parameters.equals(other.parameters))
+            return false;
+        if (this.parametersPacked == null) {
+            if (other.parametersPacked != null)
+                return false;
+        }
+        else if (!Arrays.equals(this.parametersPacked, other.parametersPacked))
+            return false;
+        if (this.result == null) {
+            if (other.result != null)
+                return false;
+        }
+        else if (!this.result.equals(other.result))
+            return false;
+        if (this.resultPacked == null) {
+            if (other.resultPacked != null)
+                return false;
+        }
+        else if (!Arrays.equals(this.resultPacked, other.resultPacked))
+            return false;
+        if (this.archivedAt == null) {
+            if (other.archivedAt != null)
+                return false;
+        }
+        else if (!this.archivedAt.equals(other.archivedAt))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.id == null) ? 0 : this.id.hashCode());
+        result = prime * result + ((this.userId == null) ? 0 : this.userId.hashCode());
+        result = prime * result + ((this.projectId == null) ? 0 : this.projectId.hashCode());
+        result = prime * result + ((this.status == null) ? 0 : this.status.hashCode());
+        result = prime * result + ((this.priority == null) ? 0 : this.priority.hashCode());
+        result = prime * result + ((this.runAt == null) ? 0 : this.runAt.hashCode());
+        result = prime * result + ((this.attempts == null) ? 0 : this.attempts.hashCode());
+        result = prime * result + ((this.timeoutSeconds == null) ? 0 : this.timeoutSeconds.hashCode());
+        result = prime * result + ((this.errorMessage == null) ? 0 : this.errorMessage.hashCode());
+        result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
+        result = prime * result + ((this.updatedAt == null) ? 0 : this.updatedAt.hashCode());
+        result = prime * result + ((this.parameters == null) ? 0 : this.parameters.hashCode());
+        result = prime * result + ((this.parametersPacked == null) ? 0 : Arrays.hashCode(this.parametersPacked));
+        result = prime * result + ((this.result == null) ? 0 : this.result.hashCode());
+        result = prime * result + ((this.resultPacked == null) ? 0 : Arrays.hashCode(this.resultPacked));
+        result = prime * result + ((this.archivedAt == null) ? 0 : this.archivedAt.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("JobsArchive (");
+
+        sb.append(id);
+        sb.append(", ").append(userId);
+        sb.append(", ").append(projectId);
+        sb.append(", ").append(status);
+        sb.append(", ").append(priority);
+        sb.append(", ").append(runAt);
+        sb.append(", ").append(attempts);
+        sb.append(", ").append(timeoutSeconds);
+        sb.append(", ").append(errorMessage);
+        sb.append(", ").append(createdAt);
+        sb.append(", ").append(updatedAt);
+        sb.append(", ").append(parameters);
+        sb.append(", ").append("[binary...]");
+        sb.append(", ").append(result);
+        sb.append(", ").append("[binary...]");
+        sb.append(", ").append(archivedAt);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
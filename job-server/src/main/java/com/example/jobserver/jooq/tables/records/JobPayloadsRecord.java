@@ -0,0 +1,159 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.records;
+
+
+import com.example.jobserver.jooq.tables.JobPayloads;
+
+import java.time.LocalDateTime;
+
+import org.jooq.JSON;
+import org.jooq.Record2;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobPayloadsRecord extends UpdatableRecordImpl<JobPayloadsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>jobs.job_payloads.job_id</code>.
+     */
+    public void setJobId(String value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.job_id</code>.
+     */
+    public String getJobId() {
+        return (String) get(0);
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.created_at</code>.
+     */
+    public void setCreatedAt(LocalDateTime value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.created_at</code>.
+     */
+    public LocalDateTime getCreatedAt() {
+        return (LocalDateTime) get(1);
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.parameters</code>.
+     */
+    public void setParameters(JSON value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.parameters</code>.
+     */
+    public JSON getParameters() {
+        return (JSON) get(2);
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.parameters_packed</code>.
+     */
+    public void setParametersPacked(byte[] value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.parameters_packed</code>.
+     */
+    public byte[] getParametersPacked() {
+        return (byte[]) get(3);
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.result</code>.
+     */
+    public void setResult(JSON value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.result</code>.
+     */
+    public JSON getResult() {
+        return (JSON) get(4);
+    }
+
+    /**
+     * Setter for <code>jobs.job_payloads.result_packed</code>.
+     */
+    public void setResultPacked(byte[] value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>jobs.job_payloads.result_packed</code>.
+     */
+    public byte[] getResultPacked() {
+        return (byte[]) get(5);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record2<String, LocalDateTime> key() {
+        return (Record2) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached JobPayloadsRecord
+     */
+    public JobPayloadsRecord() {
+        super(JobPayloads.JOB_PAYLOADS);
+    }
+
+    /**
+     * Create a detached, initialised JobPayloadsRecord
+     */
+    public JobPayloadsRecord(String jobId, LocalDateTime createdAt, JSON parameters, byte[] parametersPacked, JSON result, byte[] resultPacked) {
+        super(JobPayloads.JOB_PAYLOADS);
+
+        setJobId(jobId);
+        setCreatedAt(createdAt);
+        setParameters(parameters);
+        setParametersPacked(parametersPacked);
+        setResult(result);
+        setResultPacked(resultPacked);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised JobPayloadsRecord
+     */
+    public JobPayloadsRecord(com.example.jobserver.jooq.tables.pojos.JobPayloads value) {
+        super(JobPayloads.JOB_PAYLOADS);
+
+        if (value != null) {
+            setJobId(value.getJobId());
+            setCreatedAt(value.getCreatedAt());
+            setParameters(value.getParameters());
+            setParametersPacked(value.getParametersPacked());
+            setResult(value.getResult());
+            setResultPacked(value.getResultPacked());
+            resetChangedOnNotNull();
+        }
+    }
+}
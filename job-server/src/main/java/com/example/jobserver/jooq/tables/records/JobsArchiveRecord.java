@@ -0,0 +1,320 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.example.jobserver.jooq.tables.records;
+
+
+import com.example.jobserver.jooq.enums.JobsArchiveStatus;
+import com.example.jobserver.jooq.tables.JobsArchive;
+
+import java.time.LocalDateTime;
+
+import org.jooq.JSON;
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class JobsArchiveRecord extends UpdatableRecordImpl<JobsArchiveRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>jobs.jobs_archive.id</code>.
+     */
+    public void setId(String value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.id</code>.
+     */
+    public String getId() {
+        return (String) get(0);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.user_id</code>.
+     */
+    public void setUserId(Long value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.user_id</code>.
+     */
+    public Long getUserId() {
+        return (Long) get(1);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.project_id</code>.
+     */
+    public void setProjectId(Long value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.project_id</code>.
+     */
+    public Long getProjectId() {
+        return (Long) get(2);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.status</code>.
+     */
+    public void setStatus(JobsArchiveStatus value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.status</code>.
+     */
+    public JobsArchiveStatus getStatus() {
+        return (JobsArchiveStatus) get(3);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.priority</code>.
+     */
+    public void setPriority(Byte value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.priority</code>.
+     */
+    public Byte getPriority() {
+        return (Byte) get(4);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.run_at</code>.
+     */
+    public void setRunAt(LocalDateTime value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.run_at</code>.
+     */
+    public LocalDateTime getRunAt() {
+        return (LocalDateTime) get(5);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.attempts</code>.
+     */
+    public void setAttempts(Integer value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.attempts</code>.
+     */
+    public Integer getAttempts() {
+        return (Integer) get(6);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.timeout_seconds</code>.
+     */
+    public void setTimeoutSeconds(Integer value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.timeout_seconds</code>.
+     */
+    public Integer getTimeoutSeconds() {
+        return (Integer) get(7);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.error_message</code>.
+     */
+    public void setErrorMessage(String value) {
+        set(8, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.error_message</code>.
+     */
+    public String getErrorMessage() {
+        return (String) get(8);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.created_at</code>.
+     */
+    public void setCreatedAt(LocalDateTime value) {
+        set(9, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.created_at</code>.
+     */
+    public LocalDateTime getCreatedAt() {
+        return (LocalDateTime) get(9);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.updated_at</code>.
+     */
+    public void setUpdatedAt(LocalDateTime value) {
+        set(10, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.updated_at</code>.
+     */
+    public LocalDateTime getUpdatedAt() {
+        return (LocalDateTime) get(10);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.parameters</code>.
+     */
+    public void setParameters(JSON value) {
+        set(11, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.parameters</code>.
+     */
+    public JSON getParameters() {
+        return (JSON) get(11);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.parameters_packed</code>.
+     */
+    public void setParametersPacked(byte[] value) {
+        set(12, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.parameters_packed</code>.
+     */
+    public byte[] getParametersPacked() {
+        return (byte[]) get(12);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.result</code>.
+     */
+    public void setResult(JSON value) {
+        set(13, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.result</code>.
+     */
+    public JSON getResult() {
+        return (JSON) get(13);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.result_packed</code>.
+     */
+    public void setResultPacked(byte[] value) {
+        set(14, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.result_packed</code>.
+     */
+    public byte[] getResultPacked() {
+        return (byte[]) get(14);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs_archive.archived_at</code>.
+     */
+    public void setArchivedAt(LocalDateTime value) {
+        set(15, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs_archive.archived_at</code>.
+     */
+    public LocalDateTime getArchivedAt() {
+        return (LocalDateTime) get(15);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<String> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached JobsArchiveRecord
+     */
+    public JobsArchiveRecord() {
+        super(JobsArchive.JOBS_ARCHIVE);
+    }
+
+    /**
+     * Create a detached, initialised JobsArchiveRecord
+     */
+    public JobsArchiveRecord(String id, Long userId, Long projectId, JobsArchiveStatus status, Byte priority, LocalDateTime runAt, Integer attempts, Integer timeoutSeconds, String errorMessage, LocalDateTime createdAt, LocalDateTime updatedAt, JSON parameters, byte[] parametersPacked, JSON result, byte[] resultPacked, LocalDateTime archivedAt) {
+        super(JobsArchive.JOBS_ARCHIVE);
+
+        setId(id);
+        setUserId(userId);
+        setProjectId(projectId);
+        setStatus(status);
+        setPriority(priority);
+        setRunAt(runAt);
+        setAttempts(attempts);
+        setTimeoutSeconds(timeoutSeconds);
+        setErrorMessage(errorMessage);
+        setCreatedAt(createdAt);
+        setUpdatedAt(updatedAt);
+        setParameters(parameters);
+        setParametersPacked(parametersPacked);
+        setResult(result);
+        setResultPacked(resultPacked);
+        setArchivedAt(archivedAt);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised JobsArchiveRecord
+     */
+    public JobsArchiveRecord(com.example.jobserver.jooq.tables.pojos.JobsArchive value) {
+        super(JobsArchive.JOBS_ARCHIVE);
+
+        if (value != null) {
+            setId(value.getId());
+            setUserId(value.getUserId());
+            setProjectId(value.getProjectId());
+            setStatus(value.getStatus());
+            setPriority(value.getPriority());
+            setRunAt(value.getRunAt());
+            setAttempts(value.getAttempts());
+            setTimeoutSeconds(value.getTimeoutSeconds());
+            setErrorMessage(value.getErrorMessage());
+            setCreatedAt(value.getCreatedAt());
+            setUpdatedAt(value.getUpdatedAt());
+            setParameters(value.getParameters());
+            setParametersPacked(value.getParametersPacked());
+            setResult(value.getResult());
+            setResultPacked(value.getResultPacked());
+            setArchivedAt(value.getArchivedAt());
+            resetChangedOnNotNull();
+        }
+    }
+}
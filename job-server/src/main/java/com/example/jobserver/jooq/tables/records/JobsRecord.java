@@ -9,8 +9,7 @@ import com.example.jobserver.jooq.tables.Jobs;
 
 import java.time.LocalDateTime;
 
-import org.jooq.JSON;
-import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -79,73 +78,143 @@ public class JobsRecord extends UpdatableRecordImpl<JobsRecord> {
     }
 
     /**
-     * Setter for <code>jobs.jobs.parameters</code>.
+     * Setter for <code>jobs.jobs.priority</code>.
      */
-    public void setParameters(JSON value) {
+    public void setPriority(Byte value) {
         set(4, value);
     }
 
     /**
-     * Getter for <code>jobs.jobs.parameters</code>.
+     * Getter for <code>jobs.jobs.priority</code>.
      */
-    public JSON getParameters() {
-        return (JSON) get(4);
+    public Byte getPriority() {
+        return (Byte) get(4);
     }
 
     /**
-     * Setter for <code>jobs.jobs.result</code>.
+     * Setter for <code>jobs.jobs.effective_priority</code>.
      */
-    public void setResult(JSON value) {
+    public void setEffectivePriority(Byte value) {
         set(5, value);
     }
 
     /**
-     * Getter for <code>jobs.jobs.result</code>.
+     * Getter for <code>jobs.jobs.effective_priority</code>.
      */
-    public JSON getResult() {
-        return (JSON) get(5);
+    public Byte getEffectivePriority() {
+        return (Byte) get(5);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.run_at</code>.
+     */
+    public void setRunAt(LocalDateTime value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.run_at</code>.
+     */
+    public LocalDateTime getRunAt() {
+        return (LocalDateTime) get(6);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.attempts</code>.
+     */
+    public void setAttempts(Integer value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.attempts</code>.
+     */
+    public Integer getAttempts() {
+        return (Integer) get(7);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.timeout_seconds</code>.
+     */
+    public void setTimeoutSeconds(Integer value) {
+        set(8, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.timeout_seconds</code>.
+     */
+    public Integer getTimeoutSeconds() {
+        return (Integer) get(8);
     }
 
     /**
      * Setter for <code>jobs.jobs.error_message</code>.
      */
     public void setErrorMessage(String value) {
-        set(6, value);
+        set(9, value);
     }
 
     /**
      * Getter for <code>jobs.jobs.error_message</code>.
      */
     public String getErrorMessage() {
-        return (String) get(6);
+        return (String) get(9);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.lease_owner</code>.
+     */
+    public void setLeaseOwner(String value) {
+        set(10, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.lease_owner</code>.
+     */
+    public String getLeaseOwner() {
+        return (String) get(10);
+    }
+
+    /**
+     * Setter for <code>jobs.jobs.lease_expires_at</code>.
+     */
+    public void setLeaseExpiresAt(LocalDateTime value) {
+        set(11, value);
+    }
+
+    /**
+     * Getter for <code>jobs.jobs.lease_expires_at</code>.
+     */
+    public LocalDateTime getLeaseExpiresAt() {
+        return (LocalDateTime) get(11);
     }
 
     /**
      * Setter for <code>jobs.jobs.created_at</code>.
      */
     public void setCreatedAt(LocalDateTime value) {
-        set(7, value);
+        set(12, value);
     }
 
     /**
      * Getter for <code>jobs.jobs.created_at</code>.
      */
     public LocalDateTime getCreatedAt() {
-        return (LocalDateTime) get(7);
+        return (LocalDateTime) get(12);
     }
 
     /**
      * Setter for <code>jobs.jobs.updated_at</code>.
      */
     public void setUpdatedAt(LocalDateTime value) {
-        set(8, value);
+        set(13, value);
     }
 
     /**
      * Getter for <code>jobs.jobs.updated_at</code>.
      */
     public LocalDateTime getUpdatedAt() {
-        return (LocalDateTime) get(8);
+        return (LocalDateTime) get(13);
     }
 
     // -------------------------------------------------------------------------
@@ -153,8 +222,8 @@ public class JobsRecord extends UpdatableRecordImpl<JobsRecord> {
     // -------------------------------------------------------------------------
 
     @Override
-    public Record1<String> key() {
-        return (Record1) super.key();
+    public Record2<String, LocalDateTime> key() {
+        return (Record2) super.key();
     }
 
     // -------------------------------------------------------------------------
@@ -171,16 +240,21 @@ public class JobsRecord extends UpdatableRecordImpl<JobsRecord> {
     /**
      * Create a detached, initialised JobsRecord
      */
-    public JobsRecord(String id, Long userId, Long projectId, JobsStatus status, JSON parameters, JSON result, String errorMessage, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public JobsRecord(String id, Long userId, Long projectId, JobsStatus status, Byte priority, Byte effectivePriority, LocalDateTime runAt, Integer attempts, Integer timeoutSeconds, String errorMessage, String leaseOwner, LocalDateTime leaseExpiresAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
         super(Jobs.JOBS_);
 
         setId(id);
         setUserId(userId);
         setProjectId(projectId);
         setStatus(status);
-        setParameters(parameters);
-        setResult(result);
+        setPriority(priority);
+        setEffectivePriority(effectivePriority);
+        setRunAt(runAt);
+        setAttempts(attempts);
+        setTimeoutSeconds(timeoutSeconds);
         setErrorMessage(errorMessage);
+        setLeaseOwner(leaseOwner);
+        setLeaseExpiresAt(leaseExpiresAt);
         setCreatedAt(createdAt);
         setUpdatedAt(updatedAt);
         resetChangedOnNotNull();
@@ -197,9 +271,14 @@ public class JobsRecord extends UpdatableRecordImpl<JobsRecord> {
             setUserId(value.getUserId());
             setProjectId(value.getProjectId());
             setStatus(value.getStatus());
-            setParameters(value.getParameters());
-            setResult(value.getResult());
+            setPriority(value.getPriority());
+            setEffectivePriority(value.getEffectivePriority());
+            setRunAt(value.getRunAt());
+            setAttempts(value.getAttempts());
+            setTimeoutSeconds(value.getTimeoutSeconds());
             setErrorMessage(value.getErrorMessage());
+            setLeaseOwner(value.getLeaseOwner());
+            setLeaseExpiresAt(value.getLeaseExpiresAt());
             setCreatedAt(value.getCreatedAt());
             setUpdatedAt(value.getUpdatedAt());
             resetChangedOnNotNull();
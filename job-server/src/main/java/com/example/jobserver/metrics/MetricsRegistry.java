@@ -0,0 +1,26 @@
+package com.example.jobserver.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Minimal registry of named metric sources, served as one JSON document at {@code GET /metrics}.
+ * Each source renders its own snapshot on demand, so there is no sampling thread.
+ */
+public class MetricsRegistry {
+
+    private final Map<String, Supplier<JsonObject>> sources = new ConcurrentSkipListMap<>();
+
+    public void register(String name, Supplier<JsonObject> source) {
+        sources.put(name, source);
+    }
+
+    public JsonObject snapshot() {
+        JsonObject snapshot = new JsonObject();
+        sources.forEach((name, source) -> snapshot.put(name, source.get()));
+        return snapshot;
+    }
+}
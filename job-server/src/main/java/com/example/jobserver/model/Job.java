@@ -2,6 +2,7 @@ package com.example.jobserver.model;
 
 import io.vertx.core.json.JsonObject;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.SuperBuilder;
 
@@ -12,14 +13,74 @@ import java.time.Instant;
 @SuperBuilder
 public class Job {
 
+    /**
+     * Priority lanes: higher values are claimed first.
+     */
+    public static final int MIN_PRIORITY = 0;
+    public static final int MAX_PRIORITY = 9;
+    public static final int DEFAULT_PRIORITY = 5;
+
+    /**
+     * Highest lane aging moves a waiting job into: the top lane stays for jobs submitted there.
+     */
+    public static final int MAX_AGED_PRIORITY = MAX_PRIORITY - 1;
+
+    /**
+     * Upper bound for a job's {@code timeoutSeconds}.
+     */
+    public static final int MAX_TIMEOUT_SECONDS = 86_400;
+
     private final String id;
     private final long userId;
     private final Long projectId; // nullable
     private JobStatus status;
-    private final JsonObject parameters;
-    private JobResult result;
+    @Builder.Default
+    private final int priority = DEFAULT_PRIORITY;
+    private final Instant runAt; // nullable, only for delayed jobs and retries
+    private int attempts; // times the job has been claimed
+    private final Integer timeoutSeconds; // nullable: server default
+    // Kept encoded when read from the database until someone looks at them
+    private final JsonPayload parameters;
+    private JsonPayload result;
     private String errorMessage;
     private final Instant createdAt;
     private Instant updatedAt;
 
+    public JsonObject getParameters() {
+        return parameters != null ? parameters.json() : null;
+    }
+
+    /**
+     * The parameters without decoding them.
+     */
+    public JsonPayload getParametersPayload() {
+        return parameters;
+    }
+
+    public JobResult getResult() {
+        return result != null ? new JobResult(result.json()) : null;
+    }
+
+    public void setResult(JobResult result) {
+        this.result = result != null ? JsonPayload.of(result.payload()) : null;
+    }
+
+    /**
+     * The result without decoding it; {@code null} until the job completed.
+     */
+    public JsonPayload getResultPayload() {
+        return result;
+    }
+
+    public abstract static class JobBuilder<C extends Job, B extends JobBuilder<C, B>> {
+
+        public B parameters(JsonPayload parameters) {
+            this.parameters = parameters;
+            return self();
+        }
+
+        public B parameters(JsonObject parameters) {
+            return parameters(JsonPayload.of(parameters));
+        }
+    }
 }
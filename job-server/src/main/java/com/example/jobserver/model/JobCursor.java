@@ -0,0 +1,41 @@
+package com.example.jobserver.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a user's job list, which is ordered by (created_at, id) newest first: the next page starts
+ * after the job with this creation time and id. Clients see it only as the opaque string of {@link #encode()}.
+ * The archiver walks finished jobs by the same key, oldest first.
+ */
+public record JobCursor(Instant createdAt, String id) {
+
+    public static JobCursor after(JobSummary job) {
+        return new JobCursor(job.createdAt(), job.id());
+    }
+
+    public String encode() {
+        String plain = createdAt.toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a cursor produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if {@code cursor} was not
+     */
+    public static JobCursor decode(String cursor) {
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = plain.indexOf(':');
+            if (separator > 0 && JobIds.isValid(plain.substring(separator + 1))) {
+                return new JobCursor(Instant.ofEpochMilli(Long.parseLong(plain.substring(0, separator))),
+                    plain.substring(separator + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            // Not Base64, or not a number before the separator
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+}
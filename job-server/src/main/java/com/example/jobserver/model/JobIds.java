@@ -0,0 +1,102 @@
+package com.example.jobserver.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Job ids: UUIDs in their canonical string form everywhere above the database, 16 bytes in it.
+ *
+ * <p>New ids are version 7 UUIDs: a millisecond timestamp followed by random bits, so ids sort by creation
+ * time and new rows land at the end of the primary key instead of on a random page. The random bits come from
+ * {@link ThreadLocalRandom}, so generating ids shares no state between threads, unlike
+ * {@link UUID#randomUUID()}, which draws on one {@code SecureRandom}. Ids created before, random version 4
+ * UUIDs, stay valid.
+ *
+ * <p>A job's {@code created_at} is the second its id was generated in ({@link #createdAt}), so the repository
+ * can tell from a version 7 id alone which time range, and which partition, holds the job.
+ */
+public final class JobIds {
+
+    private JobIds() {
+    }
+
+    public static String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 48-bit Unix millis, version 7, 12 random bits | variant 10, 62 random bits
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    /**
+     * The second a version 7 id was generated in; {@code null} for ids of other versions, which carry no
+     * creation time.
+     *
+     * @throws IllegalArgumentException if {@code id} is not {@linkplain #isValid valid}
+     */
+    public static Instant createdAt(String id) {
+        if (!isValid(id)) {
+            throw new IllegalArgumentException("Invalid job id: " + id);
+        }
+        UUID uuid = UUID.fromString(id);
+        if (uuid.version() != 7) {
+            return null;
+        }
+        return Instant.ofEpochSecond((uuid.getMostSignificantBits() >>> 16) / 1000);
+    }
+
+    /**
+     * Whether {@code id} is a UUID in canonical form ({@code 8-4-4-4-12} hex digits).
+     */
+    public static boolean isValid(String id) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : Character.digit(c, 16) >= 0;
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The 16 bytes the database stores for {@code id}, most significant first, so they sort like the string.
+     *
+     * @throws IllegalArgumentException if {@code id} is not {@linkplain #isValid valid}
+     */
+    public static byte[] toBytes(String id) {
+        if (!isValid(id)) {
+            throw new IllegalArgumentException("Invalid job id: " + id);
+        }
+        byte[] bytes = new byte[16];
+        int digit = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            bytes[digit / 2] |= (byte) (Character.digit(id.charAt(i), 16) << (digit % 2 == 0 ? 4 : 0));
+            digit++;
+        }
+        return bytes;
+    }
+
+    /**
+     * The canonical, lower-case form of an id stored as {@code bytes}.
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("A job id has 16 bytes, not " + bytes.length);
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = msb << 8 | (bytes[i] & 0xFF);
+            lsb = lsb << 8 | (bytes[i + 8] & 0xFF);
+        }
+        return new UUID(msb, lsb).toString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jobserver.model;
+
+import java.time.Instant;
+
+/**
+ * Where a job stands, read from its {@code jobs} row alone, without the parameters and result kept in
+ * {@code job_payloads}.
+ */
+public record JobState(String id, long userId, JobStatus status, int priority, Instant runAt, int attempts,
+                       String errorMessage, Instant createdAt, Instant updatedAt) {
+}
@@ -4,5 +4,8 @@ public enum JobStatus {
     PENDING,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED,
+    SCHEDULED,
+    DEAD_LETTER,
+    CANCELLED
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.jobserver.model;
+
+import io.vertx.core.json.JsonObject;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Everything a client supplies when submitting a job.
+ */
+@Getter
+@Builder
+public class JobSubmission {
+
+    private final long userId;
+    private final Long projectId; // nullable
+    private final JsonObject parameters;
+    @Builder.Default
+    private final int priority = Job.DEFAULT_PRIORITY;
+    private final Instant runAt; // nullable: run as soon as possible
+    private final Integer timeoutSeconds; // nullable: server default
+}
@@ -0,0 +1,9 @@
+package com.example.jobserver.model;
+
+import java.time.Instant;
+
+/**
+ * The columns of a job that a listing shows, read without the job's parameters, result or error.
+ */
+public record JobSummary(String id, long userId, Long projectId, JobStatus status, int priority, Instant createdAt) {
+}
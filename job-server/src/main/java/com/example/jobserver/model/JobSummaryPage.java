@@ -0,0 +1,12 @@
+package com.example.jobserver.model;
+
+import java.util.List;
+
+/**
+ * One page of a user's job list; {@code next} is {@code null} on the last page.
+ */
+public record JobSummaryPage(List<JobSummary> jobs, JobCursor next) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+}
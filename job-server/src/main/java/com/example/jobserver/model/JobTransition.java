@@ -0,0 +1,24 @@
+package com.example.jobserver.model;
+
+import java.time.Instant;
+
+/**
+ * How a PROCESSING job leaves PROCESSING: its new status plus the result, error or retry time that goes
+ * with it, applied only while {@code workerId} still holds the job's lease. {@code result},
+ * {@code errorMessage} and {@code runAt} are {@code null} when not applicable.
+ */
+public record JobTransition(String jobId, String workerId, JobStatus status, JobResult result, String errorMessage,
+                            Instant runAt) {
+
+    public static JobTransition completed(String jobId, String workerId, JobResult result) {
+        return new JobTransition(jobId, workerId, JobStatus.COMPLETED, result, null, null);
+    }
+
+    public static JobTransition failed(String jobId, String workerId, JobStatus status, String errorMessage) {
+        return new JobTransition(jobId, workerId, status, null, errorMessage, null);
+    }
+
+    public static JobTransition retry(String jobId, String workerId, Instant runAt, String errorMessage) {
+        return new JobTransition(jobId, workerId, JobStatus.SCHEDULED, null, errorMessage, runAt);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.jobserver.model;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON object that stays in its encoded form until it is read. Rows read from the database carry their
+ * {@code parameters} and {@code result} this way, so a job that is only listed, dispatched or written back
+ * never pays for building the map; {@link #json()} decodes once and keeps the object. A payload stored
+ * {@link #packed(byte[]) packed} is not even decompressed until then, and can be sent on still compressed.
+ *
+ * <p>Decoding is not synchronized: two threads reading at once may both decode, and either object is kept.
+ */
+public final class JsonPayload {
+
+    private final byte[] packed;
+    private volatile String encoded;
+    private volatile JsonObject decoded;
+
+    private JsonPayload(byte[] packed, String encoded, JsonObject decoded) {
+        this.packed = packed;
+        this.encoded = encoded;
+        this.decoded = decoded;
+    }
+
+    /**
+     * A payload for an object already in memory; {@code null} for {@code null}.
+     */
+    public static JsonPayload of(JsonObject object) {
+        return object != null ? new JsonPayload(null, null, object) : null;
+    }
+
+    /**
+     * A payload for encoded JSON, decoded on first read; {@code null} for {@code null}.
+     */
+    public static JsonPayload encoded(String json) {
+        return json != null ? new JsonPayload(null, json, null) : null;
+    }
+
+    /**
+     * A payload for JSON packed by a {@link PayloadCodec}, decompressed on first read; {@code null} for
+     * {@code null}.
+     */
+    public static JsonPayload packed(byte[] packed) {
+        return packed != null ? new JsonPayload(packed, null, null) : null;
+    }
+
+    /**
+     * The decoded object. It is the payload itself, so changes to it are kept.
+     */
+    public JsonObject json() {
+        JsonObject object = decoded;
+        if (object == null) {
+            String text = encoded;
+            object = text != null ? new JsonObject(text) : new JsonObject(Buffer.buffer(PayloadCodec.unpack(packed)));
+            decoded = object;
+        }
+        return object;
+    }
+
+    /**
+     * The payload as JSON text, without decoding it if it was never read.
+     */
+    public String encode() {
+        // Once decoded the object may have changed, so it wins over the original text
+        JsonObject object = decoded;
+        if (object != null) {
+            return object.encode();
+        }
+        String text = encoded;
+        if (text == null) {
+            text = new String(PayloadCodec.unpack(packed), StandardCharsets.UTF_8);
+            encoded = text;
+        }
+        return text;
+    }
+
+    /**
+     * The codec the payload is still packed with as it was read, or {@code null} if it was stored as JSON or has
+     * been decoded (and may have changed) since.
+     */
+    public PayloadCodec codec() {
+        return packed != null && decoded == null ? PayloadCodec.of(packed) : null;
+    }
+
+    /**
+     * The compressed bytes as stored, without the codec's header; only while {@link #codec()} is not
+     * {@code null}.
+     */
+    public Buffer compressed() {
+        PayloadCodec codec = codec();
+        if (codec == null) {
+            throw new IllegalStateException("Payload is not packed");
+        }
+        return codec.body(packed);
+    }
+
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof JsonPayload other && json().equals(other.json());
+    }
+
+    @Override
+    public int hashCode() {
+        return json().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.jobserver.model;
+
+import io.vertx.core.buffer.Buffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * How a payload too large to keep as JSON is compressed. A packed payload starts with its codec's marker byte,
+ * so payloads packed under an earlier setting stay readable after it changes.
+ *
+ * <p>{@link #DEFLATE} packs a zlib stream, which is what HTTP calls the {@code deflate} content coding: a client
+ * that accepts it can be sent the stored bytes as they are. {@link #LZ4} packs an LZ4 block after the original
+ * length; it compresses and decompresses several times faster, less tightly, and has no HTTP content coding.
+ */
+public enum PayloadCodec {
+
+    DEFLATE((byte) 1, 1, "deflate") {
+        @Override
+        public byte[] pack(byte[] json) {
+            Deflater deflater = new Deflater(DEFLATE_LEVEL);
+            try {
+                deflater.setInput(json);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+                out.write(marker);
+                byte[] chunk = new byte[CHUNK_BYTES];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decompress(byte[] packed) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(packed, headerBytes, packed.length - headerBytes);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length * 4);
+                byte[] chunk = new byte[CHUNK_BYTES];
+                while (!inflater.finished()) {
+                    int n = inflater.inflate(chunk);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalArgumentException("Truncated deflate payload");
+                    }
+                    out.write(chunk, 0, n);
+                }
+                return out.toByteArray();
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Corrupt deflate payload", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    },
+
+    LZ4((byte) 2, 5, null) {
+        @Override
+        public byte[] pack(byte[] json) {
+            LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+            int maxLength = compressor.maxCompressedLength(json.length);
+            byte[] packed = new byte[headerBytes + maxLength];
+            packed[0] = marker;
+            putInt(packed, 1, json.length);
+            int length = compressor.compress(json, 0, json.length, packed, headerBytes, maxLength);
+            return Arrays.copyOf(packed, headerBytes + length);
+        }
+
+        @Override
+        byte[] decompress(byte[] packed) {
+            if (packed.length < headerBytes) {
+                throw new IllegalArgumentException("Truncated LZ4 payload");
+            }
+            int originalLength = getInt(packed, 1);
+            if (originalLength < 0) {
+                throw new IllegalArgumentException("Corrupt LZ4 payload");
+            }
+            byte[] json = new byte[originalLength];
+            try {
+                int length = LZ4_FACTORY.safeDecompressor()
+                        .decompress(packed, headerBytes, packed.length - headerBytes, json, 0, json.length);
+                if (length != json.length) {
+                    throw new IllegalArgumentException("Truncated LZ4 payload");
+                }
+            } catch (LZ4Exception e) {
+                throw new IllegalArgumentException("Corrupt LZ4 payload", e);
+            }
+            return json;
+        }
+    };
+
+    // Repetitive JSON shrinks nearly as far at the fastest level, for a fraction of the time
+    private static final int DEFLATE_LEVEL = Deflater.BEST_SPEED;
+    private static final int CHUNK_BYTES = 8192;
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    final byte marker;
+    final int headerBytes;
+    private final String contentEncoding;
+
+    PayloadCodec(byte marker, int headerBytes, String contentEncoding) {
+        this.marker = marker;
+        this.headerBytes = headerBytes;
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * {@code json} (UTF-8) compressed, behind this codec's marker.
+     */
+    public abstract byte[] pack(byte[] json);
+
+    abstract byte[] decompress(byte[] packed);
+
+    /**
+     * The JSON (UTF-8) in a packed payload, whichever codec packed it.
+     *
+     * @throws IllegalArgumentException if it is not a packed payload, or is damaged
+     */
+    public static byte[] unpack(byte[] packed) {
+        return of(packed).decompress(packed);
+    }
+
+    /**
+     * The codec that packed {@code packed}, by its marker.
+     *
+     * @throws IllegalArgumentException if no codec has that marker
+     */
+    public static PayloadCodec of(byte[] packed) {
+        if (packed.length > 0) {
+            for (PayloadCodec codec : values()) {
+                if (codec.marker == packed[0]) {
+                    return codec;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Not a packed payload");
+    }
+
+    /**
+     * The HTTP content coding the compressed bytes are valid in as they are, or {@code null} if there is none.
+     */
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    /**
+     * The compressed bytes of {@code packed}, without the codec's header.
+     */
+    public Buffer body(byte[] packed) {
+        return Buffer.buffer(packed).slice(headerBytes, packed.length);
+    }
+
+    private static void putInt(byte[] bytes, int at, int value) {
+        bytes[at] = (byte) (value >>> 24);
+        bytes[at + 1] = (byte) (value >>> 16);
+        bytes[at + 2] = (byte) (value >>> 8);
+        bytes[at + 3] = (byte) value;
+    }
+
+    private static int getInt(byte[] bytes, int at) {
+        return (bytes[at] & 0xFF) << 24 | (bytes[at + 1] & 0xFF) << 16 | (bytes[at + 2] & 0xFF) << 8
+                | (bytes[at + 3] & 0xFF);
+    }
+}
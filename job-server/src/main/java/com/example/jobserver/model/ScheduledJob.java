@@ -0,0 +1,9 @@
+package com.example.jobserver.model;
+
+import java.time.Instant;
+
+/**
+ * The part of a SCHEDULED job the scheduler keeps in memory until it is due.
+ */
+public record ScheduledJob(String id, long userId, Instant runAt) {
+}
@@ -0,0 +1,19 @@
+package com.example.jobserver.model;
+
+/**
+ * What became of one submission in a batch: the stored job, or the reason it was rejected.
+ */
+public record SubmissionOutcome(Job job, String error) {
+
+    public static SubmissionOutcome accepted(Job job) {
+        return new SubmissionOutcome(job, null);
+    }
+
+    public static SubmissionOutcome rejected(String error) {
+        return new SubmissionOutcome(null, error);
+    }
+
+    public boolean isAccepted() {
+        return job != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.jobserver.repositories;
+
+import io.vertx.core.Future;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily range partitions of {@code jobs} and {@code job_payloads} on {@code created_at}. A partition is known by
+ * the day it ends before: the one for 2026-10-18 holds the rows created before that day and not in an earlier
+ * partition. Behind the last of them a catch-all partition takes anything newer.
+ */
+public interface JobPartitionRepository {
+
+    String JOBS = "jobs";
+    String JOB_PAYLOADS = "job_payloads";
+
+    /**
+     * The days {@code table}'s partitions end before, in order; empty when the table is not partitioned.
+     */
+    Future<List<LocalDate>> findPartitionBounds(String table);
+
+    /**
+     * Names of the foreign keys {@code table} has; a table must have none before it can be partitioned.
+     */
+    Future<List<String>> findForeignKeys(String table);
+
+    /**
+     * Drops the foreign keys {@code foreignKeys} of {@code table}. Rebuilds nothing; only the checks go.
+     */
+    Future<Void> dropForeignKeys(String table, List<String> foreignKeys);
+
+    /**
+     * Partitions a table that is not partitioned yet, the first partition taking every existing row older than
+     * its bound. Rebuilds the table, which is locked for writes meanwhile.
+     */
+    Future<Void> partition(String table, List<LocalDate> bounds);
+
+    /**
+     * Adds partitions after the last one, splitting them off the catch-all partition. That is cheap as long as
+     * no row has been created past the last bound yet, which is why partitions are added ahead of time.
+     */
+    Future<Void> addPartitions(String table, List<LocalDate> bounds);
+
+    /**
+     * Drops the partitions ending before {@code bounds}, with all their rows, without scanning them.
+     */
+    Future<Void> dropPartitions(String table, List<LocalDate> bounds);
+
+    /**
+     * Whether a job created before {@code day} is still scheduled, pending or processing.
+     */
+    Future<Boolean> hasUnfinishedJobs(LocalDate day);
+}
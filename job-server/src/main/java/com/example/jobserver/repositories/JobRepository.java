@@ -2,18 +2,165 @@ package com.example.jobserver.repositories;
 
 import io.vertx.core.Future;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
 import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobState;
 import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.ScheduledJob;
 
 public interface JobRepository {
     Future<Job> save(Job job);
+
+    /**
+     * Inserts all {@code jobs} with one multi-row INSERT. All or nothing: if any row is rejected, none is saved.
+     */
+    Future<List<Job>> saveAll(List<Job> jobs);
+
+    /**
+     * Reads a job with its payloads, from {@code jobs_archive} once it has been archived.
+     */
     Future<Optional<Job>> findById(String jobId);
+
+    /**
+     * Reads where a job stands from its jobs row alone, without its parameters or result; from
+     * {@code jobs_archive} once it has been archived.
+     */
+    Future<Optional<JobState>> findStateById(String jobId);
+
     Future<List<Job>> findByUserId(long userId);
-    Future<Void> updateStatus(String jobId, JobStatus status);
-    Future<Void> updateResult(String jobId, JobResult result);
-    Future<Void> updateFailure(String jobId, String errorMessage);
+
+    /**
+     * Returns up to {@code limit} of the user's jobs in (created_at, id) order, newest first, starting after
+     * {@code after} (or from the newest one when {@code null}). Only the summary columns are read, never the
+     * payloads.
+     */
+    Future<List<JobSummary>> findSummariesByUserId(long userId, JobCursor after, int limit);
+
+    /**
+     * Stores the result of a job PROCESSING under {@code workerId}'s lease, moves it to COMPLETED and releases
+     * the lease, in one statement.
+     *
+     * @return {@code false} if the job is no longer PROCESSING (e.g. it was cancelled meanwhile) or its lease
+     *     was lost to another worker
+     */
+    Future<Boolean> complete(String jobId, String workerId, JobResult result);
+
+    /**
+     * Records the error of a job PROCESSING under {@code workerId}'s lease, moves it to {@code status} (FAILED
+     * or DEAD_LETTER) and releases the lease, in one statement.
+     *
+     * @return {@code false} if the job is no longer PROCESSING or its lease was lost to another worker
+     */
+    Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage);
+
+    /**
+     * Applies several transitions in one transaction: the jobs among them still PROCESSING under the lease of
+     * the transition's worker are locked in id order, then moved with a single multi-row UPDATE and their
+     * leases released.
+     *
+     * @return ids of the jobs that were moved; the others were no longer PROCESSING or had lost their lease
+     */
+    Future<Set<String>> applyTransitions(List<JobTransition> transitions);
+
+    /**
+     * Moves a SCHEDULED, PENDING or PROCESSING job to CANCELLED.
+     *
+     * @return {@code false} if the job does not exist or has already finished
+     */
+    Future<Boolean> cancel(String jobId);
+
+    /**
+     * Atomically claims up to {@code limit} PENDING jobs (highest lane first, oldest first within a lane),
+     * moves them to PROCESSING and leases them to {@code workerId} for {@code leaseDuration}.
+     * Rows locked by another worker are skipped, so concurrent claimers never receive the same job.
+     */
+    Future<List<Job>> claimPending(String workerId, int limit, Duration leaseDuration);
+
+    /**
+     * Same as {@link #claimPending} restricted to the jobs of one user.
+     */
+    Future<List<Job>> claimPendingForUser(String workerId, long userId, int limit, Duration leaseDuration);
+
+    /**
+     * Returns up to {@code limit} distinct users that have PENDING jobs.
+     */
+    Future<List<Long>> findUsersWithPending(int limit);
+
+    /**
+     * Moves a failed job PROCESSING under {@code workerId}'s lease back to SCHEDULED to run again at
+     * {@code runAt}, recording the error and releasing the lease.
+     *
+     * @return {@code false} if the job is no longer PROCESSING (e.g. it was cancelled meanwhile) or its lease
+     *     was lost to another worker
+     */
+    Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage);
+
+    /**
+     * Extends the lease of the given PROCESSING jobs still owned by {@code workerId}.
+     *
+     * @return ids of the jobs whose lease was renewed; the others are no longer this worker's to finish
+     */
+    Future<Set<String>> renewLeases(String workerId, Collection<String> jobIds, Duration leaseDuration);
+
+    /**
+     * Puts up to {@code limit} PROCESSING jobs whose lease has expired back to PENDING.
+     *
+     * @return number of jobs re-queued
+     */
+    Future<Integer> requeueExpiredLeases(int limit);
+
+    /**
+     * Counts PENDING jobs, stopping at {@code cap} so the cost is bounded for very large backlogs.
+     */
+    Future<Integer> countPending(int cap);
+
+    /**
+     * Returns up to {@code limit} SCHEDULED jobs due before {@code until}, in (run_at, id) order,
+     * starting after {@code after} (or from the earliest one when {@code null}).
+     */
+    Future<List<ScheduledJob>> findScheduled(Instant until, ScheduledJob after, int limit);
+
+    /**
+     * Moves the given jobs from SCHEDULED to PENDING; jobs already released are left alone.
+     *
+     * @return number of jobs released
+     */
+    Future<Integer> releaseScheduled(Collection<String> jobIds);
+
+    /**
+     * Moves up to {@code limit} SCHEDULED jobs with {@code run_at} before {@code runAtBefore} to PENDING.
+     * Safety net for jobs no scheduler released on time.
+     *
+     * @return number of jobs released
+     */
+    Future<Integer> releaseOverdueScheduled(Instant runAtBefore, int limit);
+
+    /**
+     * Moves up to {@code limit} PENDING jobs claimed from lane {@code priority} one lane up, oldest first, so
+     * low-priority work cannot starve: those that have waited {@code minAge} since they became PENDING or were
+     * last promoted. Only the lane they are claimed from changes; their submitted priority stays.
+     *
+     * @return number of jobs promoted
+     */
+    Future<Integer> agePending(int priority, Duration minAge, int limit);
+
+    /**
+     * Moves up to {@code limit} jobs in {@code status} and lane {@code priority}, the one aging had left them
+     * in, created and last updated before {@code before}, to {@code jobs_archive} with their payloads, in one
+     * transaction. Jobs are taken in (created_at, id) order, starting after {@code after} (or from the oldest
+     * one when {@code null}).
+     *
+     * @return the position of each job archived, in order
+     */
+    Future<List<JobCursor>> archive(JobStatus status, int priority, Instant before, JobCursor after, int limit);
 }
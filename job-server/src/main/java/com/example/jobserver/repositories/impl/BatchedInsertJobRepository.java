@@ -0,0 +1,63 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator that merges concurrent {@link #save} calls arriving within {@code maxDelayMs} (or until
+ * {@code maxBatchSize} are waiting) into one multi-row INSERT through {@link JobRepository#saveAll}, so a burst
+ * of submissions takes one pool connection and one statement instead of one each.
+ *
+ * <p>Each caller still gets its own outcome: a multi-row INSERT is all or nothing, so when one fails its jobs
+ * are retried one by one and only the offending row fails.
+ */
+@Slf4j
+public class BatchedInsertJobRepository extends ForwardingJobRepository {
+
+    private final MicroBatcher<Job, Job> batcher;
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    public BatchedInsertJobRepository(JobRepository delegate, Vertx vertx, long maxDelayMs, int maxBatchSize) {
+        super(delegate);
+        this.batcher = new MicroBatcher<>(vertx, maxDelayMs, maxBatchSize, this::flush);
+    }
+
+    @Override
+    public Future<Job> save(Job job) {
+        return batcher.submit(job);
+    }
+
+    private void flush(List<Job> jobs, List<Promise<Job>> promises) {
+        if (jobs.size() == 1) {
+            delegate.save(jobs.get(0)).onComplete(promises.get(0));
+            return;
+        }
+        delegate.saveAll(jobs)
+            .onSuccess(saved -> {
+                for (int i = 0; i < jobs.size(); i++) {
+                    promises.get(i).complete(jobs.get(i));
+                }
+            })
+            .onFailure(err -> {
+                failedBatches.incrementAndGet();
+                log.warn("Multi-row insert of {} jobs failed, inserting them one by one: {}", jobs.size(),
+                    err.getMessage());
+                for (int i = 0; i < jobs.size(); i++) {
+                    delegate.save(jobs.get(i)).onComplete(promises.get(i));
+                }
+            });
+    }
+
+    public JsonObject metrics() {
+        return batcher.metrics().put("failedBatches", failedBatches.get());
+    }
+}
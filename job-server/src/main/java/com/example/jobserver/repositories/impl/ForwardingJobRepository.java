@@ -0,0 +1,144 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.ScheduledJob;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Base for {@link JobRepository} decorators: forwards every call to the delegate, so a subclass only
+ * overrides the operations it changes.
+ */
+public abstract class ForwardingJobRepository implements JobRepository {
+
+    protected final JobRepository delegate;
+
+    protected ForwardingJobRepository(JobRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<Job> save(Job job) {
+        return delegate.save(job);
+    }
+
+    @Override
+    public Future<List<Job>> saveAll(List<Job> jobs) {
+        return delegate.saveAll(jobs);
+    }
+
+    @Override
+    public Future<Optional<Job>> findById(String jobId) {
+        return delegate.findById(jobId);
+    }
+
+    @Override
+    public Future<Optional<JobState>> findStateById(String jobId) {
+        return delegate.findStateById(jobId);
+    }
+
+    @Override
+    public Future<List<Job>> findByUserId(long userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public Future<List<JobSummary>> findSummariesByUserId(long userId, JobCursor after, int limit) {
+        return delegate.findSummariesByUserId(userId, after, limit);
+    }
+
+    @Override
+    public Future<Boolean> complete(String jobId, String workerId, JobResult result) {
+        return delegate.complete(jobId, workerId, result);
+    }
+
+    @Override
+    public Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage) {
+        return delegate.fail(jobId, workerId, status, errorMessage);
+    }
+
+    @Override
+    public Future<Set<String>> applyTransitions(List<JobTransition> transitions) {
+        return delegate.applyTransitions(transitions);
+    }
+
+    @Override
+    public Future<Boolean> cancel(String jobId) {
+        return delegate.cancel(jobId);
+    }
+
+    @Override
+    public Future<List<Job>> claimPending(String workerId, int limit, Duration leaseDuration) {
+        return delegate.claimPending(workerId, limit, leaseDuration);
+    }
+
+    @Override
+    public Future<List<Job>> claimPendingForUser(String workerId, long userId, int limit, Duration leaseDuration) {
+        return delegate.claimPendingForUser(workerId, userId, limit, leaseDuration);
+    }
+
+    @Override
+    public Future<List<Long>> findUsersWithPending(int limit) {
+        return delegate.findUsersWithPending(limit);
+    }
+
+    @Override
+    public Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage) {
+        return delegate.scheduleRetry(jobId, workerId, runAt, errorMessage);
+    }
+
+    @Override
+    public Future<Set<String>> renewLeases(String workerId, Collection<String> jobIds, Duration leaseDuration) {
+        return delegate.renewLeases(workerId, jobIds, leaseDuration);
+    }
+
+    @Override
+    public Future<Integer> requeueExpiredLeases(int limit) {
+        return delegate.requeueExpiredLeases(limit);
+    }
+
+    @Override
+    public Future<Integer> countPending(int cap) {
+        return delegate.countPending(cap);
+    }
+
+    @Override
+    public Future<List<ScheduledJob>> findScheduled(Instant until, ScheduledJob after, int limit) {
+        return delegate.findScheduled(until, after, limit);
+    }
+
+    @Override
+    public Future<Integer> releaseScheduled(Collection<String> jobIds) {
+        return delegate.releaseScheduled(jobIds);
+    }
+
+    @Override
+    public Future<Integer> releaseOverdueScheduled(Instant runAtBefore, int limit) {
+        return delegate.releaseOverdueScheduled(runAtBefore, limit);
+    }
+
+    @Override
+    public Future<Integer> agePending(int priority, Duration minAge, int limit) {
+        return delegate.agePending(priority, minAge, limit);
+    }
+
+    @Override
+    public Future<List<JobCursor>> archive(JobStatus status, int priority, Instant before, JobCursor after,
+                                           int limit) {
+        return delegate.archive(status, priority, before, after, limit);
+    }
+}
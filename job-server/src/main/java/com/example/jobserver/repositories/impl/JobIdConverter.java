@@ -0,0 +1,26 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.JobIds;
+
+import org.jooq.impl.AbstractConverter;
+
+/**
+ * Maps the {@code BINARY(16)} job id column to the canonical UUID string the rest of the server uses. Set on
+ * {@code jobs.id} by the code generator, so generated fields, records and POJOs keep {@code String} ids.
+ */
+public class JobIdConverter extends AbstractConverter<byte[], String> {
+
+    public JobIdConverter() {
+        super(byte[].class, String.class);
+    }
+
+    @Override
+    public String from(byte[] databaseObject) {
+        return databaseObject != null ? JobIds.fromBytes(databaseObject) : null;
+    }
+
+    @Override
+    public byte[] to(String userObject) {
+        return userObject != null ? JobIds.toBytes(userObject) : null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.jooq.enums.JobsStatus;
+import com.example.jobserver.repositories.JobPartitionRepository;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import static com.example.jobserver.jooq.Tables.JOBS_;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Partitions by {@code RANGE (UNIX_TIMESTAMP(created_at))}, the one partitioning function MySQL allows on a
+ * {@code TIMESTAMP} column and prunes by. Each partition is named {@code pYYYYMMDD} after the day it ends before;
+ * the catch-all partition is {@code pfuture}. The partition DDL has no jOOQ counterpart and is issued as text,
+ * outside the prepared statement cache.
+ */
+@Slf4j
+public class JobPartitionRepositoryImpl implements JobPartitionRepository {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final String CATCH_ALL = "pfuture";
+
+    private static final Table<?> PARTITIONS = DSL.table(DSL.name("information_schema", "PARTITIONS"));
+    private static final Field<String> TABLE_SCHEMA = DSL.field(DSL.name("TABLE_SCHEMA"), String.class);
+    private static final Field<String> TABLE_NAME = DSL.field(DSL.name("TABLE_NAME"), String.class);
+    private static final Field<String> NAME = DSL.field(DSL.name("PARTITION_NAME"), String.class);
+    private static final Field<Long> POSITION = DSL.field(DSL.name("PARTITION_ORDINAL_POSITION"), Long.class);
+    private static final Table<?> CONSTRAINTS = DSL.table(DSL.name("information_schema", "TABLE_CONSTRAINTS"));
+    private static final Field<String> CONSTRAINT_NAME = DSL.field(DSL.name("CONSTRAINT_NAME"), String.class);
+    private static final Field<String> CONSTRAINT_TYPE = DSL.field(DSL.name("CONSTRAINT_TYPE"), String.class);
+
+    private final Pool pool;
+    private final JooqExecutor sql;
+    private final DSLContext dsl;
+
+    public JobPartitionRepositoryImpl(Pool pool) {
+        this.pool = pool;
+        this.sql = new JooqExecutor(pool, DSL.using(SQLDialect.MYSQL), JooqExecutor.DEFAULT_MAX_STATEMENTS);
+        this.dsl = sql.dsl();
+    }
+
+    @Override
+    public Future<List<LocalDate>> findPartitionBounds(String table) {
+        return sql.statement("partitions.findBounds", () -> dsl.select(NAME)
+                        .from(PARTITIONS)
+                        .where(TABLE_SCHEMA.eq(DSL.currentSchema()))
+                        .and(TABLE_NAME.eq(DSL.param("table", String.class)))
+                        .and(NAME.isNotNull())
+                        .orderBy(POSITION))
+                .bind("table", table)
+                .fetch(record -> record.get(NAME))
+                .map(names -> names.stream()
+                        .filter(name -> !name.equals(CATCH_ALL))
+                        .map(name -> LocalDate.parse(name, PARTITION_NAME))
+                        .toList());
+    }
+
+    @Override
+    public Future<List<String>> findForeignKeys(String table) {
+        return sql.statement("partitions.findForeignKeys", () -> dsl.select(CONSTRAINT_NAME)
+                        .from(CONSTRAINTS)
+                        .where(TABLE_SCHEMA.eq(DSL.currentSchema()))
+                        .and(TABLE_NAME.eq(DSL.param("table", String.class)))
+                        .and(CONSTRAINT_TYPE.eq(DSL.inline("FOREIGN KEY")))
+                        .orderBy(CONSTRAINT_NAME))
+                .bind("table", table)
+                .fetch(record -> record.get(CONSTRAINT_NAME));
+    }
+
+    @Override
+    public Future<Void> dropForeignKeys(String table, List<String> foreignKeys) {
+        // A statement of its own: MariaDB rejects PARTITION BY in the ALTER that drops them
+        return ddl("ALTER TABLE " + quoted(table) + " " + foreignKeys.stream()
+                .map(name -> "DROP FOREIGN KEY " + quoted(name))
+                .collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public Future<Void> partition(String table, List<LocalDate> bounds) {
+        return ddl("ALTER TABLE " + quoted(table) + " PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) ("
+                + partitions(bounds) + ")");
+    }
+
+    @Override
+    public Future<Void> addPartitions(String table, List<LocalDate> bounds) {
+        return ddl("ALTER TABLE " + quoted(table) + " REORGANIZE PARTITION " + CATCH_ALL + " INTO ("
+                + partitions(bounds) + ")");
+    }
+
+    @Override
+    public Future<Void> dropPartitions(String table, List<LocalDate> bounds) {
+        return ddl("ALTER TABLE " + quoted(table) + " DROP PARTITION "
+                + bounds.stream().map(PARTITION_NAME::format).collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public Future<Boolean> hasUnfinishedJobs(LocalDate day) {
+        // Pruned to the partitions before day, and within them a range on each status index
+        return sql.statement("partitions.hasUnfinishedJobs", () -> dsl.selectOne()
+                        .from(JOBS_)
+                        .where(JOBS_.STATUS.in(JobsStatus.SCHEDULED, JobsStatus.PENDING, JobsStatus.PROCESSING))
+                        .and(JOBS_.CREATED_AT.lt(DSL.param("before", JOBS_.CREATED_AT)))
+                        .limit(DSL.inline(1)))
+                .bind("before", day.atStartOfDay())
+                .execute()
+                .map(rows -> rows.iterator().hasNext());
+    }
+
+    /**
+     * One {@code PARTITION p... VALUES LESS THAN (...)} per bound, then the catch-all partition.
+     */
+    private static String partitions(List<LocalDate> bounds) {
+        StringBuilder partitions = new StringBuilder();
+        for (LocalDate bound : bounds) {
+            partitions.append("PARTITION ").append(PARTITION_NAME.format(bound))
+                    .append(" VALUES LESS THAN (UNIX_TIMESTAMP('").append(bound).append(" 00:00:00')), ");
+        }
+        return partitions.append("PARTITION ").append(CATCH_ALL).append(" VALUES LESS THAN MAXVALUE").toString();
+    }
+
+    private String quoted(String table) {
+        return dsl.render(DSL.name(table));
+    }
+
+    private Future<Void> ddl(String statement) {
+        log.debug("Partition maintenance: {}", statement);
+        return pool.query(statement).execute().mapEmpty();
+    }
+}
@@ -2,219 +2,1003 @@ package com.example.jobserver.repositories.impl;
 
 import com.example.jobserver.jooq.enums.JobsStatus;
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobIds;
 import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobState;
 import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.JsonPayload;
+import com.example.jobserver.model.ScheduledJob;
 import com.example.jobserver.repositories.JobRepository;
 
 import io.vertx.core.Future;
-import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.Row;
-import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jooq.CaseWhenStep;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSON;
 import org.jooq.Query;
-import org.jooq.conf.ParamType;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.UpdateSetMoreStep;
 import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 
 import static com.example.jobserver.jooq.Tables.JOBS_;
+import static com.example.jobserver.jooq.Tables.JOBS_ARCHIVE;
+import static com.example.jobserver.jooq.Tables.JOB_PAYLOADS;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Slf4j
 public class JobRepositoryImpl implements JobRepository {
 
-    private final Pool client;
+    // Target of the statements that write a result along with the job's status
+    private static final Table<?> WITH_PAYLOADS = JOBS_.join(JOB_PAYLOADS)
+            .on(JOB_PAYLOADS.JOB_ID.eq(JOBS_.ID), JOB_PAYLOADS.CREATED_AT.eq(JOBS_.CREATED_AT));
+
+    // What an archived job is copied from and to, column for column, packed payloads as they are;
+    // archived_at takes its default
+    private static final List<Field<?>> ARCHIVED_FROM = Stream.concat(JobRowMapper.STATE_COLUMNS.stream(),
+            Stream.of(JOB_PAYLOADS.PARAMETERS, JOB_PAYLOADS.RESULT, JOB_PAYLOADS.PARAMETERS_PACKED,
+                    JOB_PAYLOADS.RESULT_PACKED)).toList();
+    private static final List<Field<?>> ARCHIVED_TO = Stream.concat(JobRowMapper.ARCHIVE_STATE_COLUMNS.stream(),
+            Stream.of(JOBS_ARCHIVE.PARAMETERS, JOBS_ARCHIVE.RESULT, JOBS_ARCHIVE.PARAMETERS_PACKED,
+                    JOBS_ARCHIVE.RESULT_PACKED)).toList();
+
+    private final JooqExecutor sql;
     private final DSLContext dsl;
+    private final PayloadCompression compression;
 
     public JobRepositoryImpl(Pool client) {
-        this.client = client;
-        this.dsl = DSL.using(org.jooq.SQLDialect.MYSQL);
+        this(new JooqExecutor(client, DSL.using(SQLDialect.MYSQL), JooqExecutor.DEFAULT_MAX_STATEMENTS));
+    }
+
+    public JobRepositoryImpl(JooqExecutor sql) {
+        this(sql, PayloadCompression.OFF);
+    }
+
+    /**
+     * A repository storing the parameters and results that {@code compression} selects packed.
+     */
+    public JobRepositoryImpl(JooqExecutor sql, PayloadCompression compression) {
+        this.sql = sql;
+        this.dsl = sql.dsl();
+        this.compression = compression;
     }
 
     @Override
     public Future<Job> save(Job job) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Use jOOQ to generate type-safe INSERT query
-        Query query = dsl.insertInto(JOBS_)
+        return insert(List.of(job))
+                .map(rows -> job).onFailure(err -> log.error("Failed to save job {}: {}", job.getId(), err.getMessage()));
+    }
+
+    @Override
+    public Future<List<Job>> saveAll(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return Future.succeededFuture(jobs);
+        }
+        return insert(jobs)
+                .map(rows -> jobs)
+                .onFailure(err -> log.error("Failed to save {} jobs: {}", jobs.size(), err.getMessage()));
+    }
+
+    /**
+     * Inserts the jobs rows and their payload rows in one transaction, so a job is never seen without its
+     * parameters. Both rows are created at the second the job's id was generated in. Parameters go either into
+     * {@code parameters} as JSON or, packed, into {@code parameters_packed}.
+     */
+    private Future<RowSet<Row>> insert(List<Job> jobs) {
+        int rows = jobs.size();
+        LocalDateTime now = now();
+        List<LocalDateTime> createdAt = jobs.stream().map(job -> createdAt(job.getId(), now)).toList();
+        List<String> parameters = jobs.stream().map(job -> job.getParametersPayload().encode()).toList();
+        List<byte[]> packedParameters = parameters.stream().map(compression::pack).toList();
+        JooqExecutor.Binds insertJobs = sql.statement("jobs.insert:" + rows, () -> insertQuery(rows))
+                .bindAll("id", jobs, Job::getId)
+                .bindAll("createdAt", createdAt)
+                .bindAll("userId", jobs, Job::getUserId)
+                .bindAll("projectId", jobs, Job::getProjectId)
+                .bindAll("status", jobs, Job::getStatus)
+                .bindAll("priority", jobs, Job::getPriority)
+                .bindAll("runAt", jobs, job -> toLocalDateTime(job.getRunAt()))
+                .bindAll("timeoutSeconds", jobs, Job::getTimeoutSeconds)
+                .bind("now", now);
+        JooqExecutor.Binds insertPayloads = sql.statement("jobPayloads.insert:" + rows,
+                        () -> insertPayloadsQuery(rows))
+                .bindAll("id", jobs, Job::getId)
+                .bindAll("createdAt", createdAt)
+                .bindAll("parameters", unlessPacked(parameters, packedParameters))
+                .bindAll("parametersPacked", packedParameters);
+        return sql.withTransaction(conn -> insertJobs.execute(conn)
+                .compose(inserted -> insertPayloads.execute(conn).map(inserted)));
+    }
+
+    /**
+     * {@code INSERT INTO jobs (...) VALUES (...), (...)} with {@code rows} rows, all updated at one {@code now}.
+     * Each job starts out claimed from the lane it was submitted to.
+     */
+    private Query insertQuery(int rows) {
+        var insert = dsl.insertInto(JOBS_)
                 .columns(
                         JOBS_.ID,
                         JOBS_.USER_ID,
                         JOBS_.PROJECT_ID,
                         JOBS_.STATUS,
-                        JOBS_.PARAMETERS,
+                        JOBS_.PRIORITY,
+                        JOBS_.EFFECTIVE_PRIORITY,
+                        JOBS_.RUN_AT,
+                        JOBS_.TIMEOUT_SECONDS,
                         JOBS_.CREATED_AT,
                         JOBS_.UPDATED_AT
-                )
-                .values(
-                        job.getId(),
-                        job.getUserId(),
-                        job.getProjectId(),
-                        toJooqStatus(job.getStatus()),
-                        JSON.json(job.getParameters().encode()),
-                        now,
-                        now
                 );
+        for (int i = 0; i < rows; i++) {
+            insert = insert.values(
+                    JooqExecutor.param("id", i, JOBS_.ID),
+                    JooqExecutor.param("userId", i, JOBS_.USER_ID),
+                    JooqExecutor.param("projectId", i, JOBS_.PROJECT_ID),
+                    JooqExecutor.param("status", i, JOBS_.STATUS),
+                    JooqExecutor.param("priority", i, JOBS_.PRIORITY),
+                    JooqExecutor.param("priority", i, JOBS_.EFFECTIVE_PRIORITY),
+                    JooqExecutor.param("runAt", i, JOBS_.RUN_AT),
+                    JooqExecutor.param("timeoutSeconds", i, JOBS_.TIMEOUT_SECONDS),
+                    JooqExecutor.param("createdAt", i, JOBS_.CREATED_AT),
+                    DSL.param("now", JOBS_.UPDATED_AT)
+            );
+        }
+        return insert;
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
-        Tuple params = Tuple.of(
-                job.getId(),
-                job.getUserId(),
-                job.getProjectId(),
-                job.getStatus().name(),
-                job.getParameters().encode(),
-                now,
-                now
-        );
-
-        return client.preparedQuery(sql)
-                .execute(params)
-                .map(rows -> job).onFailure(err -> log.error("Failed to save job {}: {}", job.getId(), err.getMessage()));
+    /**
+     * {@code INSERT INTO job_payloads (...) VALUES (...), (...)} with {@code rows} rows.
+     */
+    private Query insertPayloadsQuery(int rows) {
+        var insert = dsl.insertInto(JOB_PAYLOADS)
+                .columns(JOB_PAYLOADS.JOB_ID, JOB_PAYLOADS.CREATED_AT, JOB_PAYLOADS.PARAMETERS,
+                        JOB_PAYLOADS.PARAMETERS_PACKED);
+        for (int i = 0; i < rows; i++) {
+            insert = insert.values(
+                    JooqExecutor.param("id", i, JOB_PAYLOADS.JOB_ID),
+                    JooqExecutor.param("createdAt", i, JOB_PAYLOADS.CREATED_AT),
+                    JooqExecutor.param("parameters", i, JOB_PAYLOADS.PARAMETERS),
+                    JooqExecutor.param("parametersPacked", i, JOB_PAYLOADS.PARAMETERS_PACKED)
+            );
+        }
+        return insert;
     }
 
     @Override
     public Future<Optional<Job>> findById(String jobId) {
-        // Use jOOQ to generate type-safe SELECT query
-        Query query = dsl.select(
-                        JOBS_.ID,
-                        JOBS_.USER_ID,
-                        JOBS_.PROJECT_ID,
-                        JOBS_.STATUS,
-                        JOBS_.PARAMETERS,
-                        JOBS_.RESULT,
-                        JOBS_.ERROR_MESSAGE,
-                        JOBS_.CREATED_AT,
-                        JOBS_.UPDATED_AT
-                )
-                .from(JOBS_)
-                .where(JOBS_.ID.eq(jobId));
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        return sql.statement("jobs.findById", () -> dsl.select(JobRowMapper.COLUMNS)
+                        .from(JobRowMapper.FROM)
+                        .where(idIs()))
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .execute()
+                .map(rows -> {
+                    if (!rows.iterator().hasNext()) {
+                        return Optional.<Job>empty();
+                    }
+                    Row row = rows.iterator().next();
+                    return Optional.of(JobRowMapper.map(row));
+                })
+                .compose(job -> job.isPresent() ? Future.succeededFuture(job) : findArchivedById(jobId));
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
+    /**
+     * A primary key lookup in {@code jobs_archive}, made only once {@code jobs} has no such job. A job is copied
+     * there and deleted from {@code jobs} in one transaction, so one of the two lookups always finds it.
+     */
+    private Future<Optional<Job>> findArchivedById(String jobId) {
+        return sql.statement("jobsArchive.findById", () -> dsl.select(JobRowMapper.ARCHIVE_COLUMNS)
+                        .from(JOBS_ARCHIVE)
+                        .where(JOBS_ARCHIVE.ID.eq(DSL.param("id", JOBS_ARCHIVE.ID))))
+                .bind("id", jobId)
+                .execute()
+                .map(rows -> rows.iterator().hasNext()
+                        ? Optional.of(JobRowMapper.map(rows.iterator().next()))
+                        : Optional.empty());
+    }
 
-        return client.preparedQuery(sql)
-                .execute(Tuple.of(jobId))
+    @Override
+    public Future<Optional<JobState>> findStateById(String jobId) {
+        // A primary key lookup in jobs alone: the page holding the row holds many other jobs, not their payloads
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        return sql.statement("jobs.findStateById", () -> dsl.select(JobRowMapper.STATE_COLUMNS)
+                        .from(JOBS_)
+                        .where(idIs()))
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .execute()
                 .map(rows -> {
                     if (!rows.iterator().hasNext()) {
-                        return Optional.empty();
+                        return Optional.<JobState>empty();
                     }
-                    Row row = rows.iterator().next();
-                    return Optional.of(mapRow(row));
-                });
+                    return Optional.of(JobRowMapper.mapState(rows.iterator().next()));
+                })
+                .compose(state -> state.isPresent() ? Future.succeededFuture(state) : findArchivedStateById(jobId));
+    }
+
+    private Future<Optional<JobState>> findArchivedStateById(String jobId) {
+        return sql.statement("jobsArchive.findStateById", () -> dsl.select(JobRowMapper.ARCHIVE_STATE_COLUMNS)
+                        .from(JOBS_ARCHIVE)
+                        .where(JOBS_ARCHIVE.ID.eq(DSL.param("id", JOBS_ARCHIVE.ID))))
+                .bind("id", jobId)
+                .execute()
+                .map(rows -> rows.iterator().hasNext()
+                        ? Optional.of(JobRowMapper.mapState(rows.iterator().next()))
+                        : Optional.empty());
     }
 
     @Override
     public Future<List<Job>> findByUserId(long userId) {
-        // Use jOOQ to generate type-safe SELECT query
-        Query query = dsl.select(
-                        JOBS_.ID,
-                        JOBS_.USER_ID,
-                        JOBS_.PROJECT_ID,
-                        JOBS_.STATUS,
-                        JOBS_.PARAMETERS,
-                        JOBS_.RESULT,
-                        JOBS_.ERROR_MESSAGE,
-                        JOBS_.CREATED_AT,
-                        JOBS_.UPDATED_AT
-                )
+        return sql.statement("jobs.findByUserId", () -> dsl.select(JobRowMapper.COLUMNS)
+                        .from(JobRowMapper.FROM)
+                        .where(JOBS_.USER_ID.eq(DSL.param("userId", JOBS_.USER_ID)))
+                        .orderBy(JOBS_.CREATED_AT.desc()))
+                .bind("userId", userId)
+                .execute()
+                .map(rows -> {
+                    List<Job> jobs = new ArrayList<>();
+                    for (Row row : rows) {
+                        jobs.add(JobRowMapper.map(row));
+                    }
+                    return jobs;
+                });
+    }
+
+    @Override
+    public Future<List<JobSummary>> findSummariesByUserId(long userId, JobCursor after, int limit) {
+        JooqExecutor.Binds binds;
+        if (after == null) {
+            binds = sql.statement("jobs.findSummariesByUserId", () -> findSummariesQuery(false)).binds();
+        } else {
+            binds = sql.statement("jobs.findSummariesByUserId:after", () -> findSummariesQuery(true))
+                    .bind("afterCreatedAt", toLocalDateTime(after.createdAt()))
+                    .bind("afterId", after.id());
+        }
+        return binds
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .fetch(record -> new JobSummary(record.get(JOBS_.ID), record.get(JOBS_.USER_ID),
+                        record.get(JOBS_.PROJECT_ID), JobStatus.valueOf(record.get(JOBS_.STATUS).getLiteral()),
+                        record.get(JOBS_.PRIORITY), record.get(JOBS_.CREATED_AT).toInstant(ZoneOffset.UTC)));
+    }
+
+    private Query findSummariesQuery(boolean afterCursor) {
+        Condition condition = JOBS_.USER_ID.eq(DSL.param("userId", JOBS_.USER_ID));
+        if (afterCursor) {
+            // Keyset on (created_at, id) descending, written so the created_at bound stays a range on
+            // idx_jobs_user_created_at: a page costs the same however deep into the list it is
+            Field<LocalDateTime> afterCreatedAt = DSL.param("afterCreatedAt", JOBS_.CREATED_AT);
+            condition = condition.and(JOBS_.CREATED_AT.le(afterCreatedAt))
+                    .and(JOBS_.CREATED_AT.lt(afterCreatedAt).or(JOBS_.ID.lt(DSL.param("afterId", JOBS_.ID))));
+        }
+        // Every column is in idx_jobs_user_created_at, so the listing never touches the rows themselves
+        return dsl.select(JOBS_.ID, JOBS_.USER_ID, JOBS_.PROJECT_ID, JOBS_.STATUS, JOBS_.PRIORITY, JOBS_.CREATED_AT)
+                .from(JOBS_)
+                .where(condition)
+                .orderBy(JOBS_.CREATED_AT.desc(), JOBS_.ID.desc())
+                .limit(DSL.param("limit", Integer.class));
+    }
+
+    @Override
+    public Future<Boolean> complete(String jobId, String workerId, JobResult result) {
+        // Result and terminal status in one statement over both tables; conditional, so a cancelled job stays
+        // cancelled and its payload untouched, and a worker that lost the lease cannot finish the job under the
+        // worker now running it
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        String json = result.payload().encode();
+        byte[] packed = compression.pack(json);
+        return sql.statement("jobs.complete", () -> dsl.update(WITH_PAYLOADS)
+                        .set(JOBS_.STATUS, JobsStatus.COMPLETED)
+                        .set(JOB_PAYLOADS.RESULT, DSL.param("result", JOB_PAYLOADS.RESULT))
+                        .set(JOB_PAYLOADS.RESULT_PACKED, DSL.param("resultPacked", JOB_PAYLOADS.RESULT_PACKED))
+                        .set(JOBS_.LEASE_OWNER, (String) null)
+                        .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(idIs())
+                        .and(leasedTo()))
+                .bind("result", packed == null ? json : null)
+                .bind("resultPacked", packed)
+                .bind("now", now())
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .bind("workerId", workerId)
+                .update()
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage) {
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        return sql.statement("jobs.fail", () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, DSL.param("status", JOBS_.STATUS))
+                        .set(JOBS_.ERROR_MESSAGE, DSL.param("error", JOBS_.ERROR_MESSAGE))
+                        .set(JOBS_.LEASE_OWNER, (String) null)
+                        .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(idIs())
+                        .and(leasedTo()))
+                .bind("status", status)
+                .bind("error", errorMessage)
+                .bind("now", now())
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .bind("workerId", workerId)
+                .update()
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Future<Set<String>> applyTransitions(List<JobTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return Future.succeededFuture(Set.of());
+        }
+        List<String> ids = transitions.stream().map(JobTransition::jobId).sorted().toList();
+        int count = ids.size();
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(ids);
+
+        // Locking in id order first means two concurrent batches can never deadlock on each other's rows
+        JooqExecutor.Binds select = sql.statement("jobs.lockProcessing:" + count, () -> dsl.select(JOBS_.ID,
+                                JOBS_.LEASE_OWNER)
+                        .from(JOBS_)
+                        .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                        .and(createdAtIn(JOBS_.CREATED_AT))
+                        .and(JOBS_.STATUS.eq(JobsStatus.PROCESSING))
+                        .orderBy(JOBS_.ID)
+                        .forUpdate())
+                .bindAll("id", ids)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to());
+
+        return sql.withTransaction(conn -> select.execute(conn)
+                .compose(rows -> {
+                    // Each job still leased to the worker whose transition it is; one that lost its lease is
+                    // being run by another worker now and is left to it
+                    Map<String, String> leaseOwners = new HashMap<>();
+                    for (Row row : rows) {
+                        leaseOwners.put(JobRowMapper.jobId(row, 0), row.getString(1));
+                    }
+                    List<JobTransition> applied = transitions.stream()
+                            .filter(transition -> transition.workerId().equals(leaseOwners.get(transition.jobId())))
+                            .sorted(Comparator.comparing(JobTransition::jobId))
+                            .toList();
+                    Set<String> moved = new LinkedHashSet<>();
+                    applied.forEach(transition -> moved.add(transition.jobId()));
+                    if (applied.isEmpty()) {
+                        return Future.succeededFuture(moved);
+                    }
+                    return updateTransitions(conn, applied, createdAt).map(moved);
+                }))
+                .onFailure(err -> log.error("Failed to apply {} job transitions: {}", transitions.size(),
+                        err.getMessage()));
+    }
+
+    /**
+     * One UPDATE for all {@code transitions}: each column is a {@code CASE id WHEN ...} over the jobs that set
+     * it, so every row gets its own values. Only when some transition stores a result does it join
+     * {@code job_payloads}; status-only batches update the jobs rows alone. Its shape depends on which
+     * transitions set which column, so it is rendered per call rather than cached.
+     */
+    private Future<Void> updateTransitions(SqlConnection conn, List<JobTransition> transitions,
+                                           CreatedAtRange createdAt) {
+        Map<String, JSON> results = new HashMap<>();
+        Map<String, byte[]> packedResults = new HashMap<>();
+        for (JobTransition transition : transitions) {
+            if (transition.result() != null) {
+                String json = transition.result().payload().encode();
+                byte[] packed = compression.pack(json);
+                if (packed != null) {
+                    packedResults.put(transition.jobId(), packed);
+                } else {
+                    results.put(transition.jobId(), JSON.json(json));
+                }
+            }
+        }
+        Field<JSON> result = caseById(transitions, t -> results.get(t.jobId()), JOB_PAYLOADS.RESULT);
+        Field<byte[]> packedResult = caseById(transitions, t -> packedResults.get(t.jobId()),
+                JOB_PAYLOADS.RESULT_PACKED);
+        Table<?> table = result != null || packedResult != null ? WITH_PAYLOADS : JOBS_;
+        UpdateSetMoreStep<?> update = dsl.update(table)
+                .set(JOBS_.STATUS, caseById(transitions, t -> toJooqStatus(t.status()), JOBS_.STATUS));
+        if (result != null) {
+            update = update.set(JOB_PAYLOADS.RESULT, result);
+        }
+        if (packedResult != null) {
+            update = update.set(JOB_PAYLOADS.RESULT_PACKED, packedResult);
+        }
+        Field<String> error = caseById(transitions, JobTransition::errorMessage, JOBS_.ERROR_MESSAGE);
+        if (error != null) {
+            update = update.set(JOBS_.ERROR_MESSAGE, error);
+        }
+        Field<LocalDateTime> runAt = caseById(transitions, t -> toLocalDateTime(t.runAt()), JOBS_.RUN_AT);
+        if (runAt != null) {
+            update = update.set(JOBS_.RUN_AT, runAt);
+        }
+
+        List<String> ids = transitions.stream().map(JobTransition::jobId).toList();
+        LocalDateTime now = now();
+        Query query = update
+                .set(JOBS_.LEASE_OWNER, (String) null)
+                .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                .set(JOBS_.UPDATED_AT, now)
+                .where(JOBS_.ID.in(ids))
+                .and(JOBS_.CREATED_AT.between(createdAt.from(), createdAt.to()));
+
+        return sql.query(query)
+                .execute(conn)
+                .mapEmpty();
+    }
+
+    /**
+     * {@code CASE id WHEN ? THEN ? ... ELSE column END} over the transitions with a non-null {@code value};
+     * {@code null} when none of them sets the column.
+     */
+    private static <T> Field<T> caseById(List<JobTransition> transitions, Function<JobTransition, T> value,
+                                         Field<T> column) {
+        CaseWhenStep<String, T> step = null;
+        for (JobTransition transition : transitions) {
+            T v = value.apply(transition);
+            if (v == null) {
+                continue;
+            }
+            step = step == null
+                    ? DSL.case_(JOBS_.ID).when(transition.jobId(), v)
+                    : step.when(transition.jobId(), v);
+        }
+        return step != null ? step.otherwise(column) : null;
+    }
+
+    @Override
+    public Future<Boolean> cancel(String jobId) {
+        // Only unfinished jobs; the lease is dropped so the reaper leaves a cancelled PROCESSING job alone
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        return sql.statement("jobs.cancel", () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, JobsStatus.CANCELLED)
+                        .set(JOBS_.LEASE_OWNER, (String) null)
+                        .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(idIs())
+                        .and(JOBS_.STATUS.in(JobsStatus.SCHEDULED, JobsStatus.PENDING, JobsStatus.PROCESSING)))
+                .bind("now", now())
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .update()
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Future<List<Job>> claimPending(String workerId, int limit, Duration leaseDuration) {
+        JooqExecutor.Binds select = sql.statement("jobs.claimPending",
+                        () -> claimQuery(JOBS_.STATUS.eq(JobsStatus.PENDING)))
+                .bind("limit", limit);
+        return claim(workerId, select, leaseDuration);
+    }
+
+    @Override
+    public Future<List<Job>> claimPendingForUser(String workerId, long userId, int limit, Duration leaseDuration) {
+        // Served by idx_jobs_status_user_priority_created_at: reads just the head of this user's queue
+        JooqExecutor.Binds select = sql.statement("jobs.claimPendingForUser", () -> claimQuery(
+                        JOBS_.STATUS.eq(JobsStatus.PENDING).and(JOBS_.USER_ID.eq(DSL.param("userId", JOBS_.USER_ID)))))
+                .bind("userId", userId)
+                .bind("limit", limit);
+        return claim(workerId, select, leaseDuration);
+    }
+
+    /**
+     * {@code SELECT ... FOR UPDATE SKIP LOCKED} of up to {@code :limit} rows matching {@code condition}, in
+     * dispatch order, so concurrent workers claim disjoint batches. The order is the lane a job has aged into,
+     * then FIFO; the priority it was submitted with is only where that lane started.
+     */
+    private Query claimQuery(Condition condition) {
+        return dsl.select(JobRowMapper.STATE_COLUMNS)
                 .from(JOBS_)
-                .where(JOBS_.USER_ID.eq(userId))
-                .orderBy(JOBS_.CREATED_AT.desc());
+                .where(condition)
+                .orderBy(JOBS_.EFFECTIVE_PRIORITY.desc(), JOBS_.CREATED_AT)
+                .limit(DSL.param("limit", Integer.class))
+                .forUpdate()
+                .skipLocked();
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
+    /**
+     * Locks the rows {@code select} returns and leases them to the worker, then reads their parameters. The
+     * transaction only touches jobs rows; the payloads are read once it has committed and the jobs are ours.
+     */
+    private Future<List<Job>> claim(String workerId, JooqExecutor.Binds select, Duration leaseDuration) {
+        LocalDateTime now = now();
+        return sql.withTransaction(conn -> select.execute(conn)
+                .compose(rows -> {
+                    List<Row> claimed = new ArrayList<>();
+                    for (Row row : rows) {
+                        claimed.add(row);
+                    }
+                    if (claimed.isEmpty()) {
+                        return Future.succeededFuture(claimed);
+                    }
 
-        return client.preparedQuery(sql)
-                .execute(Tuple.of(userId))
+                    int count = claimed.size();
+                    CreatedAtRange createdAt = CreatedAtRange.of(claimed);
+                    // Counted at claim time, so a job that keeps killing its worker also runs out of attempts
+                    return sql.statement("jobs.lease:" + count, () -> dsl.update(JOBS_)
+                                    .set(JOBS_.STATUS, JobsStatus.PROCESSING)
+                                    .set(JOBS_.ATTEMPTS, JOBS_.ATTEMPTS.plus(DSL.inline(1)))
+                                    .set(JOBS_.LEASE_OWNER, DSL.param("workerId", JOBS_.LEASE_OWNER))
+                                    .set(JOBS_.LEASE_EXPIRES_AT, DSL.param("leaseExpiresAt", JOBS_.LEASE_EXPIRES_AT))
+                                    .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                                    .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                                    .and(createdAtIn(JOBS_.CREATED_AT)))
+                            .bind("workerId", workerId)
+                            .bind("leaseExpiresAt", now.plus(leaseDuration))
+                            .bind("now", now)
+                            .bindAll("id", claimed, row -> JobRowMapper.jobId(row, 0))
+                            .bind("createdFrom", createdAt.from())
+                            .bind("createdTo", createdAt.to())
+                            .execute(conn)
+                            .map(claimed);
+                }))
+                .compose(claimed -> withParameters(claimed, now.toInstant(ZoneOffset.UTC)))
+                .onFailure(err -> log.error("Failed to claim pending jobs: {}", err.getMessage()));
+    }
+
+    /**
+     * The jobs for rows of {@link JobRowMapper#STATE_COLUMNS} claimed at {@code claimedAt}, with the
+     * parameters read from {@code job_payloads} in one SELECT.
+     */
+    private Future<List<Job>> withParameters(List<Row> claimed, Instant claimedAt) {
+        if (claimed.isEmpty()) {
+            return Future.succeededFuture(List.of());
+        }
+        int count = claimed.size();
+        CreatedAtRange createdAt = CreatedAtRange.of(claimed);
+        return sql.statement("jobPayloads.findParameters:" + count, () -> dsl.select(JOB_PAYLOADS.JOB_ID,
+                                JOB_PAYLOADS.PARAMETERS.cast(SQLDataType.LONGVARCHAR), JOB_PAYLOADS.PARAMETERS_PACKED)
+                        .from(JOB_PAYLOADS)
+                        .where(JOB_PAYLOADS.JOB_ID.in(JooqExecutor.params("id", JOB_PAYLOADS.JOB_ID, count)))
+                        .and(createdAtIn(JOB_PAYLOADS.CREATED_AT)))
+                .bindAll("id", claimed, row -> JobRowMapper.jobId(row, 0))
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .execute()
                 .map(rows -> {
-                    List<Job> jobs = new ArrayList<>();
+                    Map<String, JsonPayload> parameters = new HashMap<>();
                     for (Row row : rows) {
-                        jobs.add(mapRow(row));
+                        parameters.put(JobRowMapper.jobId(row, 0), JobRowMapper.payload(row, 1, 2));
+                    }
+                    List<Job> jobs = new ArrayList<>(count);
+                    for (Row row : claimed) {
+                        Job job = JobRowMapper.map(row, parameters.get(JobRowMapper.jobId(row, 0)), null);
+                        job.setStatus(JobStatus.PROCESSING);
+                        job.setAttempts(job.getAttempts() + 1);
+                        job.setUpdatedAt(claimedAt);
+                        jobs.add(job);
                     }
                     return jobs;
                 });
     }
 
     @Override
-    public Future<Void> updateStatus(String jobId, JobStatus status) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Use jOOQ to generate type-safe UPDATE query
-        Query query = dsl.update(JOBS_)
-                .set(JOBS_.STATUS, toJooqStatus(status))
-                .set(JOBS_.UPDATED_AT, now)
-                .where(JOBS_.ID.eq(jobId));
+    public Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage) {
+        // One update: the job leaves PROCESSING, drops its lease and waits on idx_jobs_status_run_at; fenced on the
+        // lease like complete
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(List.of(jobId));
+        return sql.statement("jobs.scheduleRetry", () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, JobsStatus.SCHEDULED)
+                        .set(JOBS_.RUN_AT, DSL.param("runAt", JOBS_.RUN_AT))
+                        .set(JOBS_.ERROR_MESSAGE, DSL.param("error", JOBS_.ERROR_MESSAGE))
+                        .set(JOBS_.LEASE_OWNER, (String) null)
+                        .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(idIs())
+                        .and(leasedTo()))
+                .bind("runAt", toLocalDateTime(runAt))
+                .bind("error", errorMessage)
+                .bind("now", now())
+                .bind("id", jobId)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .bind("workerId", workerId)
+                .update()
+                .map(updated -> updated > 0);
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
-        Tuple params = Tuple.of(status.name(), now, jobId);
+    @Override
+    public Future<Set<String>> renewLeases(String workerId, Collection<String> jobIds, Duration leaseDuration) {
+        if (jobIds.isEmpty()) {
+            return Future.succeededFuture(Set.of());
+        }
+        int count = jobIds.size();
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(jobIds);
 
-        return client.preparedQuery(sql)
-                .execute(params)
-                .mapEmpty();
+        return sql.statement("jobs.renewLeases:" + count, () -> dsl.update(JOBS_)
+                        .set(JOBS_.LEASE_EXPIRES_AT, DSL.param("leaseExpiresAt", JOBS_.LEASE_EXPIRES_AT))
+                        .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                        .and(createdAtIn(JOBS_.CREATED_AT))
+                        .and(leasedTo()))
+                .bind("leaseExpiresAt", now().plus(leaseDuration))
+                .bindAll("id", jobIds)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .bind("workerId", workerId)
+                .update()
+                .compose(renewed -> renewed == count
+                        ? Future.succeededFuture(Set.copyOf(jobIds))
+                        : findLeased(workerId, jobIds, createdAt));
+    }
+
+    /**
+     * Which of {@code jobIds} are still PROCESSING under {@code workerId}'s lease. Only read when a renewal
+     * missed some, so the heartbeat stays one statement while every lease holds.
+     */
+    private Future<Set<String>> findLeased(String workerId, Collection<String> jobIds, CreatedAtRange createdAt) {
+        int count = jobIds.size();
+        return sql.statement("jobs.findLeased:" + count, () -> dsl.select(JOBS_.ID)
+                        .from(JOBS_)
+                        .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                        .and(createdAtIn(JOBS_.CREATED_AT))
+                        .and(leasedTo()))
+                .bindAll("id", jobIds)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .bind("workerId", workerId)
+                .execute()
+                .map(rows -> {
+                    Set<String> leased = new HashSet<>();
+                    for (Row row : rows) {
+                        leased.add(JobRowMapper.jobId(row, 0));
+                    }
+                    return leased;
+                });
     }
 
     @Override
-    public Future<Void> updateResult(String jobId, JobResult result) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Use jOOQ to generate type-safe UPDATE query
-        Query query = dsl.update(JOBS_)
-                .set(JOBS_.RESULT, JSON.json(result.payload().encode()))
-                .set(JOBS_.UPDATED_AT, now)
-                .where(JOBS_.ID.eq(jobId));
+    public Future<Integer> requeueExpiredLeases(int limit) {
+        // Walks idx_jobs_status_lease_expires_at from the oldest expiry, never the whole table
+        return sql.statement("jobs.requeueExpiredLeases", () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, JobsStatus.PENDING)
+                        .set(JOBS_.EFFECTIVE_PRIORITY, JOBS_.PRIORITY)
+                        .set(JOBS_.LEASE_OWNER, (String) null)
+                        .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(JOBS_.STATUS.eq(JobsStatus.PROCESSING))
+                        .and(JOBS_.LEASE_EXPIRES_AT.lt(DSL.param("now", JOBS_.LEASE_EXPIRES_AT)))
+                        .orderBy(JOBS_.LEASE_EXPIRES_AT)
+                        .limit(DSL.param("limit", Integer.class)))
+                .bind("now", now())
+                .bind("limit", limit)
+                .update();
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
-        Tuple params = Tuple.of(result.payload().encode(), now, jobId);
+    @Override
+    public Future<Integer> countPending(int cap) {
+        // Counting a LIMITed derived table reads at most cap index entries
+        return sql.statement("jobs.countPending", () -> dsl.selectCount()
+                        .from(dsl.selectOne()
+                                .from(JOBS_)
+                                .where(JOBS_.STATUS.eq(JobsStatus.PENDING))
+                                .limit(DSL.param("cap", Integer.class))))
+                .bind("cap", cap)
+                .execute()
+                .map(rows -> rows.iterator().next().getInteger(0));
+    }
 
-        return client.preparedQuery(sql)
-                .execute(params)
-                .mapEmpty();
+    @Override
+    public Future<List<Long>> findUsersWithPending(int limit) {
+        // DISTINCT over the (status, user_id, ...) index prefix is a loose index scan: one probe per user
+        return sql.statement("jobs.findUsersWithPending", () -> dsl.selectDistinct(JOBS_.USER_ID)
+                        .from(JOBS_)
+                        .where(JOBS_.STATUS.eq(JobsStatus.PENDING))
+                        .limit(DSL.param("limit", Integer.class)))
+                .bind("limit", limit)
+                .fetch(record -> record.get(JOBS_.USER_ID));
     }
 
     @Override
-    public Future<Void> updateFailure(String jobId, String errorMessage) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Use jOOQ to generate type-safe UPDATE query
-        Query query = dsl.update(JOBS_)
-                .set(JOBS_.ERROR_MESSAGE, errorMessage)
-                .set(JOBS_.UPDATED_AT, now)
-                .where(JOBS_.ID.eq(jobId));
+    public Future<List<ScheduledJob>> findScheduled(Instant until, ScheduledJob after, int limit) {
+        JooqExecutor.Binds binds;
+        if (after == null) {
+            binds = sql.statement("jobs.findScheduled", () -> findScheduledQuery(false)).binds();
+        } else {
+            LocalDateTime afterRunAt = toLocalDateTime(after.runAt());
+            binds = sql.statement("jobs.findScheduledAfter", () -> findScheduledQuery(true))
+                    .bind("afterRunAt", afterRunAt)
+                    .bind("afterId", after.id());
+        }
+        return binds
+                .bind("until", toLocalDateTime(until))
+                .bind("limit", limit)
+                .fetch(record -> new ScheduledJob(record.get(JOBS_.ID), record.get(JOBS_.USER_ID),
+                        record.get(JOBS_.RUN_AT).toInstant(ZoneOffset.UTC)));
+    }
 
-        String sql = query.getSQL(ParamType.INDEXED);
-        Tuple params = Tuple.of(errorMessage, now, jobId);
+    private Query findScheduledQuery(boolean afterCursor) {
+        Condition condition = JOBS_.STATUS.eq(JobsStatus.SCHEDULED)
+                .and(JOBS_.RUN_AT.lt(DSL.param("until", JOBS_.RUN_AT)));
+        if (afterCursor) {
+            // Keyset on (run_at, id), written so the run_at bound stays a range on idx_jobs_status_run_at
+            Field<LocalDateTime> afterRunAt = DSL.param("afterRunAt", JOBS_.RUN_AT);
+            condition = condition.and(JOBS_.RUN_AT.ge(afterRunAt))
+                    .and(JOBS_.RUN_AT.gt(afterRunAt).or(JOBS_.ID.gt(DSL.param("afterId", JOBS_.ID))));
+        }
+        return dsl.select(JOBS_.ID, JOBS_.USER_ID, JOBS_.RUN_AT)
+                .from(JOBS_)
+                .where(condition)
+                .orderBy(JOBS_.RUN_AT, JOBS_.ID)
+                .limit(DSL.param("limit", Integer.class));
+    }
+
+    @Override
+    public Future<Integer> releaseScheduled(Collection<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Future.succeededFuture(0);
+        }
+        int count = jobIds.size();
+        CreatedAtRange createdAt = CreatedAtRange.ofIds(jobIds);
+
+        // Conditional on SCHEDULED, so releasing the same job twice (several nodes, sweep) is harmless
+        return sql.statement("jobs.releaseScheduled:" + count, () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, JobsStatus.PENDING)
+                        .set(JOBS_.EFFECTIVE_PRIORITY, JOBS_.PRIORITY)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                        .and(createdAtIn(JOBS_.CREATED_AT))
+                        .and(JOBS_.STATUS.eq(JobsStatus.SCHEDULED)))
+                .bind("now", now())
+                .bindAll("id", jobIds)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to())
+                .update();
+    }
+
+    @Override
+    public Future<Integer> releaseOverdueScheduled(Instant runAtBefore, int limit) {
+        return sql.statement("jobs.releaseOverdueScheduled", () -> dsl.update(JOBS_)
+                        .set(JOBS_.STATUS, JobsStatus.PENDING)
+                        .set(JOBS_.EFFECTIVE_PRIORITY, JOBS_.PRIORITY)
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(JOBS_.STATUS.eq(JobsStatus.SCHEDULED))
+                        .and(JOBS_.RUN_AT.lt(DSL.param("cutoff", JOBS_.RUN_AT)))
+                        .orderBy(JOBS_.RUN_AT)
+                        .limit(DSL.param("limit", Integer.class)))
+                .bind("now", now())
+                .bind("cutoff", toLocalDateTime(runAtBefore))
+                .bind("limit", limit)
+                .update();
+    }
+
+    @Override
+    public Future<Integer> agePending(int priority, Duration minAge, int limit) {
+        LocalDateTime now = now();
+
+        // Equality on (status, effective_priority) plus a created_at range stays inside one lane of the claim
+        // index. A job became PENDING, or was last promoted, at its updated_at, which is never before its
+        // created_at: the range skips the jobs too young to age, the updated_at filter those promoted just now.
+        // The submitted priority is left alone
+        return sql.statement("jobs.agePending", () -> dsl.update(JOBS_)
+                        .set(JOBS_.EFFECTIVE_PRIORITY, DSL.param("newPriority", JOBS_.EFFECTIVE_PRIORITY))
+                        .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                        .where(JOBS_.STATUS.eq(JobsStatus.PENDING))
+                        .and(JOBS_.EFFECTIVE_PRIORITY.eq(DSL.param("priority", JOBS_.EFFECTIVE_PRIORITY)))
+                        .and(JOBS_.CREATED_AT.lt(DSL.param("waitingSince", JOBS_.CREATED_AT)))
+                        .and(JOBS_.UPDATED_AT.lt(DSL.param("waitingSince", JOBS_.UPDATED_AT)))
+                        .orderBy(JOBS_.CREATED_AT)
+                        .limit(DSL.param("limit", Integer.class)))
+                .bind("newPriority", priority + 1)
+                .bind("now", now)
+                .bind("priority", priority)
+                .bind("waitingSince", now.minus(minAge))
+                .bind("limit", limit)
+                .update();
+    }
+
+    @Override
+    public Future<List<JobCursor>> archive(JobStatus status, int priority, Instant before, JobCursor after,
+                                           int limit) {
+        JooqExecutor.Binds select;
+        if (after == null) {
+            select = sql.statement("jobs.lockArchivable", () -> lockArchivableQuery(false)).binds();
+        } else {
+            select = sql.statement("jobs.lockArchivable:after", () -> lockArchivableQuery(true))
+                    .bind("afterCreatedAt", toLocalDateTime(after.createdAt()))
+                    .bind("afterId", after.id());
+        }
+        select.bind("status", status)
+                .bind("priority", priority)
+                .bind("before", toLocalDateTime(before))
+                .bind("limit", limit);
+
+        return sql.withTransaction(conn -> select.execute(conn)
+                .compose(rows -> {
+                    List<String> ids = new ArrayList<>();
+                    List<JobCursor> archived = new ArrayList<>();
+                    for (Row row : rows) {
+                        String id = JobRowMapper.jobId(row, 0);
+                        ids.add(id);
+                        archived.add(new JobCursor(row.getLocalDateTime(1).toInstant(ZoneOffset.UTC), id));
+                    }
+                    if (ids.isEmpty()) {
+                        return Future.succeededFuture(archived);
+                    }
+                    // In (created_at, id) order, so the first and last job bound the chunk's created_at
+                    CreatedAtRange createdAt = new CreatedAtRange(toLocalDateTime(archived.get(0).createdAt()),
+                            toLocalDateTime(archived.get(archived.size() - 1).createdAt()));
+                    return moveToArchive(conn, ids, createdAt).map(archived);
+                }))
+                .onFailure(err -> log.error("Failed to archive {} jobs: {}", status, err.getMessage()));
+    }
 
-        return client.preparedQuery(sql)
-                .execute(params)
+    /**
+     * Locks up to {@code :limit} jobs of one status and lane, created and last updated before {@code :before}.
+     * Equality on (status, effective_priority) plus a created_at range stays inside one lane of the claim index,
+     * which also yields the (created_at, id) order. The keyset starts each chunk right after the previous one instead
+     * of stepping again over the index entries of the jobs just deleted, which purge has not removed yet.
+     */
+    private Query lockArchivableQuery(boolean afterCursor) {
+        Condition condition = JOBS_.STATUS.eq(DSL.param("status", JOBS_.STATUS))
+                .and(JOBS_.EFFECTIVE_PRIORITY.eq(DSL.param("priority", JOBS_.EFFECTIVE_PRIORITY)))
+                .and(JOBS_.CREATED_AT.lt(DSL.param("before", JOBS_.CREATED_AT)))
+                .and(JOBS_.UPDATED_AT.lt(DSL.param("before", JOBS_.UPDATED_AT)));
+        if (afterCursor) {
+            Field<LocalDateTime> afterCreatedAt = DSL.param("afterCreatedAt", JOBS_.CREATED_AT);
+            condition = condition.and(JOBS_.CREATED_AT.ge(afterCreatedAt))
+                    .and(JOBS_.CREATED_AT.gt(afterCreatedAt).or(JOBS_.ID.gt(DSL.param("afterId", JOBS_.ID))));
+        }
+        return dsl.select(JOBS_.ID, JOBS_.CREATED_AT)
+                .from(JOBS_)
+                .where(condition)
+                .orderBy(JOBS_.CREATED_AT, JOBS_.ID)
+                .limit(DSL.param("limit", Integer.class))
+                .forUpdate();
+    }
+
+    /**
+     * Copies the locked jobs with their payloads into {@code jobs_archive}, then deletes them from
+     * {@code job_payloads} and {@code jobs}, on the connection holding the locks.
+     */
+    private Future<Void> moveToArchive(SqlConnection conn, List<String> ids, CreatedAtRange createdAt) {
+        int count = ids.size();
+        JooqExecutor.Binds copy = sql.statement("jobsArchive.insert:" + count, () -> dsl.insertInto(JOBS_ARCHIVE)
+                        .columns(ARCHIVED_TO)
+                        .select(dsl.select(ARCHIVED_FROM)
+                                .from(JobRowMapper.FROM)
+                                .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                                .and(createdAtIn(JOBS_.CREATED_AT))))
+                .bindAll("id", ids)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to());
+        JooqExecutor.Binds deletePayloads = sql.statement("jobPayloads.deleteArchived:" + count,
+                        () -> dsl.deleteFrom(JOB_PAYLOADS)
+                                .where(JOB_PAYLOADS.JOB_ID.in(JooqExecutor.params("id", JOB_PAYLOADS.JOB_ID, count)))
+                                .and(createdAtIn(JOB_PAYLOADS.CREATED_AT)))
+                .bindAll("id", ids)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to());
+        JooqExecutor.Binds deleteJobs = sql.statement("jobs.deleteArchived:" + count, () -> dsl.deleteFrom(JOBS_)
+                        .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, count)))
+                        .and(createdAtIn(JOBS_.CREATED_AT)))
+                .bindAll("id", ids)
+                .bind("createdFrom", createdAt.from())
+                .bind("createdTo", createdAt.to());
+        return copy.execute(conn)
+                .compose(copied -> deletePayloads.execute(conn))
+                .compose(deleted -> deleteJobs.execute(conn))
                 .mapEmpty();
     }
 
-    private Job mapRow(Row row) {
-        String id = row.getString("id");
-        long userId = row.getLong("user_id");
-        Long projectId = row.getLong("project_id");
-        if (row.getValue("project_id") == null) {
-            projectId = null;
+    /**
+     * {@code id = :id}, within the {@code created_at} range bound as {@code :createdFrom} and {@code :createdTo}.
+     */
+    private static Condition idIs() {
+        return JOBS_.ID.eq(DSL.param("id", JOBS_.ID)).and(createdAtIn(JOBS_.CREATED_AT));
+    }
+
+    /**
+     * {@code status = 'PROCESSING' AND lease_owner = :workerId}: the job is still {@code workerId}'s to finish.
+     */
+    private static Condition leasedTo() {
+        return JOBS_.STATUS.eq(JobsStatus.PROCESSING)
+                .and(JOBS_.LEASE_OWNER.eq(DSL.param("workerId", JOBS_.LEASE_OWNER)));
+    }
+
+    /**
+     * {@code column BETWEEN :createdFrom AND :createdTo}: with the tables partitioned on {@code created_at}, a
+     * statement carrying it reads only the partitions in that range.
+     */
+    private static Condition createdAtIn(Field<LocalDateTime> column) {
+        return column.between(DSL.param("createdFrom", column), DSL.param("createdTo", column));
+    }
+
+    /**
+     * The {@code created_at} a new job is stored with: the second its id was generated in, or {@code now} for an
+     * id that does not tell.
+     */
+    private static LocalDateTime createdAt(String jobId, LocalDateTime now) {
+        Instant createdAt = JobIds.createdAt(jobId);
+        return createdAt != null ? toLocalDateTime(createdAt) : now;
+    }
+
+    /**
+     * The {@code created_at} values a set of jobs lies between. A version 7 id tells its job's {@code created_at}
+     * exactly, so a lookup by such an id reads a single partition; an older id could be anywhere.
+     */
+    private record CreatedAtRange(LocalDateTime from, LocalDateTime to) {
+
+        // Every value a TIMESTAMP column can hold
+        private static final CreatedAtRange ANY =
+                new CreatedAtRange(LocalDateTime.of(1970, 1, 2, 0, 0), LocalDateTime.of(2038, 1, 18, 0, 0));
+
+        static CreatedAtRange ofIds(Collection<String> ids) {
+            List<LocalDateTime> createdAt = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                Instant instant = JobIds.createdAt(id);
+                if (instant == null) {
+                    return ANY;
+                }
+                createdAt.add(toLocalDateTime(instant));
+            }
+            return new CreatedAtRange(Collections.min(createdAt), Collections.max(createdAt));
+        }
+
+        /**
+         * The range of rows read with their {@code created_at}.
+         */
+        static CreatedAtRange of(List<Row> rows) {
+            List<LocalDateTime> createdAt = rows.stream().map(JobRowMapper::createdAt).toList();
+            return new CreatedAtRange(Collections.min(createdAt), Collections.max(createdAt));
         }
-        JobStatus status = JobStatus.valueOf(row.getString("status"));
-        JsonObject params = row.getJsonObject("parameters");
-    
-        JsonObject resultJson = row.getJsonObject("result");
-        String error = row.getString("error_message");
-        Instant createdAt = row.getLocalDateTime("created_at").toInstant(ZoneOffset.UTC);
-        Instant updatedAt = row.getLocalDateTime("updated_at").toInstant(ZoneOffset.UTC);
+    }
 
-        Job job = new Job(id, userId, projectId, status, params, null, error, createdAt, updatedAt);
-        if (resultJson != null) {
-            job.setResult(new JobResult(resultJson));
+    /**
+     * {@code json}, with {@code null} for every payload {@code packed} holds instead.
+     */
+    private static List<String> unlessPacked(List<String> json, List<byte[]> packed) {
+        List<String> values = new ArrayList<>(json.size());
+        for (int i = 0; i < json.size(); i++) {
+            values.add(packed.get(i) == null ? json.get(i) : null);
         }
-        return job;
+        return values;
+    }
+
+    /**
+     * The current time on the clock every timestamp in the jobs tables is on: UTC, like the {@code created_at}
+     * a job id implies and the session time zone of every connection.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
     }
 
     private JobsStatus toJooqStatus(JobStatus status) {
@@ -0,0 +1,183 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JsonPayload;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Row;
+
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.jobserver.jooq.Tables.JOBS_;
+import static com.example.jobserver.jooq.Tables.JOBS_ARCHIVE;
+import static com.example.jobserver.jooq.Tables.JOB_PAYLOADS;
+
+/**
+ * The select lists for job rows and the mapping of such a row to a {@link Job} or a {@link JobState}, by
+ * position.
+ *
+ * <p>{@link #STATE_COLUMNS} are the columns of {@code jobs} itself; {@link #COLUMNS} adds the payloads and is
+ * selected {@link #FROM} {@code jobs} joined to {@code job_payloads}. The MySQL client decodes a {@code JSON}
+ * column into a map while it reads the row, whether or not anyone looks at it. {@code parameters} and
+ * {@code result} are therefore selected as text and kept as {@link JsonPayload}s, so only the jobs whose payload
+ * is actually read pay for decoding it. A payload stored packed comes from {@code parameters_packed} or
+ * {@code result_packed} instead, with the JSON column {@code NULL}, and is decompressed only when read too.
+ *
+ * <p>{@link #ARCHIVE_STATE_COLUMNS} and {@link #ARCHIVE_COLUMNS} are the same columns of {@code jobs_archive}, in
+ * the same positions, so an archived job maps the same way.
+ */
+final class JobRowMapper {
+
+    private static final Field<String> PARAMETERS_TEXT = asText(JOB_PAYLOADS.PARAMETERS);
+    private static final Field<String> RESULT_TEXT = asText(JOB_PAYLOADS.RESULT);
+
+    static final List<Field<?>> STATE_COLUMNS = List.of(
+            JOBS_.ID,
+            JOBS_.USER_ID,
+            JOBS_.PROJECT_ID,
+            JOBS_.STATUS,
+            JOBS_.PRIORITY,
+            JOBS_.RUN_AT,
+            JOBS_.ATTEMPTS,
+            JOBS_.TIMEOUT_SECONDS,
+            JOBS_.ERROR_MESSAGE,
+            JOBS_.CREATED_AT,
+            JOBS_.UPDATED_AT
+    );
+
+    static final List<Field<?>> COLUMNS = Stream.concat(STATE_COLUMNS.stream(),
+            Stream.of(PARAMETERS_TEXT, RESULT_TEXT, JOB_PAYLOADS.PARAMETERS_PACKED, JOB_PAYLOADS.RESULT_PACKED))
+            .toList();
+
+    static final List<Field<?>> ARCHIVE_STATE_COLUMNS = List.of(
+            JOBS_ARCHIVE.ID,
+            JOBS_ARCHIVE.USER_ID,
+            JOBS_ARCHIVE.PROJECT_ID,
+            JOBS_ARCHIVE.STATUS,
+            JOBS_ARCHIVE.PRIORITY,
+            JOBS_ARCHIVE.RUN_AT,
+            JOBS_ARCHIVE.ATTEMPTS,
+            JOBS_ARCHIVE.TIMEOUT_SECONDS,
+            JOBS_ARCHIVE.ERROR_MESSAGE,
+            JOBS_ARCHIVE.CREATED_AT,
+            JOBS_ARCHIVE.UPDATED_AT
+    );
+
+    static final List<Field<?>> ARCHIVE_COLUMNS = Stream.concat(ARCHIVE_STATE_COLUMNS.stream(),
+            Stream.of(asText(JOBS_ARCHIVE.PARAMETERS), asText(JOBS_ARCHIVE.RESULT), JOBS_ARCHIVE.PARAMETERS_PACKED,
+                    JOBS_ARCHIVE.RESULT_PACKED)).toList();
+
+    /**
+     * {@code jobs} with its payloads; a job without a payload row still shows, with neither. The payload is
+     * joined on the whole primary key, {@code created_at} included, so each lookup reads one partition.
+     */
+    static final Table<?> FROM = JOBS_.leftJoin(JOB_PAYLOADS)
+            .on(JOB_PAYLOADS.JOB_ID.eq(JOBS_.ID), JOB_PAYLOADS.CREATED_AT.eq(JOBS_.CREATED_AT));
+
+    // Resolved once, so mapping a row never looks a column up by name
+    private static final int ID = COLUMNS.indexOf(JOBS_.ID);
+    private static final int USER_ID = COLUMNS.indexOf(JOBS_.USER_ID);
+    private static final int PROJECT_ID = COLUMNS.indexOf(JOBS_.PROJECT_ID);
+    private static final int STATUS = COLUMNS.indexOf(JOBS_.STATUS);
+    private static final int PRIORITY = COLUMNS.indexOf(JOBS_.PRIORITY);
+    private static final int RUN_AT = COLUMNS.indexOf(JOBS_.RUN_AT);
+    private static final int ATTEMPTS = COLUMNS.indexOf(JOBS_.ATTEMPTS);
+    private static final int TIMEOUT_SECONDS = COLUMNS.indexOf(JOBS_.TIMEOUT_SECONDS);
+    private static final int ERROR_MESSAGE = COLUMNS.indexOf(JOBS_.ERROR_MESSAGE);
+    private static final int CREATED_AT = COLUMNS.indexOf(JOBS_.CREATED_AT);
+    private static final int UPDATED_AT = COLUMNS.indexOf(JOBS_.UPDATED_AT);
+    private static final int PARAMETERS = COLUMNS.indexOf(PARAMETERS_TEXT);
+    private static final int RESULT = COLUMNS.indexOf(RESULT_TEXT);
+    private static final int PARAMETERS_PACKED = COLUMNS.indexOf(JOB_PAYLOADS.PARAMETERS_PACKED);
+    private static final int RESULT_PACKED = COLUMNS.indexOf(JOB_PAYLOADS.RESULT_PACKED);
+
+    private JobRowMapper() {
+    }
+
+    /**
+     * A row of {@link #COLUMNS}.
+     */
+    static Job map(Row row) {
+        return map(row, payload(row, PARAMETERS, PARAMETERS_PACKED), payload(row, RESULT, RESULT_PACKED));
+    }
+
+    /**
+     * A row of {@link #STATE_COLUMNS}, with payloads read separately.
+     */
+    static Job map(Row row, JsonPayload parameters, JsonPayload result) {
+        return new Job(
+                jobId(row, ID),
+                row.getLong(USER_ID),
+                row.getLong(PROJECT_ID),
+                JobStatus.valueOf(row.getString(STATUS)),
+                row.getInteger(PRIORITY),
+                toInstant(row.getLocalDateTime(RUN_AT)),
+                row.getInteger(ATTEMPTS),
+                row.getInteger(TIMEOUT_SECONDS),
+                parameters,
+                result,
+                row.getString(ERROR_MESSAGE),
+                toInstant(row.getLocalDateTime(CREATED_AT)),
+                toInstant(row.getLocalDateTime(UPDATED_AT)));
+    }
+
+    /**
+     * A row of {@link #STATE_COLUMNS}.
+     */
+    static JobState mapState(Row row) {
+        return new JobState(
+                jobId(row, ID),
+                row.getLong(USER_ID),
+                JobStatus.valueOf(row.getString(STATUS)),
+                row.getInteger(PRIORITY),
+                toInstant(row.getLocalDateTime(RUN_AT)),
+                row.getInteger(ATTEMPTS),
+                row.getString(ERROR_MESSAGE),
+                toInstant(row.getLocalDateTime(CREATED_AT)),
+                toInstant(row.getLocalDateTime(UPDATED_AT)));
+    }
+
+    /**
+     * The payload in the {@code text} column, or packed in the {@code packed} one; {@code null} if in neither.
+     */
+    static JsonPayload payload(Row row, int text, int packed) {
+        Buffer bytes = row.getBuffer(packed);
+        return bytes != null ? JsonPayload.packed(bytes.getBytes()) : JsonPayload.encoded(row.getString(text));
+    }
+
+    /**
+     * The job id in {@code column}, stored as {@code BINARY(16)}.
+     */
+    static String jobId(Row row, int column) {
+        return JobIds.fromBytes(row.getBuffer(column).getBytes());
+    }
+
+    /**
+     * The {@code created_at} of a row of {@link #STATE_COLUMNS} or {@link #COLUMNS}.
+     */
+    static LocalDateTime createdAt(Row row) {
+        return row.getLocalDateTime(CREATED_AT);
+    }
+
+    /**
+     * {@code CAST(column AS CHAR)}, still named after the column.
+     */
+    private static Field<String> asText(Field<?> column) {
+        return column.cast(SQLDataType.LONGVARCHAR).as(column.getUnqualifiedName());
+    }
+
+    private static Instant toInstant(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+}
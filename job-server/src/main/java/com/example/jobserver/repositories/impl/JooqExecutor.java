@@ -0,0 +1,418 @@
+package com.example.jobserver.repositories.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import org.jooq.Converter;
+import org.jooq.DSLContext;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.conf.ParamType;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs jOOQ-built statements on a Vert.x {@link Pool} without building or rendering a query per call.
+ *
+ * <p>A statement is declared by a key and a jOOQ query in which every per-call value is a named parameter
+ * ({@code DSL.param("id", JOBS_.ID)}); values that never change stay ordinary binds. The query is built and
+ * rendered the first time its key is used, and the SQL, the position of each named parameter and the values of
+ * the fixed binds are cached. A call then only supplies values by name, so binds come from the query itself
+ * and cannot drift out of order with the SQL.
+ *
+ * <p>Statements whose shape varies with a size (an IN list, a multi-row VALUES) put the size in the key and
+ * name the repeated parameters with {@link #param(String, int, Field)}. The {@code maxStatements} most recently
+ * used shapes are kept. Shapes that cannot be enumerated go through {@link #query}, which renders per call
+ * but still takes its binds from the query.
+ *
+ * <p>Values are bound and read in the Java types of the fields, converted by the fields' converters (a
+ * {@code BINARY(16)} job id is bound and read as its UUID string). SELECT rows can be mapped into records typed
+ * by the select list ({@link Binds#fetch}), into generated table records or into POJOs.
+ */
+public class JooqExecutor {
+
+    public static final int DEFAULT_MAX_STATEMENTS = 256;
+
+    // jOOQ renders a named parameter as :name and an unnamed bind as :<position>
+    private static final Pattern NAMED_PARAM = Pattern.compile(":([A-Za-z0-9_]+)");
+
+    private final SqlClient client;
+    private final Pool transactionPool;
+    private final DSLContext dsl;
+    private final int maxStatements;
+    private final Map<String, Statement> statements;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong renders = new AtomicLong();
+
+    public JooqExecutor(Pool pool, DSLContext dsl, int maxStatements) {
+        this(pool, pool, dsl, maxStatements);
+    }
+
+    /**
+     * Runs single statements on {@code client} and transactions on {@code transactionPool}, for a pipelined
+     * {@code client}, which cannot hand out a connection for a transaction.
+     */
+    public JooqExecutor(SqlClient client, Pool transactionPool, DSLContext dsl, int maxStatements) {
+        this.client = client;
+        this.transactionPool = transactionPool;
+        this.dsl = dsl;
+        this.maxStatements = maxStatements;
+        // Access-ordered, so the shapes in use survive when rarely seen sizes fill the cache
+        this.statements = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Statement> eldest) {
+                return size() > maxStatements;
+            }
+        };
+    }
+
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    public <T> Future<T> withTransaction(Function<SqlConnection, Future<T>> work) {
+        return transactionPool.withTransaction(work);
+    }
+
+    /**
+     * The statement cached under {@code key}; {@code shape} builds its query the first time the key is seen.
+     */
+    public Statement statement(String key, Supplier<? extends Query> shape) {
+        Statement statement;
+        synchronized (statements) {
+            statement = statements.get(key);
+        }
+        if (statement != null) {
+            hits.incrementAndGet();
+            return statement;
+        }
+        // Rendered outside the lock; two callers racing on a new key both render, which is harmless
+        statement = render(key, shape.get(), true);
+        synchronized (statements) {
+            statements.put(key, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Binds for a one-off query, rendered now and not cached; every bind keeps the value it has in the query.
+     */
+    public Binds query(Query query) {
+        return new Binds(render(null, query, false));
+    }
+
+    /**
+     * Parameter {@code index} of a repeated parameter, named so that {@link Binds#bindAll} can bind it.
+     */
+    public static <T> Param<T> param(String name, int index, Field<T> field) {
+        return DSL.param(name + "_" + index, field);
+    }
+
+    /**
+     * {@code count} parameters for an IN list, bound together by {@link Binds#bindAll}.
+     */
+    public static <T> List<Param<T>> params(String name, Field<T> field, int count) {
+        List<Param<T>> params = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            params.add(param(name, i, field));
+        }
+        return params;
+    }
+
+    private Statement render(String key, Query query, boolean named) {
+        renders.incrementAndGet();
+        String sql = query.getSQL(ParamType.INDEXED);
+        List<Object> values = dsl.extractBindValues(query);
+
+        String[] names = new String[values.size()];
+        Object[] fixed = new Object[values.size()];
+        Converter<?, ?>[] converters = new Converter<?, ?>[values.size()];
+        Map<String, int[]> positions = new HashMap<>();
+        Map<String, Param<?>> params = query.getParams();
+        Matcher matcher = NAMED_PARAM.matcher(query.getSQL(ParamType.NAMED));
+        int position = 0;
+        while (matcher.find()) {
+            if (position == names.length) {
+                throw new IllegalStateException("Statement " + key + " renders more parameters than it binds");
+            }
+            String name = matcher.group(1);
+            Converter<?, ?> converter = params.get(name).getConverter();
+            if (converter.fromType() != converter.toType()) {
+                converters[position] = converter;
+            }
+            if (named && !Character.isDigit(name.charAt(0))) {
+                names[position] = name;
+                int[] previous = positions.get(name);
+                int[] next = previous == null ? new int[1] : Arrays.copyOf(previous, previous.length + 1);
+                next[next.length - 1] = position;
+                positions.put(name, next);
+            }
+            position++;
+        }
+        if (position != names.length) {
+            throw new IllegalStateException("Statement " + key + " binds " + names.length + " values but renders "
+                + position + " parameters");
+        }
+        for (int i = 0; i < fixed.length; i++) {
+            if (names[i] == null) {
+                fixed[i] = toBindValue(converters[i], values.get(i));
+            }
+        }
+        Field<?>[] fields = query instanceof Select<?> select
+            ? select.getSelect().toArray(new Field<?>[0])
+            : new Field<?>[0];
+        return new Statement(key, sql, names, fixed, converters, positions, fields);
+    }
+
+    /**
+     * The value Vert.x sends for a value of a parameter with {@code converter} ({@code null} when the parameter
+     * has no converter of its own). Values already in the database type pass as they are.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object toBindValue(Converter<?, ?> converter, Object value) {
+        if (converter != null && converter.toType().isInstance(value)) {
+            value = ((Converter<Object, Object>) converter).to(value);
+        }
+        if (value instanceof byte[] bytes) {
+            return Buffer.buffer(bytes);
+        }
+        if (value instanceof EnumType enumType) {
+            return enumType.getLiteral();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof JSON json) {
+            return json.data();
+        }
+        if (value instanceof JsonObject || value instanceof JsonArray) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    public JsonObject metrics() {
+        int cached;
+        synchronized (statements) {
+            cached = statements.size();
+        }
+        return new JsonObject()
+            .put("cached", cached)
+            .put("maxStatements", maxStatements)
+            .put("hits", hits.get())
+            .put("renders", renders.get());
+    }
+
+    /**
+     * One rendered statement shape.
+     */
+    public final class Statement {
+
+        private final String key;
+        private final String sql;
+        // Per position: the parameter name, or null for a fixed bind whose value is in fixed
+        private final String[] names;
+        private final Object[] fixed;
+        private final Converter<?, ?>[] converters;
+        private final Map<String, int[]> positions;
+        private final Field<?>[] fields;
+
+        private Statement(String key, String sql, String[] names, Object[] fixed, Converter<?, ?>[] converters,
+                          Map<String, int[]> positions, Field<?>[] fields) {
+            this.key = key;
+            this.sql = sql;
+            this.names = names;
+            this.fixed = fixed;
+            this.converters = converters;
+            this.positions = positions;
+            this.fields = fields;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        /**
+         * Fresh binds for one execution, holding only the fixed values.
+         */
+        public Binds binds() {
+            return new Binds(this);
+        }
+
+        public Binds bind(String name, Object value) {
+            return binds().bind(name, value);
+        }
+
+        public <T> Binds bindAll(String name, List<T> items, Function<? super T, ?> value) {
+            return binds().bindAll(name, items, value);
+        }
+
+        public Binds bindAll(String name, Collection<?> items) {
+            return binds().bindAll(name, items);
+        }
+    }
+
+    /**
+     * The values for one execution of a {@link Statement}.
+     */
+    public final class Binds {
+
+        private final Statement statement;
+        private final Object[] values;
+        private final boolean[] bound;
+
+        private Binds(Statement statement) {
+            this.statement = statement;
+            this.values = statement.fixed.clone();
+            this.bound = new boolean[values.length];
+        }
+
+        public Binds bind(String name, Object value) {
+            int[] at = statement.positions.get(name);
+            if (at == null) {
+                throw new IllegalArgumentException("Statement " + statement.key + " has no parameter " + name);
+            }
+            // Every occurrence of a name is the same parameter, so they share its converter
+            Object bindValue = toBindValue(statement.converters[at[0]], value);
+            for (int position : at) {
+                values[position] = bindValue;
+                bound[position] = true;
+            }
+            return this;
+        }
+
+        /**
+         * Binds the parameters made by {@link #param(String, int, Field)}: {@code name_i} gets the value of item i.
+         */
+        public <T> Binds bindAll(String name, List<T> items, Function<? super T, ?> value) {
+            for (int i = 0; i < items.size(); i++) {
+                bind(name + "_" + i, value.apply(items.get(i)));
+            }
+            return this;
+        }
+
+        public Binds bindAll(String name, Collection<?> items) {
+            int i = 0;
+            for (Object item : items) {
+                bind(name + "_" + i++, item);
+            }
+            return this;
+        }
+
+        public Future<RowSet<Row>> execute() {
+            return execute(client);
+        }
+
+        public Future<RowSet<Row>> execute(SqlClient client) {
+            Tuple tuple;
+            try {
+                tuple = tuple();
+            } catch (IllegalStateException e) {
+                return Future.failedFuture(e);
+            }
+            return client.preparedQuery(statement.sql).execute(tuple);
+        }
+
+        /**
+         * The values in SQL order; fails if a named parameter was not bound.
+         */
+        Tuple tuple() {
+            for (int i = 0; i < bound.length; i++) {
+                if (statement.names[i] != null && !bound[i]) {
+                    throw new IllegalStateException(
+                        "Statement " + statement.key + " is missing parameter " + statement.names[i]);
+                }
+            }
+            return Tuple.wrap(values);
+        }
+
+        /**
+         * Runs the statement and returns the number of rows it changed.
+         */
+        public Future<Integer> update() {
+            return execute(client).map(RowSet::rowCount);
+        }
+
+        /**
+         * Runs a SELECT and maps each row, as a record typed by the select list, with {@code mapper}.
+         */
+        public <T> Future<List<T>> fetch(Function<? super Record, T> mapper) {
+            return execute(client).map(rows -> {
+                List<T> mapped = new ArrayList<>();
+                for (Row row : rows) {
+                    Record record = dsl.newRecord(statement.fields);
+                    copy(row, record);
+                    mapped.add(mapper.apply(record));
+                }
+                return mapped;
+            });
+        }
+
+        /**
+         * Runs a SELECT over columns of {@code table} and returns its generated records.
+         */
+        public <R extends TableRecord<R>> Future<List<R>> fetchInto(Table<R> table) {
+            return execute(client).map(rows -> {
+                List<R> records = new ArrayList<>();
+                for (Row row : rows) {
+                    R record = dsl.newRecord(table);
+                    copy(row, record);
+                    record.changed(false);
+                    records.add(record);
+                }
+                return records;
+            });
+        }
+
+        /**
+         * Runs a SELECT and maps each row into a POJO, such as the generated ones, by column name.
+         */
+        public <P> Future<List<P>> fetchInto(Class<P> type) {
+            return fetch(record -> record.into(type));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void copy(Row row, Record record) {
+            Field<?>[] fields = statement.fields;
+            for (int i = 0; i < fields.length; i++) {
+                Field<Object> field = (Field<Object>) fields[i];
+                Object value = row.getValue(i);
+                if (value instanceof JsonObject || value instanceof JsonArray) {
+                    // The client has decoded the JSON column; jOOQ keeps it as text
+                    value = JSON.json(value.toString());
+                } else if (value instanceof Buffer buffer) {
+                    value = buffer.getBytes();
+                }
+                record.set(field, field.getDataType().convert(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.jobserver.repositories.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Collects items from many callers for at most {@code maxDelayMs}, or until {@code maxBatchSize} are waiting,
+ * and hands them to {@code flusher} as one batch. The flusher must complete the promise of every item in the
+ * batch; each caller's future then completes on the caller's own context.
+ *
+ * <p>With a {@code key}, a batch is handed over sorted by key and never holds two items with the same key: a
+ * second submission for a key already waiting flushes the open batch first.
+ *
+ * <p>Callers come from several contexts, so the open batch is guarded by this object's monitor. Flushes run
+ * outside it and may overlap.
+ */
+class MicroBatcher<T, R> {
+
+    private final Vertx vertx;
+    private final long maxDelayMs;
+    private final int maxBatchSize;
+    private final Function<T, String> key;
+    private final BiConsumer<List<T>, List<Promise<R>>> flusher;
+
+    private List<Pending<T, R>> pending = new ArrayList<>();
+    private final Set<String> pendingKeys = new HashSet<>();
+    private long flushTimerId = -1;
+
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedItems = new AtomicLong();
+
+    MicroBatcher(Vertx vertx, long maxDelayMs, int maxBatchSize, BiConsumer<List<T>, List<Promise<R>>> flusher) {
+        this(vertx, maxDelayMs, maxBatchSize, null, flusher);
+    }
+
+    MicroBatcher(Vertx vertx, long maxDelayMs, int maxBatchSize, Function<T, String> key,
+                 BiConsumer<List<T>, List<Promise<R>>> flusher) {
+        this.vertx = vertx;
+        this.maxDelayMs = maxDelayMs;
+        this.maxBatchSize = maxBatchSize;
+        this.key = key;
+        this.flusher = flusher;
+    }
+
+    Future<R> submit(T item) {
+        Context context = Vertx.currentContext();
+        Promise<R> caller = Promise.promise();
+        Promise<R> flushed = Promise.promise();
+        flushed.future().onComplete(ar -> {
+            if (context != null) {
+                context.runOnContext(v -> caller.handle(ar));
+            } else {
+                caller.handle(ar);
+            }
+        });
+
+        List<Batch<T, R>> due = new ArrayList<>(2);
+        synchronized (this) {
+            if (key != null && !pendingKeys.add(key.apply(item))) {
+                due.add(take());
+                pendingKeys.add(key.apply(item));
+            }
+            pending.add(new Pending<>(item, flushed));
+            if (pending.size() >= maxBatchSize) {
+                due.add(take());
+            } else if (flushTimerId == -1) {
+                flushTimerId = vertx.setTimer(maxDelayMs, id -> {
+                    Batch<T, R> expired;
+                    synchronized (this) {
+                        flushTimerId = -1;
+                        expired = take();
+                    }
+                    flush(expired);
+                });
+            }
+        }
+        due.forEach(this::flush);
+        return caller.future();
+    }
+
+    /**
+     * Detaches the open batch; the caller flushes it outside the monitor.
+     */
+    private Batch<T, R> take() {
+        List<Pending<T, R>> taken = pending;
+        pending = new ArrayList<>();
+        pendingKeys.clear();
+        if (key != null) {
+            taken.sort(Comparator.comparing(entry -> key.apply(entry.item())));
+        }
+        Batch<T, R> batch = new Batch<>(new ArrayList<>(taken.size()), new ArrayList<>(taken.size()));
+        taken.forEach(entry -> {
+            batch.items().add(entry.item());
+            batch.promises().add(entry.promise());
+        });
+        if (flushTimerId != -1) {
+            vertx.cancelTimer(flushTimerId);
+            flushTimerId = -1;
+        }
+        return batch;
+    }
+
+    private void flush(Batch<T, R> batch) {
+        if (batch.items().isEmpty()) {
+            return;
+        }
+        flushes.incrementAndGet();
+        flushedItems.addAndGet(batch.items().size());
+        try {
+            flusher.accept(batch.items(), batch.promises());
+        } catch (RuntimeException e) {
+            batch.promises().forEach(promise -> promise.tryFail(e));
+        }
+    }
+
+    JsonObject metrics() {
+        long flushCount = flushes.get();
+        int waiting;
+        synchronized (this) {
+            waiting = pending.size();
+        }
+        return new JsonObject()
+            .put("maxDelayMs", maxDelayMs)
+            .put("maxBatchSize", maxBatchSize)
+            .put("waiting", waiting)
+            .put("flushes", flushCount)
+            .put("items", flushedItems.get())
+            .put("avgBatchSize", flushCount == 0 ? 0.0 : (double) flushedItems.get() / flushCount);
+    }
+
+    private record Pending<T, R>(T item, Promise<R> promise) {
+    }
+
+    private record Batch<T, R>(List<T> items, List<Promise<R>> promises) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.PayloadCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Which payloads {@link JobRepositoryImpl} stores packed: those of at least {@code thresholdBytes} of JSON, with
+ * {@code codec}, as long as that makes them smaller. Everything else is stored as JSON, readable in the database.
+ */
+public record PayloadCompression(PayloadCodec codec, int thresholdBytes) {
+
+    /**
+     * Every payload stored as JSON.
+     */
+    public static final PayloadCompression OFF = new PayloadCompression(null, Integer.MAX_VALUE);
+
+    /**
+     * {@code json} packed, or {@code null} when it is to be stored as it is.
+     */
+    byte[] pack(String json) {
+        // A char is at most 3 bytes of UTF-8, so most payloads are ruled out without encoding them
+        if (codec == null || json == null || json.length() * 3L < thresholdBytes) {
+            return null;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < thresholdBytes) {
+            return null;
+        }
+        byte[] packed = codec.pack(bytes);
+        return packed.length < bytes.length ? packed : null;
+    }
+}
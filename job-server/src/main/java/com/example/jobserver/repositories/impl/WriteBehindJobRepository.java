@@ -0,0 +1,74 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator that coalesces the worker's final writes ({@link #complete}, {@link #fail}, {@link #scheduleRetry})
+ * into group commits. Transitions are collected for at most {@code maxDelayMs} or until {@code maxBatchSize}
+ * are waiting, then written by {@link JobRepository#applyTransitions} in one transaction, so many jobs share
+ * one commit (and one fsync) instead of paying one each. Everything else goes straight to the delegate.
+ *
+ * <p>A caller's future completes only once the transaction holding its transition has committed, on the
+ * caller's own context.
+ */
+@Slf4j
+public class WriteBehindJobRepository extends ForwardingJobRepository {
+
+    private final MicroBatcher<JobTransition, Boolean> batcher;
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public WriteBehindJobRepository(JobRepository delegate, Vertx vertx, long maxDelayMs, int maxBatchSize) {
+        super(delegate);
+        // Keyed by job id: batches arrive sorted in the order applyTransitions locks rows in
+        this.batcher = new MicroBatcher<>(vertx, maxDelayMs, maxBatchSize, JobTransition::jobId, this::flush);
+    }
+
+    @Override
+    public Future<Boolean> complete(String jobId, String workerId, JobResult result) {
+        return batcher.submit(JobTransition.completed(jobId, workerId, result));
+    }
+
+    @Override
+    public Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage) {
+        return batcher.submit(JobTransition.failed(jobId, workerId, status, errorMessage));
+    }
+
+    @Override
+    public Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage) {
+        return batcher.submit(JobTransition.retry(jobId, workerId, runAt, errorMessage));
+    }
+
+    private void flush(List<JobTransition> transitions, List<Promise<Boolean>> promises) {
+        delegate.applyTransitions(transitions).onComplete(ar -> {
+            if (ar.failed()) {
+                failedFlushes.incrementAndGet();
+                log.error("Write-behind flush of {} transitions failed: {}", transitions.size(),
+                    ar.cause().getMessage());
+            }
+            for (int i = 0; i < transitions.size(); i++) {
+                if (ar.succeeded()) {
+                    promises.get(i).complete(ar.result().contains(transitions.get(i).jobId()));
+                } else {
+                    promises.get(i).fail(ar.cause());
+                }
+            }
+        });
+    }
+
+    public JsonObject metrics() {
+        return batcher.metrics().put("failedFlushes", failedFlushes.get());
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.jobserver.service;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobSummaryPage;
+import com.example.jobserver.model.SubmissionOutcome;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 
@@ -8,7 +13,50 @@ import java.util.List;
 import java.util.Optional;
 
 public interface JobService {
-    Future<Job> submitJob(long userId, Long projectId, JsonObject params);
+    Future<Job> submitJob(JobSubmission submission);
+
+    /**
+     * Submits a chunk of jobs with one multi-row insert. Invalid submissions are rejected one by one and
+     * do not affect the others; the valid ones are stored together and workers are woken once per user.
+     * Only as many valid jobs are accepted as fit below the queue's high-water mark; the ones past it are
+     * rejected as the queue being full.
+     *
+     * @return one outcome per submission, in order; fails with {@link QueueFullException} if the queue is
+     *         already at its high-water mark, or if the insert itself failed
+     */
+    Future<List<SubmissionOutcome>> submitJobs(List<JobSubmission> submissions);
     Future<Optional<Job>> getJob(String jobId);
-    Future<List<Job>> getJobsByUser(long userId);
+
+    /**
+     * Where a job stands, without its parameters or result; the cheap read for polling a job until it is done.
+     */
+    Future<Optional<JobState>> getJobStatus(String jobId);
+
+    /**
+     * One page of the user's jobs, newest first, without their parameters, results or errors.
+     *
+     * @param after where the previous page ended, or {@code null} for the first page
+     * @param limit page size, from 1 to {@link JobSummaryPage#MAX_LIMIT}; fails with
+     *              {@link IllegalArgumentException} otherwise
+     */
+    Future<JobSummaryPage> getJobsByUser(long userId, JobCursor after, int limit);
+
+    /**
+     * Cancels a job that has not finished yet; a running job has its external call aborted.
+     *
+     * @return where the job stands now (CANCELLED unless it had already finished), or empty if there is no
+     *         such job
+     */
+    Future<Optional<JobState>> cancelJob(String jobId);
+
+    /**
+     * Submits a job in the default priority lane.
+     */
+    default Future<Job> submitJob(long userId, Long projectId, JsonObject params) {
+        return submitJob(JobSubmission.builder()
+            .userId(userId)
+            .projectId(projectId)
+            .parameters(params)
+            .build());
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.jobserver.service;
+
+/**
+ * Thrown when a job is submitted while the queue is above its high-water mark.
+ * The web layer maps it to 429 Too Many Requests.
+ */
+public class QueueFullException extends RuntimeException {
+
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.jobserver.service.impl;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobState;
 import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobSummaryPage;
+import com.example.jobserver.model.SubmissionOutcome;
 import com.example.jobserver.repositories.JobRepository;
 import com.example.jobserver.repositories.ProjectRepository;
 import com.example.jobserver.repositories.UserRepository;
 import com.example.jobserver.service.JobService;
+import com.example.jobserver.service.QueueFullException;
 import com.example.jobserver.worker.JobWorkerVerticle;
+import com.example.jobserver.worker.ScheduledJobDispatcherVerticle;
+import com.example.jobserver.worker.WorkerLoad;
 
 import io.vertx.core.Future;
 import io.vertx.core.eventbus.EventBus;
@@ -15,9 +25,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -27,9 +41,20 @@ public class JobServiceImpl implements JobService {
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final EventBus eventBus;
+    private final WorkerLoad workerLoad;
 
     @Override
-    public Future<Job> submitJob(long userId, Long projectId, JsonObject params) {
+    public Future<Job> submitJob(JobSubmission submission) {
+        String invalid = validate(submission);
+        if (invalid != null) {
+            return Future.failedFuture(new IllegalArgumentException(invalid));
+        }
+        // Shed load before doing any more work once the queue is at its high-water mark
+        if (workerLoad.tryAdmit(1) == 0) {
+            return Future.failedFuture(new QueueFullException(queueFull()));
+        }
+        long userId = submission.getUserId();
+        Long projectId = submission.getProjectId();
         // Validate user exists (async)
         return userRepository.existsById(userId)
             .compose(userExists -> {
@@ -43,40 +68,200 @@ public class JobServiceImpl implements JobService {
                             if (!projectExists) {
                                 return Future.failedFuture(new IllegalArgumentException("Project not found: " + projectId));
                             }
-                            return createAndSaveJob(userId, projectId, params);
+                            return createAndSaveJob(submission);
                         });
                 }
-                return createAndSaveJob(userId, projectId, params);
+                return createAndSaveJob(submission);
             });
     }
 
-    private Future<Job> createAndSaveJob(long userId, Long projectId, JsonObject params) {
-        Job job = Job.builder()
-            .id(UUID.randomUUID().toString())
-            .userId(userId)
-            .projectId(projectId)
-            .parameters(params)
-            .status(JobStatus.PENDING)
-            .createdAt(Instant.now())
-            .updatedAt(Instant.now())
-            .build();
+    @Override
+    public Future<List<SubmissionOutcome>> submitJobs(List<JobSubmission> submissions) {
+        if (workerLoad.isOverloaded()) {
+            return Future.failedFuture(new QueueFullException(queueFull()));
+        }
+        // One existence check per distinct user and project in the chunk, not per job
+        Map<Long, Future<Boolean>> users = new HashMap<>();
+        Map<Long, Future<Boolean>> projects = new HashMap<>();
+        for (JobSubmission submission : submissions) {
+            users.computeIfAbsent(submission.getUserId(), userRepository::existsById);
+            if (submission.getProjectId() != null) {
+                projects.computeIfAbsent(submission.getProjectId(), projectRepository::existsById);
+            }
+        }
+        List<Future<Boolean>> lookups = new ArrayList<>(users.values());
+        lookups.addAll(projects.values());
+
+        return Future.all(lookups).compose(v -> {
+            List<String> problems = new ArrayList<>(submissions.size());
+            for (JobSubmission submission : submissions) {
+                String invalid = validate(submission);
+                if (invalid == null && !users.get(submission.getUserId()).result()) {
+                    invalid = "User not found: " + submission.getUserId();
+                }
+                if (invalid == null && submission.getProjectId() != null
+                        && !projects.get(submission.getProjectId()).result()) {
+                    invalid = "Project not found: " + submission.getProjectId();
+                }
+                problems.add(invalid);
+            }
+            // The valid jobs take what is left below the high-water mark, in order; the rest are turned away
+            int admitted = workerLoad.tryAdmit((int) problems.stream().filter(problem -> problem == null).count());
+
+            Instant now = Instant.now();
+            List<SubmissionOutcome> outcomes = new ArrayList<>(submissions.size());
+            List<Job> jobs = new ArrayList<>();
+            for (int i = 0; i < submissions.size(); i++) {
+                String invalid = problems.get(i);
+                if (invalid == null && jobs.size() == admitted) {
+                    invalid = queueFull();
+                }
+                if (invalid != null) {
+                    outcomes.add(SubmissionOutcome.rejected(invalid));
+                    continue;
+                }
+                Job job = newJob(submissions.get(i), now);
+                jobs.add(job);
+                outcomes.add(SubmissionOutcome.accepted(job));
+            }
+            if (jobs.isEmpty()) {
+                return Future.succeededFuture(outcomes);
+            }
+            return jobRepository.saveAll(jobs).map(saved -> {
+                notifyWorkers(saved);
+                log.info("Batch of {} jobs stored, {} rejected", saved.size(), submissions.size() - saved.size());
+                return outcomes;
+            });
+        });
+    }
+
+    private String queueFull() {
+        return "Job queue is full (" + workerLoad.getQueueDepth() + " jobs waiting), retry later";
+    }
+
+    /**
+     * Checks what the OpenAPI schema cannot; returns the problem, or null if the submission is valid.
+     */
+    private static String validate(JobSubmission submission) {
+        int priority = submission.getPriority();
+        if (priority < Job.MIN_PRIORITY || priority > Job.MAX_PRIORITY) {
+            return "Priority must be between " + Job.MIN_PRIORITY + " and " + Job.MAX_PRIORITY + ": " + priority;
+        }
+        Integer timeoutSeconds = submission.getTimeoutSeconds();
+        if (timeoutSeconds != null && (timeoutSeconds < 1 || timeoutSeconds > Job.MAX_TIMEOUT_SECONDS)) {
+            return "timeoutSeconds must be between 1 and " + Job.MAX_TIMEOUT_SECONDS + ": " + timeoutSeconds;
+        }
+        return null;
+    }
+
+    /**
+     * Wakes the workers once per user with new PENDING jobs, and hands every delayed job to the scheduler.
+     */
+    private void notifyWorkers(List<Job> jobs) {
+        Set<Long> wokenUsers = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getStatus() == JobStatus.SCHEDULED) {
+                eventBus.send(ScheduledJobDispatcherVerticle.JOB_SCHEDULED_ADDRESS, new JsonObject()
+                    .put("jobId", job.getId())
+                    .put("userId", job.getUserId())
+                    .put("runAt", job.getRunAt().toEpochMilli()));
+            } else if (wokenUsers.add(job.getUserId())) {
+                // Published, not sent: a large batch is worth waking every worker instance for
+                eventBus.publish(JobWorkerVerticle.JOB_PROCESS_ADDRESS, new JsonObject()
+                    .put("jobId", job.getId())
+                    .put("userId", job.getUserId()));
+            }
+        }
+    }
 
+    private Future<Job> createAndSaveJob(JobSubmission submission) {
+        Job job = newJob(submission, Instant.now());
+        boolean delayed = job.getStatus() == JobStatus.SCHEDULED;
+        Instant runAt = job.getRunAt();
+
+        // The saved row is the queue entry; event bus messages only wake up the worker or scheduler
         return jobRepository.save(job)
             .onSuccess(savedJob -> {
-                JsonObject message = new JsonObject().put("jobId", job.getId());
-                log.info("Sending job {} to worker", job.getId());
+                if (delayed) {
+                    JsonObject message = new JsonObject()
+                        .put("jobId", job.getId())
+                        .put("userId", job.getUserId())
+                        .put("runAt", runAt.toEpochMilli());
+                    eventBus.send(ScheduledJobDispatcherVerticle.JOB_SCHEDULED_ADDRESS, message);
+                    log.info("Job {} scheduled for {}", job.getId(), runAt);
+                    return;
+                }
+                JsonObject message = new JsonObject()
+                    .put("jobId", job.getId())
+                    .put("userId", job.getUserId());
                 eventBus.send(JobWorkerVerticle.JOB_PROCESS_ADDRESS, message);
-                log.info("Job {} sent to worker", job.getId());
+                log.info("Job {} queued with priority {}, workers notified", job.getId(), job.getPriority());
             });
     }
 
+    private static Job newJob(JobSubmission submission, Instant now) {
+        Instant runAt = submission.getRunAt();
+        boolean delayed = runAt != null && runAt.isAfter(now);
+        return Job.builder()
+            .id(JobIds.newId())
+            .userId(submission.getUserId())
+            .projectId(submission.getProjectId())
+            .parameters(submission.getParameters())
+            .status(delayed ? JobStatus.SCHEDULED : JobStatus.PENDING)
+            .priority(submission.getPriority())
+            .runAt(delayed ? runAt : null)
+            .timeoutSeconds(submission.getTimeoutSeconds())
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
     @Override
     public Future<Optional<Job>> getJob(String jobId) {
+        if (!JobIds.isValid(jobId)) {
+            return Future.succeededFuture(Optional.empty());
+        }
         return jobRepository.findById(jobId);
     }
 
     @Override
-    public Future<List<Job>> getJobsByUser(long userId) {
-        return jobRepository.findByUserId(userId);
+    public Future<Optional<JobState>> getJobStatus(String jobId) {
+        if (!JobIds.isValid(jobId)) {
+            return Future.succeededFuture(Optional.empty());
+        }
+        return jobRepository.findStateById(jobId);
+    }
+
+    @Override
+    public Future<JobSummaryPage> getJobsByUser(long userId, JobCursor after, int limit) {
+        if (limit < 1 || limit > JobSummaryPage.MAX_LIMIT) {
+            return Future.failedFuture(new IllegalArgumentException(
+                "limit must be between 1 and " + JobSummaryPage.MAX_LIMIT + ": " + limit));
+        }
+        // One row more than asked tells whether there is a next page
+        return jobRepository.findSummariesByUserId(userId, after, limit + 1)
+            .map(jobs -> {
+                if (jobs.size() <= limit) {
+                    return new JobSummaryPage(jobs, null);
+                }
+                List<JobSummary> page = jobs.subList(0, limit);
+                return new JobSummaryPage(page, JobCursor.after(page.get(limit - 1)));
+            });
+    }
+
+    @Override
+    public Future<Optional<JobState>> cancelJob(String jobId) {
+        if (!JobIds.isValid(jobId)) {
+            return Future.succeededFuture(Optional.empty());
+        }
+        return jobRepository.cancel(jobId)
+            .compose(cancelled -> {
+                if (cancelled) {
+                    // Whichever worker holds the job aborts it; queued jobs are simply never claimed again
+                    eventBus.publish(JobWorkerVerticle.JOB_CANCEL_ADDRESS, new JsonObject().put("jobId", jobId));
+                    log.info("Job {} cancelled", jobId);
+                }
+                return jobRepository.findStateById(jobId);
+            });
     }
 }
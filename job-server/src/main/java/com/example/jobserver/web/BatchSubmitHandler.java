@@ -0,0 +1,242 @@
+package com.example.jobserver.web;
+
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.SubmissionOutcome;
+import com.example.jobserver.service.JobService;
+import com.example.jobserver.service.QueueFullException;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonParser;
+import io.vertx.ext.web.RoutingContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles {@code POST /jobs:batch}. The body is a JSON array or an NDJSON stream of job specs (the
+ * {@code JobSubmitRequest} of {@code POST /jobs}). It is parsed as it arrives, never buffered whole, and
+ * submitted in chunks of {@code chunkSize} through {@link JobService#submitJobs}, one multi-row insert per chunk.
+ * Reading pauses while a chunk is stored, so a slow database slows the client down instead of piling up jobs.
+ *
+ * <p>The response is NDJSON, written as chunks are stored: one line per item in input order, either
+ * {@code {"index":0,"jobId":"...","status":"PENDING"}} or {@code {"index":1,"error":"..."}}, and finally
+ * {@code {"accepted":n,"rejected":m}}. A rejected item does not affect the others. If the queue is full before
+ * anything was stored the request gets 429; after that, the items of a chunk that hits a full queue are
+ * rejected. Malformed JSON or a chunk that cannot be stored ends the stream with an {@code error} line; items
+ * after the last reported one were not stored.
+ *
+ * <p>Must be routed before the {@code BodyHandler}, which would otherwise buffer the whole body.
+ */
+@Slf4j
+public class BatchSubmitHandler implements Handler<RoutingContext> {
+
+    private final JobService jobService;
+    private final int chunkSize;
+
+    public BatchSubmitHandler(JobService jobService, int chunkSize) {
+        this.jobService = jobService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        new Upload(ctx).start();
+    }
+
+    /**
+     * One parsed item: a submission, or the reason it could not be read.
+     */
+    private record Item(int index, JobSubmission submission, String error) {
+    }
+
+    /**
+     * State of one batch request. Every callback runs on the request's event loop.
+     */
+    private class Upload {
+
+        private final HttpServerResponse response;
+        private final JsonParser parser;
+
+        private List<Item> chunk = new ArrayList<>();
+        private int depth;
+        private int nextIndex;
+        private int accepted;
+        private int rejected;
+        private boolean storing;
+        private boolean ended;
+        private boolean finished;
+
+        Upload(RoutingContext ctx) {
+            this.response = ctx.response();
+            this.parser = JsonParser.newParser(ctx.request()).objectValueMode();
+        }
+
+        void start() {
+            parser.exceptionHandler(err -> abort(400, "Malformed JSON: " + err.getMessage()));
+            parser.endHandler(v -> {
+                ended = true;
+                if (!storing) {
+                    store();
+                }
+            });
+            parser.handler(this::onEvent);
+        }
+
+        private void onEvent(JsonEvent event) {
+            if (finished) {
+                return;
+            }
+            switch (event.type()) {
+                case START_ARRAY -> {
+                    // Only the top-level array wraps job specs; an array inside it is a bad item
+                    if (++depth == 2) {
+                        add(new Item(nextIndex++, null, "Job spec must be a JSON object"));
+                    }
+                }
+                case END_ARRAY -> depth--;
+                case VALUE -> {
+                    if (depth <= 1) {
+                        add(read(nextIndex++, event.value()));
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private Item read(int index, Object value) {
+            if (!(value instanceof JsonObject spec)) {
+                return new Item(index, null, "Job spec must be a JSON object");
+            }
+            try {
+                return new Item(index, OpenApiJobRouter.toSubmission(spec), null);
+            } catch (IllegalArgumentException e) {
+                return new Item(index, null, e.getMessage());
+            }
+        }
+
+        private void add(Item item) {
+            chunk.add(item);
+            if (chunk.size() >= chunkSize && !storing) {
+                store();
+            }
+        }
+
+        /**
+         * Submits the items read so far and reports them; reading resumes once they are stored.
+         */
+        private void store() {
+            List<Item> items = chunk;
+            chunk = new ArrayList<>();
+            List<JobSubmission> submissions = new ArrayList<>(items.size());
+            for (Item item : items) {
+                if (item.submission() != null) {
+                    submissions.add(item.submission());
+                }
+            }
+            if (submissions.isEmpty()) {
+                report(items, List.of(), null);
+                return;
+            }
+            storing = true;
+            parser.pause();
+            jobService.submitJobs(submissions)
+                .onSuccess(outcomes -> report(items, outcomes, null))
+                .onFailure(err -> {
+                    if (err instanceof QueueFullException) {
+                        if (!response.headWritten()) {
+                            abort(429, err.getMessage());
+                        } else {
+                            report(items, List.of(), err.getMessage());
+                        }
+                        return;
+                    }
+                    log.error("Error storing a batch of {} jobs", submissions.size(), err);
+                    abort(500, "Internal server error");
+                });
+        }
+
+        /**
+         * Writes one line per item, taking the outcomes of the submitted items in order; with
+         * {@code rejectAll} set, every submitted item is reported as rejected for that reason instead.
+         */
+        private void report(List<Item> items, List<SubmissionOutcome> outcomes, String rejectAll) {
+            storing = false;
+            if (finished) {
+                return;
+            }
+            Buffer lines = Buffer.buffer();
+            int next = 0;
+            for (Item item : items) {
+                JsonObject line = new JsonObject().put("index", item.index());
+                String error = item.error();
+                if (error == null && rejectAll != null) {
+                    error = rejectAll;
+                } else if (error == null) {
+                    SubmissionOutcome outcome = outcomes.get(next++);
+                    if (outcome.isAccepted()) {
+                        line.put("jobId", outcome.job().getId()).put("status", outcome.job().getStatus().name());
+                    } else {
+                        error = outcome.error();
+                    }
+                }
+                if (error != null) {
+                    line.put("error", error);
+                    rejected++;
+                } else {
+                    accepted++;
+                }
+                lines.appendString(line.encode()).appendString("\n");
+            }
+            write(lines);
+
+            if (ended && chunk.isEmpty()) {
+                finished = true;
+                response.end(new JsonObject().put("accepted", accepted).put("rejected", rejected).encode() + "\n");
+            } else if (ended || chunk.size() >= chunkSize) {
+                store();
+            } else {
+                parser.resume();
+            }
+        }
+
+        private void write(Buffer lines) {
+            if (!response.headWritten()) {
+                response.setStatusCode(200)
+                    .setChunked(true)
+                    .putHeader("Content-Type", "application/x-ndjson");
+            }
+            if (lines.length() > 0) {
+                response.write(lines);
+            }
+        }
+
+        /**
+         * Stops reading and ends the request: with the status code if nothing was written yet, otherwise
+         * with a final {@code error} line.
+         */
+        private void abort(int statusCode, String message) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            // Drain the rest of the body; its events are ignored from now on
+            parser.resume();
+            JsonObject error = new JsonObject().put("error", message);
+            if (response.headWritten()) {
+                response.end(error.put("accepted", accepted).put("rejected", rejected).encode() + "\n");
+                return;
+            }
+            response.setStatusCode(statusCode).putHeader("Content-Type", "application/json");
+            if (statusCode == 429) {
+                response.putHeader("Retry-After", "5");
+            }
+            response.end(error.encode());
+        }
+    }
+}
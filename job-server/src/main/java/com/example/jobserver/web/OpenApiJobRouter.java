@@ -1,10 +1,20 @@
 package com.example.jobserver.web;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobSummaryPage;
+import com.example.jobserver.model.JsonPayload;
+import com.example.jobserver.model.PayloadCodec;
 import com.example.jobserver.service.JobService;
+import com.example.jobserver.service.QueueFullException;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
@@ -12,6 +22,10 @@ import io.vertx.ext.web.openapi.RouterBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
 /**
  * OpenAPI 3-based router that generates routes from the OpenAPI specification.
  * Provides automatic request validation and documentation.
@@ -47,12 +61,19 @@ public class OpenApiJobRouter {
         routerBuilder.operation("submitJob")
             .handler(ctx -> {
                 JsonObject body = ctx.body().asJsonObject();
-                
-                long userId = body.getLong("userId");
-                Long projectId = body.getLong("projectId");
-                JsonObject params = body.getJsonObject("parameters", new JsonObject());
 
-                jobService.submitJob(userId, projectId, params)
+                JobSubmission submission;
+                try {
+                    submission = toSubmission(body);
+                } catch (IllegalArgumentException e) {
+                    ctx.response()
+                        .setStatusCode(400)
+                        .putHeader("Content-Type", "application/json")
+                        .end(new JsonObject().put("error", e.getMessage()).encode());
+                    return;
+                }
+
+                jobService.submitJob(submission)
                     .onSuccess(job -> {
                         JsonObject response = new JsonObject()
                                 .put("jobId", job.getId())
@@ -68,6 +89,12 @@ public class OpenApiJobRouter {
                                 .setStatusCode(400)
                                 .putHeader("Content-Type", "application/json")
                                 .end(new JsonObject().put("error", err.getMessage()).encode());
+                        } else if (err instanceof QueueFullException) {
+                            ctx.response()
+                                .setStatusCode(429)
+                                .putHeader("Content-Type", "application/json")
+                                .putHeader("Retry-After", "5")
+                                .end(new JsonObject().put("error", err.getMessage()).encode());
                         } else {
                             log.error("Error submitting job", err);
                             ctx.response()
@@ -94,6 +121,10 @@ public class OpenApiJobRouter {
                         JsonObject response = new JsonObject()
                                 .put("jobId", job.getId())
                                 .put("status", job.getStatus().name())
+                                .put("priority", job.getPriority())
+                                .put("runAt", job.getRunAt() != null ? job.getRunAt().toString() : null)
+                                .put("attempts", job.getAttempts())
+                                .put("timeoutSeconds", job.getTimeoutSeconds())
                                 .put("userId", job.getUserId())
                                 .put("projectId", job.getProjectId())
                                 .put("parameters", job.getParameters())
@@ -114,29 +145,35 @@ public class OpenApiJobRouter {
                     });
             });
 
-        // GET /jobs/user/{userId} - Get jobs by user
-        routerBuilder.operation("getJobsByUser")
+        // GET /jobs/{jobId}/status - Poll a job without its payloads
+        routerBuilder.operation("getJobStatus")
             .handler(ctx -> {
-                long userId = Long.parseLong(ctx.pathParam("userId"));
-
-                jobService.getJobsByUser(userId)
-                    .onSuccess(jobs -> {
-                        JsonArray arr = new JsonArray();
-                        for (Job job : jobs) {
-                            arr.add(new JsonObject()
-                                    .put("jobId", job.getId())
-                                    .put("status", job.getStatus().name())
-                                    .put("userId", job.getUserId())
-                                    .put("projectId", job.getProjectId())
-                                    .put("createdAt", job.getCreatedAt().toString()));
+                String jobId = ctx.pathParam("jobId");
+
+                jobService.getJobStatus(jobId)
+                    .onSuccess(stateOpt -> {
+                        if (stateOpt.isEmpty()) {
+                            ctx.response().setStatusCode(404).end();
+                            return;
                         }
+
+                        JobState state = stateOpt.get();
+                        JsonObject response = new JsonObject()
+                                .put("jobId", state.id())
+                                .put("status", state.status().name())
+                                .put("priority", state.priority())
+                                .put("runAt", state.runAt() != null ? state.runAt().toString() : null)
+                                .put("attempts", state.attempts())
+                                .put("error", state.errorMessage())
+                                .put("updatedAt", state.updatedAt().toString());
+
                         ctx.response()
                             .setStatusCode(200)
                             .putHeader("Content-Type", "application/json")
-                            .end(arr.encode());
+                            .end(response.encode());
                     })
                     .onFailure(err -> {
-                        log.error("Error getting jobs by user", err);
+                        log.error("Error getting job status", err);
                         ctx.response()
                             .setStatusCode(500)
                             .putHeader("Content-Type", "application/json")
@@ -144,7 +181,89 @@ public class OpenApiJobRouter {
                     });
             });
 
-        log.info("OpenAPI operations configured: submitJob, getJob, getJobsByUser");
+        log.info("OpenAPI operations configured: submitJob, getJob, getJobStatus, getJobResult, cancelJob,"
+            + " getJobsByUser");
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows {@code coding}, by name or {@code *}, with a non-zero
+     * {@code q}.
+     */
+    static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || coding == null) {
+            return false;
+        }
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(coding) && !name.equals("*")) {
+                continue;
+            }
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (q > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a submission from a job spec as described by {@code JobSubmitRequest}. The OpenAPI validator has
+     * checked the body of {@code POST /jobs}; items of a batch arrive unchecked, so this also rejects
+     * a missing {@code userId} and fields of the wrong type.
+     */
+    static JobSubmission toSubmission(JsonObject body) {
+        try {
+            Long userId = body.getLong("userId");
+            if (userId == null) {
+                throw new IllegalArgumentException("userId is required");
+            }
+            return JobSubmission.builder()
+                .userId(userId)
+                .projectId(body.getLong("projectId"))
+                .parameters(body.getJsonObject("parameters", new JsonObject()))
+                .priority(body.getInteger("priority", Job.DEFAULT_PRIORITY))
+                .runAt(parseRunAt(body))
+                .timeoutSeconds(body.getInteger("timeoutSeconds"))
+                .build();
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Invalid job spec: a field has the wrong type");
+        }
+    }
+
+    /**
+     * Reads the optional {@code runAt} (ISO-8601 instant) or {@code delaySeconds}; at most one may be given.
+     */
+    private static Instant parseRunAt(JsonObject body) {
+        String runAt = body.getString("runAt");
+        Long delaySeconds = body.getLong("delaySeconds");
+        if (runAt != null && delaySeconds != null) {
+            throw new IllegalArgumentException("Specify either runAt or delaySeconds, not both");
+        }
+        if (delaySeconds != null) {
+            if (delaySeconds < 0) {
+                throw new IllegalArgumentException("delaySeconds must not be negative: " + delaySeconds);
+            }
+            return Instant.now().plusSeconds(delaySeconds);
+        }
+        if (runAt == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(runAt).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid runAt: " + runAt);
+        }
     }
 }
 
@@ -0,0 +1,40 @@
+package com.example.jobserver.worker;
+
+/**
+ * Paces the archiver by how long the database takes over each chunk. A chunk that commits within
+ * {@code targetChunkMs} means the database has room: the pause before the next one halves, down to
+ * {@code minPauseMs}. A slower one means it is busy serving traffic (or waiting on locks, disk or
+ * replication): the pause becomes the chunk's time scaled by how far it overshot the target, up to
+ * {@code maxPauseMs}. Under load the archiver therefore holds the database at most half of the time, and the
+ * slower the chunks get the less often it comes back, without stalling while the load merely stays steady.
+ */
+public class ArchiveThrottle {
+
+    private final long targetChunkMs;
+    private final long minPauseMs;
+    private final long maxPauseMs;
+
+    private volatile long pauseMs;
+
+    public ArchiveThrottle(long targetChunkMs, long minPauseMs, long maxPauseMs) {
+        this.targetChunkMs = Math.max(1, targetChunkMs);
+        this.minPauseMs = Math.max(0, minPauseMs);
+        this.maxPauseMs = Math.max(this.minPauseMs, maxPauseMs);
+        this.pauseMs = this.minPauseMs;
+    }
+
+    /**
+     * The pause before the next chunk, given that the last one took {@code chunkMs}.
+     */
+    public long nextPauseMs(long chunkMs) {
+        long next = chunkMs > targetChunkMs
+            ? chunkMs * chunkMs / targetChunkMs
+            : pauseMs / 2;
+        pauseMs = Math.min(maxPauseMs, Math.max(minPauseMs, next));
+        return pauseMs;
+    }
+
+    public long getPauseMs() {
+        return pauseMs;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link JobWorkerVerticle} for the {@code VIRTUAL_THREAD} threading model: each job runs as straight-line
+ * blocking code on its own virtual thread, with {@link Future#await} in place of callback chains.
+ * Claiming, leases, retries and cancellation are inherited unchanged.
+ *
+ * <p>Only deployable with {@link io.vertx.core.ThreadingModel#VIRTUAL_THREAD}:
+ * {@code await} is not allowed on event-loop or worker threads.
+ */
+@Slf4j
+public class BlockingJobWorkerVerticle extends JobWorkerVerticle {
+
+    public BlockingJobWorkerVerticle(JobRepository jobRepository, ExternalJobProcessor externalProcessor,
+                                     WorkerLoad workerLoad, FairShareScheduler fairShare, RetryPolicy retryPolicy,
+                                     AppConfig config) {
+        super(jobRepository, externalProcessor, workerLoad, fairShare, retryPolicy, config);
+    }
+
+    @Override
+    protected Future<Boolean> runJob(Job job, Future<Void> abort) {
+        Promise<Boolean> promise = Promise.promise();
+        // Every task on a virtual-thread context gets a thread of its own; await parks only this job
+        context.runOnContext(v -> {
+            try {
+                JobResult result = Future.await(externalProcessor.process(job, abort));
+                log.info("Job {} processed, saving result", job.getId());
+                promise.complete(Future.await(jobRepository.complete(job.getId(), workerId, result)));
+            } catch (Throwable err) {
+                promise.fail(err);
+            }
+        });
+        return promise.future();
+    }
+}
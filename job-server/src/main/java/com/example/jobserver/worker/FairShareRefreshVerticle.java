@@ -0,0 +1,50 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Promise;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically re-activates every user with PENDING jobs in the {@link FairShareScheduler}.
+ * Submission hints keep the scheduler current on this node; the refresh covers jobs submitted
+ * through other nodes, re-queued by the lease reaper, and users dropped after a claim that lost
+ * every row to a concurrent worker.
+ */
+@Slf4j
+public class FairShareRefreshVerticle extends AbstractVerticle {
+
+    private final JobRepository jobRepository;
+    private final FairShareScheduler scheduler;
+    private final long refreshMs;
+    private final int maxUsers;
+
+    private long timerId = -1;
+
+    public FairShareRefreshVerticle(JobRepository jobRepository, FairShareScheduler scheduler,
+                                    long refreshMs, int maxUsers) {
+        this.jobRepository = jobRepository;
+        this.scheduler = scheduler;
+        this.refreshMs = refreshMs;
+        this.maxUsers = maxUsers;
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        timerId = vertx.setPeriodic(refreshMs, id -> refresh());
+        startPromise.complete();
+        refresh();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    private void refresh() {
+        jobRepository.findUsersWithPending(maxUsers)
+            .onSuccess(userIds -> userIds.forEach(scheduler::activate))
+            .onFailure(err -> log.error("Failed to refresh users with pending jobs: {}", err.getMessage()));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.metrics.LatencyHistogram;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-wide deficit round robin (DRR) over users with PENDING jobs, shared by all
+ * {@link JobWorkerVerticle} instances. Before claiming, a worker asks for a {@link Grant}: which user
+ * to claim for and how many jobs. Each turn a user earns {@code quantum x weight} jobs, so under
+ * contention users get dispatch slots in proportion to their weights, no matter how many jobs each
+ * one has queued. Within a user, jobs still go by priority lane, then age.
+ *
+ * <p>Every operation is O(1): active users sit in a ring, and users that run dry are dropped lazily
+ * when their turn comes up. The active set is fed by submission hints, by users discovered in claims,
+ * and by a periodic refresh from the database ({@link FairShareRefreshVerticle}).
+ *
+ * <p>Also records each user's queue wait (submission to claim) for {@code GET /metrics}.
+ */
+public class FairShareScheduler {
+
+    /**
+     * Permission to claim up to {@code jobs} PENDING jobs of {@code userId}.
+     */
+    public record Grant(long userId, int jobs) {
+    }
+
+    private final int quantum;
+    private final Map<Long, Integer> weights;
+
+    // Guarded by this object's monitor
+    private final Map<Long, UserShare> active = new HashMap<>();
+    private final ArrayDeque<UserShare> ring = new ArrayDeque<>();
+
+    private final Map<Long, LatencyHistogram> queueWaits = new ConcurrentHashMap<>();
+
+    public FairShareScheduler(int quantum, Map<Long, Integer> weights) {
+        this.quantum = quantum;
+        this.weights = Map.copyOf(weights);
+    }
+
+    /**
+     * Marks a user as having PENDING jobs. Cheap and idempotent, so it can be called on every hint.
+     */
+    public synchronized void activate(long userId) {
+        if (active.containsKey(userId)) {
+            return;
+        }
+        UserShare share = new UserShare(userId, quantum * weights.getOrDefault(userId, 1));
+        active.put(userId, share);
+        ring.addLast(share);
+    }
+
+    /**
+     * Next user to claim for, or {@code null} when no user is known to have PENDING jobs.
+     *
+     * @param maxJobs how many jobs the caller can take right now
+     */
+    public synchronized Grant next(int maxJobs) {
+        while (!ring.isEmpty()) {
+            UserShare share = ring.peekFirst();
+            if (share.removed) {
+                ring.pollFirst();
+                continue;
+            }
+            if (active.size() == 1) {
+                // Nobody to be fair to
+                return new Grant(share.userId, maxJobs);
+            }
+            if (share.deficit < 1) {
+                // Start of this user's turn
+                share.deficit += share.quantum;
+            }
+            int jobs = Math.min(maxJobs, share.deficit);
+            share.deficit -= jobs;
+            if (share.deficit < 1) {
+                // Turn used up: go to the back of the ring
+                ring.addLast(ring.pollFirst());
+            }
+            return new Grant(share.userId, jobs);
+        }
+        return null;
+    }
+
+    /**
+     * Reports how many jobs a grant actually claimed. A short claim means the user's queue is empty,
+     * so the user leaves the ring (and forfeits any deficit, as in plain DRR) until re-activated.
+     */
+    public synchronized void onClaimed(Grant grant, int claimed) {
+        if (claimed >= grant.jobs()) {
+            return;
+        }
+        UserShare share = active.remove(grant.userId());
+        if (share != null) {
+            share.removed = true;
+        }
+    }
+
+    public synchronized boolean hasActiveUsers() {
+        return !active.isEmpty();
+    }
+
+    public synchronized int getActiveUsers() {
+        return active.size();
+    }
+
+    /**
+     * Records how long one of the user's jobs waited between becoming PENDING and its first claim.
+     */
+    public void recordQueueWait(long userId, long waitMillis) {
+        queueWaits.computeIfAbsent(userId, id -> new LatencyHistogram()).record(waitMillis);
+    }
+
+    /**
+     * Snapshot for {@code GET /metrics}: active users and per-user queue wait percentiles in ms.
+     */
+    public JsonObject metrics() {
+        JsonObject waits = new JsonObject();
+        queueWaits.forEach((userId, histogram) -> waits.put(String.valueOf(userId), histogram.toJson()));
+        return new JsonObject()
+            .put("activeUsers", getActiveUsers())
+            .put("queueWaitMs", waits);
+    }
+
+    private static class UserShare {
+        private final long userId;
+        private final int quantum;
+        private int deficit;
+        private boolean removed;
+
+        UserShare(long userId, int quantum) {
+            this.userId = userId;
+            this.quantum = quantum;
+        }
+    }
+}
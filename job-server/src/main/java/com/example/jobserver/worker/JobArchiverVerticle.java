@@ -0,0 +1,130 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves finished jobs out of {@code jobs} and {@code job_payloads} into {@code jobs_archive} once they are
+ * {@code archiveAfterDays} old, deployed only with {@code ARCHIVE_ENABLED}. Every {@code archiveIntervalMs} a pass
+ * walks each terminal status and priority lane, {@code archiveChunkSize} jobs per short transaction, each chunk
+ * resuming right after the last job of the one before. Between chunks it waits as long as {@link ArchiveThrottle}
+ * decides from how long the chunk took, so archiving yields to live traffic whenever the database slows down.
+ * Archived jobs stay readable by id. Several nodes may archive at once; a chunk locks its rows, so each job still
+ * moves exactly once.
+ */
+@Slf4j
+public class JobArchiverVerticle extends AbstractVerticle {
+
+    private static final List<JobStatus> ARCHIVED =
+        List.of(JobStatus.COMPLETED, JobStatus.FAILED, JobStatus.DEAD_LETTER, JobStatus.CANCELLED);
+
+    private final JobRepository jobRepository;
+    private final ArchiveThrottle throttle;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final long intervalMs;
+
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private volatile long lastChunkMs;
+
+    private boolean archiving;
+    private long timerId = -1;
+
+    public JobArchiverVerticle(JobRepository jobRepository, AppConfig config) {
+        this.jobRepository = jobRepository;
+        this.throttle = new ArchiveThrottle(config.getArchiveTargetChunkMs(), config.getArchiveMinPauseMs(),
+            config.getArchiveMaxPauseMs());
+        this.archiveAfter = Duration.ofDays(config.getArchiveAfterDays());
+        this.chunkSize = config.getArchiveChunkSize();
+        this.intervalMs = config.getArchiveIntervalMs();
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        timerId = vertx.setPeriodic(intervalMs, id -> archive());
+        log.info("JobArchiverVerticle started (afterDays={}, chunkSize={}, intervalMs={})",
+            archiveAfter.toDays(), chunkSize, intervalMs);
+        startPromise.complete();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    public JsonObject metrics() {
+        return new JsonObject()
+            .put("archived", archived.get())
+            .put("chunks", chunks.get())
+            .put("lastChunkMs", lastChunkMs)
+            .put("pauseMs", throttle.getPauseMs());
+    }
+
+    private void archive() {
+        if (archiving) {
+            return;
+        }
+        archiving = true;
+        Instant before = Instant.now().minus(archiveAfter);
+        Future<Integer> pass = Future.succeededFuture(0);
+        for (JobStatus status : ARCHIVED) {
+            for (int priority = Job.MAX_PRIORITY; priority >= Job.MIN_PRIORITY; priority--) {
+                int lane = priority;
+                pass = pass.compose(total -> archiveLane(status, lane, before, null, total));
+            }
+        }
+        pass.onComplete(ar -> {
+            archiving = false;
+            if (ar.failed()) {
+                log.error("Failed to archive jobs: {}", ar.cause().getMessage());
+            } else if (ar.result() > 0) {
+                log.info("Archived {} jobs finished before {}", ar.result(), before);
+            }
+        });
+    }
+
+    /**
+     * Archives one lane chunk by chunk until a chunk comes back short, pausing after each chunk that moved jobs.
+     */
+    private Future<Integer> archiveLane(JobStatus status, int priority, Instant before, JobCursor after,
+                                        int archivedSoFar) {
+        long start = System.nanoTime();
+        return jobRepository.archive(status, priority, before, after, chunkSize)
+            .compose(chunk -> {
+                if (chunk.isEmpty()) {
+                    return Future.succeededFuture(archivedSoFar);
+                }
+                long chunkMs = (System.nanoTime() - start) / 1_000_000;
+                archived.addAndGet(chunk.size());
+                chunks.incrementAndGet();
+                lastChunkMs = chunkMs;
+                int total = archivedSoFar + chunk.size();
+                JobCursor next = chunk.size() == chunkSize ? chunk.get(chunk.size() - 1) : null;
+                return pause(throttle.nextPauseMs(chunkMs))
+                    .compose(v -> next != null
+                        ? archiveLane(status, priority, before, next, total)
+                        : Future.succeededFuture(total));
+            });
+    }
+
+    private Future<Void> pause(long ms) {
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(Math.max(1, ms), id -> promise.complete());
+        return promise.future();
+    }
+}
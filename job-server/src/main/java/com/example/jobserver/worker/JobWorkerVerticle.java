@@ -1,9 +1,11 @@
 package com.example.jobserver.worker;
 
 import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.config.AppConfig;
 import com.example.jobserver.model.Job;
 import com.example.jobserver.model.JobStatus;
 import com.example.jobserver.repositories.JobRepository;
+import com.example.jobserver.worker.RetryPolicy.Decision;
 
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -11,61 +13,337 @@ import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Worker Verticle for processing jobs asynchronously.
- * Uses fire-and-forget pattern - job status is tracked via DB updates.
+ * The jobs table is the queue: workers claim PENDING rows with SELECT ... FOR UPDATE SKIP LOCKED,
+ * so nothing is lost if a message on the event bus is dropped. Event bus messages on
+ * {@link #JOB_PROCESS_ADDRESS} are only a wake-up hint; a periodic poll picks up anything else.
+ * Claimed jobs are leased to this instance and the lease is renewed while they run, so
+ * {@link LeaseReaperVerticle} can recover them if this node dies. A job whose lease could not be renewed
+ * is let go like a cancelled one, and finishing a job is conditional on still holding its lease, so a job
+ * the reaper handed to another worker is never finished here as well.
+ *
+ * <p>Concurrency is bounded twice: at most {@code maxInFlight} jobs run per instance, and all
+ * instances share the node-wide limit in {@link WorkerLoad}. Claimed jobs that cannot start yet
+ * wait in a small local queue; the worker never claims more than fits into it.
+ *
+ * <p>Which user's jobs to claim next is decided by the shared {@link FairShareScheduler}, so one
+ * user with a huge backlog cannot monopolise the workers. Within a user, jobs are claimed highest
+ * lane first, as aging left the lanes; the local queue keeps the order they were claimed in.
+ *
+ * <p>Failed jobs go through the {@link RetryPolicy}. A retry is not run here: the job is put back as
+ * SCHEDULED with a backed-off {@code run_at} and handed to {@link ScheduledJobDispatcherVerticle}, so a
+ * waiting retry never holds a worker slot.
+ *
+ * <p>Each external call runs under a deadline (the job's {@code timeoutSeconds}, or the server default)
+ * and is aborted when it passes. Cancelled jobs are announced on {@link #JOB_CANCEL_ADDRESS}: the instance
+ * holding one drops it from its local queue or aborts its call, and the slot is free again at once.
+ * Finishing a job is conditional on it still being PROCESSING, so a cancelled job stays cancelled.
  */
 @Slf4j
 public class JobWorkerVerticle extends AbstractVerticle {
 
     public static final String JOB_PROCESS_ADDRESS = "job.process";
 
-    private final JobRepository jobRepository;
-    private final ExternalJobProcessor externalProcessor;
+    /**
+     * Published when a global in-flight slot frees up while other instances have jobs waiting.
+     */
+    public static final String CAPACITY_ADDRESS = "job.capacity";
+
+    /**
+     * Published by JobService after a job was cancelled, so whichever instance holds it lets it go.
+     */
+    public static final String JOB_CANCEL_ADDRESS = "job.cancel";
+
+    protected final JobRepository jobRepository;
+    protected final ExternalJobProcessor externalProcessor;
+    private final WorkerLoad workerLoad;
+    private final FairShareScheduler fairShare;
+    private final RetryPolicy retryPolicy;
+    private final int claimBatchSize;
+    private final int maxInFlight;
+    private final int localQueueSize;
+    private final long pollIntervalMs;
+    private final Duration leaseDuration;
+    private final int defaultTimeoutSeconds;
+    protected final String workerId = UUID.randomUUID().toString();
 
-    public JobWorkerVerticle(JobRepository jobRepository, ExternalJobProcessor externalProcessor) {
+    // Only touched from this verticle's context, so no synchronization is needed
+    private final Queue<Job> waiting = new ArrayDeque<>();
+    private final Set<String> leased = new HashSet<>();
+    private final Map<String, Promise<Void>> aborts = new HashMap<>();
+    private int running;
+    private boolean claiming;
+    private long pollTimerId = -1;
+    private long heartbeatTimerId = -1;
+
+    public JobWorkerVerticle(JobRepository jobRepository, ExternalJobProcessor externalProcessor,
+                             WorkerLoad workerLoad, FairShareScheduler fairShare, RetryPolicy retryPolicy,
+                             AppConfig config) {
         this.jobRepository = jobRepository;
         this.externalProcessor = externalProcessor;
+        this.workerLoad = workerLoad;
+        this.fairShare = fairShare;
+        this.retryPolicy = retryPolicy;
+        this.claimBatchSize = config.getWorkerClaimBatchSize();
+        this.maxInFlight = config.getWorkerMaxInFlight();
+        this.localQueueSize = config.getWorkerLocalQueueSize();
+        this.pollIntervalMs = config.getWorkerPollIntervalMs();
+        this.leaseDuration = Duration.ofSeconds(config.getJobLeaseSeconds());
+        this.defaultTimeoutSeconds = config.getJobDefaultTimeoutSeconds();
     }
 
     @Override
     public void start(Promise<Void> startPromise) {
-        // Listen for job processing messages on the event bus (fire-and-forget)
+        // Wake-up hints from JobService - the job itself is always read from the DB
         vertx.eventBus().<JsonObject>consumer(JOB_PROCESS_ADDRESS, message -> {
-            String jobId = message.body().getString("jobId");
-            log.info("Worker received job: {}", jobId);
-            processJob(jobId);
+            log.debug("Worker woken up by job {}", message.body().getString("jobId"));
+            Long userId = message.body().getLong("userId");
+            if (userId != null) {
+                fairShare.activate(userId);
+            }
+            claimJobs();
         });
 
-        log.info("JobWorkerVerticle started");
+        vertx.eventBus().<JsonObject>consumer(JOB_CANCEL_ADDRESS, message -> cancel(message.body().getString("jobId")));
+
+        // Another instance released a global slot
+        vertx.eventBus().<JsonObject>consumer(CAPACITY_ADDRESS, message -> {
+            startWaitingJobs();
+            claimJobs();
+        });
+
+        // Safety net for hints that never arrived (other nodes, restarts, dropped messages)
+        pollTimerId = vertx.setPeriodic(pollIntervalMs, id -> claimJobs());
+
+        // Renew well before expiry so one slow round-trip does not cost us the lease
+        heartbeatTimerId = vertx.setPeriodic(Math.max(1000L, leaseDuration.toMillis() / 3), id -> renewLeases());
+
+        log.info("JobWorkerVerticle {} started (maxInFlight={}, localQueueSize={}, claimBatchSize={}, lease={}s)",
+            workerId, maxInFlight, localQueueSize, claimBatchSize, leaseDuration.toSeconds());
         startPromise.complete();
+        claimJobs();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(pollTimerId);
+        vertx.cancelTimer(heartbeatTimerId);
+    }
+
+    /**
+     * Claims as many PENDING jobs as fit into the free slots plus the local queue, one fair-share grant
+     * at a time. Keeps claiming while there is room and work, so a backlog drains without waiting for
+     * the poll timer. When the scheduler knows of no users with pending jobs, claims from the head of
+     * the whole queue instead and activates the users found there.
+     */
+    private void claimJobs() {
+        int capacity = maxInFlight + localQueueSize - running - waiting.size();
+        int wanted = Math.min(capacity, claimBatchSize);
+        if (claiming || wanted <= 0) {
+            return;
+        }
+        claiming = true;
+
+        FairShareScheduler.Grant grant = fairShare.next(wanted);
+        Future<List<Job>> claim = grant != null
+            ? jobRepository.claimPendingForUser(workerId, grant.userId(), grant.jobs(), leaseDuration)
+            : jobRepository.claimPending(workerId, wanted, leaseDuration);
+
+        claim.onComplete(ar -> {
+            claiming = false;
+            if (ar.failed()) {
+                log.error("Failed to claim jobs: {}", ar.cause().getMessage());
+                return;
+            }
+            List<Job> jobs = ar.result();
+            if (grant != null) {
+                fairShare.onClaimed(grant, jobs.size());
+            }
+            int queued = 0;
+            for (Job job : jobs) {
+                if (grant == null) {
+                    fairShare.activate(job.getUserId());
+                }
+                if (retryPolicy.isAbandoned(job)) {
+                    deadLetter(job.getId(), "Worker lost the job after " + retryPolicy.getMaxAttempts() + " attempts");
+                    continue;
+                }
+                // From when it became PENDING to this claim; retries and requeues would count their backoff
+                if (job.getAttempts() == 1) {
+                    Instant pendingSince = job.getRunAt() != null && job.getRunAt().isAfter(job.getCreatedAt())
+                        ? job.getRunAt() : job.getCreatedAt();
+                    fairShare.recordQueueWait(job.getUserId(),
+                        Duration.between(pendingSince, job.getUpdatedAt()).toMillis());
+                }
+                leased.add(job.getId());
+                waiting.add(job);
+                queued++;
+            }
+            workerLoad.addLocallyQueued(queued);
+            startWaitingJobs();
+            if (grant != null || jobs.size() == wanted) {
+                claimJobs();
+            }
+        });
+    }
+
+    /**
+     * Starts queued jobs while both the per-instance and the global limit allow it.
+     */
+    private void startWaitingJobs() {
+        while (running < maxInFlight && !waiting.isEmpty() && workerLoad.tryAcquire()) {
+            Job job = waiting.poll();
+            workerLoad.addLocallyQueued(-1);
+            running++;
+            processJob(job);
+        }
     }
 
-    private void processJob(String jobId) {
-        // Clean Future chain using compose() - no callback hell
-        jobRepository.updateStatus(jobId, JobStatus.PROCESSING)
-            .compose(v -> jobRepository.findById(jobId))
-            .compose(jobOpt -> {
-                if (jobOpt.isEmpty()) {
-                    return Future.failedFuture("Job not found: " + jobId);
+    private void renewLeases() {
+        if (leased.isEmpty()) {
+            return;
+        }
+        List<String> jobIds = List.copyOf(leased);
+        jobRepository.renewLeases(workerId, jobIds, leaseDuration)
+            .onSuccess(renewed -> {
+                if (renewed.size() < jobIds.size()) {
+                    log.warn("Worker {} renewed only {} of {} leases; lost jobs will be re-run elsewhere",
+                        workerId, renewed.size(), jobIds.size());
                 }
-                Job job = jobOpt.get();
-                log.info("Processing job {} with external service", jobId);
-                return externalProcessor.process(job);
+                // Finished meanwhile, or taken back by the reaper: either way no longer ours to run
+                jobIds.stream()
+                    .filter(jobId -> !renewed.contains(jobId))
+                    .forEach(jobId -> letGo(jobId, "its lease was lost"));
             })
+            .onFailure(err -> log.error("Failed to renew leases for worker {}: {}", workerId, err.getMessage()));
+    }
+
+    private void cancel(String jobId) {
+        letGo(jobId, "it was cancelled");
+    }
+
+    /**
+     * Lets go of a job this instance may no longer run: a queued one is dropped, a running one has its external
+     * call aborted.
+     */
+    private void letGo(String jobId, String reason) {
+        Promise<Void> abort = aborts.get(jobId);
+        if (abort != null) {
+            abort.tryFail(new CancellationException("Job " + jobId + " stopped because " + reason));
+            return;
+        }
+        if (waiting.removeIf(job -> job.getId().equals(jobId))) {
+            log.info("Job {} dropped before it started because {}", jobId, reason);
+            leased.remove(jobId);
+            workerLoad.addLocallyQueued(-1);
+            claimJobs();
+        }
+    }
+
+    private void processJob(Job job) {
+        String jobId = job.getId();
+        log.info("Processing job {} with external service", jobId);
+
+        int timeoutSeconds = job.getTimeoutSeconds() != null ? job.getTimeoutSeconds() : defaultTimeoutSeconds;
+        Promise<Void> abort = Promise.promise();
+        aborts.put(jobId, abort);
+        long timeoutTimerId = vertx.setTimer(timeoutSeconds * 1000L, id ->
+            abort.tryFail(new TimeoutException("Job " + jobId + " timed out after " + timeoutSeconds + "s")));
+
+        runJob(job, abort.future())
+            .onSuccess(completed -> {
+                if (completed) {
+                    log.info("Job {} completed successfully", jobId);
+                } else {
+                    log.info("Job {} finished after it was cancelled or its lease was lost", jobId);
+                }
+            })
+            .onFailure(err -> handleFailure(job, err))
+            .onComplete(ar -> {
+                vertx.cancelTimer(timeoutTimerId);
+                aborts.remove(jobId);
+                leased.remove(jobId);
+                running--;
+                workerLoad.release();
+                if (workerLoad.getLocallyQueued() > waiting.size()) {
+                    // Some other instance is holding jobs back because of the global limit
+                    vertx.eventBus().publish(CAPACITY_ADDRESS, new JsonObject());
+                }
+                startWaitingJobs();
+                claimJobs();
+            });
+    }
+
+    /**
+     * Calls the external service and stores the result together with the COMPLETED status.
+     *
+     * @return whether the job was completed, {@code false} if it had been cancelled or its lease lost meanwhile
+     */
+    protected Future<Boolean> runJob(Job job, Future<Void> abort) {
+        String jobId = job.getId();
+        return externalProcessor.process(job, abort)
             .compose(result -> {
                 log.info("Job {} processed, saving result", jobId);
-                return jobRepository.updateResult(jobId, result);
+                return jobRepository.complete(jobId, workerId, result);
+            });
+    }
+
+    private void handleFailure(Job job, Throwable error) {
+        String jobId = job.getId();
+        if (error instanceof CancellationException) {
+            log.info("External call of job {} aborted: {}", jobId, error.getMessage());
+            return;
+        }
+        Decision decision = retryPolicy.onFailure(job, error);
+        switch (decision.outcome()) {
+            case RETRY -> retryJob(job, decision.delay(), error.getMessage());
+            case DEAD_LETTER -> deadLetter(jobId, error.getMessage());
+            case FAIL -> failJob(jobId, error.getMessage());
+        }
+    }
+
+    private void retryJob(Job job, Duration delay, String errorMessage) {
+        String jobId = job.getId();
+        Instant runAt = Instant.now().plus(delay);
+        log.warn("Job {} attempt {} failed, retrying in {} ms: {}", jobId, job.getAttempts(), delay.toMillis(),
+            errorMessage);
+        jobRepository.scheduleRetry(jobId, workerId, runAt, errorMessage)
+            .onSuccess(scheduled -> {
+                if (scheduled) {
+                    vertx.eventBus().send(ScheduledJobDispatcherVerticle.JOB_SCHEDULED_ADDRESS, new JsonObject()
+                        .put("jobId", jobId).put("userId", job.getUserId()).put("runAt", runAt.toEpochMilli()));
+                }
             })
-            .compose(v -> jobRepository.updateStatus(jobId, JobStatus.COMPLETED))
-            .onSuccess(v -> log.info("Job {} completed successfully", jobId))
-            .onFailure(err -> failJob(jobId, err.getMessage()));
+            // Still PROCESSING: once the lease runs out the reaper re-queues it, which is a retry as well
+            .onFailure(err -> log.error("Failed to schedule retry for job {}: {}", jobId, err.getMessage()));
     }
 
     private void failJob(String jobId, String errorMessage) {
         log.error("Job {} failed: {}", jobId, errorMessage);
-        jobRepository.updateFailure(jobId, errorMessage)
-            .compose(v -> jobRepository.updateStatus(jobId, JobStatus.FAILED))
+        finish(jobId, errorMessage, JobStatus.FAILED);
+    }
+
+    private void deadLetter(String jobId, String errorMessage) {
+        log.error("Job {} moved to dead letter: {}", jobId, errorMessage);
+        finish(jobId, errorMessage, JobStatus.DEAD_LETTER);
+    }
+
+    private void finish(String jobId, String errorMessage, JobStatus status) {
+        jobRepository.fail(jobId, workerId, status, errorMessage)
             .onFailure(err -> log.error("Failed to update failure status for job {}: {}", jobId, err.getMessage()));
     }
 }
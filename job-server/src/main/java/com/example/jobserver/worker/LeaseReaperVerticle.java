@@ -0,0 +1,79 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically re-queues PROCESSING jobs whose lease has expired, i.e. jobs whose worker died
+ * or was redeployed before finishing them. Runs once on startup so a restarted node recovers
+ * orphaned work immediately instead of waiting for the first interval.
+ * Safe to run on every node: each batch is a single conditional UPDATE.
+ */
+@Slf4j
+public class LeaseReaperVerticle extends AbstractVerticle {
+
+    private final JobRepository jobRepository;
+    private final long intervalMs;
+    private final int batchSize;
+
+    private boolean reaping;
+    private long timerId = -1;
+
+    public LeaseReaperVerticle(JobRepository jobRepository, AppConfig config) {
+        this.jobRepository = jobRepository;
+        this.intervalMs = config.getLeaseReaperIntervalMs();
+        this.batchSize = config.getLeaseReaperBatchSize();
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        timerId = vertx.setPeriodic(intervalMs, id -> reap());
+        log.info("LeaseReaperVerticle started (intervalMs={}, batchSize={})", intervalMs, batchSize);
+        startPromise.complete();
+        reap();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    private void reap() {
+        if (reaping) {
+            return;
+        }
+        reaping = true;
+        reapBatch(0);
+    }
+
+    /**
+     * Re-queues one batch, then the next one straight away while batches come back full.
+     */
+    private void reapBatch(int requeuedSoFar) {
+        jobRepository.requeueExpiredLeases(batchSize)
+            .onSuccess(requeued -> {
+                int total = requeuedSoFar + requeued;
+                if (requeued > 0) {
+                    // Wake up idle workers instead of waiting for their next poll
+                    vertx.eventBus().publish(JobWorkerVerticle.JOB_PROCESS_ADDRESS, new JsonObject());
+                }
+                if (requeued == batchSize) {
+                    reapBatch(total);
+                    return;
+                }
+                if (total > 0) {
+                    log.warn("Re-queued {} jobs with expired leases", total);
+                }
+                reaping = false;
+            })
+            .onFailure(err -> {
+                log.error("Failed to re-queue expired leases: {}", err.getMessage());
+                reaping = false;
+            });
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.repositories.JobPartitionRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@code jobs} and {@code job_payloads} range partitioned by day of creation, deployed only with
+ * {@code JOB_PARTITIONING_ENABLED}. The first pass partitions a table that is not partitioned yet, which
+ * rebuilds it, dropping its foreign keys first, since a partitioned table cannot have any. Every
+ * {@code jobPartitionMaintenanceMs} after that it adds partitions ahead of time and drops the ones past
+ * {@code jobPartitionRetentionDays}: retention costs a metadata change instead of a DELETE.
+ * A partition is kept, along with every newer one, while a job created in it is still unfinished. Both tables
+ * get the same partitions, so a job's payload goes when the job does. Days are UTC, like {@code created_at}.
+ * Several nodes may run the same pass; the loser's DDL fails, is logged, and the next pass finds nothing to do.
+ */
+@Slf4j
+public class PartitionMaintenanceVerticle extends AbstractVerticle {
+
+    private static final List<String> TABLES = List.of(JobPartitionRepository.JOBS, JobPartitionRepository.JOB_PAYLOADS);
+
+    private final JobPartitionRepository partitions;
+    private final PartitionRotation rotation;
+    private final long intervalMs;
+
+    private boolean maintaining;
+    private long timerId = -1;
+
+    public PartitionMaintenanceVerticle(JobPartitionRepository partitions, AppConfig config) {
+        this.partitions = partitions;
+        this.rotation = new PartitionRotation(config.getJobPartitionAheadDays(), config.getJobPartitionRetentionDays());
+        this.intervalMs = config.getJobPartitionMaintenanceMs();
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        maintain();
+        timerId = vertx.setPeriodic(intervalMs, id -> maintain());
+        log.info("PartitionMaintenanceVerticle started (intervalMs={})", intervalMs);
+        startPromise.complete();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    private void maintain() {
+        if (maintaining) {
+            return;
+        }
+        maintaining = true;
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Future<Void> pass = Future.succeededFuture();
+        for (String table : TABLES) {
+            pass = pass.compose(v -> maintain(table, today));
+        }
+        pass.onComplete(ar -> {
+            maintaining = false;
+            if (ar.failed()) {
+                log.error("Failed to maintain job partitions: {}", ar.cause().getMessage());
+            }
+        });
+    }
+
+    private Future<Void> maintain(String table, LocalDate today) {
+        return partitions.findPartitionBounds(table)
+            .compose(bounds -> bounds.isEmpty() ? partition(table, today) : addMissing(table, bounds, today))
+            .compose(bounds -> dropExpired(table, rotation.expired(bounds, today)));
+    }
+
+    private Future<List<LocalDate>> partition(String table, LocalDate today) {
+        List<LocalDate> bounds = rotation.initial(today);
+        return partitions.findForeignKeys(table)
+            .compose(foreignKeys -> {
+                if (foreignKeys.isEmpty()) {
+                    return Future.succeededFuture();
+                }
+                // Partitioned tables cannot have foreign keys; from here on only the service checks them
+                log.warn("Dropping foreign keys {} of {} before partitioning it", foreignKeys, table);
+                return partitions.dropForeignKeys(table, foreignKeys);
+            })
+            .compose(v -> {
+                log.info("Partitioning {} by day of creation, rebuilding the table", table);
+                return partitions.partition(table, bounds);
+            })
+            .map(bounds);
+    }
+
+    private Future<List<LocalDate>> addMissing(String table, List<LocalDate> bounds, LocalDate today) {
+        List<LocalDate> missing = rotation.missing(bounds, today);
+        if (missing.isEmpty()) {
+            return Future.succeededFuture(bounds);
+        }
+        List<LocalDate> all = new ArrayList<>(bounds);
+        all.addAll(missing);
+        return partitions.addPartitions(table, missing)
+            .onSuccess(v -> log.info("Added {} partitions to {}, up to {}", missing.size(), table,
+                missing.get(missing.size() - 1)))
+            .map(all);
+    }
+
+    private Future<Void> dropExpired(String table, List<LocalDate> expired) {
+        return droppable(expired, expired.size()).compose(count -> {
+            if (count < expired.size()) {
+                log.warn("Keeping {} expired partitions of {}: jobs created before {} are unfinished",
+                    expired.size() - count, table, expired.get(count));
+            }
+            if (count == 0) {
+                return Future.succeededFuture();
+            }
+            List<LocalDate> dropped = expired.subList(0, count);
+            return partitions.dropPartitions(table, dropped)
+                .onSuccess(v -> log.info("Dropped {} partitions of {}, up to {}", count, table,
+                    dropped.get(count - 1)));
+        });
+    }
+
+    /**
+     * How many of the oldest {@code expired} partitions hold no unfinished job. Asks from the newest down, since
+     * an unfinished job created before one bound is also created before every later one.
+     */
+    private Future<Integer> droppable(List<LocalDate> expired, int count) {
+        if (count == 0) {
+            return Future.succeededFuture(0);
+        }
+        return partitions.hasUnfinishedJobs(expired.get(count - 1))
+            .compose(unfinished -> unfinished ? droppable(expired, count - 1) : Future.succeededFuture(count));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.jobserver.worker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which daily partitions the jobs tables should have on a given day, each known by the day it ends before (see
+ * {@link com.example.jobserver.repositories.JobPartitionRepository}). Partitions reach {@code aheadDays} past
+ * today, so new rows always land in a partition that was added while still empty. A partition expires once
+ * every row it can hold was created more than {@code retentionDays} before today.
+ */
+public class PartitionRotation {
+
+    private final int aheadDays;
+    private final int retentionDays;
+
+    public PartitionRotation(int aheadDays, int retentionDays) {
+        this.aheadDays = Math.max(1, aheadDays);
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    /**
+     * The partitions of a table partitioned today: the first takes every row created up to the end of today.
+     */
+    public List<LocalDate> initial(LocalDate today) {
+        return days(today.plusDays(1), last(today));
+    }
+
+    /**
+     * The partitions to add after {@code existing} to reach {@code aheadDays} past today.
+     */
+    public List<LocalDate> missing(List<LocalDate> existing, LocalDate today) {
+        return days(existing.get(existing.size() - 1).plusDays(1), last(today));
+    }
+
+    /**
+     * The partitions of {@code existing} that have expired, oldest first.
+     */
+    public List<LocalDate> expired(List<LocalDate> existing, LocalDate today) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        return existing.stream().filter(bound -> !bound.isAfter(cutoff)).toList();
+    }
+
+    private LocalDate last(LocalDate today) {
+        return today.plusDays(aheadDays + 1L);
+    }
+
+    private static List<LocalDate> days(LocalDate from, LocalDate to) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Keeps low-priority jobs from starving behind a steady stream of higher-priority work.
+ * Every {@code priorityAgingMs} each PENDING job that has waited that long since it became PENDING,
+ * or since its last promotion, is claimed from one lane higher, up to {@link Job#MAX_AGED_PRIORITY}.
+ * A job therefore reaches the lane below the top after about
+ * {@code (MAX_AGED_PRIORITY - priority) x priorityAgingMs}, and jobs submitted to the top lane still go
+ * first. The priority a job was submitted with never changes.
+ * Each statement reads a single lane through the claim index and is capped at one batch.
+ */
+@Slf4j
+public class PriorityAgingVerticle extends AbstractVerticle {
+
+    private final JobRepository jobRepository;
+    private final Duration agingInterval;
+    private final int batchSize;
+
+    private boolean aging;
+    private long timerId = -1;
+
+    public PriorityAgingVerticle(JobRepository jobRepository, AppConfig config) {
+        this.jobRepository = jobRepository;
+        this.agingInterval = Duration.ofMillis(config.getPriorityAgingMs());
+        this.batchSize = config.getPriorityAgingBatchSize();
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        timerId = vertx.setPeriodic(agingInterval.toMillis(), id -> age());
+        log.info("PriorityAgingVerticle started (agingMs={}, batchSize={})", agingInterval.toMillis(), batchSize);
+        startPromise.complete();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    private void age() {
+        if (aging) {
+            return;
+        }
+        aging = true;
+        ageLane(Job.MAX_AGED_PRIORITY - 1, 0)
+            .onComplete(ar -> {
+                aging = false;
+                if (ar.failed()) {
+                    log.error("Failed to age pending jobs: {}", ar.cause().getMessage());
+                } else if (ar.result() > 0) {
+                    log.info("Aged {} pending jobs into higher priority lanes", ar.result());
+                }
+            });
+    }
+
+    /**
+     * Promotes one lane in batches until a batch comes back short, then moves on to the lane below.
+     */
+    private Future<Integer> ageLane(int priority, int agedSoFar) {
+        if (priority < Job.MIN_PRIORITY) {
+            return Future.succeededFuture(agedSoFar);
+        }
+        return jobRepository.agePending(priority, agingInterval, batchSize)
+            .compose(aged -> aged == batchSize
+                ? ageLane(priority, agedSoFar + aged)
+                : ageLane(priority - 1, agedSoFar + aged));
+    }
+}
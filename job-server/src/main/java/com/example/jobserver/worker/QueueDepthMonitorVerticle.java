@@ -0,0 +1,54 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Promise;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically refreshes the PENDING backlog in {@link WorkerLoad}.
+ * The count is capped just above the high-water mark, so the query cost stays bounded
+ * no matter how large the backlog grows.
+ */
+@Slf4j
+public class QueueDepthMonitorVerticle extends AbstractVerticle {
+
+    private final JobRepository jobRepository;
+    private final WorkerLoad workerLoad;
+    private final long refreshMs;
+
+    private long timerId = -1;
+
+    public QueueDepthMonitorVerticle(JobRepository jobRepository, WorkerLoad workerLoad, long refreshMs) {
+        this.jobRepository = jobRepository;
+        this.workerLoad = workerLoad;
+        this.refreshMs = refreshMs;
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        timerId = vertx.setPeriodic(refreshMs, id -> refresh());
+        startPromise.complete();
+        refresh();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(timerId);
+    }
+
+    private void refresh() {
+        jobRepository.countPending(workerLoad.getHighWaterMark() + 1)
+            .onSuccess(pending -> {
+                boolean wasOverloaded = workerLoad.isOverloaded();
+                workerLoad.updatePendingBacklog(pending);
+                if (workerLoad.isOverloaded() != wasOverloaded) {
+                    log.warn("Queue depth {} (high-water mark {}): submissions {}",
+                        workerLoad.getQueueDepth(), workerLoad.getHighWaterMark(),
+                        workerLoad.isOverloaded() ? "rejected" : "accepted again");
+                }
+            })
+            .onFailure(err -> log.error("Failed to refresh queue depth: {}", err.getMessage()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.jobserver.worker;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Node-wide token bucket that caps how many retries may be scheduled: {@code perSecond} tokens are added
+ * every second, up to {@code burst}. During an outage of the external service every job fails at once;
+ * the budget turns that into a bounded trickle of retries instead of a retry storm that keeps the
+ * service down. Shared by all worker instances, so access is synchronized.
+ */
+public class RetryBudget {
+
+    private final double perSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RetryBudget(double perSecond, int burst) {
+        this(perSecond, burst, System::nanoTime);
+    }
+
+    RetryBudget(double perSecond, int burst, LongSupplier nanoClock) {
+        this.perSecond = perSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes one token if available.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getAvailable() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * perSecond / 1_000_000_000d);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalServiceException;
+import com.example.jobserver.model.Job;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides what happens to a job whose attempt failed:
+ * <ul>
+ *   <li>{@link Outcome#FAIL} - the error is not transient (the external service rejected the job with a
+ *       4xx other than 408/429, or its parameters/response could not be handled), so running it again
+ *       would fail the same way, or the job was cancelled;</li>
+ *   <li>{@link Outcome#RETRY} - run it again after an exponential backoff
+ *       {@code min(maxDelay, baseDelay x 2^(attempt-1))}, of which the {@code jitter} fraction is
+ *       randomised so jobs that failed together do not come back together;</li>
+ *   <li>{@link Outcome#DEAD_LETTER} - transient, but {@code maxAttempts} is used up or the shared
+ *       {@link RetryBudget} is empty.</li>
+ * </ul>
+ * Anything else (timeouts, connection errors, DB errors) counts as transient.
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final RetryBudget budget;
+
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    @Builder
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, double jitter, RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.jitter = Math.max(0, Math.min(1, jitter));
+        this.budget = budget;
+    }
+
+    public enum Outcome {
+        RETRY,
+        FAIL,
+        DEAD_LETTER
+    }
+
+    /**
+     * @param delay how long to wait before the next attempt, only set for {@link Outcome#RETRY}
+     */
+    public record Decision(Outcome outcome, Duration delay) {
+    }
+
+    /**
+     * @param job the job after its failed attempt; {@link Job#getAttempts()} includes that attempt
+     */
+    public Decision onFailure(Job job, Throwable error) {
+        if (!isRetryable(error)) {
+            return new Decision(Outcome.FAIL, null);
+        }
+        if (isExhausted(job)) {
+            deadLettered.incrementAndGet();
+            return new Decision(Outcome.DEAD_LETTER, null);
+        }
+        if (budget != null && !budget.tryAcquire()) {
+            budgetExhausted.incrementAndGet();
+            deadLettered.incrementAndGet();
+            return new Decision(Outcome.DEAD_LETTER, null);
+        }
+        retried.incrementAndGet();
+        return new Decision(Outcome.RETRY, backoff(job.getAttempts()));
+    }
+
+    /**
+     * True once the failed attempt was the job's last one.
+     */
+    public boolean isExhausted(Job job) {
+        return job.getAttempts() >= maxAttempts;
+    }
+
+    /**
+     * True for a freshly claimed job that already used up its attempts without failing - its earlier runs
+     * were lost with their worker and re-queued by the lease reaper. Such a job is dead-lettered instead of
+     * run again, so a job that takes workers down with it cannot loop forever.
+     */
+    public boolean isAbandoned(Job job) {
+        if (job.getAttempts() <= maxAttempts) {
+            return false;
+        }
+        deadLettered.incrementAndGet();
+        return true;
+    }
+
+    public boolean isRetryable(Throwable error) {
+        if (error instanceof ExternalServiceException e) {
+            int status = e.getStatusCode();
+            return status == 408 || status == 429 || status >= 500;
+        }
+        return !(error instanceof IllegalArgumentException || error instanceof DecodeException
+            || error instanceof CancellationException);
+    }
+
+    /**
+     * Delay before the attempt following {@code attempt} (1-based).
+     */
+    public Duration backoff(int attempt) {
+        int doublings = Math.min(Math.max(attempt - 1, 0), 30);
+        long delayMs = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << doublings);
+        long jitterMs = (long) (delayMs * jitter);
+        long randomMs = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0;
+        return Duration.ofMillis(delayMs - jitterMs + randomMs);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public JsonObject metrics() {
+        JsonObject metrics = new JsonObject()
+            .put("maxAttempts", maxAttempts)
+            .put("retried", retried.get())
+            .put("deadLettered", deadLettered.get())
+            .put("budgetExhausted", budgetExhausted.get());
+        if (budget != null) {
+            metrics.put("budgetAvailable", (long) budget.getAvailable());
+        }
+        return metrics;
+    }
+}
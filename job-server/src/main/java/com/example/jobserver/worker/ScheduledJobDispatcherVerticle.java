@@ -0,0 +1,189 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.ScheduledJob;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands SCHEDULED jobs to the worker path when their {@code run_at} arrives.
+ * Only jobs due within the next {@code horizonMs} are held in memory, in a {@link TimingWheel};
+ * the window is (re)loaded from the jobs table through {@code idx_jobs_status_run_at}, so jobs
+ * scheduled far ahead cost nothing until they get close, and there is no timer per job.
+ * The window is rebuilt from the table on startup, so restarts lose nothing.
+ *
+ * <p>A due job is moved to PENDING with a conditional UPDATE and its user's workers are woken up,
+ * after which it is an ordinary queued job. An overdue sweep releases anything no node released on
+ * time (e.g. scheduled through a node that has since died).
+ */
+@Slf4j
+public class ScheduledJobDispatcherVerticle extends AbstractVerticle {
+
+    /**
+     * Sent by JobService for every new SCHEDULED job, so jobs inside the loaded window are not missed.
+     */
+    public static final String JOB_SCHEDULED_ADDRESS = "job.scheduled";
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final JobRepository jobRepository;
+    private final long tickMs;
+    private final long horizonMs;
+    private final int loadBatchSize;
+
+    private TimingWheel<ScheduledJob> wheel;
+    private final List<ScheduledJob> due = new ArrayList<>();
+    // Every SCHEDULED job with run_at before loadedUntil is in the wheel, being loaded, or already released
+    private Instant loadedUntil;
+    private ScheduledJob loadCursor;
+    private boolean recovered;
+    private boolean loading;
+    private boolean releasing;
+    private long tickTimerId = -1;
+    private long loadTimerId = -1;
+
+    public ScheduledJobDispatcherVerticle(JobRepository jobRepository, AppConfig config) {
+        this.jobRepository = jobRepository;
+        this.tickMs = config.getSchedulerTickMs();
+        this.horizonMs = config.getSchedulerHorizonMs();
+        this.loadBatchSize = config.getSchedulerLoadBatchSize();
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        long now = System.currentTimeMillis();
+        wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, now);
+        loadedUntil = Instant.ofEpochMilli(now);
+
+        vertx.eventBus().<JsonObject>consumer(JOB_SCHEDULED_ADDRESS, message -> {
+            JsonObject body = message.body();
+            Instant runAt = Instant.ofEpochMilli(body.getLong("runAt"));
+            if (runAt.isBefore(loadedUntil)) {
+                // Inside the window the loader has read or is reading; it may not see this job
+                schedule(new ScheduledJob(body.getString("jobId"), body.getLong("userId"), runAt));
+            }
+        });
+
+        tickTimerId = vertx.setPeriodic(tickMs, id -> tick());
+        loadTimerId = vertx.setPeriodic(Math.max(tickMs, horizonMs / 2), id -> load());
+
+        log.info("ScheduledJobDispatcherVerticle started (tickMs={}, horizonMs={}, loadBatchSize={})",
+            tickMs, horizonMs, loadBatchSize);
+        // Rebuild the window from the table (and release whatever fell due while we were down)
+        load();
+        startPromise.complete();
+    }
+
+    @Override
+    public void stop() {
+        vertx.cancelTimer(tickTimerId);
+        vertx.cancelTimer(loadTimerId);
+    }
+
+    private void schedule(ScheduledJob job) {
+        if (!wheel.add(job.runAt().toEpochMilli(), job)) {
+            due.add(job);
+        }
+    }
+
+    private void tick() {
+        wheel.advance(System.currentTimeMillis(), due::add);
+        releaseDue();
+    }
+
+    /**
+     * Flips due jobs to PENDING in one statement per batch, then wakes up workers for their users.
+     */
+    private void releaseDue() {
+        if (releasing || due.isEmpty()) {
+            return;
+        }
+        releasing = true;
+        List<ScheduledJob> batch = new ArrayList<>(due.subList(0, Math.min(due.size(), loadBatchSize)));
+        due.subList(0, batch.size()).clear();
+
+        jobRepository.releaseScheduled(batch.stream().map(ScheduledJob::id).toList())
+            .onComplete(ar -> {
+                releasing = false;
+                if (ar.failed()) {
+                    // Keep them: the next tick retries, and the overdue sweep is the last resort
+                    log.error("Failed to release {} scheduled jobs: {}", batch.size(), ar.cause().getMessage());
+                    due.addAll(batch);
+                    return;
+                }
+                Map<Long, String> hints = new HashMap<>();
+                batch.forEach(job -> hints.putIfAbsent(job.userId(), job.id()));
+                hints.forEach((userId, jobId) -> vertx.eventBus().send(JobWorkerVerticle.JOB_PROCESS_ADDRESS,
+                    new JsonObject().put("jobId", jobId).put("userId", userId)));
+                log.debug("Released {} scheduled jobs", ar.result());
+                releaseDue();
+            });
+    }
+
+    /**
+     * Extends the in-memory window to {@code now + horizonMs}, paging through the index by (run_at, id).
+     */
+    private void load() {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        // Moved up front: jobs submitted while the pages load are added by the consumer (duplicates are harmless)
+        loadedUntil = Instant.now().plusMillis(horizonMs);
+
+        sweepOverdue(0)
+            .compose(v -> loadPage(loadedUntil))
+            .onComplete(ar -> {
+                loading = false;
+                if (ar.failed()) {
+                    log.error("Failed to load scheduled jobs: {}", ar.cause().getMessage());
+                }
+            });
+    }
+
+    private Future<Void> loadPage(Instant until) {
+        return jobRepository.findScheduled(until, loadCursor, loadBatchSize)
+            .compose(jobs -> {
+                jobs.forEach(this::schedule);
+                if (!jobs.isEmpty()) {
+                    loadCursor = jobs.get(jobs.size() - 1);
+                }
+                return jobs.size() == loadBatchSize ? loadPage(until) : Future.succeededFuture();
+            });
+    }
+
+    /**
+     * Releases jobs that are past due yet still SCHEDULED straight in the table, batch by batch.
+     * On startup that is everything overdue (e.g. after downtime), so it never has to pass through memory.
+     * Afterwards only jobs well past due qualify - on a healthy node the wheel got there first, so this
+     * normally touches nothing, but it recovers jobs scheduled through a node that has since died.
+     */
+    private Future<Void> sweepOverdue(int releasedSoFar) {
+        long graceMs = recovered ? Math.max(horizonMs / 2, 10 * tickMs) : 0;
+        Instant cutoff = Instant.now().minusMillis(graceMs);
+        return jobRepository.releaseOverdueScheduled(cutoff, loadBatchSize)
+            .compose(released -> {
+                int total = releasedSoFar + released;
+                if (released == loadBatchSize) {
+                    return sweepOverdue(total);
+                }
+                recovered = true;
+                if (total > 0) {
+                    log.warn("Released {} overdue scheduled jobs", total);
+                    vertx.eventBus().publish(JobWorkerVerticle.JOB_PROCESS_ADDRESS, new JsonObject());
+                }
+                return Future.succeededFuture();
+            });
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.jobserver.worker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Each level is a ring of {@code wheelSize} buckets spanning
+ * {@code tickMs x wheelSize}; deadlines beyond that go to a coarser overflow level, created on demand,
+ * and cascade down once the finer level's window reaches them. Adding an item and expiring it are
+ * O(1) and there is no timer per item, so memory is the only cost of holding many deadlines.
+ *
+ * <p>Items fire at most one tick late and never early. Not thread-safe: meant to be driven from a single
+ * verticle context via {@link #advance}.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long intervalMs;
+    private final List<List<Entry<T>>> buckets;
+
+    private long currentTime;
+    private int size;
+    private TimingWheel<T> overflow;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.intervalMs = tickMs * wheelSize;
+        this.buckets = new ArrayList<>(Collections.nCopies(wheelSize, null));
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /**
+     * Schedules an item.
+     *
+     * @return {@code false} if the deadline has already passed; the item is not added and the caller
+     *     should handle it right away
+     */
+    public boolean add(long deadlineMs, T item) {
+        if (deadlineMs < currentTime) {
+            return false;
+        }
+        insert(new Entry<>(deadlineMs, item));
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMs}, handing every item whose deadline has passed to {@code expired}.
+     */
+    public void advance(long nowMs, Consumer<T> expired) {
+        while (currentTime + tickMs <= nowMs) {
+            // The bucket for [currentTime, currentTime + tick) is now entirely in the past
+            List<Entry<T>> due = takeBucket(currentTime);
+            currentTime += tickMs;
+            if (due != null) {
+                due.forEach(entry -> expired.accept(entry.item));
+            }
+            if (overflow != null && currentTime % intervalMs == 0) {
+                // Our window just moved onto the next overflow bucket: spread it over this level
+                List<Entry<T>> cascading = overflow.cascade(currentTime);
+                if (cascading != null) {
+                    size -= cascading.size();
+                    cascading.forEach(this::insert);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of items waiting in this wheel and all overflow levels.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(Entry<T> entry) {
+        size++;
+        if (entry.deadlineMs < currentTime + intervalMs) {
+            int index = (int) ((entry.deadlineMs / tickMs) % wheelSize);
+            List<Entry<T>> bucket = buckets.get(index);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.set(index, bucket);
+            }
+            bucket.add(entry);
+        } else {
+            overflowWheel().insert(entry);
+        }
+    }
+
+    private List<Entry<T>> takeBucket(long time) {
+        int index = (int) ((time / tickMs) % wheelSize);
+        List<Entry<T>> bucket = buckets.get(index);
+        if (bucket != null) {
+            buckets.set(index, null);
+            size -= bucket.size();
+        }
+        return bucket;
+    }
+
+    /**
+     * Called by the finer level when its window starts at {@code time}: removes and returns the bucket
+     * covering [time, time + tick), first pulling in whatever the next level holds for our own window.
+     */
+    private List<Entry<T>> cascade(long time) {
+        if (time >= currentTime + tickMs) {
+            currentTime = time - (time % tickMs);
+            if (overflow != null && currentTime % intervalMs == 0) {
+                List<Entry<T>> cascading = overflow.cascade(currentTime);
+                if (cascading != null) {
+                    size -= cascading.size();
+                    cascading.forEach(this::insert);
+                }
+            }
+        }
+        return takeBucket(time);
+    }
+
+    private TimingWheel<T> overflowWheel() {
+        if (overflow == null) {
+            overflow = new TimingWheel<>(intervalMs, wheelSize, currentTime);
+        }
+        return overflow;
+    }
+
+    private record Entry<T>(long deadlineMs, T item) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.jobserver.worker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node-wide load accounting shared by all {@link JobWorkerVerticle} instances.
+ * Enforces the global in-flight limit and admits new jobs only up to the queue's high-water mark.
+ * Worker instances run on different threads, so all state is atomic.
+ */
+public class WorkerLoad {
+
+    private final int globalMaxInFlight;
+    private final int highWaterMark;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger locallyQueued = new AtomicInteger();
+    // Jobs admitted since the backlog was last counted, which that count cannot include yet
+    private final AtomicInteger admitted = new AtomicInteger();
+    private volatile int pendingBacklog;
+
+    public WorkerLoad(int globalMaxInFlight, int highWaterMark) {
+        this.globalMaxInFlight = globalMaxInFlight;
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * Takes one global in-flight slot if one is free.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= globalMaxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Tracks jobs claimed by a worker that are waiting for a free slot.
+     */
+    public void addLocallyQueued(int delta) {
+        locallyQueued.addAndGet(delta);
+    }
+
+    /**
+     * Updated by {@link QueueDepthMonitorVerticle} with the (capped) number of PENDING rows, which from now on
+     * include the jobs admitted since the previous count.
+     */
+    public void updatePendingBacklog(int pending) {
+        this.pendingBacklog = pending;
+        admitted.set(0);
+    }
+
+    /**
+     * Admits up to {@code jobs} new jobs into the headroom left below the high-water mark and counts them into
+     * the queue depth until the backlog is counted again, so concurrent submissions cannot overshoot the mark
+     * together.
+     *
+     * @return how many of the jobs were admitted; the others should be rejected
+     */
+    public int tryAdmit(int jobs) {
+        while (true) {
+            int current = admitted.get();
+            int headroom = highWaterMark - pendingBacklog - locallyQueued.get() - current;
+            int granted = Math.max(0, Math.min(jobs, headroom));
+            if (granted == 0 || admitted.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getLocallyQueued() {
+        return locallyQueued.get();
+    }
+
+    public int getGlobalMaxInFlight() {
+        return globalMaxInFlight;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Jobs accepted but not yet running: PENDING rows, jobs admitted since they were counted, and jobs waiting
+     * in worker-local queues.
+     */
+    public int getQueueDepth() {
+        return pendingBacklog + admitted.get() + locallyQueued.get();
+    }
+
+    /**
+     * True once the queue depth reaches the high-water mark; new submissions should be rejected.
+     */
+    public boolean isOverloaded() {
+        return getQueueDepth() >= highWaterMark;
+    }
+}
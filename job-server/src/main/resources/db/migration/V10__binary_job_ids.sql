@@ -0,0 +1,7 @@
+-- Job ids are stored as 16-byte binary UUIDs instead of their 36-character text: the primary key, and the copy
+-- of it at the end of every secondary index entry, shrink by more than half. New ids are time-ordered (UUIDv7),
+-- so inserts append to the clustered index rather than splitting random pages; existing ids keep their value.
+-- Each step rebuilds the table; on a large table run them with an online schema change tool instead.
+ALTER TABLE jobs MODIFY COLUMN id VARBINARY(36) NOT NULL;
+UPDATE jobs SET id = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE jobs MODIFY COLUMN id BINARY(16) NOT NULL;
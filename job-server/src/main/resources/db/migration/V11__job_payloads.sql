@@ -0,0 +1,16 @@
+-- Parameters and results move out of the jobs row into job_payloads, one row per job keyed by its id.
+-- The jobs rows that claims, status updates and status reads touch shrink to a few dozen bytes, so many
+-- more of them share a page and stay in the buffer pool; payloads are read only where they are returned.
+-- No foreign key: the repository writes a job and its payload in one transaction.
+CREATE TABLE job_payloads (
+    job_id BINARY(16) NOT NULL PRIMARY KEY,
+    parameters JSON NOT NULL,
+    result JSON NULL
+);
+
+INSERT INTO job_payloads (job_id, parameters, result)
+SELECT id, parameters, result FROM jobs;
+
+ALTER TABLE jobs
+    DROP COLUMN parameters,
+    DROP COLUMN result;
@@ -0,0 +1,34 @@
+-- Prepares jobs and job_payloads for range partitioning on created_at, which the server applies and rotates
+-- when JOB_PARTITIONING_ENABLED is set (see PartitionMaintenanceVerticle). This migration itself does not
+-- partition anything.
+--
+-- Every unique key of a partitioned table must contain the partitioning column, so created_at joins both
+-- primary keys; job_payloads gets its own copy so its partitions can be dropped along with those of jobs.
+-- Partitioned InnoDB tables cannot have foreign keys either. The ones from jobs to users and projects stay
+-- here; PartitionMaintenanceVerticle drops them right before it partitions the table.
+--
+-- A job's created_at becomes the second its UUIDv7 id was generated in, so a lookup by id also knows which
+-- partition to read. The repository writes new rows that way; existing rows with a v7 id are aligned here.
+-- Rows with older, random ids keep their created_at. updated_at is set to itself so its ON UPDATE
+-- CURRENT_TIMESTAMP does not stamp every backfilled job with the migration time. Each step rebuilds the table;
+-- on a large table run them with an online schema change tool instead.
+UPDATE jobs
+SET created_at = TIMESTAMP '1970-01-01 00:00:00' + INTERVAL CONV(HEX(LEFT(id, 6)), 16, 10) DIV 1000 SECOND,
+    updated_at = updated_at
+WHERE ASCII(SUBSTRING(id, 7, 1)) >> 4 = 7;
+
+ALTER TABLE jobs
+    MODIFY COLUMN created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE job_payloads
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP AFTER job_id;
+
+UPDATE job_payloads p
+JOIN jobs j ON j.id = p.job_id
+SET p.created_at = j.created_at;
+
+ALTER TABLE job_payloads
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (job_id, created_at);
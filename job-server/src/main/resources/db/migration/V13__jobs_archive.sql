@@ -0,0 +1,19 @@
+-- Finished jobs past ARCHIVE_AFTER_DAYS leave jobs and job_payloads for jobs_archive, a chunk at a time
+-- (JobArchiverVerticle), so the working set of the live tables stays in the buffer pool.
+-- One row per job with its payloads: an archived job is only ever read back whole, by id.
+CREATE TABLE jobs_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NULL,
+    status ENUM('COMPLETED', 'FAILED', 'DEAD_LETTER', 'CANCELLED') NOT NULL,
+    priority TINYINT NOT NULL,
+    run_at TIMESTAMP(3) NULL,
+    attempts INT NOT NULL,
+    timeout_seconds INT NULL,
+    error_message TEXT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    parameters JSON NULL,
+    result JSON NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,14 @@
+-- Every status change of a job is appended here, in the transaction that makes it: the job's history. The jobs
+-- row stays the source of truth, its latest error included; these rows are only ever read as a timeline.
+-- Rows are only ever inserted, at the end of the auto-increment primary key; a job's timeline is read through
+-- idx_job_events_job_id in the order it happened.
+CREATE TABLE job_events (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    job_id BINARY(16) NOT NULL,
+    status ENUM('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'SCHEDULED', 'DEAD_LETTER', 'CANCELLED') NOT NULL,
+    worker_id VARCHAR(64) NULL,
+    run_at TIMESTAMP(3) NULL,
+    error_message TEXT NULL,
+    created_at TIMESTAMP(3) NOT NULL,
+    INDEX idx_job_events_job_id (job_id, id)
+);
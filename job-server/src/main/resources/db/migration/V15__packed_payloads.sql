@@ -0,0 +1,11 @@
+-- Parameters and results above PAYLOAD_COMPRESSION_THRESHOLD_BYTES are stored compressed in *_packed instead of
+-- the JSON column, which is then NULL. The first byte of a packed value names its codec (PayloadCodec), so the
+-- codec can change without rewriting what is already stored. Smaller payloads stay readable JSON.
+ALTER TABLE job_payloads
+    MODIFY parameters JSON NULL,
+    ADD COLUMN parameters_packed LONGBLOB NULL AFTER parameters,
+    ADD COLUMN result_packed LONGBLOB NULL AFTER result;
+
+ALTER TABLE jobs_archive
+    ADD COLUMN parameters_packed LONGBLOB NULL AFTER parameters,
+    ADD COLUMN result_packed LONGBLOB NULL AFTER result;
@@ -0,0 +1,16 @@
+-- The lane a PENDING job is claimed from, apart from the priority it was submitted with: aging raises
+-- effective_priority while the job waits, at most to one lane below the top, and priority stays what the
+-- client asked for. Every time a job becomes PENDING its effective_priority starts again at its priority.
+-- Jobs aged before this migration already had their priority overwritten; they keep it.
+ALTER TABLE jobs
+    ADD COLUMN effective_priority TINYINT NOT NULL DEFAULT 5 AFTER priority;
+
+UPDATE jobs SET effective_priority = priority;
+
+-- Workers claim in (effective_priority DESC, created_at) order, and aging and archiving walk one lane at a
+-- time, straight off these indexes. They replace the V4 and V5 ones on priority.
+CREATE INDEX idx_jobs_status_effective_priority_created_at ON jobs (status, effective_priority DESC, created_at);
+CREATE INDEX idx_jobs_status_user_effective_priority_created_at
+    ON jobs (status, user_id, effective_priority DESC, created_at);
+DROP INDEX idx_jobs_status_priority_created_at ON jobs;
+DROP INDEX idx_jobs_status_user_priority_created_at ON jobs;
@@ -0,0 +1,4 @@
+-- The lane a job is claimed from after the event, on the events that set it: submission and every return to
+-- PENDING start it at the job's priority, and each aging step raises it. NULL on the other events.
+ALTER TABLE job_events
+    ADD COLUMN effective_priority TINYINT NULL AFTER run_at;
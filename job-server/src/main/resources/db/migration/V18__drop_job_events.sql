@@ -0,0 +1,3 @@
+-- The job_events journal (V14, V17) is gone: the jobs row is where every transition happens and the only
+-- record of a job's state, so nothing reads or writes these rows any more.
+DROP TABLE IF EXISTS job_events;
@@ -0,0 +1,3 @@
+-- Workers claim PENDING jobs oldest-first with SELECT ... FOR UPDATE SKIP LOCKED.
+-- This index lets the claim read just the head of the queue instead of scanning the table.
+CREATE INDEX idx_jobs_status_created_at ON jobs (status, created_at);
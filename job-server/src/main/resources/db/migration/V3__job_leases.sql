@@ -0,0 +1,11 @@
+-- A claimed job is leased to one worker. The worker renews the lease while the job runs;
+-- if the lease expires (node died, redeploy), the reaper puts the job back to PENDING.
+ALTER TABLE jobs
+    ADD COLUMN lease_owner VARCHAR(64) NULL AFTER error_message,
+    ADD COLUMN lease_expires_at TIMESTAMP(3) NULL AFTER lease_owner;
+
+-- The reaper looks up expired PROCESSING leases through this index only.
+CREATE INDEX idx_jobs_status_lease_expires_at ON jobs (status, lease_expires_at);
+
+-- Jobs stuck in PROCESSING before leases existed are treated as already expired.
+UPDATE jobs SET lease_expires_at = CURRENT_TIMESTAMP(3) WHERE status = 'PROCESSING';
@@ -0,0 +1,9 @@
+-- Priority lanes: higher values are claimed first, FIFO within a lane.
+-- Existing rows land in the default lane.
+ALTER TABLE jobs
+    ADD COLUMN priority TINYINT NOT NULL DEFAULT 5 AFTER status;
+
+-- Workers claim in (priority DESC, created_at) order and the aging task walks one lane at a time,
+-- both straight off this index. It also serves every status-only lookup, so the V2 index is redundant.
+CREATE INDEX idx_jobs_status_priority_created_at ON jobs (status, priority DESC, created_at);
+DROP INDEX idx_jobs_status_created_at ON jobs;
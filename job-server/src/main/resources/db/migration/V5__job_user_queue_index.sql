@@ -0,0 +1,3 @@
+-- Fair-share dispatch claims per user: this index reads the head of one user's queue directly
+-- and lists users with pending work via a loose index scan.
+CREATE INDEX idx_jobs_status_user_priority_created_at ON jobs (status, user_id, priority DESC, created_at);
@@ -0,0 +1,7 @@
+-- Delayed jobs wait as SCHEDULED until run_at, then become ordinary PENDING jobs.
+ALTER TABLE jobs
+    MODIFY COLUMN status ENUM('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'SCHEDULED') NOT NULL,
+    ADD COLUMN run_at TIMESTAMP(3) NULL AFTER priority;
+
+-- The scheduler only ever reads a time window of SCHEDULED rows (and overdue ones) through this index.
+CREATE INDEX idx_jobs_status_run_at ON jobs (status, run_at);
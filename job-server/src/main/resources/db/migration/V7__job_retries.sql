@@ -0,0 +1,5 @@
+-- attempts counts claims, so a job that keeps crashing its worker is caught as well.
+-- DEAD_LETTER is terminal: retries exhausted (attempts or retry budget); FAILED stays for non-retryable errors.
+ALTER TABLE jobs
+    MODIFY COLUMN status ENUM('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'SCHEDULED', 'DEAD_LETTER') NOT NULL,
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0 AFTER run_at;
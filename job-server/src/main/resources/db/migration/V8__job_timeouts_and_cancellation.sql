@@ -0,0 +1,5 @@
+-- timeout_seconds is the per-job deadline for the external call; NULL means the server default.
+-- CANCELLED is terminal: set by DELETE /jobs/{jobId} on jobs that had not finished yet.
+ALTER TABLE jobs
+    MODIFY COLUMN status ENUM('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'SCHEDULED', 'DEAD_LETTER', 'CANCELLED') NOT NULL,
+    ADD COLUMN timeout_seconds INT NULL AFTER attempts;
@@ -0,0 +1,4 @@
+-- Job listings per user, newest first: the index holds every column a listing returns, so a list is read
+-- from the index alone, in order, without touching the rows and their JSON payloads.
+-- It can also enforce the user_id foreign key, so MySQL drops the index it created for that in V1.
+CREATE INDEX idx_jobs_user_created_at ON jobs (user_id, created_at, id, status, priority, project_id);
@@ -0,0 +1,143 @@
+package com.example.jobserver.clients.impl;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.clients.Impl.AdaptiveConcurrencyProcessor;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(VertxExtension.class)
+class AdaptiveConcurrencyProcessorTest {
+
+    private static final int CAPACITY = 8;
+    private static final long BASE_LATENCY_MS = 20;
+    private static final int CALLERS = 40;
+    private static final long RUN_MS = 4000;
+
+    @Test
+    @DisplayName("process - should back off from an oversized limit to the capacity knee")
+    void process_shouldConvergeDown_whenStartingAboveCapacity(Vertx vertx, VertxTestContext testContext) {
+        SimulatedProcessor simulated = new SimulatedProcessor(vertx);
+        AdaptiveConcurrencyProcessor limiter = newLimiter(simulated, 100);
+        // Only the second half of the run counts: the first calls go out before any RTT was observed
+        vertx.setTimer(RUN_MS / 2, id -> simulated.peakConcurrency.set(0));
+
+        runLoad(vertx, limiter, () -> testContext.verify(() -> {
+            assertThat(limiter.getLimit()).isBetween(CAPACITY / 2, CAPACITY * 3);
+            assertThat(simulated.peakConcurrency.get()).isLessThan(CALLERS);
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    @DisplayName("process - should grow a small limit up to the capacity knee")
+    void process_shouldConvergeUp_whenStartingBelowCapacity(Vertx vertx, VertxTestContext testContext) {
+        SimulatedProcessor simulated = new SimulatedProcessor(vertx);
+        AdaptiveConcurrencyProcessor limiter = newLimiter(simulated, 1);
+
+        runLoad(vertx, limiter, () -> testContext.verify(() -> {
+            assertThat(limiter.getLimit()).isBetween(CAPACITY / 2, CAPACITY * 3);
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    @DisplayName("process - should pass results through and expose metrics")
+    void process_shouldPassThroughResults(Vertx vertx, VertxTestContext testContext) {
+        AdaptiveConcurrencyProcessor limiter = newLimiter(new SimulatedProcessor(vertx), 4);
+
+        limiter.process(job())
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                assertThat(result.payload().getString("status")).isEqualTo("done");
+                JsonObject metrics = limiter.metrics();
+                assertThat(metrics.getInteger("inFlight")).isZero();
+                assertThat(metrics.getJsonArray("recentRttMs")).hasSize(1);
+                testContext.completeNow();
+            })));
+    }
+
+    private AdaptiveConcurrencyProcessor newLimiter(ExternalJobProcessor delegate, int initialLimit) {
+        return AdaptiveConcurrencyProcessor.builder()
+            .delegate(delegate)
+            .initialLimit(initialLimit)
+            .minLimit(1)
+            .maxLimit(200)
+            .latencyTolerance(2.0)
+            .backoffRatio(0.9)
+            .build();
+    }
+
+    /**
+     * Runs {@link #CALLERS} closed-loop callers against the limiter for {@link #RUN_MS}, then checks.
+     */
+    private void runLoad(Vertx vertx, AdaptiveConcurrencyProcessor limiter, Runnable check) {
+        long deadline = System.currentTimeMillis() + RUN_MS;
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < CALLERS; i++) {
+                callUntil(limiter, deadline);
+            }
+        });
+        vertx.setTimer(RUN_MS + 500, id -> check.run());
+    }
+
+    private void callUntil(AdaptiveConcurrencyProcessor limiter, long deadline) {
+        if (System.currentTimeMillis() >= deadline) {
+            return;
+        }
+        limiter.process(job()).onComplete(ar -> callUntil(limiter, deadline));
+    }
+
+    private static Job job() {
+        return Job.builder()
+            .id("job")
+            .userId(1L)
+            .status(JobStatus.PROCESSING)
+            .parameters(new JsonObject())
+            .createdAt(Instant.now())
+            .updatedAt(Instant.now())
+            .build();
+    }
+
+    /**
+     * Service with a capacity knee: latency stays flat up to {@link #CAPACITY} concurrent calls,
+     * then grows linearly with the overload, like a server queueing work behind a fixed pool.
+     */
+    private static class SimulatedProcessor implements ExternalJobProcessor {
+        private final Vertx vertx;
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger peakConcurrency = new AtomicInteger();
+
+        SimulatedProcessor(Vertx vertx) {
+            this.vertx = vertx;
+        }
+
+        @Override
+        public Future<JobResult> process(Job job) {
+            int current = concurrency.incrementAndGet();
+            peakConcurrency.accumulateAndGet(current, Math::max);
+            long latency = BASE_LATENCY_MS * Math.max(1, (current + CAPACITY - 1) / CAPACITY);
+
+            Promise<JobResult> promise = Promise.promise();
+            vertx.setTimer(latency, id -> {
+                concurrency.decrementAndGet();
+                promise.complete(new JobResult(new JsonObject().put("status", "done")));
+            });
+            return promise.future();
+        }
+    }
+}
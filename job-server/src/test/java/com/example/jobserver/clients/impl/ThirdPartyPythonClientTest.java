@@ -1,55 +1,36 @@
 package com.example.jobserver.clients.impl;
 
+import com.example.jobserver.clients.ExternalServiceException;
 import com.example.jobserver.clients.Impl.ThirdPartyPythonClient;
 import com.example.jobserver.model.Job;
 import com.example.jobserver.model.JobStatus;
 
 import io.vertx.core.Future;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.client.HttpRequest;
-import io.vertx.ext.web.client.HttpResponse;
-import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.*;
 
-@ExtendWith({VertxExtension.class, MockitoExtension.class})
+@ExtendWith(VertxExtension.class)
 class ThirdPartyPythonClientTest {
 
-    private static final String EXTERNAL_API_URL = "http://localhost:8081/";
-
-    @Mock
-    private WebClient webClient;
-
-    @Mock
-    private HttpRequest<Buffer> httpRequest;
-
-    @Mock
-    private HttpResponse<Buffer> httpResponse;
-
-    private ThirdPartyPythonClient client;
-
-    @BeforeEach
-    void setUp() {
-        client = new ThirdPartyPythonClient(webClient, EXTERNAL_API_URL);
-    }
-
     @Test
     @DisplayName("process - should return JobResult on successful API call")
-    void process_shouldReturnJobResult_onSuccess(VertxTestContext testContext) {
+    void process_shouldReturnJobResult_onSuccess(Vertx vertx, VertxTestContext testContext) {
         // Given
         Job job = Job.builder()
                 .id("test-job-id")
@@ -63,32 +44,35 @@ class ThirdPartyPythonClientTest {
         JsonObject responseBody = new JsonObject()
                 .put("status", "success")
                 .put("data", new JsonObject().put("result", "processed"));
-
-        when(webClient.postAbs(anyString())).thenReturn(httpRequest);
-        when(httpRequest.sendJsonObject(any(JsonObject.class))).thenReturn(Future.succeededFuture(httpResponse));
-        when(httpResponse.statusCode()).thenReturn(200);
-        when(httpResponse.bodyAsJsonObject()).thenReturn(responseBody);
-
-        // When
-        client.process(job)
-            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
-                // Then
-                assertThat(result).isNotNull();
-                assertThat(result.payload()).isEqualTo(responseBody);
-                
-                // Verify API was called with correct URL
-                verify(webClient).postAbs("http://localhost:8081/process");
-                verify(httpRequest).sendJsonObject(argThat(body -> 
-                    body.getString("jobId").equals("test-job-id")
-                ));
-                
-                testContext.completeNow();
-            })));
+        AtomicReference<String> path = new AtomicReference<>();
+        AtomicReference<JsonObject> body = new AtomicReference<>();
+
+        listen(vertx, request -> {
+            path.set(request.path());
+            request.body().onSuccess(buffer -> {
+                body.set(buffer.toJsonObject());
+                request.response().end(responseBody.toBuffer());
+            });
+        }).onComplete(testContext.succeeding(server -> {
+            // When
+            client(vertx, server).process(job)
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    // Then
+                    assertThat(result).isNotNull();
+                    assertThat(result.payload()).isEqualTo(responseBody);
+
+                    // Verify API was called with correct URL
+                    assertThat(path.get()).isEqualTo("/process");
+                    assertThat(body.get().getString("jobId")).isEqualTo("test-job-id");
+
+                    testContext.completeNow();
+                })));
+        }));
     }
 
     @Test
     @DisplayName("process - should fail when API returns error status")
-    void process_shouldFail_whenApiReturnsErrorStatus(VertxTestContext testContext) {
+    void process_shouldFail_whenApiReturnsErrorStatus(Vertx vertx, VertxTestContext testContext) {
         // Given
         Job job = Job.builder()
                 .id("test-job-id")
@@ -99,24 +83,25 @@ class ThirdPartyPythonClientTest {
                 .updatedAt(Instant.now())
                 .build();
 
-        when(webClient.postAbs(anyString())).thenReturn(httpRequest);
-        when(httpRequest.sendJsonObject(any(JsonObject.class))).thenReturn(Future.succeededFuture(httpResponse));
-        when(httpResponse.statusCode()).thenReturn(500);
-        when(httpResponse.bodyAsString()).thenReturn("Internal Server Error");
-
-        // When
-        client.process(job)
-            .onComplete(testContext.failing(err -> testContext.verify(() -> {
-                // Then
-                assertThat(err.getMessage()).contains("External API returned error: 500");
-                testContext.completeNow();
-            })));
+        listen(vertx, request -> request.response().setStatusCode(500).end("Internal Server Error"))
+            .onComplete(testContext.succeeding(server -> {
+                // When
+                client(vertx, server).process(job)
+                    .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                        // Then
+                        assertThat(err.getMessage()).contains("External API returned error: 500")
+                            .contains("Internal Server Error");
+                        assertThat(err).isInstanceOf(ExternalServiceException.class);
+                        assertThat(((ExternalServiceException) err).getStatusCode()).isEqualTo(500);
+                        testContext.completeNow();
+                    })));
+            }));
     }
 
     @Test
     @DisplayName("process - should fail when connection error")
-    void process_shouldFail_whenConnectionError(VertxTestContext testContext) {
-        // Given
+    void process_shouldFail_whenConnectionError(Vertx vertx, VertxTestContext testContext) {
+        // Given - a port nothing listens on any more
         Job job = Job.builder()
                 .id("test-job-id")
                 .userId(1L)
@@ -126,16 +111,55 @@ class ThirdPartyPythonClientTest {
                 .updatedAt(Instant.now())
                 .build();
 
-        when(webClient.postAbs(anyString())).thenReturn(httpRequest);
-        when(httpRequest.sendJsonObject(any(JsonObject.class)))
-                .thenReturn(Future.failedFuture(new RuntimeException("Connection refused")));
-
-        // When
-        client.process(job)
-            .onComplete(testContext.failing(err -> testContext.verify(() -> {
-                // Then
-                assertThat(err.getMessage()).contains("Connection refused");
-                testContext.completeNow();
-            })));
+        listen(vertx, request -> { })
+            .compose(server -> server.close().map(v -> client(vertx, server)))
+            .onComplete(testContext.succeeding(client -> {
+                // When
+                client.process(job)
+                    .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                        // Then
+                        assertThat(err.getMessage()).contains("Connection refused");
+                        testContext.completeNow();
+                    })));
+            }));
+    }
+
+    @Test
+    @DisplayName("process - should abort the HTTP request and free the caller when aborted")
+    void process_shouldResetRequest_whenAborted(Vertx vertx, VertxTestContext testContext) {
+        // Given - a real server that accepts the call and never answers
+        Checkpoint connectionClosed = testContext.checkpoint();
+        Checkpoint callFailed = testContext.checkpoint();
+        Promise<Void> abort = Promise.promise();
+        Job job = Job.builder()
+                .id("test-job-id")
+                .userId(1L)
+                .status(JobStatus.PROCESSING)
+                .parameters(new JsonObject())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+
+        listen(vertx, request -> {
+                request.connection().closeHandler(v -> connectionClosed.flag());
+                abort.tryFail(new CancellationException("cancelled"));
+            })
+            .onComplete(testContext.succeeding(server -> {
+                // When
+                client(vertx, server).process(job, abort.future())
+                    .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                        // Then
+                        assertThat(err).isInstanceOf(CancellationException.class);
+                        callFailed.flag();
+                    })));
+            }));
+    }
+
+    private static Future<HttpServer> listen(Vertx vertx, Handler<HttpServerRequest> handler) {
+        return vertx.createHttpServer().requestHandler(handler).listen(0);
+    }
+
+    private static ThirdPartyPythonClient client(Vertx vertx, HttpServer server) {
+        return new ThirdPartyPythonClient(vertx.createHttpClient(), "http://localhost:" + server.actualPort() + "/");
     }
 }
@@ -0,0 +1,80 @@
+package com.example.jobserver.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class JobIdsTest {
+
+    @Test
+    @DisplayName("newId - should create version 7 UUIDs that sort by creation time")
+    void newId_shouldBeTimeOrdered() throws InterruptedException {
+        // Given
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            ids.add(JobIds.newId());
+            Thread.sleep(2);
+        }
+
+        // Then
+        for (String id : ids) {
+            UUID uuid = UUID.fromString(id);
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(uuid.getMostSignificantBits() >>> 16).isCloseTo(System.currentTimeMillis(),
+                    within(5_000L));
+        }
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("toBytes - should round-trip through the 16 stored bytes in the same order")
+    void toBytes_shouldRoundTrip() {
+        // Given
+        String id = "01926F3A-8B2C-7D41-9E5F-0A1B2C3D4E5F";
+
+        // When
+        byte[] bytes = JobIds.toBytes(id);
+
+        // Then
+        assertThat(bytes).hasSize(16).startsWith((byte) 0x01, (byte) 0x92).endsWith((byte) 0x4E, (byte) 0x5F);
+        assertThat(JobIds.fromBytes(bytes)).isEqualTo(id.toLowerCase());
+        String random = UUID.randomUUID().toString();
+        assertThat(JobIds.fromBytes(JobIds.toBytes(random))).isEqualTo(random);
+    }
+
+    @Test
+    @DisplayName("createdAt - should read the second a version 7 id was generated in")
+    void createdAt_shouldReadTheTimestampOfVersion7Ids() {
+        // When / Then
+        assertThat(JobIds.createdAt("019a3c5e-8f40-7abc-8def-0123456789ab"))
+                .isEqualTo(Instant.parse("2025-10-31T22:23:41Z"));
+        assertThat(JobIds.createdAt(JobIds.newId())).isCloseTo(Instant.now(), within(5, ChronoUnit.SECONDS));
+        assertThat(JobIds.createdAt(UUID.randomUUID().toString())).isNull();
+        assertThatThrownBy(() -> JobIds.createdAt("job-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("isValid - should accept only canonical UUIDs")
+    void isValid_shouldRejectMalformedIds() {
+        // When / Then
+        assertThat(JobIds.isValid(JobIds.newId())).isTrue();
+        assertThat(JobIds.isValid(null)).isFalse();
+        assertThat(JobIds.isValid("job-1")).isFalse();
+        assertThat(JobIds.isValid("01926f3a8b2c7d419e5f0a1b2c3d4e5f")).isFalse();
+        assertThat(JobIds.isValid("01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e5g")).isFalse();
+        assertThatThrownBy(() -> JobIds.toBytes("job-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobIds.fromBytes(new byte[36])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.jobserver.model;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPayloadTest {
+
+    @Test
+    @DisplayName("encode - should return the original text without decoding it")
+    void encode_shouldNotDecode() {
+        // Given
+        JsonPayload payload = JsonPayload.encoded("{\"task\": \"test\"}");
+
+        // When
+        String encoded = payload.encode();
+
+        // Then
+        assertThat(encoded).isEqualTo("{\"task\": \"test\"}");
+        assertThat(payload.isDecoded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("json - should decode once and keep changes made to the object")
+    void json_shouldDecodeOnceAndKeepChanges() {
+        // Given
+        JsonPayload payload = JsonPayload.encoded("{\"task\":\"test\"}");
+
+        // When
+        payload.json().put("attempt", 2);
+
+        // Then
+        assertThat(payload.json()).isSameAs(payload.json());
+        assertThat(payload.encode()).isEqualTo("{\"task\":\"test\",\"attempt\":2}");
+    }
+
+    @Test
+    @DisplayName("equals - should compare decoded content, not text")
+    void equals_shouldCompareContent() {
+        // Given
+        JsonPayload encoded = JsonPayload.encoded("{ \"task\" : \"test\" }");
+        JsonPayload decoded = JsonPayload.of(new JsonObject().put("task", "test"));
+
+        // When / Then
+        assertThat(encoded).isEqualTo(decoded);
+        assertThat(encoded.hashCode()).isEqualTo(decoded.hashCode());
+        assertThat(JsonPayload.encoded(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("packed - should decompress only when read, and stay sendable compressed until decoded")
+    void packed_shouldDecompressLazily() {
+        // Given
+        JsonObject object = new JsonObject().put("rows", "row,".repeat(1000));
+        JsonPayload payload = JsonPayload.packed(
+                PayloadCodec.DEFLATE.pack(object.encode().getBytes(StandardCharsets.UTF_8)));
+
+        // When / Then
+        assertThat(payload.codec()).isEqualTo(PayloadCodec.DEFLATE);
+        assertThat(payload.compressed().length()).isLessThan(object.encode().length() / 10);
+        assertThat(payload.encode()).isEqualTo(object.encode());
+        assertThat(payload.isDecoded()).isFalse();
+        assertThat(payload.json()).isEqualTo(object);
+        assertThat(payload.codec()).isNull();
+        assertThat(JsonPayload.encoded("{}").codec()).isNull();
+        assertThat(JsonPayload.packed(null)).isNull();
+    }
+}
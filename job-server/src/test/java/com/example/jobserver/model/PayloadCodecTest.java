@@ -0,0 +1,73 @@
+package com.example.jobserver.model;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadCodecTest {
+
+    private static final byte[] JSON = new JsonObject().put("rows", "{\"id\":1,\"status\":\"OK\"},".repeat(500))
+            .encode().getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("pack - should shrink repetitive JSON and unpack to the same bytes, marked with its codec")
+    void pack_shouldRoundTrip() {
+        for (PayloadCodec codec : PayloadCodec.values()) {
+            // When
+            byte[] packed = codec.pack(JSON);
+
+            // Then
+            assertThat(packed.length).isLessThan(JSON.length / 10);
+            assertThat(PayloadCodec.of(packed)).isEqualTo(codec);
+            assertThat(PayloadCodec.unpack(packed)).isEqualTo(JSON);
+        }
+    }
+
+    @Test
+    @DisplayName("body - should be a zlib stream for DEFLATE, as the HTTP deflate coding expects")
+    void body_shouldBeHttpDeflate() throws IOException {
+        // Given
+        byte[] packed = PayloadCodec.DEFLATE.pack(JSON);
+
+        // When
+        byte[] body = PayloadCodec.DEFLATE.body(packed).getBytes();
+
+        // Then
+        assertThat(PayloadCodec.DEFLATE.contentEncoding()).isEqualTo("deflate");
+        assertThat(PayloadCodec.LZ4.contentEncoding()).isNull();
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(body))) {
+            assertThat(in.readAllBytes()).isEqualTo(JSON);
+        }
+    }
+
+    @Test
+    @DisplayName("unpack - should reject a truncated payload")
+    void unpack_shouldRejectTruncated() {
+        for (PayloadCodec codec : PayloadCodec.values()) {
+            // Given
+            byte[] packed = codec.pack(JSON);
+
+            // When / Then
+            assertThatThrownBy(() -> PayloadCodec.unpack(Arrays.copyOf(packed, packed.length / 2)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("of - should reject bytes no codec packed")
+    void of_shouldRejectUnknownMarker() {
+        assertThatThrownBy(() -> PayloadCodec.of("{}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayloadCodec.of(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.jooq.Jobs;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.worker.ArchiveThrottle;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Tuple;
+import org.jooq.SQLDialect;
+import org.jooq.conf.MappedSchema;
+import org.jooq.conf.RenderMapping;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrateScratch;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Archiving old finished jobs against a real database (the docker-compose one by default) while live traffic
+ * runs, once with one transaction moving them all and once in throttled chunks the way
+ * {@link com.example.jobserver.worker.JobArchiverVerticle} does. Each run seeds {@code bench.rows} COMPLETED jobs
+ * created 40 to 31 days ago, with {@code bench.payloadBytes} of parameters and result, and 10,000 recent ones.
+ * {@code bench.streams} connections meanwhile alternate between reading a recent job's state and submitting a
+ * job, through {@link JobRepositoryImpl}. Reports how long archiving took, its longest transaction, and the
+ * throughput and latency of the live traffic while it ran. Afterwards an archived job is read back by id.
+ *
+ * <p>{@link JobRepositoryImpl#archive} moves every old finished job of a lane, whoever it belongs to, so the
+ * benchmark never runs against {@code bench.dbName}: it works in the {@code bench.scratchDbName} database on the
+ * same server ({@code jobs_bench_scratch} by default), created and migrated if missing, with the repository's
+ * {@code jobs} schema mapped onto it. It seeds as user {@code 424242}, created if missing, and deletes that
+ * user's jobs from the jobs tables and {@code jobs_archive} before and after. Skipped when the database is not
+ * reachable. Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName}, {@code bench.scratchDbName},
+ * {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.rows}, {@code bench.payloadBytes},
+ * {@code bench.chunk} and {@code bench.streams}.
+ */
+class ArchivalBenchmark {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 200_000);
+    private static final int PAYLOAD_BYTES = Integer.getInteger("bench.payloadBytes", 1_024);
+    private static final int CHUNK = Integer.getInteger("bench.chunk", 500);
+    private static final int STREAMS = Integer.getInteger("bench.streams", 8);
+    private static final int RECENT = 10_000;
+    private static final int BATCH_ROWS = 200;
+    private static final long USER = 424242L;
+    private static final String SCRATCH_DB = System.getProperty("bench.scratchDbName", "jobs_bench_scratch");
+
+    @Test
+    @DisplayName("benchmark - archiving in one transaction vs throttled chunks, under live traffic")
+    void compareArchival() throws Exception {
+        AppConfig shared = BenchDatabase.config().build();
+        assertThat(SCRATCH_DB).as("bench.scratchDbName must name a database of its own")
+            .isNotIn(shared.getDbName(), Jobs.JOBS.getName());
+        assumeTrue(migrateScratch(shared, SCRATCH_DB), "MySQL not reachable at " + shared.getJdbcUrl());
+        AppConfig config = BenchDatabase.config()
+            .dbName(SCRATCH_DB)
+            .dbPoolSize(STREAMS + 1)
+            .build();
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        Settings scratch = new Settings().withRenderMapping(new RenderMapping().withSchemata(
+            new MappedSchema().withInput(Jobs.JOBS.getName()).withOutput(SCRATCH_DB)));
+        JobRepositoryImpl repository = new JobRepositoryImpl(new JooqExecutor(pool,
+            DSL.using(SQLDialect.MYSQL, scratch), JooqExecutor.DEFAULT_MAX_STATEMENTS));
+        Instant before = Instant.now().minus(30, ChronoUnit.DAYS);
+        try {
+            System.out.printf("%nArchival: %d jobs with %d-byte payloads, chunks of %d, %d live connections, %s%n",
+                ROWS, PAYLOAD_BYTES, CHUNK, STREAMS, config.getJdbcUrl());
+            System.out.printf("%-18s %10s %14s %10s %10s %10s %10s%n", "archival", "seconds", "longest tx ms",
+                "live op/s", "p50 ms", "p99 ms", "max ms");
+            for (boolean chunked : new boolean[] {false, true}) {
+                cleanUp(pool);
+                List<String> old = seed(pool);
+                List<String> recent = new ArrayList<>();
+                for (int i = 0; i < RECENT; i++) {
+                    recent.add(JobIds.newId());
+                }
+                for (int from = 0; from < RECENT; from += BATCH_ROWS) {
+                    await(repository.saveAll(recent.subList(from, from + BATCH_ROWS).stream()
+                        .map(ArchivalBenchmark::newJob).toList()));
+                }
+                await(pool.query("ANALYZE TABLE jobs, job_payloads").execute());
+
+                Live live = new Live(vertx, repository, recent);
+                long start = System.nanoTime();
+                long longestMs = chunked ? archiveInChunks(repository, before) : archiveAtOnce(pool, before);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                List<Long> latency = live.stop();
+
+                Collections.sort(latency);
+                System.out.printf("%-18s %10.1f %14d %10.0f %10.2f %10.2f %10.2f%n",
+                    chunked ? "throttled chunks" : "one transaction", seconds, longestMs, latency.size() / seconds,
+                    latency.get(latency.size() / 2) / 1e6, latency.get(latency.size() * 99 / 100) / 1e6,
+                    latency.get(latency.size() - 1) / 1e6);
+
+                long archived = await(pool.preparedQuery("SELECT COUNT(*) FROM jobs_archive WHERE user_id = ?")
+                    .execute(Tuple.of(USER)).map(rows -> rows.iterator().next().getLong(0)));
+                assertThat(archived).isEqualTo(ROWS);
+                String id = old.get(ThreadLocalRandom.current().nextInt(old.size()));
+                Job job = await(repository.findById(id)).orElseThrow();
+                assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+                assertThat(job.getParameters().getString("data")).hasSize(PAYLOAD_BYTES);
+            }
+        } finally {
+            cleanUp(pool);
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Job newJob(String id) {
+        return Job.builder().id(id).userId(USER).status(JobStatus.PENDING).priority(5)
+            .parameters(new JsonObject().put("task", "live")).build();
+    }
+
+    /**
+     * Inserts the old COMPLETED jobs, spread over nine days and all ten lanes, each with an id of the second it
+     * was created in, as {@link JobIds#newId()} would have made it then.
+     */
+    private static List<String> seed(Pool pool) throws Exception {
+        String payload = new JsonObject().put("data", "x".repeat(PAYLOAD_BYTES)).encode();
+        LocalDateTime first = LocalDateTime.now(ZoneOffset.UTC).minusDays(40).truncatedTo(ChronoUnit.SECONDS);
+        long step = Math.max(1, 9 * 86_400L / ROWS);
+        List<String> ids = new ArrayList<>(ROWS);
+        for (int from = 0; from < ROWS; from += BATCH_ROWS) {
+            int to = Math.min(ROWS, from + BATCH_ROWS);
+            StringBuilder jobs = new StringBuilder("INSERT INTO jobs (id, user_id, status, priority, attempts,"
+                + " created_at, updated_at) VALUES ");
+            StringBuilder payloads = new StringBuilder("INSERT INTO job_payloads (job_id, created_at, parameters,"
+                + " result) VALUES ");
+            Tuple jobParams = Tuple.tuple();
+            Tuple payloadParams = Tuple.tuple();
+            for (int i = from; i < to; i++) {
+                LocalDateTime createdAt = first.plusSeconds(i * step);
+                String id = idAt(createdAt.toInstant(ZoneOffset.UTC));
+                ids.add(id);
+                Buffer bytes = Buffer.buffer(JobIds.toBytes(id));
+                jobs.append(i == from ? "" : ", ").append("(?, ?, 'COMPLETED', ?, 1, ?, ?)");
+                jobParams.addValue(bytes).addLong(USER).addInteger(i % 10).addLocalDateTime(createdAt)
+                    .addLocalDateTime(createdAt.plusSeconds(1));
+                payloads.append(i == from ? "" : ", ").append("(?, ?, ?, ?)");
+                payloadParams.addValue(bytes).addLocalDateTime(createdAt).addString(payload).addString(payload);
+            }
+            await(pool.preparedQuery(jobs.toString()).execute(jobParams));
+            await(pool.preparedQuery(payloads.toString()).execute(payloadParams));
+        }
+        return ids;
+    }
+
+    private static String idAt(Instant createdAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = createdAt.toEpochMilli() + random.nextInt(1000);
+        long msb = (millis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    /**
+     * Moves every old job of the benchmark user in one transaction of three statements; returns how long it took.
+     */
+    private static long archiveAtOnce(Pool pool, Instant before) throws Exception {
+        LocalDateTime cutoff = LocalDateTime.ofInstant(before, ZoneOffset.UTC);
+        String old = " WHERE j.status = 'COMPLETED' AND j.created_at < ? AND j.updated_at < ? AND j.user_id = ?";
+        Tuple params = Tuple.of(cutoff, cutoff, USER);
+        long start = System.nanoTime();
+        await(pool.withTransaction(conn -> conn.preparedQuery("INSERT INTO jobs_archive (id, user_id, project_id,"
+                + " status, priority, run_at, attempts, timeout_seconds, error_message, created_at, updated_at,"
+                + " parameters, parameters_packed, result, result_packed) SELECT j.id, j.user_id, j.project_id,"
+                + " j.status, j.priority, j.run_at, j.attempts, j.timeout_seconds, j.error_message, j.created_at,"
+                + " j.updated_at, p.parameters, p.parameters_packed, p.result, p.result_packed FROM jobs j"
+                + " LEFT JOIN job_payloads p ON p.job_id = j.id AND p.created_at = j.created_at" + old)
+                .execute(params)
+            .compose(copied -> conn.preparedQuery("DELETE p FROM job_payloads p JOIN jobs j ON p.job_id = j.id"
+                + " AND p.created_at = j.created_at" + old).execute(params))
+            .compose(deleted -> conn.preparedQuery("DELETE j FROM jobs j" + old).execute(params))));
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * Walks every lane chunk by chunk, pausing as {@link ArchiveThrottle} decides with the default settings;
+     * returns the longest chunk.
+     */
+    private static long archiveInChunks(JobRepositoryImpl repository, Instant before) throws Exception {
+        ArchiveThrottle throttle = new ArchiveThrottle(100, 10, 10_000);
+        long longestMs = 0;
+        for (int priority = Job.MAX_PRIORITY; priority >= Job.MIN_PRIORITY; priority--) {
+            JobCursor after = null;
+            while (true) {
+                long start = System.nanoTime();
+                List<JobCursor> chunk = await(repository.archive(JobStatus.COMPLETED, priority, before, after, CHUNK));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                long chunkMs = (System.nanoTime() - start) / 1_000_000;
+                longestMs = Math.max(longestMs, chunkMs);
+                Thread.sleep(throttle.nextPauseMs(chunkMs));
+                if (chunk.size() < CHUNK) {
+                    break;
+                }
+                after = chunk.get(chunk.size() - 1);
+            }
+        }
+        return longestMs;
+    }
+
+    private static void cleanUp(Pool pool) throws Exception {
+        Tuple user = Tuple.of(USER);
+        await(pool.preparedQuery("DELETE FROM jobs_archive WHERE user_id = ?").execute(user));
+        await(pool.preparedQuery("DELETE p FROM job_payloads p JOIN jobs j ON p.job_id = j.id"
+            + " AND p.created_at = j.created_at WHERE j.user_id = ?").execute(user));
+        await(pool.preparedQuery("DELETE FROM jobs WHERE user_id = ?").execute(user));
+        // jobs.user_id references users until the table is partitioned
+        await(pool.preparedQuery("INSERT IGNORE INTO users (id, username, email) VALUES (?, 'bench', ?)")
+            .execute(Tuple.of(USER, "bench-" + USER + "@example.com")));
+    }
+
+    /**
+     * {@code STREAMS} chains of live operations until {@link #stop()}, alternating a state read of a recent job
+     * with a submission.
+     */
+    private static class Live {
+
+        private final Vertx vertx;
+        private final JobRepositoryImpl repository;
+        private final List<String> recent;
+        private final List<Long> latency = new ArrayList<>();
+        private final AtomicBoolean stopping = new AtomicBoolean();
+        private final AtomicInteger running = new AtomicInteger(STREAMS);
+        private final Promise<Void> done = Promise.promise();
+
+        Live(Vertx vertx, JobRepositoryImpl repository, List<String> recent) {
+            this.vertx = vertx;
+            this.repository = repository;
+            this.recent = recent;
+            vertx.runOnContext(v -> {
+                for (int i = 0; i < STREAMS; i++) {
+                    next(i);
+                }
+            });
+        }
+
+        private void next(int n) {
+            if (stopping.get()) {
+                if (running.decrementAndGet() == 0) {
+                    done.tryComplete();
+                }
+                return;
+            }
+            long begin = System.nanoTime();
+            Future<?> operation = n % 2 == 0
+                ? repository.findStateById(recent.get(ThreadLocalRandom.current().nextInt(recent.size())))
+                : repository.save(newJob(JobIds.newId()));
+            operation.onComplete(ar -> {
+                if (ar.failed()) {
+                    done.tryFail(ar.cause());
+                    return;
+                }
+                latency.add(System.nanoTime() - begin);
+                next(n + 1);
+            });
+        }
+
+        List<Long> stop() throws Exception {
+            stopping.set(true);
+            await(done.future());
+            CompletableFuture<List<Long>> copy = new CompletableFuture<>();
+            vertx.runOnContext(v -> copy.complete(new ArrayList<>(latency)));
+            return copy.get(30, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({VertxExtension.class, MockitoExtension.class})
+class BatchedInsertJobRepositoryTest {
+
+    @Mock
+    private JobRepository delegate;
+
+    @Test
+    @DisplayName("should merge concurrent saves into one multi-row insert")
+    @SuppressWarnings("unchecked")
+    void shouldMergeConcurrentSaves(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        BatchedInsertJobRepository repository = new BatchedInsertJobRepository(delegate, vertx, 60_000, 3);
+
+        // When
+        Future<Job> first = repository.save(job("job-1"));
+        Future<Job> second = repository.save(job("job-2"));
+        Future<Job> third = repository.save(job("job-3"));
+
+        Future.all(first, second, third).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            // Then
+            assertThat(first.result().getId()).isEqualTo("job-1");
+            assertThat(third.result().getId()).isEqualTo("job-3");
+            ArgumentCaptor<List<Job>> inserted = ArgumentCaptor.forClass(List.class);
+            verify(delegate, times(1)).saveAll(inserted.capture());
+            assertThat(inserted.getValue()).extracting(Job::getId).containsExactly("job-1", "job-2", "job-3");
+            verify(delegate, never()).save(any());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("should retry a failed batch row by row so only the bad job fails")
+    void shouldIsolateFailingRow(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.saveAll(anyList())).thenReturn(Future.failedFuture(new RuntimeException("FK violation")));
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            return job.getId().equals("bad")
+                ? Future.failedFuture(new RuntimeException("FK violation"))
+                : Future.succeededFuture(job);
+        });
+        BatchedInsertJobRepository repository = new BatchedInsertJobRepository(delegate, vertx, 60_000, 2);
+
+        // When
+        Future<Job> good = repository.save(job("good"));
+        Future<Job> bad = repository.save(job("bad"));
+
+        Future.join(good, bad).onComplete(ar -> testContext.verify(() -> {
+            // Then
+            assertThat(good.succeeded()).isTrue();
+            assertThat(bad.failed()).isTrue();
+            assertThat(repository.metrics().getLong("failedBatches")).isEqualTo(1L);
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    @DisplayName("should insert a lone submission as a single row once the window closes")
+    void shouldFlushLoneSaveAfterMaxDelay(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.save(any())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        BatchedInsertJobRepository repository = new BatchedInsertJobRepository(delegate, vertx, 5, 100);
+
+        // When
+        repository.save(job("job-1")).onComplete(testContext.succeeding(saved -> testContext.verify(() -> {
+            // Then
+            assertThat(saved.getId()).isEqualTo("job-1");
+            verify(delegate, never()).saveAll(anyList());
+            testContext.completeNow();
+        })));
+    }
+
+    private static Job job(String id) {
+        Instant now = Instant.now();
+        return Job.builder().id(id).userId(1L).status(JobStatus.PENDING).parameters(new JsonObject())
+            .createdAt(now).updatedAt(now).build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+
+import io.vertx.core.Future;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database plumbing shared by the repository benchmarks: the connection settings read from the
+ * {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName}, {@code bench.dbUser} and
+ * {@code bench.dbPassword} system properties (the docker-compose database by default), the Flyway
+ * migration that doubles as the reachability check, and a blocking wait on a repository future.
+ */
+final class BenchDatabase {
+
+    private BenchDatabase() {
+    }
+
+    /**
+     * Settings every benchmark starts from: a pool of 4 with an unbounded wait queue, the prepared statement
+     * cache on and no pipelining. Benchmarks override what they measure before calling {@code build()}.
+     */
+    static AppConfig.AppConfigBuilder config() {
+        return AppConfig.builder()
+            .dbHost(System.getProperty("bench.dbHost", "localhost"))
+            .dbPort(Integer.getInteger("bench.dbPort", 3307))
+            .dbName(System.getProperty("bench.dbName", "jobs"))
+            .dbUser(System.getProperty("bench.dbUser", "root"))
+            .dbPassword(System.getProperty("bench.dbPassword", "root"))
+            .dbPoolSize(4)
+            .dbMaxWaitQueueSize(-1)
+            .dbConnectTimeoutMs(2000L)
+            .dbAcquireTimeoutMs(30000L)
+            .dbCachePreparedStatements(true)
+            .dbPreparedStatementCacheMaxSize(256)
+            .dbPreparedStatementCacheSqlLimit(65536)
+            .dbPipeliningLimit(1);
+    }
+
+    /**
+     * Brings the schema up to date; {@code false} when the database is not reachable, so the benchmark can
+     * skip itself.
+     */
+    static boolean migrate(AppConfig config) {
+        return migrate(Flyway.configure()
+            .dataSource(config.getJdbcUrl(), config.getDbUser(), config.getDbPassword()));
+    }
+
+    /**
+     * Creates the {@code scratch} database next to the configured one if it is missing and brings its schema
+     * up to date, for benchmarks that must not touch the jobs of anyone else; {@code false} when the database
+     * is not reachable.
+     */
+    static boolean migrateScratch(AppConfig config, String scratch) {
+        return migrate(Flyway.configure()
+            .dataSource(config.getJdbcUrl(), config.getDbUser(), config.getDbPassword())
+            .schemas(scratch)
+            .createSchemas(true));
+    }
+
+    private static boolean migrate(FluentConfiguration flyway) {
+        try {
+            flyway.connectRetries(0)
+                .load()
+                .migrate();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    static <T> T await(Future<T> future) throws Exception {
+        CompletableFuture<T> done = future.toCompletionStage().toCompletableFuture();
+        return done.get(3600, TimeUnit.SECONDS);
+    }
+}
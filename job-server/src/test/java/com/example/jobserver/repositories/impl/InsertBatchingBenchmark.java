@@ -0,0 +1,170 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.metrics.LatencyHistogram;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Submission throughput and latency with the pool as the bottleneck: {@code bench.clients} callers each
+ * save a job, wait for it, and save the next one, against {@code bench.poolSize} simulated connections on
+ * which an INSERT costs {@code bench.statementMs} plus {@code bench.rowMicros} per row. Compares one INSERT
+ * per {@link JobRepository#save} with {@link BatchedInsertJobRepository}.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.jobs}, {@code bench.clients}, {@code bench.poolSize}, {@code bench.statementMs},
+ * {@code bench.rowMicros}, {@code bench.batchDelayMs} and {@code bench.batchSize}.
+ */
+class InsertBatchingBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 20_000);
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 200);
+    private static final int POOL_SIZE = Integer.getInteger("bench.poolSize", 4);
+    private static final long STATEMENT_MS = Long.getLong("bench.statementMs", 2L);
+    private static final long ROW_MICROS = Long.getLong("bench.rowMicros", 20L);
+    private static final long BATCH_DELAY_MS = Long.getLong("bench.batchDelayMs", 2L);
+    private static final int BATCH_SIZE = Integer.getInteger("bench.batchSize", 100);
+
+    @Test
+    @DisplayName("benchmark - one INSERT per save vs micro-batched multi-row INSERT")
+    void compareInsertPaths() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(run(false));
+        rows.add(run(true));
+
+        System.out.printf("%nInsert batching: %d jobs, %d clients, pool of %d, %d ms + %d us/row per INSERT%n",
+            JOBS, CLIENTS, POOL_SIZE, STATEMENT_MS, ROW_MICROS);
+        System.out.printf("%-28s %10s %10s %10s %14s%n", "insert path", "jobs/s", "p50 ms", "p99 ms", "rows/INSERT");
+        rows.forEach(System.out::println);
+    }
+
+    private String run(boolean batched) throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            SimulatedPoolJobRepository pool = new SimulatedPoolJobRepository(vertx);
+            JobRepository repository = batched
+                ? new BatchedInsertJobRepository(pool, vertx, BATCH_DELAY_MS, BATCH_SIZE)
+                : pool;
+            LatencyHistogram latency = new LatencyHistogram();
+            AtomicInteger issued = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(JOBS);
+
+            long start = System.nanoTime();
+            vertx.runOnContext(v -> {
+                for (int i = 0; i < CLIENTS; i++) {
+                    submitNext(repository, issued, latency, done);
+                }
+            });
+            assertThat(done.await(120, TimeUnit.SECONDS)).as("all jobs saved (batched=%s)", batched).isTrue();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            return String.format("%-28s %10.0f %10d %10d %14.1f",
+                batched ? "micro-batched (after)" : "one INSERT per save (before)",
+                JOBS / seconds, latency.percentile(0.50), latency.percentile(0.99),
+                pool.rows.get() / (double) pool.statements.get());
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void submitNext(JobRepository repository, AtomicInteger issued, LatencyHistogram latency,
+                                   CountDownLatch done) {
+        int n = issued.getAndIncrement();
+        if (n >= JOBS) {
+            return;
+        }
+        Instant now = Instant.now();
+        Job job = Job.builder().id("job-" + n).userId(n % 10).status(JobStatus.PENDING)
+            .parameters(new JsonObject()).createdAt(now).updatedAt(now).build();
+        long submitted = System.nanoTime();
+        repository.save(job).onComplete(ar -> {
+            latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted));
+            done.countDown();
+            submitNext(repository, issued, latency, done);
+        });
+    }
+
+    /**
+     * A pool of {@code POOL_SIZE} connections: INSERTs queue for a free connection and hold it for
+     * {@code STATEMENT_MS} plus {@code ROW_MICROS} per row. Only the insert paths are implemented.
+     */
+    private static class SimulatedPoolJobRepository extends ForwardingJobRepository {
+
+        private final Vertx vertx;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private final AtomicLong statements = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private int free = POOL_SIZE;
+
+        SimulatedPoolJobRepository(Vertx vertx) {
+            super(null);
+            this.vertx = vertx;
+        }
+
+        @Override
+        public Future<Job> save(Job job) {
+            return insert(1).map(v -> job);
+        }
+
+        @Override
+        public Future<List<Job>> saveAll(List<Job> jobs) {
+            return insert(jobs.size()).map(v -> jobs);
+        }
+
+        private Future<Void> insert(int rowCount) {
+            statements.incrementAndGet();
+            rows.addAndGet(rowCount);
+            long millis = Math.max(1, STATEMENT_MS + Math.round(rowCount * ROW_MICROS / 1000.0));
+            Promise<Void> promise = Promise.promise();
+            Runnable statement = () -> vertx.setTimer(millis, id -> {
+                promise.complete();
+                release();
+            });
+            boolean run;
+            synchronized (this) {
+                run = free > 0;
+                if (run) {
+                    free--;
+                } else {
+                    waiting.add(statement);
+                }
+            }
+            if (run) {
+                statement.run();
+            }
+            return promise.future();
+        }
+
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    free++;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.JobIds;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Insert throughput and on-disk size of the {@code jobs} key layout against a real database (the docker-compose
+ * one by default): random version 4 UUIDs as {@code VARCHAR(36)}, as before {@code V10}, against version 7 ids
+ * from {@link JobIds#newId()} as {@code BINARY(16)}. Each layout gets a scratch table shaped like the hot part of
+ * {@code jobs}, with two secondary indexes that, as every InnoDB secondary index does, repeat the primary key.
+ * {@code bench.streams} connections insert {@code bench.rows} rows into it in multi-row INSERTs of
+ * {@code bench.batchRows}. Reports rows per second overall and over the last tenth of the rows, when the table
+ * no longer fits the buffer pool, and the data and index size once done. Also compares how fast
+ * {@link UUID#randomUUID()} and {@link JobIds#newId()} generate ids on every core at once.
+ *
+ * <p>Creates and drops the tables {@code bench_ids_text} and {@code bench_ids_binary}. Skipped when the
+ * database is not reachable. Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via
+ * system properties {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName}, {@code bench.dbUser},
+ * {@code bench.dbPassword}, {@code bench.rows}, {@code bench.batchRows}, {@code bench.streams} and
+ * {@code bench.generated}.
+ */
+class JobIdLayoutBenchmark {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 10_000_000);
+    private static final int BATCH_ROWS = Integer.getInteger("bench.batchRows", 1_000);
+    private static final int STREAMS = Integer.getInteger("bench.streams", 4);
+    private static final int GENERATED = Integer.getInteger("bench.generated", 1_000_000);
+
+    @Test
+    @DisplayName("benchmark - random text UUID keys vs time-ordered binary keys")
+    void compareIdLayouts() throws Exception {
+        AppConfig config = BenchDatabase.config()
+            .dbPoolSize(STREAMS)
+            .build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            String text = run(vertx, pool, "v4 text (VARCHAR(36))", "bench_ids_text", "VARCHAR(36)",
+                () -> UUID.randomUUID().toString());
+            String binary = run(vertx, pool, "v7 binary (BINARY(16))", "bench_ids_binary", "BINARY(16)",
+                () -> Buffer.buffer(JobIds.toBytes(JobIds.newId())));
+
+            System.out.printf("%nJob id layout: %d rows, INSERTs of %d rows on %d connections, %s%n",
+                ROWS, BATCH_ROWS, STREAMS, config.getJdbcUrl());
+            System.out.printf("%-24s %10s %16s %10s %10s %10s%n",
+                "key", "rows/s", "last 10% rows/s", "data MB", "index MB", "B/row");
+            System.out.println(text);
+            System.out.println(binary);
+
+            int threads = Runtime.getRuntime().availableProcessors();
+            System.out.printf("%nId generation: %d ids on each of %d threads%n", GENERATED, threads);
+            System.out.printf("%-24s %14s%n", "generator", "ids/s");
+            System.out.printf("%-24s %14.0f%n", "UUID.randomUUID", generate(threads, () -> UUID.randomUUID().toString()));
+            System.out.printf("%-24s %14.0f%n", "JobIds.newId", generate(threads, JobIds::newId));
+        } finally {
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String run(Vertx vertx, Pool pool, String name, String table, String idType,
+                              Supplier<Object> ids) throws Exception {
+        await(pool.query("DROP TABLE IF EXISTS " + table).execute());
+        await(pool.query("CREATE TABLE " + table + " (id " + idType + " NOT NULL PRIMARY KEY,"
+            + " user_id BIGINT NOT NULL, status VARCHAR(16) NOT NULL, priority TINYINT NOT NULL,"
+            + " created_at DATETIME NOT NULL,"
+            + " INDEX idx_user_created (user_id, created_at),"
+            + " INDEX idx_status_priority (status, priority, created_at)) ENGINE=InnoDB").execute());
+
+        StringBuilder sql = new StringBuilder("INSERT INTO " + table
+            + " (id, user_id, status, priority, created_at) VALUES ");
+        for (int i = 0; i < BATCH_ROWS; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+        }
+        String insert = sql.toString();
+
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicLong inserted = new AtomicLong();
+        AtomicLong lateStart = new AtomicLong();
+        long lateFrom = ROWS - ROWS / 10;
+        Promise<Void> done = Promise.promise();
+        AtomicInteger running = new AtomicInteger(STREAMS);
+        long start = System.nanoTime();
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < STREAMS; i++) {
+                insertNext(pool, insert, ids, claimed, inserted, lateFrom, lateStart, running, done);
+            }
+        });
+        await(done.future());
+        long end = System.nanoTime();
+        assertThat(inserted.get()).as("rows inserted into %s", table).isEqualTo(ROWS);
+
+        await(pool.query("ANALYZE TABLE " + table).execute());
+        Row size = await(pool.preparedQuery("SELECT data_length, index_length FROM information_schema.tables"
+                + " WHERE table_schema = DATABASE() AND table_name = ?")
+            .execute(Tuple.of(table))
+            .map(rows -> rows.iterator().next()));
+        long data = size.getLong(0);
+        long index = size.getLong(1);
+        await(pool.query("DROP TABLE " + table).execute());
+
+        double total = ROWS / ((end - start) / 1e9);
+        double late = (ROWS - lateFrom) / ((end - lateStart.get()) / 1e9);
+        return String.format("%-24s %10.0f %16.0f %10.1f %10.1f %10.1f", name, total, late,
+            data / 1048576.0, index / 1048576.0, (double) (data + index) / ROWS);
+    }
+
+    /**
+     * Claims the next batch of rows and inserts it, then repeats until all {@code ROWS} are claimed.
+     */
+    private static void insertNext(Pool pool, String insert, Supplier<Object> ids, AtomicInteger claimed,
+                                   AtomicLong inserted, long lateFrom, AtomicLong lateStart,
+                                   AtomicInteger running, Promise<Void> done) {
+        int from = claimed.getAndAdd(BATCH_ROWS);
+        if (from >= ROWS) {
+            if (running.decrementAndGet() == 0) {
+                done.tryComplete();
+            }
+            return;
+        }
+        if (from >= lateFrom) {
+            lateStart.compareAndSet(0, System.nanoTime());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        Tuple params = Tuple.tuple();
+        for (int i = 0; i < BATCH_ROWS; i++) {
+            params.addValue(ids.get())
+                .addLong(random.nextLong(1, 10_000))
+                .addString(i % 10 == 0 ? "PROCESSING" : "PENDING")
+                .addInteger(random.nextInt(1, 10))
+                .addLocalDateTime(now);
+        }
+        pool.preparedQuery(insert).execute(params).onComplete(ar -> {
+            if (ar.failed()) {
+                done.tryFail(ar.cause());
+                return;
+            }
+            inserted.addAndGet(BATCH_ROWS);
+            insertNext(pool, insert, ids, claimed, inserted, lateFrom, lateStart, running, done);
+        });
+    }
+
+    /**
+     * Ids per second from {@code threads} threads generating {@code GENERATED} ids each, after one warm-up round.
+     */
+    private static double generate(int threads, Supplier<String> generator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            double rate = 0;
+            for (int round = 0; round < 2; round++) {
+                List<java.util.concurrent.Future<Integer>> results = new ArrayList<>();
+                long start = System.nanoTime();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        int length = 0;
+                        for (int i = 0; i < GENERATED; i++) {
+                            length += generator.get().length();
+                        }
+                        return length;
+                    }));
+                }
+                for (java.util.concurrent.Future<Integer> result : results) {
+                    assertThat(result.get()).isEqualTo(36 * GENERATED);
+                }
+                rate = (double) threads * GENERATED / ((System.nanoTime() - start) / 1e9);
+            }
+            return rate;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
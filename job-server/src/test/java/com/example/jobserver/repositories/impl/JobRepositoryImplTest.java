@@ -1,10 +1,18 @@
 package com.example.jobserver.repositories.impl;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobIds;
 import com.example.jobserver.model.JobResult;
 import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.JsonPayload;
+import com.example.jobserver.model.PayloadCodec;
+import com.example.jobserver.model.ScheduledJob;
 
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -13,23 +21,47 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.TimeZone;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 @ExtendWith({VertxExtension.class, MockitoExtension.class})
 class JobRepositoryImplTest {
 
+    private static final String JOB_0 = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e00";
+    private static final String JOB_1 = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
+    private static final String JOB_2 = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e02";
+    private static final String JOB_3 = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e03";
+    private static final String JOB_A = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e0a";
+    private static final String JOB_B = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e0b";
+    private static final String JOB_C = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e0c";
+    private static final String WORKER = "worker-1";
+    // The second the ids above were generated in
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 10, 9, 3, 2, 40);
+
     @Mock
     private Pool pool;
 
@@ -42,6 +74,9 @@ class JobRepositoryImplTest {
     @Mock
     private Row row;
 
+    @Mock
+    private SqlConnection connection;
+
     private JobRepositoryImpl jobRepository;
 
     @BeforeEach
@@ -50,11 +85,12 @@ class JobRepositoryImplTest {
     }
 
     @Test
-    @DisplayName("save - should insert job and return it")
+    @DisplayName("save - should insert the job and its payload in one transaction")
+    @SuppressWarnings("unchecked")
     void save_shouldInsertJob(VertxTestContext testContext) {
         // Given
         Job job = Job.builder()
-                .id("test-id")
+                .id(JOB_1)
                 .userId(1L)
                 .projectId(1L)
                 .status(JobStatus.PENDING)
@@ -63,7 +99,9 @@ class JobRepositoryImplTest {
                 .updatedAt(Instant.now())
                 .build();
 
-        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
         when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
 
         // When
@@ -71,14 +109,808 @@ class JobRepositoryImplTest {
             .onComplete(testContext.succeeding(savedJob -> testContext.verify(() -> {
                 // Then
                 assertThat(savedJob).isEqualTo(job);
-                verify(pool).preparedQuery(anyString());
-                verify(preparedQuery).execute(any(Tuple.class));
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(connection, times(2)).preparedQuery(sql.capture());
+                assertThat(sql.getAllValues().get(0)).startsWith("insert into `jobs`.`jobs`").doesNotContain("parameters");
+                assertThat(sql.getAllValues().get(1)).startsWith("insert into `jobs`.`job_payloads`");
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery, times(2)).execute(params.capture());
+                assertThat(params.getAllValues().get(0).getLocalDateTime(8)).isEqualTo(CREATED_AT);
+                // Claimed from the lane it was submitted to until it ages
+                assertThat(params.getAllValues().get(0).getInteger(5)).isEqualTo(Job.DEFAULT_PRIORITY);
+                assertThat(params.getAllValues().get(1).getBuffer(0)).isEqualTo(bytes(JOB_1));
+                assertThat(params.getAllValues().get(1).getLocalDateTime(1)).isEqualTo(CREATED_AT);
+                assertThat(params.getAllValues().get(1).getString(2)).isEqualTo("{\"task\":\"test\"}");
                 testContext.completeNow();
             })));
     }
 
-    
-   
+    @Test
+    @DisplayName("save - should stamp updated_at on the UTC clock whatever the JVM time zone")
+    @SuppressWarnings("unchecked")
+    void save_shouldStampUtc_inAnyZone(VertxTestContext testContext) {
+        // Given - a JVM fourteen hours ahead of UTC
+        TimeZone zone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Kiritimati"));
+        Job job = Job.builder()
+                .id(JOB_1)
+                .userId(1L)
+                .status(JobStatus.PENDING)
+                .parameters(new JsonObject())
+                .build();
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+
+        // When
+        try {
+            jobRepository.save(job);
+        } finally {
+            TimeZone.setDefault(zone);
+        }
 
-}
+        // Then
+        ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery, times(2)).execute(params.capture());
+        assertThat(params.getAllValues().get(0).getLocalDateTime(9))
+                .isCloseTo(LocalDateTime.now(ZoneOffset.UTC), within(1, ChronoUnit.MINUTES));
+        testContext.completeNow();
+    }
+
+    @Test
+    @DisplayName("saveAll - should insert all jobs and all payloads with one multi-row statement each")
+    @SuppressWarnings("unchecked")
+    void saveAll_shouldInsertAllRowsInOneStatement(VertxTestContext testContext) {
+        // Given
+        Instant now = Instant.now();
+        List<Job> jobs = new ArrayList<>();
+        for (String id : List.of(JOB_1, JOB_2, JOB_3)) {
+            jobs.add(Job.builder().id(id).userId(1L).status(JobStatus.PENDING)
+                    .parameters(new JsonObject()).createdAt(now).updatedAt(now).build());
+        }
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+
+        // When
+        jobRepository.saveAll(jobs)
+            .onComplete(testContext.succeeding(saved -> testContext.verify(() -> {
+                // Then
+                assertThat(saved).isEqualTo(jobs);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(connection, times(2)).preparedQuery(sql.capture());
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery, times(2)).execute(params.capture());
+                long placeholders = sql.getAllValues().get(0).chars().filter(ch -> ch == '?').count();
+                assertThat(params.getAllValues().get(0).size()).isEqualTo(30).isEqualTo((int) placeholders);
+                assertThat(params.getAllValues().get(0).getBuffer(10)).isEqualTo(bytes(JOB_2));
+                // Small parameters stay JSON, with nothing packed
+                assertThat(params.getAllValues().get(1).size()).isEqualTo(12);
+                assertThat(params.getAllValues().get(1).getBuffer(4)).isEqualTo(bytes(JOB_2));
+                assertThat(params.getAllValues().get(1).getString(6)).isEqualTo("{}");
+                assertThat(params.getAllValues().get(1).getValue(7)).isNull();
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("claimPending - should lock pending rows, mark them PROCESSING and then read their parameters")
+    @SuppressWarnings("unchecked")
+    void claimPending_shouldClaimAndReturnFullRows(VertxTestContext testContext) {
+        // Given
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        PreparedQuery<RowSet<Row>> payloadQuery = mock(PreparedQuery.class);
+        RowSet<Row> payloads = mock(RowSet.class);
+        Row payload = mock(Row.class);
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<List<Job>>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        // Columns by position: id, user_id, project_id, status, priority, run_at, attempts, timeout_seconds,
+        // error_message, created_at, updated_at
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(row.getLong(1)).thenReturn(1L);
+        when(row.getLong(2)).thenReturn(null);
+        when(row.getString(3)).thenReturn("PENDING");
+        when(row.getInteger(4)).thenReturn(7);
+        when(row.getLocalDateTime(5)).thenReturn(null);
+        when(row.getInteger(6)).thenReturn(0);
+        when(row.getInteger(7)).thenReturn(null);
+        when(row.getString(8)).thenReturn(null);
+        when(row.getLocalDateTime(9)).thenReturn(now);
+        when(row.getLocalDateTime(10)).thenReturn(now);
+        // After the commit: job_id, parameters
+        when(pool.preparedQuery(anyString())).thenReturn(payloadQuery);
+        when(payloadQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(payloads));
+        when(payloads.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(payload)));
+        when(payload.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(payload.getString(1)).thenReturn("{\"task\":\"test\"}");
+
+        // When
+        jobRepository.claimPending("worker-1", 5, Duration.ofSeconds(15))
+            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+                // Then
+                assertThat(jobs).hasSize(1);
+                assertThat(jobs.get(0).getId()).isEqualTo(JOB_1);
+                assertThat(jobs.get(0).getStatus()).isEqualTo(JobStatus.PROCESSING);
+                assertThat(jobs.get(0).getPriority()).isEqualTo(7);
+                assertThat(jobs.get(0).getAttempts()).isEqualTo(1);
+                assertThat(jobs.get(0).getParameters().getString("task")).isEqualTo("test");
+
+                verify(connection).preparedQuery(contains("order by `jobs`.`jobs`.`effective_priority` desc, `jobs`.`jobs`.`created_at`"));
+                verify(connection).preparedQuery(contains("skip locked"));
+                verify(connection).preparedQuery(startsWith("update"));
+                verify(connection, never()).preparedQuery(contains("job_payloads"));
+                verify(pool).preparedQuery(contains("from `jobs`.`job_payloads`"));
+                testContext.completeNow();
+            })));
+    }
 
+    @Test
+    @DisplayName("claimPending - should not issue an update when the queue is empty")
+    @SuppressWarnings("unchecked")
+    void claimPending_shouldReturnEmpty_whenNothingPending(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<List<Job>>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of()));
+
+        // When
+        jobRepository.claimPending("worker-1", 5, Duration.ofSeconds(15))
+            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+                // Then
+                assertThat(jobs).isEmpty();
+                verify(connection, times(1)).preparedQuery(anyString());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("claimPendingForUser - should only lock the given user's pending jobs")
+    @SuppressWarnings("unchecked")
+    void claimPendingForUser_shouldFilterByUser(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<List<Job>>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of()));
+
+        // When
+        jobRepository.claimPendingForUser("worker-1", 42L, 5, Duration.ofSeconds(15))
+            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+                // Then
+                assertThat(jobs).isEmpty();
+                verify(connection).preparedQuery(contains("`jobs`.`jobs`.`user_id` = ?"));
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().getLong(1)).isEqualTo(42L);
+                assertThat(params.getValue().getInteger(2)).isEqualTo(5);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("complete - should store the result and COMPLETED status in one update fenced on the lease")
+    void complete_shouldWriteResultAndStatusTogether(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+
+        // When
+        jobRepository.complete(JOB_1, WORKER, new JobResult(new JsonObject().put("answer", 42)))
+            .onComplete(testContext.succeeding(completed -> testContext.verify(() -> {
+                // Then
+                assertThat(completed).isTrue();
+                verify(pool, times(1)).preparedQuery(contains("join `jobs`.`job_payloads`"));
+                verify(pool).preparedQuery(contains("`jobs`.`jobs`.`lease_owner` = ?"));
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                Tuple update = params.getValue();
+                assertThat(update.getString(0)).isEqualTo("COMPLETED");
+                assertThat(update.getString(1)).contains("\"answer\":42");
+                assertThat(update.getValue(2)).isNull();
+                assertThat(update.getBuffer(6)).isEqualTo(bytes(JOB_1));
+                assertThat(update.getLocalDateTime(7)).isEqualTo(CREATED_AT);
+                assertThat(update.getLocalDateTime(8)).isEqualTo(CREATED_AT);
+                assertThat(update.getString(9)).isEqualTo("PROCESSING");
+                assertThat(update.getString(10)).isEqualTo(WORKER);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("complete - should store a result above the threshold packed, with the JSON column NULL")
+    void complete_shouldPackLargeResult(VertxTestContext testContext) {
+        // Given
+        JobRepositoryImpl packing = new JobRepositoryImpl(new JooqExecutor(pool, DSL.using(SQLDialect.MYSQL),
+                JooqExecutor.DEFAULT_MAX_STATEMENTS), new PayloadCompression(PayloadCodec.DEFLATE, 1024));
+        JsonObject result = new JsonObject().put("rows", "row,".repeat(1000));
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+
+        // When
+        packing.complete(JOB_1, WORKER, new JobResult(result))
+            .onComplete(testContext.succeeding(completed -> testContext.verify(() -> {
+                // Then
+                assertThat(completed).isTrue();
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                Tuple update = params.getValue();
+                assertThat(update.getValue(1)).isNull();
+                byte[] packed = update.getBuffer(2).getBytes();
+                assertThat(packed.length).isLessThan(result.encode().length() / 10);
+                assertThat(new JsonObject(Buffer.buffer(PayloadCodec.unpack(packed)))).isEqualTo(result);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("fail - should report false when the job is no longer PROCESSING under this worker's lease")
+    void fail_shouldReturnFalse_whenJobWasCancelled(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(0);
+
+        // When
+        jobRepository.fail(JOB_1, WORKER, JobStatus.DEAD_LETTER, "boom")
+            .onComplete(testContext.succeeding(failed -> testContext.verify(() -> {
+                // Then
+                assertThat(failed).isFalse();
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().getString(0)).isEqualTo("DEAD_LETTER");
+                assertThat(params.getValue().getString(1)).isEqualTo("boom");
+                assertThat(params.getValue().getString(params.getValue().size() - 1)).isEqualTo(WORKER);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("fail - should write the error to the jobs row")
+    void fail_shouldStoreErrorInRow(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+
+        // When
+        jobRepository.fail(JOB_1, WORKER, JobStatus.FAILED, "boom")
+            .onComplete(testContext.succeeding(failed -> testContext.verify(() -> {
+                // Then
+                assertThat(failed).isTrue();
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                assertThat(sql.getValue()).startsWith("update `jobs`.`jobs` set")
+                        .contains("`error_message` = ?");
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().getString(1)).isEqualTo("boom");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("applyTransitions - should lock in id order and move the locked jobs in one CASE update")
+    @SuppressWarnings("unchecked")
+    void applyTransitions_shouldUpdateLockedJobsInOneStatement(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        Row second = mock(Row.class);
+        when(second.getBuffer(0)).thenReturn(bytes(JOB_C));
+        when(second.getString(1)).thenReturn(WORKER);
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row, second)));
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_A));
+        when(row.getString(1)).thenReturn(WORKER);
+        List<JobTransition> transitions = List.of(
+                JobTransition.completed(JOB_C, WORKER, new JobResult(new JsonObject().put("ok", true))),
+                JobTransition.failed(JOB_B, WORKER, JobStatus.FAILED, "bad input"),
+                JobTransition.retry(JOB_A, WORKER, Instant.parse("2030-01-01T00:00:00Z"), "timeout"));
+
+        // When
+        jobRepository.applyTransitions(transitions)
+            .onComplete(testContext.succeeding(applied -> testContext.verify(() -> {
+                // Then
+                assertThat(applied).containsExactlyInAnyOrder(JOB_A, JOB_C);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(connection, times(2)).preparedQuery(sql.capture());
+                assertThat(sql.getAllValues().get(0)).contains("order by `jobs`.`jobs`.`id`").contains("for update");
+                assertThat(sql.getAllValues().get(1)).startsWith("update").contains("case")
+                        .contains("join `jobs`.`job_payloads`").contains("`error_message` = case");
+
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery, times(2)).execute(params.capture());
+                assertThat(params.getAllValues().get(0).getBuffer(0)).isEqualTo(bytes(JOB_A));
+                Tuple update = params.getAllValues().get(1);
+                long placeholders = sql.getAllValues().get(1).chars().filter(ch -> ch == '?').count();
+                assertThat(update.size()).isEqualTo((int) placeholders);
+                assertThat(update.getBuffer(0)).isEqualTo(bytes(JOB_A));
+                assertThat(update.getString(1)).isEqualTo("SCHEDULED");
+                assertThat(update.getBuffer(2)).isEqualTo(bytes(JOB_C));
+                assertThat(update.getString(3)).isEqualTo("COMPLETED");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("applyTransitions - should update only the jobs rows when no transition stores a result")
+    @SuppressWarnings("unchecked")
+    void applyTransitions_shouldNotTouchPayloads_whenNoResult(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_A));
+        when(row.getString(1)).thenReturn(WORKER);
+
+        // When
+        jobRepository.applyTransitions(List.of(JobTransition.failed(JOB_A, WORKER, JobStatus.FAILED, "bad input")))
+            .onComplete(testContext.succeeding(applied -> testContext.verify(() -> {
+                // Then
+                assertThat(applied).containsExactly(JOB_A);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(connection, times(2)).preparedQuery(sql.capture());
+                assertThat(sql.getAllValues().get(1)).startsWith("update `jobs`.`jobs` set")
+                        .doesNotContain("job_payloads");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("applyTransitions - should leave a job alone once its lease has passed to another worker")
+    @SuppressWarnings("unchecked")
+    void applyTransitions_shouldSkipJob_whenLeaseWasLost(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        // Re-queued by the reaper and claimed again meanwhile
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_A));
+        when(row.getString(1)).thenReturn("worker-2");
+
+        // When
+        jobRepository.applyTransitions(List.of(JobTransition.completed(JOB_A, WORKER, new JobResult(new JsonObject()))))
+            .onComplete(testContext.succeeding(applied -> testContext.verify(() -> {
+                // Then
+                assertThat(applied).isEmpty();
+                verify(connection, times(1)).preparedQuery(anyString());
+                verify(connection, never()).preparedQuery(startsWith("update"));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findStateById - should read the jobs row alone")
+    void findStateById_shouldNotReadPayloads(VertxTestContext testContext) {
+        // Given
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(row.getLong(1)).thenReturn(1L);
+        when(row.getString(3)).thenReturn("COMPLETED");
+        when(row.getInteger(4)).thenReturn(5);
+        when(row.getLocalDateTime(5)).thenReturn(null);
+        when(row.getInteger(6)).thenReturn(1);
+        when(row.getString(8)).thenReturn(null);
+        when(row.getLocalDateTime(9)).thenReturn(now);
+        when(row.getLocalDateTime(10)).thenReturn(now);
+
+        // When
+        jobRepository.findStateById(JOB_1)
+            .onComplete(testContext.succeeding(state -> testContext.verify(() -> {
+                // Then
+                assertThat(state).isPresent();
+                assertThat(state.get().id()).isEqualTo(JOB_1);
+                assertThat(state.get().status()).isEqualTo(JobStatus.COMPLETED);
+                assertThat(state.get().attempts()).isEqualTo(1);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                assertThat(sql.getValue()).doesNotContain("job_payloads", "parameters", "result");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findById - should bound created_at to the second in the id, so one partition is read")
+    void findById_shouldBoundCreatedAtByTheId(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of()));
+
+        // When
+        jobRepository.findById(JOB_1)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                assertThat(job).isEmpty();
+                verify(pool).preparedQuery(contains("`jobs`.`job_payloads`.`created_at` = `jobs`.`jobs`.`created_at`"));
+                verify(pool).preparedQuery(contains("`jobs`.`jobs`.`created_at` between ? and ?"));
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                // Not found in jobs, so also looked up in jobs_archive
+                verify(preparedQuery, times(2)).execute(params.capture());
+                assertThat(params.getAllValues().get(0).getBuffer(0)).isEqualTo(bytes(JOB_1));
+                assertThat(params.getAllValues().get(0).getLocalDateTime(1)).isEqualTo(CREATED_AT);
+                assertThat(params.getAllValues().get(0).getLocalDateTime(2)).isEqualTo(CREATED_AT);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findById - should keep a packed result compressed until it is read")
+    void findById_shouldUnpackPackedResultOnRead(VertxTestContext testContext) {
+        // Given
+        JsonObject result = new JsonObject().put("rows", "row,".repeat(1000));
+        byte[] packed = PayloadCodec.LZ4.pack(result.encode().getBytes(StandardCharsets.UTF_8));
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        // Columns by position: id, user_id, project_id, status, priority, run_at, attempts, timeout_seconds,
+        // error_message, created_at, updated_at, parameters, result, parameters_packed, result_packed
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(row.getLong(1)).thenReturn(1L);
+        when(row.getLong(2)).thenReturn(null);
+        when(row.getString(3)).thenReturn("COMPLETED");
+        when(row.getInteger(4)).thenReturn(5);
+        when(row.getLocalDateTime(5)).thenReturn(null);
+        when(row.getInteger(6)).thenReturn(1);
+        when(row.getInteger(7)).thenReturn(null);
+        when(row.getString(8)).thenReturn(null);
+        when(row.getLocalDateTime(9)).thenReturn(CREATED_AT);
+        when(row.getLocalDateTime(10)).thenReturn(CREATED_AT);
+        when(row.getString(11)).thenReturn("{\"task\":\"test\"}");
+        when(row.getBuffer(13)).thenReturn(null);
+        when(row.getBuffer(14)).thenReturn(Buffer.buffer(packed));
+
+        // When
+        jobRepository.findById(JOB_1)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                assertThat(job).isPresent();
+                assertThat(job.get().getParameters().getString("task")).isEqualTo("test");
+                JsonPayload stored = job.get().getResultPayload();
+                assertThat(stored.codec()).isEqualTo(PayloadCodec.LZ4);
+                assertThat(stored.isDecoded()).isFalse();
+                assertThat(job.get().getResult().payload()).isEqualTo(result);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findById - should fall back to jobs_archive when jobs has no such job")
+    @SuppressWarnings("unchecked")
+    void findById_shouldReadArchive_whenJobWasArchived(VertxTestContext testContext) {
+        // Given
+        PreparedQuery<RowSet<Row>> archiveQuery = mock(PreparedQuery.class);
+        RowSet<Row> archived = mock(RowSet.class);
+        when(pool.preparedQuery(startsWith("select"))).thenAnswer(invocation ->
+                invocation.getArgument(0, String.class).contains("`jobs_archive`") ? archiveQuery : preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of()));
+        when(archiveQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(archived));
+        when(archived.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        // Same positions as a jobs row: id, user_id, project_id, status, priority, run_at, attempts,
+        // timeout_seconds, error_message, created_at, updated_at, parameters, result, parameters_packed,
+        // result_packed
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(row.getLong(1)).thenReturn(1L);
+        when(row.getLong(2)).thenReturn(null);
+        when(row.getString(3)).thenReturn("COMPLETED");
+        when(row.getInteger(4)).thenReturn(5);
+        when(row.getLocalDateTime(5)).thenReturn(null);
+        when(row.getInteger(6)).thenReturn(1);
+        when(row.getInteger(7)).thenReturn(null);
+        when(row.getString(8)).thenReturn(null);
+        when(row.getLocalDateTime(9)).thenReturn(CREATED_AT);
+        when(row.getLocalDateTime(10)).thenReturn(CREATED_AT);
+        when(row.getString(11)).thenReturn("{\"task\":\"test\"}");
+        when(row.getString(12)).thenReturn("{\"ok\":true}");
+        when(row.getBuffer(13)).thenReturn(null);
+        when(row.getBuffer(14)).thenReturn(null);
+
+        // When
+        jobRepository.findById(JOB_1)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                assertThat(job).isPresent();
+                assertThat(job.get().getId()).isEqualTo(JOB_1);
+                assertThat(job.get().getStatus()).isEqualTo(JobStatus.COMPLETED);
+                assertThat(job.get().getParameters().getString("task")).isEqualTo("test");
+                assertThat(job.get().getResult().payload().getBoolean("ok")).isTrue();
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(archiveQuery).execute(params.capture());
+                assertThat(params.getValue().size()).isEqualTo(1);
+                assertThat(params.getValue().getBuffer(0)).isEqualTo(bytes(JOB_1));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("archive - should lock a chunk of one lane after the cursor, move it to jobs_archive")
+    @SuppressWarnings("unchecked")
+    void archive_shouldMoveOneChunkInOneTransaction(VertxTestContext testContext) {
+        // Given
+        Instant before = Instant.parse("2024-11-01T00:00:00Z");
+        JobCursor after = new JobCursor(CREATED_AT.toInstant(ZoneOffset.UTC), JOB_0);
+        Row second = mock(Row.class);
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row, second)));
+        // id, created_at
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_1));
+        when(row.getLocalDateTime(1)).thenReturn(CREATED_AT);
+        when(second.getBuffer(0)).thenReturn(bytes(JOB_2));
+        when(second.getLocalDateTime(1)).thenReturn(CREATED_AT.plusSeconds(1));
+
+        // When
+        jobRepository.archive(JobStatus.COMPLETED, 5, before, after, 2)
+            .onComplete(testContext.succeeding(archived -> testContext.verify(() -> {
+                // Then
+                assertThat(archived).extracting(JobCursor::id).containsExactly(JOB_1, JOB_2);
+                assertThat(archived.get(1).createdAt()).isEqualTo(CREATED_AT.plusSeconds(1).toInstant(ZoneOffset.UTC));
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(connection, times(4)).preparedQuery(sql.capture());
+                assertThat(sql.getAllValues().get(0))
+                        .contains("`jobs`.`jobs`.`id` > ?")
+                        .contains("order by `jobs`.`jobs`.`created_at`, `jobs`.`jobs`.`id`")
+                        .endsWith("for update");
+                assertThat(sql.getAllValues().get(1)).startsWith("insert into `jobs`.`jobs_archive`")
+                        .contains("left outer join `jobs`.`job_payloads`");
+                assertThat(sql.getAllValues().get(2)).startsWith("delete from `jobs`.`job_payloads`");
+                assertThat(sql.getAllValues().get(3)).startsWith("delete from `jobs`.`jobs`");
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery, times(4)).execute(params.capture());
+                                // The deletes carry the ids and the created_at range of the chunk
+                Tuple delete = params.getAllValues().get(3);
+                assertThat(delete.getBuffer(0)).isEqualTo(bytes(JOB_1));
+                assertThat(delete.getBuffer(1)).isEqualTo(bytes(JOB_2));
+                assertThat(delete.getLocalDateTime(2)).isEqualTo(CREATED_AT);
+                assertThat(delete.getLocalDateTime(3)).isEqualTo(CREATED_AT.plusSeconds(1));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("archive - should stop after the lock when the lane has nothing left to archive")
+    @SuppressWarnings("unchecked")
+    void archive_shouldNotCopy_whenLaneIsEmpty(VertxTestContext testContext) {
+        // Given
+        when(pool.withTransaction(any())).thenAnswer(invocation ->
+                ((Function<SqlConnection, Future<?>>) invocation.getArgument(0)).apply(connection));
+        when(connection.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of()));
+
+        // When
+        jobRepository.archive(JobStatus.FAILED, 0, Instant.now(), null, 500)
+            .onComplete(testContext.succeeding(archived -> testContext.verify(() -> {
+                // Then
+                assertThat(archived).isEmpty();
+                verify(connection, times(1)).preparedQuery(anyString());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("cancel - should leave created_at open for an id that does not carry its creation time")
+    void cancel_shouldNotBoundCreatedAt_whenIdIsRandom(VertxTestContext testContext) {
+        // Given
+        String randomId = "3f2b8c1e-4d5a-4e6f-8a9b-0c1d2e3f4a5b";
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+
+        // When
+        jobRepository.cancel(randomId)
+            .onComplete(testContext.succeeding(cancelled -> testContext.verify(() -> {
+                // Then
+                assertThat(cancelled).isTrue();
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().getBuffer(4)).isEqualTo(bytes(randomId));
+                assertThat(params.getValue().getLocalDateTime(5)).isBefore(LocalDateTime.of(1971, 1, 1, 0, 0));
+                assertThat(params.getValue().getLocalDateTime(6)).isAfter(LocalDateTime.of(2037, 1, 1, 0, 0));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("renewLeases - should report every job renewed from the update alone when no lease was lost")
+    void renewLeases_shouldRenewAll_inOneStatement(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(2);
+
+        // When
+        jobRepository.renewLeases(WORKER, List.of(JOB_1, JOB_2), Duration.ofMinutes(1))
+            .onComplete(testContext.succeeding(renewed -> testContext.verify(() -> {
+                // Then
+                assertThat(renewed).containsExactlyInAnyOrder(JOB_1, JOB_2);
+                verify(pool, times(1)).preparedQuery(anyString());
+                verify(pool).preparedQuery(startsWith("update `jobs`.`jobs` set `jobs`.`jobs`.`lease_expires_at`"));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("renewLeases - should read which jobs are still leased when some lease was lost")
+    void renewLeases_shouldReportLeasedJobsOnly_whenLeaseWasLost(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        when(row.getBuffer(0)).thenReturn(bytes(JOB_2));
+
+        // When
+        jobRepository.renewLeases(WORKER, List.of(JOB_1, JOB_2), Duration.ofMinutes(1))
+            .onComplete(testContext.succeeding(renewed -> testContext.verify(() -> {
+                // Then
+                assertThat(renewed).containsExactly(JOB_2);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool, times(2)).preparedQuery(sql.capture());
+                assertThat(sql.getAllValues().get(1)).startsWith("select `jobs`.`jobs`.`id`")
+                        .contains("`jobs`.`jobs`.`lease_owner` = ?");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("requeueExpiredLeases - should requeue in one statement and return the number of re-queued jobs")
+    void requeueExpiredLeases_shouldReturnRowCount(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(3);
+
+        // When
+        jobRepository.requeueExpiredLeases(100)
+            .onComplete(testContext.succeeding(requeued -> testContext.verify(() -> {
+                // Then
+                assertThat(requeued).isEqualTo(3);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                assertThat(sql.getValue()).startsWith("update `jobs`.`jobs` set").contains("lease_expires_at")
+                        .contains("`jobs`.`jobs`.`effective_priority` = `jobs`.`jobs`.`priority`");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("agePending - should promote the claim lane, not the submitted priority, and return the count")
+    void agePending_shouldPromoteOneLane(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(2);
+
+        // When
+        jobRepository.agePending(3, Duration.ofMinutes(1), 100)
+            .onComplete(testContext.succeeding(aged -> testContext.verify(() -> {
+                // Then
+                assertThat(aged).isEqualTo(2);
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().getInteger(0)).isEqualTo(4);
+                assertThat(params.getValue().getInteger(3)).isEqualTo(3);
+                // Waiting since the later of becoming PENDING and the last promotion
+                assertThat(params.getValue().getLocalDateTime(4)).isEqualTo(params.getValue().getLocalDateTime(5));
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                assertThat(sql.getValue()).contains("set `jobs`.`jobs`.`effective_priority` = ?")
+                    .contains("`jobs`.`jobs`.`updated_at` < ?")
+                    .doesNotContain("`jobs`.`jobs`.`priority` = ?");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findScheduled - should page through the window by (run_at, id)")
+    void findScheduled_shouldUseKeysetCursor(VertxTestContext testContext) {
+        // Given
+        LocalDateTime runAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        // Mapped by position through the select list
+        when(row.getValue(0)).thenReturn(bytes(JOB_2));
+        when(row.getValue(1)).thenReturn(3L);
+        when(row.getValue(2)).thenReturn(runAt);
+        ScheduledJob cursor = new ScheduledJob(JOB_1, 3L, runAt.toInstant(ZoneOffset.UTC));
+
+        // When
+        jobRepository.findScheduled(runAt.plusMinutes(5).toInstant(ZoneOffset.UTC), cursor, 100)
+            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+                // Then
+                assertThat(jobs).containsExactly(new ScheduledJob(JOB_2, 3L, runAt.toInstant(ZoneOffset.UTC)));
+                verify(pool).preparedQuery(contains("order by `jobs`.`jobs`.`run_at`, `jobs`.`jobs`.`id`"));
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().size()).isEqualTo(6);
+                assertThat(params.getValue().getBuffer(4)).isEqualTo(bytes(JOB_1));
+                assertThat(params.getValue().getInteger(5)).isEqualTo(100);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("findSummariesByUserId - should read only the listed columns and page by (created_at, id) descending")
+    void findSummariesByUserId_shouldUseKeysetCursor(VertxTestContext testContext) {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIteratorStub(List.of(row)));
+        when(row.getValue(0)).thenReturn(bytes(JOB_1));
+        when(row.getValue(1)).thenReturn(3L);
+        when(row.getValue(2)).thenReturn(null);
+        when(row.getValue(3)).thenReturn("COMPLETED");
+        when(row.getValue(4)).thenReturn((byte) 7);
+        when(row.getValue(5)).thenReturn(createdAt);
+        JobCursor cursor = new JobCursor(createdAt.plusSeconds(1).toInstant(ZoneOffset.UTC), JOB_0);
+
+        // When
+        jobRepository.findSummariesByUserId(3L, cursor, 50)
+            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+                // Then
+                assertThat(jobs).containsExactly(new JobSummary(JOB_1, 3L, null, JobStatus.COMPLETED, 7,
+                        createdAt.toInstant(ZoneOffset.UTC)));
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                assertThat(sql.getValue()).doesNotContain("parameters", "result", "error_message")
+                        .contains("order by `jobs`.`jobs`.`created_at` desc, `jobs`.`jobs`.`id` desc");
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().size()).isEqualTo(5);
+                assertThat(params.getValue().getLong(0)).isEqualTo(3L);
+                assertThat(params.getValue().getLocalDateTime(1)).isEqualTo(createdAt.plusSeconds(1));
+                assertThat(params.getValue().getBuffer(3)).isEqualTo(bytes(JOB_0));
+                assertThat(params.getValue().getInteger(4)).isEqualTo(50);
+                testContext.completeNow();
+            })));
+    }
+
+    /**
+     * Minimal {@link RowIterator} over a fixed list of rows.
+     */
+    private static class RowIteratorStub implements RowIterator<Row> {
+        private final java.util.Iterator<Row> delegate;
+
+        RowIteratorStub(List<Row> rows) {
+            this.delegate = rows.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Row next() {
+            return delegate.next();
+        }
+    }
+
+    private static Buffer bytes(String id) {
+        return Buffer.buffer(JobIds.toBytes(id));
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.jooq.enums.JobsStatus;
+import com.example.jobserver.jooq.tables.records.JobsRecord;
+import com.example.jobserver.model.JobIds;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.sqlclient.*;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.jobserver.jooq.Tables.JOBS_;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({VertxExtension.class, MockitoExtension.class})
+class JooqExecutorTest {
+
+    private static final String JOB_1 = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
+    private static final String JOB_A = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e0a";
+    private static final String JOB_B = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e0b";
+
+    @Mock
+    private Pool pool;
+
+    @Mock
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+
+    @Mock
+    private RowSet<Row> rowSet;
+
+    @Mock
+    private Row row;
+
+    private JooqExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new JooqExecutor(pool, DSL.using(SQLDialect.MYSQL), 2);
+    }
+
+    @Test
+    @DisplayName("statement - should render a shape once and reuse it")
+    void statement_shouldRenderOnce() {
+        // Given
+        int[] built = new int[1];
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            executor.statement("jobs.cancel", () -> {
+                built[0]++;
+                return cancelQuery();
+            });
+        }
+
+        // Then
+        assertThat(built[0]).isEqualTo(1);
+        assertThat(executor.metrics().getLong("renders")).isEqualTo(1);
+        assertThat(executor.metrics().getLong("hits")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("statement - should evict the least recently used shape beyond maxStatements")
+    void statement_shouldEvictLeastRecentlyUsed() {
+        // Given
+        executor.statement("a", this::cancelQuery);
+        executor.statement("b", this::cancelQuery);
+        executor.statement("a", this::cancelQuery);
+
+        // When
+        executor.statement("c", this::cancelQuery);
+        executor.statement("a", this::cancelQuery);
+        executor.statement("b", this::cancelQuery);
+
+        // Then - "a" stayed cached, "b" was rendered again
+        assertThat(executor.metrics().getInteger("cached")).isEqualTo(2);
+        assertThat(executor.metrics().getLong("renders")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("execute - should place named values and keep fixed binds in SQL order")
+    void execute_shouldBindInSqlOrder(VertxTestContext testContext) {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2030, 1, 1, 9, 0);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(1);
+
+        // When
+        executor.statement("jobs.cancel", this::cancelQuery)
+            .bind("id", JOB_1)
+            .bind("now", now)
+            .update()
+            .onComplete(testContext.succeeding(updated -> testContext.verify(() -> {
+                // Then - status, lease owner, lease expiry, now, id, then the fixed status list
+                assertThat(updated).isEqualTo(1);
+                ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+                verify(pool).preparedQuery(sql.capture());
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(sql.getValue().chars().filter(c -> c == '?').count()).isEqualTo(params.getValue().size());
+                assertThat(params.getValue().getString(0)).isEqualTo("CANCELLED");
+                assertThat(params.getValue().getValue(1)).isNull();
+                assertThat(params.getValue().getLocalDateTime(3)).isEqualTo(now);
+                assertThat(params.getValue().getBuffer(4)).isEqualTo(bytes(JOB_1));
+                assertThat(params.getValue().getString(5)).isEqualTo("SCHEDULED");
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("execute - should bind every occurrence of a repeated name and indexed parameters")
+    void execute_shouldBindRepeatedNames(VertxTestContext testContext) {
+        // Given
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.rowCount()).thenReturn(2);
+
+        // When
+        executor.statement("jobs.touch:2", () -> DSL.using(SQLDialect.MYSQL).update(JOBS_)
+                .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                .where(JOBS_.ID.in(JooqExecutor.params("id", JOBS_.ID, 2)))
+                .and(JOBS_.CREATED_AT.lt(DSL.param("now", JOBS_.CREATED_AT))))
+            .bindAll("id", List.of(JOB_A, JOB_B))
+            .bind("now", LocalDateTime.of(2030, 1, 1, 9, 0))
+            .update()
+            .onComplete(testContext.succeeding(updated -> testContext.verify(() -> {
+                // Then
+                ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+                verify(preparedQuery).execute(params.capture());
+                assertThat(params.getValue().size()).isEqualTo(4);
+                assertThat(params.getValue().getValue(0)).isEqualTo(params.getValue().getValue(3));
+                assertThat(params.getValue().getBuffer(1)).isEqualTo(bytes(JOB_A));
+                assertThat(params.getValue().getBuffer(2)).isEqualTo(bytes(JOB_B));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("execute - should fail without running when a named parameter is unbound")
+    void execute_shouldFail_whenParameterMissing(VertxTestContext testContext) {
+        // When
+        executor.statement("jobs.cancel", this::cancelQuery)
+            .bind("id", JOB_1)
+            .execute()
+            .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(IllegalStateException.class).hasMessageContaining("now");
+                verifyNoInteractions(pool);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("bind - should reject a name the statement does not have")
+    void bind_shouldRejectUnknownName() {
+        // When / Then
+        assertThatThrownBy(() -> executor.statement("jobs.cancel", this::cancelQuery).bind("jobId", JOB_1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("jobId");
+    }
+
+    @Test
+    @DisplayName("fetchInto - should convert columns to the generated record's types")
+    void fetchInto_shouldMapTypedRecords(VertxTestContext testContext) {
+        // Given
+        LocalDateTime runAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Future.succeededFuture(rowSet));
+        when(rowSet.iterator()).thenAnswer(invocation -> new RowIterator<Row>() {
+            private boolean next = true;
+
+            @Override
+            public boolean hasNext() {
+                return next;
+            }
+
+            @Override
+            public Row next() {
+                next = false;
+                return row;
+            }
+        });
+        when(row.getValue(0)).thenReturn(bytes(JOB_1));
+        when(row.getValue(1)).thenReturn("SCHEDULED");
+        when(row.getValue(2)).thenReturn(runAt);
+
+        // When
+        executor.statement("jobs.scheduledById", () -> DSL.using(SQLDialect.MYSQL)
+                .select(JOBS_.ID, JOBS_.STATUS, JOBS_.RUN_AT)
+                .from(JOBS_)
+                .where(JOBS_.ID.eq(DSL.param("id", JOBS_.ID))))
+            .bind("id", JOB_1)
+            .fetchInto(JOBS_)
+            .onComplete(testContext.succeeding(records -> testContext.verify(() -> {
+                // Then
+                assertThat(records).hasSize(1);
+                JobsRecord record = records.get(0);
+                assertThat(record.getId()).isEqualTo(JOB_1);
+                assertThat(record.getStatus()).isEqualTo(JobsStatus.SCHEDULED);
+                assertThat(record.getRunAt()).isEqualTo(runAt);
+                testContext.completeNow();
+            })));
+    }
+
+    private Query cancelQuery() {
+        return DSL.using(SQLDialect.MYSQL).update(JOBS_)
+            .set(JOBS_.STATUS, JobsStatus.CANCELLED)
+            .set(JOBS_.LEASE_OWNER, (String) null)
+            .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+            .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+            .where(JOBS_.ID.eq(DSL.param("id", JOBS_.ID)))
+            .and(JOBS_.STATUS.in(JobsStatus.SCHEDULED, JobsStatus.PENDING));
+    }
+
+    private static Buffer bytes(String id) {
+        return Buffer.buffer(JobIds.toBytes(id));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Latency of one page of a user's job list against a real database (the docker-compose one by default), at
+ * growing depths into a list of {@code bench.jobs} jobs: the keyset page {@link JobRepository#findSummariesByUserId}
+ * serves, against the same page read with {@code LIMIT ... OFFSET}, which has to step over every job before it.
+ *
+ * <p>Uses user 2 and deletes its jobs before and after the run, so point it at a scratch database. Skipped
+ * when the database is not reachable. Not part of the regular build; run with {@code mvn test -Pbench}.
+ * Tunable via system properties {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName},
+ * {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.jobs}, {@code bench.pageSize} and
+ * {@code bench.pages}.
+ */
+class KeysetPaginationBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 1 << 20);
+    private static final int PAGE_SIZE = Integer.getInteger("bench.pageSize", 50);
+    private static final int PAGES = Integer.getInteger("bench.pages", 50);
+    private static final long USER_ID = 2L;
+
+    private static final String SUMMARY_COLUMNS = "SELECT id, user_id, project_id, status, priority, created_at FROM jobs"
+        + " WHERE user_id = ? ORDER BY created_at DESC, id DESC";
+
+    @Test
+    @DisplayName("benchmark - keyset vs offset pages deep into a user's job list")
+    void comparePagination() throws Exception {
+        AppConfig config = BenchDatabase.config()
+            .dbPreparedStatementCacheSqlLimit(16384)
+            .build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            JobRepository repository = new JobRepositoryImpl(AppModule.createJooqExecutor(vertx, pool, config));
+            await(deleteBenchJobs(pool));
+            int jobs = seed(pool);
+
+            // Both paths warm before the first depth is measured
+            for (int i = 0; i < 1_000; i++) {
+                await(repository.findSummariesByUserId(USER_ID, null, PAGE_SIZE));
+                await(offsetPage(pool, 0));
+            }
+
+            List<String> rows = new ArrayList<>();
+            for (int depth : new int[] {0, 1_000, 10_000, 100_000, jobs / 2, jobs - PAGE_SIZE}) {
+                if (depth < 0 || depth > jobs - PAGE_SIZE) {
+                    continue;
+                }
+                JobCursor cursor = depth == 0 ? null : await(cursorAt(pool, depth - 1));
+                List<JobSummary> keysetPage = await(repository.findSummariesByUserId(USER_ID, cursor, PAGE_SIZE));
+                List<String> offsetPage = await(offsetPage(pool, depth));
+                assertThat(keysetPage).extracting(JobSummary::id).as("page at %d", depth).isEqualTo(offsetPage);
+
+                long keyset = median(() -> repository.findSummariesByUserId(USER_ID, cursor, PAGE_SIZE));
+                long offset = median(() -> offsetPage(pool, depth));
+                rows.add(String.format("%-10d %14.2f %14.2f", depth, keyset / 1000.0, offset / 1000.0));
+            }
+            await(deleteBenchJobs(pool));
+
+            System.out.printf("%nUser job list pages: %d jobs, page size %d, median of %d pages, %s%n",
+                jobs, PAGE_SIZE, PAGES, config.getJdbcUrl());
+            System.out.printf("%-10s %14s %14s%n", "depth", "keyset ms", "offset ms");
+            rows.forEach(System.out::println);
+        } finally {
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Inserts one job, then doubles the user's jobs with {@code INSERT ... SELECT} until there are at least
+     * {@code JOBS}, each copy one second per existing job older so creation times stay distinct.
+     *
+     * @return the number of jobs inserted
+     */
+    private static int seed(Pool pool) throws Exception {
+        await(pool.query("INSERT INTO jobs (id, user_id, status, priority, created_at, updated_at)"
+            + " VALUES (UNHEX(REPLACE(UUID(), '-', '')), " + USER_ID + ", 'COMPLETED', 5, NOW(), NOW())")
+            .execute());
+        int jobs = 1;
+        while (jobs < JOBS) {
+            await(pool.query("INSERT INTO jobs (id, user_id, status, priority, created_at, updated_at)"
+                + " SELECT UNHEX(REPLACE(UUID(), '-', '')), user_id, status, priority,"
+                + " created_at - INTERVAL " + jobs + " SECOND, updated_at FROM jobs WHERE user_id = " + USER_ID)
+                .execute());
+            jobs *= 2;
+        }
+        return jobs;
+    }
+
+    private static Future<JobCursor> cursorAt(Pool pool, int position) {
+        return pool.preparedQuery(SUMMARY_COLUMNS + " LIMIT 1 OFFSET ?")
+            .execute(Tuple.of(USER_ID, position))
+            .map(rows -> {
+                Row row = rows.iterator().next();
+                return new JobCursor(row.getLocalDateTime("created_at").toInstant(ZoneOffset.UTC), jobId(row));
+            });
+    }
+
+    private static Future<List<String>> offsetPage(Pool pool, int depth) {
+        return pool.preparedQuery(SUMMARY_COLUMNS + " LIMIT ? OFFSET ?")
+            .execute(Tuple.of(USER_ID, PAGE_SIZE, depth))
+            .map(rows -> {
+                List<String> ids = new ArrayList<>();
+                for (Row row : rows) {
+                    ids.add(jobId(row));
+                }
+                return ids;
+            });
+    }
+
+    private static String jobId(Row row) {
+        return JobIds.fromBytes(row.getBuffer("id").getBytes());
+    }
+
+    /**
+     * Median latency of {@code PAGES} sequential reads of a page, in microseconds, after as many warm-up reads.
+     */
+    private static long median(Supplier<Future<?>> page) throws Exception {
+        for (int i = 0; i < PAGES; i++) {
+            await(page.get());
+        }
+        long[] latency = new long[PAGES];
+        for (int i = 0; i < PAGES; i++) {
+            long begin = System.nanoTime();
+            await(page.get());
+            latency[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+        }
+        Arrays.sort(latency);
+        return latency[PAGES / 2];
+    }
+
+    private static Future<Void> deleteBenchJobs(Pool pool) {
+        return pool.query("DELETE FROM jobs WHERE user_id = " + USER_ID)
+            .execute()
+            .mapEmpty();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Cost of listing one user's jobs against a real database (the docker-compose one by default): full rows
+ * through {@link JobRepository#findByUserId}, as {@code GET /jobs/user/{userId}} used to, against the summary
+ * projection {@link JobRepository#findSummariesByUserId} now behind it. The user owns {@code bench.jobs}
+ * completed jobs whose parameters and result are each about {@code bench.payloadBytes} of JSON. Reports latency
+ * per list and the heap allocated per list across all threads, and prints the plan of the summary query.
+ *
+ * <p>Uses user 2 and deletes its jobs before and after the run, so point it at a scratch database. Skipped
+ * when the database is not reachable. Not part of the regular build; run with {@code mvn test -Pbench}.
+ * Tunable via system properties {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName},
+ * {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.jobs}, {@code bench.payloadBytes} and
+ * {@code bench.lists}.
+ */
+class ListProjectionBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 1_000);
+    private static final int PAYLOAD_BYTES = Integer.getInteger("bench.payloadBytes", 16 * 1024);
+    private static final int LISTS = Integer.getInteger("bench.lists", 50);
+    private static final int WARMUP_LISTS = 10;
+    private static final long USER_ID = 2L;
+
+    @Test
+    @DisplayName("benchmark - full job rows vs summary projection for a user's job list")
+    void compareListProjections() throws Exception {
+        AppConfig config = BenchDatabase.config()
+            .dbPreparedStatementCacheSqlLimit(16384)
+            .build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            JobRepository repository = new JobRepositoryImpl(AppModule.createJooqExecutor(vertx, pool, config));
+            await(deleteBenchJobs(pool));
+            seed(repository, pool);
+
+            String full = run("full rows (findByUserId)", () -> repository.findByUserId(USER_ID).map(List::size));
+            String summaries = run("summaries (findSummariesByUserId)",
+                () -> repository.findSummariesByUserId(USER_ID, null, JOBS).map(List::size));
+            List<String> plan = await(explainSummaries(pool));
+            await(deleteBenchJobs(pool));
+
+            System.out.printf("%nUser job list: %d jobs, %d-byte parameters and result, %d lists, %s%n",
+                JOBS, PAYLOAD_BYTES, LISTS, config.getJdbcUrl());
+            System.out.printf("%-36s %10s %10s %14s%n", "query", "p50 ms", "p99 ms", "alloc KB/list");
+            System.out.println(full);
+            System.out.println(summaries);
+            System.out.println("summary plan: " + String.join("; ", plan));
+        } finally {
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Saves {@code JOBS} jobs in chunks, then completes them all with a result as large as their parameters.
+     */
+    private static void seed(JobRepository repository, Pool pool) throws Exception {
+        String filler = "x".repeat(PAYLOAD_BYTES);
+        Instant now = Instant.now();
+        for (int saved = 0; saved < JOBS; saved += 100) {
+            List<Job> chunk = new ArrayList<>();
+            for (int i = saved; i < Math.min(JOBS, saved + 100); i++) {
+                chunk.add(Job.builder().id(UUID.randomUUID().toString()).userId(USER_ID).status(JobStatus.PENDING)
+                    .priority(5).parameters(new JsonObject().put("n", i).put("data", filler))
+                    .createdAt(now.plusMillis(i)).updatedAt(now).build());
+            }
+            await(repository.saveAll(chunk));
+        }
+        await(pool.query("UPDATE jobs JOIN job_payloads ON job_payloads.job_id = jobs.id"
+            + " SET status = 'COMPLETED', result = parameters WHERE user_id = " + USER_ID)
+            .execute());
+    }
+
+    private static String run(String name, Supplier<Future<Integer>> list) throws Exception {
+        for (int i = 0; i < WARMUP_LISTS; i++) {
+            assertThat(await(list.get())).as("jobs listed (%s)", name).isEqualTo(JOBS);
+        }
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] latency = new long[LISTS];
+        long allocated = 0;
+        for (int i = 0; i < LISTS; i++) {
+            long heapBefore = allocatedBytes(threads);
+            long begin = System.nanoTime();
+            await(list.get());
+            latency[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+            allocated += allocatedBytes(threads) - heapBefore;
+        }
+        return String.format("%-36s %10.2f %10.2f %14d", name, percentile(latency, 0.50) / 1000.0,
+            percentile(latency, 0.99) / 1000.0, allocated / LISTS / 1024);
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(bytes, 0);
+        }
+        return total;
+    }
+
+    private static Future<List<String>> explainSummaries(Pool pool) {
+        return pool.query("EXPLAIN SELECT id, user_id, project_id, status, priority, created_at FROM jobs"
+                + " WHERE user_id = " + USER_ID + " ORDER BY created_at DESC, id DESC")
+            .execute()
+            .map(rows -> {
+                List<String> plan = new ArrayList<>();
+                for (Row row : rows) {
+                    plan.add("key=" + row.getValue("key") + ", Extra=" + row.getValue("Extra"));
+                }
+                return plan;
+            });
+    }
+
+    private static Future<Void> deleteBenchJobs(Pool pool) {
+        return pool.query("DELETE jobs, job_payloads FROM jobs LEFT JOIN job_payloads ON job_payloads.job_id = jobs.id"
+            + " WHERE user_id = " + USER_ID)
+            .execute()
+            .mapEmpty();
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
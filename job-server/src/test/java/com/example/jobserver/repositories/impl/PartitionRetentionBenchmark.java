@@ -0,0 +1,206 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Retention and lookups against a real database (the docker-compose one by default), on a jobs table as it is
+ * without {@code JOB_PARTITIONING_ENABLED} and on one partitioned by day the way
+ * {@link JobPartitionRepositoryImpl} does it. Each table gets {@code bench.rows} jobs spread evenly over
+ * {@code bench.days} days. The oldest day then goes, with a {@code DELETE} from the plain table and a
+ * {@code DROP PARTITION} from the partitioned one. Before and after, {@code bench.streams} connections look up
+ * {@code bench.ops} random jobs by id and {@code created_at}, as {@link JobRepositoryImpl} does, after a warm-up
+ * of a tenth as many. Reports how long removing a day took, and lookups per second with median and 99th
+ * percentile latency.
+ *
+ * <p>Creates and drops the tables {@code bench_plain_jobs} and {@code bench_partitioned_jobs}. Skipped when the
+ * database is not reachable. Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via
+ * system properties {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName}, {@code bench.dbUser},
+ * {@code bench.dbPassword}, {@code bench.rows}, {@code bench.days}, {@code bench.ops} and {@code bench.streams}.
+ */
+class PartitionRetentionBenchmark {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 500_000);
+    private static final int DAYS = Integer.getInteger("bench.days", 10);
+    private static final int OPS = Integer.getInteger("bench.ops", 50_000);
+    private static final int STREAMS = Integer.getInteger("bench.streams", 8);
+    private static final int BATCH_ROWS = 500;
+
+    private static final String COLUMNS = "id BINARY(16) NOT NULL, user_id BIGINT NOT NULL,"
+        + " status VARCHAR(16) NOT NULL, priority TINYINT NOT NULL, attempts INT NOT NULL,"
+        + " error_message TEXT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NULL,"
+        + " PRIMARY KEY (id, created_at), KEY idx_status_priority_created_at (status, priority DESC, created_at),"
+        + " KEY idx_user_created_at (user_id, created_at)";
+
+    @Test
+    @DisplayName("benchmark - dropping a day of jobs with DELETE vs DROP PARTITION, and lookups by id")
+    void compareRetention() throws Exception {
+        AppConfig config = BenchDatabase.config()
+            .dbPoolSize(STREAMS)
+            .build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            // Day d of DAYS ends before first.plusDays(d + 1); the rows of day 0 are the ones to remove
+            LocalDate first = LocalDate.now().minusDays(DAYS);
+            Buffer[] ids = new Buffer[ROWS];
+            LocalDateTime[] createdAt = new LocalDateTime[ROWS];
+            long secondsPerRow = Math.max(1, DAYS * 86_400L / ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                UUID uuid = UUID.randomUUID();
+                ids[i] = Buffer.buffer().appendLong(uuid.getMostSignificantBits())
+                    .appendLong(uuid.getLeastSignificantBits());
+                createdAt[i] = first.atStartOfDay().plusSeconds(i * secondsPerRow);
+            }
+
+            await(pool.query("DROP TABLE IF EXISTS bench_plain_jobs, bench_partitioned_jobs").execute());
+            await(pool.query("CREATE TABLE bench_plain_jobs (" + COLUMNS + ") ENGINE=InnoDB").execute());
+            StringBuilder partitions = new StringBuilder();
+            for (int d = 1; d <= DAYS + 1; d++) {
+                LocalDate bound = first.plusDays(d);
+                partitions.append("PARTITION ").append(partitionName(bound))
+                    .append(" VALUES LESS THAN (UNIX_TIMESTAMP('").append(bound).append(" 00:00:00')), ");
+            }
+            await(pool.query("CREATE TABLE bench_partitioned_jobs (" + COLUMNS + ") ENGINE=InnoDB"
+                + " PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (" + partitions
+                + "PARTITION pfuture VALUES LESS THAN MAXVALUE)").execute());
+            for (String table : new String[] {"bench_plain_jobs", "bench_partitioned_jobs"}) {
+                seed(pool, table, ids, createdAt);
+            }
+            await(pool.query("ANALYZE TABLE bench_plain_jobs, bench_partitioned_jobs").execute());
+
+            System.out.printf("%nPartition retention: %d jobs over %d days, %d lookups on %d connections, %s%n",
+                ROWS, DAYS, OPS, STREAMS, config.getJdbcUrl());
+            System.out.printf("%-36s %10s %10s %10s%n", "operation", "ops/s", "p50 ms", "p99 ms");
+            for (String table : new String[] {"bench_plain_jobs", "bench_partitioned_jobs"}) {
+                System.out.println(lookups(vertx, pool, table, ids, createdAt));
+            }
+
+            LocalDateTime cutoff = first.plusDays(1).atStartOfDay();
+            long start = System.nanoTime();
+            int deleted = await(pool.preparedQuery("DELETE FROM bench_plain_jobs WHERE created_at < ?")
+                .execute(Tuple.of(cutoff))).rowCount();
+            double deleteMs = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            await(pool.query("ALTER TABLE bench_partitioned_jobs DROP PARTITION " + partitionName(first.plusDays(1)))
+                .execute());
+            double dropMs = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%-36s %10.1f ms for %d rows%n", "bench_plain_jobs DELETE oldest day", deleteMs,
+                deleted);
+            System.out.printf("%-36s %10.1f ms%n", "bench_partitioned_jobs DROP PARTITION", dropMs);
+
+            assertThat(count(pool, "bench_partitioned_jobs")).isEqualTo(count(pool, "bench_plain_jobs"));
+            assertThat(dropMs).isLessThan(deleteMs);
+        } finally {
+            await(pool.query("DROP TABLE IF EXISTS bench_plain_jobs, bench_partitioned_jobs").execute());
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String partitionName(LocalDate bound) {
+        return "p" + bound.toString().replace("-", "");
+    }
+
+    /**
+     * Inserts one row per id with multi-row INSERTs of {@code BATCH_ROWS}, one after the other.
+     */
+    private static void seed(Pool pool, String table, Buffer[] ids, LocalDateTime[] createdAt) throws Exception {
+        for (int from = 0; from < ids.length; from += BATCH_ROWS) {
+            int to = Math.min(ids.length, from + BATCH_ROWS);
+            StringBuilder sql = new StringBuilder("INSERT INTO " + table
+                + " (id, user_id, status, priority, attempts, created_at, updated_at) VALUES ");
+            Tuple params = Tuple.tuple();
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "" : ", ").append("(?, ?, 'COMPLETED', 5, 1, ?, ?)");
+                params.addValue(ids[i]).addLong((long) (i % 100)).addLocalDateTime(createdAt[i])
+                    .addLocalDateTime(createdAt[i]);
+            }
+            await(pool.preparedQuery(sql.toString()).execute(params));
+        }
+    }
+
+    private static long count(Pool pool, String table) throws Exception {
+        Row row = await(pool.query("SELECT COUNT(*) FROM " + table).execute().map(rows -> rows.iterator().next()));
+        return row.getLong(0);
+    }
+
+    /**
+     * Runs {@code OPS / 10} lookups to warm up, then {@code OPS} timed ones, each of a random job.
+     */
+    private static String lookups(Vertx vertx, Pool pool, String table, Buffer[] ids, LocalDateTime[] createdAt)
+            throws Exception {
+        String sql = "SELECT id, user_id, status, priority, attempts, error_message, created_at, updated_at FROM "
+            + table + " WHERE id = ? AND created_at BETWEEN ? AND ?";
+        execute(vertx, pool, sql, ids, createdAt, OPS / 10, new long[OPS / 10]);
+        long[] latency = new long[OPS];
+        long start = System.nanoTime();
+        execute(vertx, pool, sql, ids, createdAt, OPS, latency);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latency);
+        return String.format("%-36s %10.0f %10.2f %10.2f", table + " lookup by id", OPS / seconds,
+            latency[OPS / 2] / 1e6, latency[OPS * 99 / 100] / 1e6);
+    }
+
+    /**
+     * {@code STREAMS} chains of lookups, each issuing the next when the previous completes, until {@code count}
+     * have run; the latency of each goes into {@code latency}.
+     */
+    private static void execute(Vertx vertx, Pool pool, String sql, Buffer[] ids, LocalDateTime[] createdAt,
+                                int count, long[] latency) throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger(STREAMS);
+        Promise<Void> done = Promise.promise();
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < STREAMS; i++) {
+                next(pool, sql, ids, createdAt, count, latency, issued, running, done);
+            }
+        });
+        await(done.future());
+    }
+
+    private static void next(Pool pool, String sql, Buffer[] ids, LocalDateTime[] createdAt, int count,
+                             long[] latency, AtomicInteger issued, AtomicInteger running, Promise<Void> done) {
+        int n = issued.getAndIncrement();
+        if (n >= count) {
+            if (running.decrementAndGet() == 0) {
+                done.tryComplete();
+            }
+            return;
+        }
+        int i = ThreadLocalRandom.current().nextInt(ids.length);
+        long begin = System.nanoTime();
+        pool.preparedQuery(sql).execute(Tuple.of(ids[i], createdAt[i], createdAt[i])).onComplete(ar -> {
+            if (ar.failed()) {
+                done.tryFail(ar.cause());
+                return;
+            }
+            latency[n] = System.nanoTime() - begin;
+            next(pool, sql, ids, createdAt, count, latency, issued, running, done);
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.PayloadCodec;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Tuple;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Large results against a real database (the docker-compose one by default), stored as JSON and packed with
+ * each {@link PayloadCodec}. {@code bench.jobs} jobs are submitted, claimed and completed {@code bench.batch} at a
+ * time through {@link JobRepositoryImpl#applyTransitions}, each with a result of about {@code bench.resultBytes}
+ * of JSON records; then every job is read back once with {@link JobRepositoryImpl#findById} and its result
+ * decoded. Reports completions per second, the bytes stored per result, and read throughput with median and
+ * 99th percentile latency.
+ *
+ * <p>Works on the jobs tables themselves, as user {@code 535353}, created if missing, and deletes that user's
+ * jobs, payloads and events before and after. Skipped when the database is not reachable. Not part of the
+ * regular build; run with {@code mvn test -Pbench}. Tunable via system properties {@code bench.dbHost},
+ * {@code bench.dbPort}, {@code bench.dbName}, {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.jobs},
+ * {@code bench.batch} and {@code bench.resultBytes}.
+ */
+class PayloadCompressionBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 5_000);
+    private static final int BATCH = Integer.getInteger("bench.batch", 50);
+    private static final int RESULT_BYTES = Integer.getInteger("bench.resultBytes", 64 * 1024);
+    private static final int THRESHOLD_BYTES = 16 * 1024;
+    private static final long USER = 535353L;
+    private static final String WORKER = "bench-worker";
+
+    @Test
+    @DisplayName("benchmark - completing and reading large results as JSON vs packed by each codec")
+    void compareCodecs() throws Exception {
+        AppConfig config = BenchDatabase.config().build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        List<JsonObject> results = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 16; i++) {
+            results.add(result(random));
+        }
+        try {
+            System.out.printf("%nPayload compression: %d jobs, %d per batch, ~%d-byte results, threshold %d, %s%n",
+                JOBS, BATCH, results.get(0).encode().length(), THRESHOLD_BYTES, config.getJdbcUrl());
+            System.out.printf("%-8s %14s %14s %10s %10s %10s%n", "codec", "completions/s", "stored bytes",
+                "reads/s", "p50 ms", "p99 ms");
+            List<PayloadCodec> codecs = new ArrayList<>();
+            codecs.add(null);
+            codecs.addAll(Arrays.asList(PayloadCodec.values()));
+            for (PayloadCodec codec : codecs) {
+                cleanUp(pool);
+                JooqExecutor executor = new JooqExecutor(pool, DSL.using(SQLDialect.MYSQL),
+                    JooqExecutor.DEFAULT_MAX_STATEMENTS);
+                JobRepositoryImpl repository = new JobRepositoryImpl(executor,
+                    codec != null ? new PayloadCompression(codec, THRESHOLD_BYTES) : PayloadCompression.OFF);
+
+                List<String> ids = new ArrayList<>(JOBS);
+                long start = System.nanoTime();
+                for (int done = 0; done < JOBS; done += BATCH) {
+                    int size = Math.min(BATCH, JOBS - done);
+                    List<Job> jobs = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        jobs.add(Job.builder().id(JobIds.newId()).userId(USER).status(JobStatus.PENDING)
+                            .priority(5).parameters(new JsonObject().put("task", "report")).build());
+                    }
+                    await(repository.saveAll(jobs));
+                    List<Job> claimed = await(repository.claimPendingForUser(WORKER, USER, size,
+                        Duration.ofMinutes(5)));
+                    List<JobTransition> transitions = new ArrayList<>(claimed.size());
+                    for (Job job : claimed) {
+                        transitions.add(JobTransition.completed(job.getId(), WORKER,
+                            new JobResult(results.get(ids.size() % results.size()))));
+                        ids.add(job.getId());
+                    }
+                    assertThat(await(repository.applyTransitions(transitions))).hasSize(claimed.size());
+                }
+                double completeSeconds = (System.nanoTime() - start) / 1e9;
+
+                double stored = await(pool.preparedQuery("SELECT AVG(COALESCE(LENGTH(p.result_packed),"
+                        + " LENGTH(p.result))) FROM job_payloads p JOIN jobs j ON p.job_id = j.id"
+                        + " AND p.created_at = j.created_at WHERE j.user_id = ?")
+                    .execute(Tuple.of(USER)).map(rows -> rows.iterator().next().getNumeric(0).doubleValue()));
+
+                long[] latency = new long[ids.size()];
+                start = System.nanoTime();
+                for (int i = 0; i < ids.size(); i++) {
+                    long begin = System.nanoTime();
+                    Job job = await(repository.findById(ids.get(i))).orElseThrow();
+                    JsonObject result = job.getResult().payload();
+                    latency[i] = System.nanoTime() - begin;
+                    if (i < results.size()) {
+                        assertThat(result).isEqualTo(results.get(i));
+                    }
+                }
+                double readSeconds = (System.nanoTime() - start) / 1e9;
+                Arrays.sort(latency);
+
+                System.out.printf("%-8s %14.0f %14.0f %10.0f %10.2f %10.2f%n", codec != null ? codec : "JSON",
+                    ids.size() / completeSeconds, stored, ids.size() / readSeconds,
+                    latency[latency.length / 2] / 1e6, latency[latency.length * 99 / 100] / 1e6);
+            }
+        } finally {
+            cleanUp(pool);
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A report-like result: records with repeating keys and a few distinct values each, up to
+     * {@code RESULT_BYTES} of JSON.
+     */
+    private static JsonObject result(Random random) {
+        JsonArray rows = new JsonArray();
+        JsonObject result = new JsonObject().put("rows", rows);
+        int bytes = 0;
+        for (int i = 0; bytes < RESULT_BYTES; i++) {
+            JsonObject row = new JsonObject()
+                .put("id", i)
+                .put("sku", "SKU-" + (100_000 + random.nextInt(900_000)))
+                .put("region", List.of("eu-west", "us-east", "ap-south").get(random.nextInt(3)))
+                .put("quantity", random.nextInt(500))
+                .put("price", Math.round(random.nextDouble() * 100_000) / 100.0)
+                .put("status", random.nextInt(10) == 0 ? "BACKORDERED" : "IN_STOCK");
+            rows.add(row);
+            bytes += row.encode().length() + 1;
+        }
+        return result.put("total", rows.size());
+    }
+
+    private static void cleanUp(Pool pool) throws Exception {
+        Tuple user = Tuple.of(USER);
+        await(pool.preparedQuery("DELETE p FROM job_payloads p JOIN jobs j ON p.job_id = j.id"
+            + " AND p.created_at = j.created_at WHERE j.user_id = ?").execute(user));
+        await(pool.preparedQuery("DELETE FROM jobs WHERE user_id = ?").execute(user));
+        // jobs.user_id references users until the table is partitioned
+        await(pool.preparedQuery("INSERT IGNORE INTO users (id, username, email) VALUES (?, 'bench', ?)")
+            .execute(Tuple.of(USER, "bench-" + USER + "@example.com")));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.PayloadCodec;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadCompressionTest {
+
+    @Test
+    @DisplayName("pack - should pack only payloads at or above the threshold")
+    void pack_shouldApplyThreshold() {
+        // Given
+        PayloadCompression compression = new PayloadCompression(PayloadCodec.LZ4, 1024);
+        String small = new JsonObject().put("rows", "row,".repeat(100)).encode();
+        String large = new JsonObject().put("rows", "row,".repeat(1000)).encode();
+
+        // When / Then
+        assertThat(compression.pack(small)).isNull();
+        assertThat(compression.pack(large)).isNotNull();
+        assertThat(PayloadCompression.OFF.pack(large)).isNull();
+        assertThat(compression.pack(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("pack - should keep a payload as JSON when compressing does not make it smaller")
+    void pack_shouldSkipIncompressible() {
+        // Given - random hex does not shrink under LZ4
+        StringBuilder random = new StringBuilder();
+        Random generator = new Random(7);
+        while (random.length() < 4096) {
+            random.append(Long.toHexString(generator.nextLong()));
+        }
+        String json = new JsonObject().put("blob", random.toString()).encode();
+
+        // When / Then
+        assertThat(new PayloadCompression(PayloadCodec.LZ4, 1024).pack(json)).isNull();
+    }
+}
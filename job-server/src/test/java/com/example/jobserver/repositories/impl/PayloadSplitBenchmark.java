@@ -0,0 +1,202 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.JobIds;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Status reads and status transitions against a real database (the docker-compose one by default), with
+ * {@code parameters} and {@code result} inline in the jobs row, as before {@code V11}, and split out into a
+ * payload table, as {@link JobRepositoryImpl} stores them now. Each layout gets scratch tables holding
+ * {@code bench.rows} jobs with {@code bench.payloadBytes} of parameters and as much result. {@code bench.streams}
+ * connections then read the state of {@code bench.ops} random jobs by primary key, and move as many random jobs
+ * to a new status, after a warm-up of a tenth as many. Reports operations per second, median and 99th percentile
+ * latency, and the size of the table these operations touch.
+ *
+ * <p>Creates and drops the tables {@code bench_inline_jobs}, {@code bench_split_jobs} and
+ * {@code bench_split_payloads}. Skipped when the database is not reachable. Not part of the regular build; run
+ * with {@code mvn test -Pbench}. Tunable via system properties {@code bench.dbHost}, {@code bench.dbPort},
+ * {@code bench.dbName}, {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.rows},
+ * {@code bench.payloadBytes}, {@code bench.ops} and {@code bench.streams}.
+ */
+class PayloadSplitBenchmark {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 200_000);
+    private static final int PAYLOAD_BYTES = Integer.getInteger("bench.payloadBytes", 2_048);
+    private static final int OPS = Integer.getInteger("bench.ops", 50_000);
+    private static final int STREAMS = Integer.getInteger("bench.streams", 8);
+    private static final int BATCH_ROWS = 200;
+
+    private static final String STATE_COLUMNS = "id BINARY(16) NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL,"
+        + " status VARCHAR(16) NOT NULL, priority TINYINT NOT NULL, attempts INT NOT NULL,"
+        + " error_message TEXT NULL, created_at DATETIME NOT NULL, updated_at DATETIME NOT NULL";
+
+    @Test
+    @DisplayName("benchmark - status reads and transitions with inline vs split payloads")
+    void comparePayloadLayouts() throws Exception {
+        AppConfig config = BenchDatabase.config()
+            .dbPoolSize(STREAMS)
+            .build();
+        assumeTrue(migrate(config), "MySQL not reachable at " + config.getJdbcUrl());
+
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            Buffer[] ids = new Buffer[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                ids[i] = Buffer.buffer(JobIds.toBytes(JobIds.newId()));
+            }
+            String payload = new JsonObject().put("data", "x".repeat(PAYLOAD_BYTES)).encode();
+
+            await(pool.query("DROP TABLE IF EXISTS bench_inline_jobs, bench_split_jobs, bench_split_payloads")
+                .execute());
+            await(pool.query("CREATE TABLE bench_inline_jobs (" + STATE_COLUMNS
+                + ", parameters JSON NOT NULL, result JSON NULL) ENGINE=InnoDB").execute());
+            await(pool.query("CREATE TABLE bench_split_jobs (" + STATE_COLUMNS + ") ENGINE=InnoDB").execute());
+            await(pool.query("CREATE TABLE bench_split_payloads (job_id BINARY(16) NOT NULL PRIMARY KEY,"
+                + " parameters JSON NOT NULL, result JSON NULL) ENGINE=InnoDB").execute());
+
+            seed(pool, ids, "INSERT INTO bench_inline_jobs"
+                + " (id, user_id, status, priority, attempts, created_at, updated_at, parameters, result) VALUES ",
+                "(?, 1, 'COMPLETED', 5, 1, ?, ?, ?, ?)", (params, id, now) -> params.addValue(id)
+                    .addLocalDateTime(now).addLocalDateTime(now).addString(payload).addString(payload));
+            seed(pool, ids, "INSERT INTO bench_split_jobs"
+                + " (id, user_id, status, priority, attempts, created_at, updated_at) VALUES ",
+                "(?, 1, 'COMPLETED', 5, 1, ?, ?)", (params, id, now) -> params.addValue(id)
+                    .addLocalDateTime(now).addLocalDateTime(now));
+            seed(pool, ids, "INSERT INTO bench_split_payloads (job_id, parameters, result) VALUES ",
+                "(?, ?, ?)", (params, id, now) -> params.addValue(id).addString(payload).addString(payload));
+            await(pool.query("ANALYZE TABLE bench_inline_jobs, bench_split_jobs, bench_split_payloads").execute());
+
+            System.out.printf("%nPayload layout: %d jobs, %d-byte parameters and result, %d operations on %d"
+                + " connections, %s%n", ROWS, PAYLOAD_BYTES, OPS, STREAMS, config.getJdbcUrl());
+            System.out.printf("%-24s %10s %10s %10s %12s%n", "operation", "ops/s", "p50 ms", "p99 ms",
+                "table MB");
+            for (String table : new String[] {"bench_inline_jobs", "bench_split_jobs"}) {
+                String read = "SELECT id, user_id, status, priority, attempts, error_message, created_at,"
+                    + " updated_at FROM " + table + " WHERE id = ?";
+                String transition = "UPDATE " + table + " SET status = ?, attempts = attempts + 1,"
+                    + " updated_at = ? WHERE id = ?";
+                double size = tableMegabytes(pool, table);
+                System.out.println(run(vertx, pool, table + " read", read, ids, size, Tuple::of));
+                System.out.println(run(vertx, pool, table + " update", transition, ids, size,
+                    id -> Tuple.of(ThreadLocalRandom.current().nextBoolean() ? "PROCESSING" : "COMPLETED",
+                        LocalDateTime.now(), id)));
+            }
+            assertThat(tableMegabytes(pool, "bench_split_jobs")).isLessThan(tableMegabytes(pool, "bench_inline_jobs"));
+        } finally {
+            await(pool.query("DROP TABLE IF EXISTS bench_inline_jobs, bench_split_jobs, bench_split_payloads")
+                .execute());
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private interface RowBinder {
+        void bind(Tuple params, Buffer id, LocalDateTime now);
+    }
+
+    /**
+     * Inserts one row per id with multi-row INSERTs of {@code BATCH_ROWS}, one after the other.
+     */
+    private static void seed(Pool pool, Buffer[] ids, String insert, String values, RowBinder binder)
+            throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.length; from += BATCH_ROWS) {
+            int to = Math.min(ids.length, from + BATCH_ROWS);
+            StringBuilder sql = new StringBuilder(insert);
+            Tuple params = Tuple.tuple();
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "" : ", ").append(values);
+                binder.bind(params, ids[i], now);
+            }
+            await(pool.preparedQuery(sql.toString()).execute(params));
+        }
+    }
+
+    private static double tableMegabytes(Pool pool, String table) throws Exception {
+        Row size = await(pool.preparedQuery("SELECT data_length + index_length FROM information_schema.tables"
+                + " WHERE table_schema = DATABASE() AND table_name = ?")
+            .execute(Tuple.of(table))
+            .map(rows -> rows.iterator().next()));
+        return size.getLong(0) / 1048576.0;
+    }
+
+    /**
+     * Runs {@code OPS / 10} statements to warm up, then {@code OPS} timed ones, each on a random one of
+     * {@code ids} bound by {@code binds}.
+     */
+    private static String run(Vertx vertx, Pool pool, String name, String sql, Buffer[] ids, double tableMegabytes,
+                              Function<Buffer, Tuple> binds) throws Exception {
+        execute(vertx, pool, sql, ids, binds, OPS / 10, new long[OPS / 10]);
+        long[] latency = new long[OPS];
+        long start = System.nanoTime();
+        execute(vertx, pool, sql, ids, binds, OPS, latency);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latency);
+        return String.format("%-24s %10.0f %10.2f %10.2f %12.1f", name, OPS / seconds,
+            latency[OPS / 2] / 1e6, latency[OPS * 99 / 100] / 1e6, tableMegabytes);
+    }
+
+    /**
+     * {@code STREAMS} chains of statements, each issuing the next when the previous completes, until
+     * {@code count} statements have run; the latency of each goes into {@code latency}.
+     */
+    private static void execute(Vertx vertx, Pool pool, String sql, Buffer[] ids,
+                                Function<Buffer, Tuple> binds, int count, long[] latency)
+            throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger(STREAMS);
+        Promise<Void> done = Promise.promise();
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < STREAMS; i++) {
+                next(pool, sql, ids, binds, count, latency, issued, running, done);
+            }
+        });
+        await(done.future());
+    }
+
+    private static void next(Pool pool, String sql, Buffer[] ids, Function<Buffer, Tuple> binds,
+                             int count, long[] latency, AtomicInteger issued, AtomicInteger running,
+                             Promise<Void> done) {
+        int n = issued.getAndIncrement();
+        if (n >= count) {
+            if (running.decrementAndGet() == 0) {
+                done.tryComplete();
+            }
+            return;
+        }
+        Buffer id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        long begin = System.nanoTime();
+        pool.preparedQuery(sql).execute(binds.apply(id)).onComplete(ar -> {
+            if (ar.failed()) {
+                done.tryFail(ar.cause());
+                return;
+            }
+            latency[n] = System.nanoTime() - begin;
+            next(pool, sql, ids, binds, count, latency, issued, running, done);
+        });
+    }
+}
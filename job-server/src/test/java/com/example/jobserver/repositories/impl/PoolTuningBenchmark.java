@@ -0,0 +1,194 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.config.AppModule;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.jobserver.repositories.impl.BenchDatabase.await;
+import static com.example.jobserver.repositories.impl.BenchDatabase.migrate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Effect of the MySQL client settings on the repository's hot statements, against a real database (the
+ * docker-compose one by default): {@code bench.clients} callers each save a job and read it back, then
+ * the same callers claim the jobs in batches of {@code bench.claimBatch} and complete them. Every variant
+ * builds its pools as {@link AppModule} does, starting from no prepared statement cache and
+ * no pipelining and enabling one setting at a time.
+ *
+ * <p>Uses user 2 and deletes its jobs before and after each run, so point it at a scratch database. Skipped
+ * when the database is not reachable. Not part of the regular build; run with {@code mvn test -Pbench}.
+ * Tunable via system properties {@code bench.dbHost}, {@code bench.dbPort}, {@code bench.dbName},
+ * {@code bench.dbUser}, {@code bench.dbPassword}, {@code bench.jobs}, {@code bench.clients},
+ * {@code bench.poolSize}, {@code bench.claimBatch}, {@code bench.pipeliningLimit} and
+ * {@code bench.pipelinedPoolSize}.
+ */
+class PoolTuningBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 20_000);
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 64);
+    private static final int POOL_SIZE = Integer.getInteger("bench.poolSize", 4);
+    private static final int CLAIM_BATCH = Integer.getInteger("bench.claimBatch", 10);
+    private static final int PIPELINING_LIMIT = Integer.getInteger("bench.pipeliningLimit", 16);
+    private static final int PIPELINED_POOL_SIZE = Integer.getInteger("bench.pipelinedPoolSize", 2);
+    private static final long USER_ID = 2L;
+
+    @Test
+    @DisplayName("benchmark - prepared statement cache, pipelining and event loops on the hot statements")
+    void comparePoolSettings() throws Exception {
+        AppConfig base = config(false, 1, 0);
+        assumeTrue(migrate(base), "MySQL not reachable at " + base.getJdbcUrl());
+
+        // As many event loops as Vert.x starts by default
+        int loops = 2 * Runtime.getRuntime().availableProcessors();
+        List<String> rows = new ArrayList<>();
+        rows.add(run("no cache, no pipelining", base));
+        rows.add(run("statement cache", config(true, 1, 0)));
+        rows.add(run("cache + pipelining " + PIPELINING_LIMIT, config(true, PIPELINING_LIMIT, 0)));
+        rows.add(run("cache + pipelining + " + loops + " loops", config(true, PIPELINING_LIMIT, loops)));
+
+        System.out.printf("%nPool settings: %d jobs, %d clients, pool of %d, claim batch %d, %s%n",
+            JOBS, CLIENTS, POOL_SIZE, CLAIM_BATCH, base.getJdbcUrl());
+        System.out.printf("%-36s %12s %10s %10s %12s %10s %10s%n", "settings",
+            "submit ops/s", "p50 us", "p99 us", "work jobs/s", "p50 us", "p99 us");
+        rows.forEach(System.out::println);
+    }
+
+    private static AppConfig config(boolean cache, int pipeliningLimit, int eventLoops) {
+        return BenchDatabase.config()
+            .dbPoolSize(POOL_SIZE)
+            .dbPoolEventLoopSize(eventLoops)
+            .dbCachePreparedStatements(cache)
+            .dbPreparedStatementCacheSqlLimit(16384)
+            .dbPipeliningLimit(pipeliningLimit)
+            .dbPipelinedPoolSize(PIPELINED_POOL_SIZE)
+            .build();
+    }
+
+    private String run(String name, AppConfig config) throws Exception {
+        Vertx vertx = Vertx.vertx();
+        Pool pool = AppModule.createDatabasePool(vertx, config);
+        try {
+            JobRepository repository = new JobRepositoryImpl(AppModule.createJooqExecutor(vertx, pool, config));
+            await(deleteBenchJobs(pool));
+
+            long[] submitLatency = new long[JOBS];
+            long start = System.nanoTime();
+            AtomicInteger issued = new AtomicInteger();
+            await(clients(vertx, () -> submitLoop(repository, issued, submitLatency)));
+            double submitSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] workLatency = new long[JOBS];
+            AtomicInteger completed = new AtomicInteger();
+            start = System.nanoTime();
+            await(clients(vertx, () -> workLoop(repository, completed, workLatency)));
+            double workSeconds = (System.nanoTime() - start) / 1e9;
+            assertThat(completed.get()).as("completed jobs (%s)", name).isEqualTo(JOBS);
+
+            await(deleteBenchJobs(pool));
+            return String.format("%-36s %12.0f %10d %10d %12.0f %10d %10d", name,
+                2 * JOBS / submitSeconds, percentile(submitLatency, 0.50), percentile(submitLatency, 0.99),
+                JOBS / workSeconds, percentile(workLatency, 0.50), percentile(workLatency, 0.99));
+        } finally {
+            pool.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Starts {@code CLIENTS} copies of {@code loop} on the event loop and completes when all have finished.
+     */
+    private static Future<Void> clients(Vertx vertx, Supplier<Future<Void>> loop) {
+        return Future.<List<Future<Void>>>future(promise -> vertx.runOnContext(v -> {
+                List<Future<Void>> loops = new ArrayList<>();
+                for (int i = 0; i < CLIENTS; i++) {
+                    loops.add(loop.get());
+                }
+                promise.complete(loops);
+            }))
+            .compose(loops -> Future.all(loops).mapEmpty());
+    }
+
+    /**
+     * One caller saving a job and reading it back until {@code JOBS} jobs are saved; records each pair's
+     * latency in microseconds.
+     */
+    private static Future<Void> submitLoop(JobRepository repository, AtomicInteger issued, long[] latency) {
+        int n = issued.getAndIncrement();
+        if (n >= JOBS) {
+            return Future.succeededFuture();
+        }
+        Instant now = Instant.now();
+        Job job = Job.builder().id(UUID.randomUUID().toString()).userId(USER_ID).status(JobStatus.PENDING)
+            .priority(5).parameters(new JsonObject().put("n", n)).createdAt(now).updatedAt(now).build();
+        long begin = System.nanoTime();
+        return repository.save(job)
+            .compose(saved -> repository.findById(saved.getId()))
+            .compose(found -> {
+                latency[n] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+                return submitLoop(repository, issued, latency);
+            });
+    }
+
+    /**
+     * One worker claiming batches and completing each job until no job is left; records each claim and
+     * complete's latency per job in microseconds.
+     */
+    private static Future<Void> workLoop(JobRepository repository, AtomicInteger completed, long[] latency) {
+        long begin = System.nanoTime();
+        return repository.claimPendingForUser("bench-worker", USER_ID, CLAIM_BATCH, Duration.ofMinutes(5))
+            .compose(jobs -> {
+                if (jobs.isEmpty()) {
+                    return Future.succeededFuture();
+                }
+                List<Future<Boolean>> completions = new ArrayList<>();
+                for (Job job : jobs) {
+                    completions.add(repository.complete(job.getId(), "bench-worker",
+                        new JobResult(new JsonObject().put("ok", true))));
+                }
+                return Future.all(completions).compose(v -> {
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin) / jobs.size();
+                    for (int i = 0; i < jobs.size(); i++) {
+                        int index = completed.getAndIncrement();
+                        if (index < latency.length) {
+                            latency[index] = micros;
+                        }
+                    }
+                    return workLoop(repository, completed, latency);
+                });
+            });
+    }
+
+    private static Future<Void> deleteBenchJobs(Pool pool) {
+        return pool.query("DELETE jobs, job_payloads FROM jobs LEFT JOIN job_payloads ON job_payloads.job_id = jobs.id"
+            + " WHERE user_id = " + USER_ID)
+            .execute()
+            .mapEmpty();
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
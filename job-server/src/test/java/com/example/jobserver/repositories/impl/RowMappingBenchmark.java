@@ -0,0 +1,213 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobIds;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JsonPayload;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.MySQLRowImpl;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.datatype.DataType;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CPU cost of turning a {@code bench.rows}-row result into jobs, without a database. Rows are real MySQL client
+ * rows, filled per operation the way the codec fills them: before, {@code parameters} and {@code result} arrive
+ * as {@code JSON} columns the codec decodes into maps and the mapper reads by column name; after, they arrive as
+ * text that {@link JobRowMapper} keeps undecoded and every column is read by position. The last variant also
+ * reads every job's parameters, the case where laziness saves nothing. Ids arrive as text before and as the
+ * 16 bytes of a {@code BINARY(16)} column after.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.rows}, {@code bench.payloadFields}, {@code bench.forks}, {@code bench.iterations} and
+ * {@code bench.iterationMs}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowMappingBenchmark {
+
+    private static final int FORKS = Integer.getInteger("bench.forks", 1);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final long ITERATION_MS = Long.getLong("bench.iterationMs", 1000L);
+
+    private MySQLRowDesc jsonColumns;
+    private MySQLRowDesc textColumns;
+    private int rows;
+    private String[] ids;
+    private Buffer[] idBytes;
+    private String parameters;
+    private String result;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonColumns = columns(DataType.VARSTRING, DataType.JSON);
+        textColumns = columns(DataType.BINARY, DataType.LONG_TEXT);
+        rows = Integer.getInteger("bench.rows", 1000);
+        ids = new String[rows];
+        idBytes = new Buffer[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = JobIds.newId();
+            idBytes[i] = Buffer.buffer(JobIds.toBytes(ids[i]));
+        }
+        JsonObject object = new JsonObject();
+        for (int i = 0; i < Integer.getInteger("bench.payloadFields", 20); i++) {
+            object.put("field" + i, i % 2 == 0 ? "value-" + i : i);
+        }
+        parameters = object.encode();
+        result = new JsonObject().put("output", "done").put("durationMs", 42).encode();
+        now = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public void eagerByName(Blackhole blackhole) {
+        List<Job> jobs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // What the codec does to a JSON column while reading the row
+            JsonObject decodedResult = i % 2 == 0 ? new JsonObject(result) : null;
+            jobs.add(mapByName(row(jsonColumns, i, ids[i], new JsonObject(parameters), decodedResult)));
+        }
+        blackhole.consume(jobs);
+    }
+
+    @Benchmark
+    public void lazyByPosition(Blackhole blackhole) {
+        blackhole.consume(mapByPosition());
+    }
+
+    @Benchmark
+    public void lazyByPositionRead(Blackhole blackhole) {
+        for (Job job : mapByPosition()) {
+            blackhole.consume(job.getParameters());
+        }
+    }
+
+    private List<Job> mapByPosition() {
+        List<Job> jobs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            jobs.add(JobRowMapper.map(row(textColumns, i, idBytes[i], parameters, i % 2 == 0 ? result : null)));
+        }
+        return jobs;
+    }
+
+    private Row row(MySQLRowDesc desc, int i, Object id, Object parameters, Object result) {
+        MySQLRowImpl row = new MySQLRowImpl(desc);
+        row.addValue(id);
+        row.addValue(1L);
+        row.addValue(null);
+        row.addValue(i % 2 == 0 ? "COMPLETED" : "PROCESSING");
+        row.addValue((byte) 5);
+        row.addValue(null);
+        row.addValue((byte) 1);
+        row.addValue(300);
+        row.addValue(null);
+        row.addValue(now);
+        row.addValue(now);
+        row.addValue(parameters);
+        row.addValue(result);
+        return row;
+    }
+
+    /**
+     * The mapping {@link JobRepositoryImpl} did before {@link JobRowMapper}.
+     */
+    private static Job mapByName(Row row) {
+        Long projectId = row.getLong("project_id");
+        LocalDateTime runAt = row.getLocalDateTime("run_at");
+        JsonObject resultJson = row.getJsonObject("result");
+        Job job = new Job(row.getString("id"), row.getLong("user_id"), projectId,
+            JobStatus.valueOf(row.getString("status")), row.getInteger("priority"),
+            runAt != null ? runAt.toInstant(ZoneOffset.UTC) : null, row.getInteger("attempts"),
+            row.getInteger("timeout_seconds"), JsonPayload.of(row.getJsonObject("parameters")), null,
+            row.getString("error_message"), row.getLocalDateTime("created_at").toInstant(ZoneOffset.UTC),
+            row.getLocalDateTime("updated_at").toInstant(ZoneOffset.UTC));
+        if (resultJson != null) {
+            job.setResult(new JobResult(resultJson));
+        }
+        return job;
+    }
+
+    private static MySQLRowDesc columns(DataType idType, DataType payloadType) {
+        return MySQLRowDesc.create(new ColumnDefinition[] {
+            new ColumnDefinition("id", 0, idType, 0),
+            new ColumnDefinition("user_id", 0, DataType.INT64, 0),
+            new ColumnDefinition("project_id", 0, DataType.INT64, 0),
+            new ColumnDefinition("status", 0, DataType.STRING, 0),
+            new ColumnDefinition("priority", 0, DataType.INT8, 0),
+            new ColumnDefinition("run_at", 0, DataType.DATETIME, 0),
+            new ColumnDefinition("attempts", 0, DataType.INT32, 0),
+            new ColumnDefinition("timeout_seconds", 0, DataType.INT32, 0),
+            new ColumnDefinition("error_message", 0, DataType.TEXT, 0),
+            new ColumnDefinition("created_at", 0, DataType.DATETIME, 0),
+            new ColumnDefinition("updated_at", 0, DataType.DATETIME, 0),
+            new ColumnDefinition("parameters", 0, payloadType, 0),
+            new ColumnDefinition("result", 0, payloadType, 0)
+        }, DataFormat.BINARY);
+    }
+
+    @Test
+    @DisplayName("benchmark - eager name-based row mapping vs lazy positional mapping")
+    void compareMapping() throws Exception {
+        int rows = Integer.getInteger("bench.rows", 1000);
+        int payloadFields = Integer.getInteger("bench.payloadFields", 20);
+        Options options = new OptionsBuilder()
+            .include(RowMappingBenchmark.class.getName() + "\\.")
+            .forks(FORKS)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.milliseconds(ITERATION_MS))
+            .measurementIterations(ITERATIONS)
+            .measurementTime(TimeValue.milliseconds(ITERATION_MS))
+            .jvmArgsAppend("-Dbench.rows=" + rows, "-Dbench.payloadFields=" + payloadFields)
+            .shouldFailOnError(true)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results).hasSize(3);
+
+        Map<String, Double> scores = new TreeMap<>();
+        results.forEach(result -> scores.put(result.getParams().getBenchmark()
+            .substring(RowMappingBenchmark.class.getName().length() + 1), result.getPrimaryResult().getScore()));
+
+        double baseline = scores.get("eagerByName");
+        System.out.printf("%nRow mapping: %d rows, %d parameter fields, %d forks, %d x %d ms%n",
+            rows, payloadFields, FORKS, ITERATIONS, ITERATION_MS);
+        System.out.printf("%-22s %14s %10s %10s%n", "mapping", "us per result", "ns / row", "speedup");
+        for (String mapping : List.of("eagerByName", "lazyByPosition", "lazyByPositionRead")) {
+            double score = scores.get(mapping);
+            System.out.printf("%-22s %14.1f %10.0f %9.1fx%n", mapping, score, score * 1000 / rows, baseline / score);
+        }
+    }
+}
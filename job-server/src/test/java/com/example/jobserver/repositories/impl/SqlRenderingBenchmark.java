@@ -0,0 +1,191 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.jooq.enums.JobsStatus;
+import com.example.jobserver.model.JobIds;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Tuple;
+import org.jooq.DSLContext;
+import org.jooq.JSON;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jobserver.jooq.Tables.JOBS_;
+import static com.example.jobserver.jooq.Tables.JOB_PAYLOADS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CPU cost of turning a repository call into SQL and binds, without a database: building the jOOQ query and
+ * rendering it on every call, as {@link JobRepositoryImpl} used to, against binding a statement that
+ * {@link JooqExecutor} rendered once. Measured for the single-row {@code complete} UPDATE and a multi-row
+ * INSERT of {@code bench.rows} jobs.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.rows}, {@code bench.forks}, {@code bench.iterations} and {@code bench.iterationMs}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlRenderingBenchmark {
+
+    private static final int FORKS = Integer.getInteger("bench.forks", 1);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final long ITERATION_MS = Long.getLong("bench.iterationMs", 1000L);
+
+    private final DSLContext dsl = DSL.using(SQLDialect.MYSQL);
+    private JooqExecutor executor;
+    private int rows;
+    private List<String> ids;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The pool is never used: only the Tuple is built
+        executor = new JooqExecutor(null, dsl, JooqExecutor.DEFAULT_MAX_STATEMENTS);
+        rows = Integer.getInteger("bench.rows", 50);
+        ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(JobIds.newId());
+        }
+        payload = new JsonObject().put("output", "done").put("durationMs", 42).encode();
+    }
+
+    @Benchmark
+    public void completePerCall(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = dsl.update(JOBS_.join(JOB_PAYLOADS).on(JOB_PAYLOADS.JOB_ID.eq(JOBS_.ID)))
+            .set(JOBS_.STATUS, JobsStatus.COMPLETED)
+            .set(JOB_PAYLOADS.RESULT, JSON.json(payload))
+            .set(JOBS_.LEASE_OWNER, (String) null)
+            .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+            .set(JOBS_.UPDATED_AT, now)
+            .where(JOBS_.ID.eq(ids.get(0)))
+            .and(JOBS_.STATUS.eq(JobsStatus.PROCESSING));
+        blackhole.consume(query.getSQL(ParamType.INDEXED));
+        blackhole.consume(Tuple.of(JobsStatus.COMPLETED.getLiteral(), payload, null, null, now, ids.get(0),
+            JobsStatus.PROCESSING.getLiteral()));
+    }
+
+    @Benchmark
+    public void completeCached(Blackhole blackhole) {
+        JooqExecutor.Binds binds = executor.statement("jobs.complete", () -> dsl.update(
+                    JOBS_.join(JOB_PAYLOADS).on(JOB_PAYLOADS.JOB_ID.eq(JOBS_.ID)))
+                .set(JOBS_.STATUS, JobsStatus.COMPLETED)
+                .set(JOB_PAYLOADS.RESULT, DSL.param("result", JOB_PAYLOADS.RESULT))
+                .set(JOBS_.LEASE_OWNER, (String) null)
+                .set(JOBS_.LEASE_EXPIRES_AT, (LocalDateTime) null)
+                .set(JOBS_.UPDATED_AT, DSL.param("now", JOBS_.UPDATED_AT))
+                .where(JOBS_.ID.eq(DSL.param("id", JOBS_.ID)))
+                .and(JOBS_.STATUS.eq(JobsStatus.PROCESSING)))
+            .bind("result", payload)
+            .bind("now", LocalDateTime.now())
+            .bind("id", ids.get(0));
+        blackhole.consume(binds.tuple());
+    }
+
+    @Benchmark
+    public void insertPerCall(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();
+        var insert = dsl.insertInto(JOBS_, JOBS_.ID, JOBS_.USER_ID, JOBS_.PROJECT_ID, JOBS_.STATUS, JOBS_.PRIORITY,
+            JOBS_.RUN_AT, JOBS_.TIMEOUT_SECONDS, JOBS_.CREATED_AT, JOBS_.UPDATED_AT);
+        Tuple params = Tuple.tuple();
+        for (String id : ids) {
+            insert = insert.values(DSL.param(JOBS_.ID), DSL.param(JOBS_.USER_ID), DSL.param(JOBS_.PROJECT_ID),
+                DSL.param(JOBS_.STATUS), DSL.param(JOBS_.PRIORITY), DSL.param(JOBS_.RUN_AT),
+                DSL.param(JOBS_.TIMEOUT_SECONDS), DSL.param(JOBS_.CREATED_AT), DSL.param(JOBS_.UPDATED_AT));
+            params.addValue(id).addValue(1L).addValue(2L).addValue(JobsStatus.PENDING.getLiteral()).addValue(0)
+                .addValue(null).addValue(300).addValue(now).addValue(now);
+        }
+        blackhole.consume(insert.getSQL(ParamType.INDEXED));
+        blackhole.consume(params);
+    }
+
+    @Benchmark
+    public void insertCached(Blackhole blackhole) {
+        int count = rows;
+        JooqExecutor.Binds binds = executor.statement("jobs.insert:" + count, () -> insertShape(count))
+            .bindAll("id", ids)
+            .bindAll("userId", ids, id -> 1L)
+            .bindAll("projectId", ids, id -> 2L)
+            .bindAll("status", ids, id -> JobsStatus.PENDING)
+            .bindAll("priority", ids, id -> 0)
+            .bindAll("runAt", ids, id -> null)
+            .bindAll("timeoutSeconds", ids, id -> 300)
+            .bind("now", LocalDateTime.now());
+        blackhole.consume(binds.tuple());
+    }
+
+    private Query insertShape(int count) {
+        var insert = dsl.insertInto(JOBS_, JOBS_.ID, JOBS_.USER_ID, JOBS_.PROJECT_ID, JOBS_.STATUS, JOBS_.PRIORITY,
+            JOBS_.RUN_AT, JOBS_.TIMEOUT_SECONDS, JOBS_.CREATED_AT, JOBS_.UPDATED_AT);
+        for (int i = 0; i < count; i++) {
+            insert = insert.values(
+                JooqExecutor.param("id", i, JOBS_.ID),
+                JooqExecutor.param("userId", i, JOBS_.USER_ID),
+                JooqExecutor.param("projectId", i, JOBS_.PROJECT_ID),
+                JooqExecutor.param("status", i, JOBS_.STATUS),
+                JooqExecutor.param("priority", i, JOBS_.PRIORITY),
+                JooqExecutor.param("runAt", i, JOBS_.RUN_AT),
+                JooqExecutor.param("timeoutSeconds", i, JOBS_.TIMEOUT_SECONDS),
+                DSL.param("now", JOBS_.CREATED_AT),
+                DSL.param("now", JOBS_.UPDATED_AT));
+        }
+        return insert;
+    }
+
+    @Test
+    @DisplayName("benchmark - per-call jOOQ rendering vs cached statements")
+    void compareRendering() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(SqlRenderingBenchmark.class.getName() + "\\.")
+            .forks(FORKS)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.milliseconds(ITERATION_MS))
+            .measurementIterations(ITERATIONS)
+            .measurementTime(TimeValue.milliseconds(ITERATION_MS))
+            .jvmArgsAppend("-Dbench.rows=" + Integer.getInteger("bench.rows", 50))
+            .shouldFailOnError(true)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results).hasSize(4);
+
+        Map<String, Double> scores = new TreeMap<>();
+        results.forEach(result -> scores.put(result.getParams().getBenchmark()
+            .substring(SqlRenderingBenchmark.class.getName().length() + 1), result.getPrimaryResult().getScore()));
+
+        System.out.printf("%nSQL rendering: %d-row INSERT, %d forks, %d x %d ms%n",
+            Integer.getInteger("bench.rows", 50), FORKS, ITERATIONS, ITERATION_MS);
+        System.out.printf("%-12s %14s %14s %10s%n", "statement", "per call us", "cached us", "speedup");
+        for (String statement : List.of("complete", "insert")) {
+            double perCall = scores.get(statement + "PerCall");
+            double cached = scores.get(statement + "Cached");
+            System.out.printf("%-12s %14.2f %14.2f %9.1fx%n", statement, perCall, cached, perCall / cached);
+        }
+    }
+}
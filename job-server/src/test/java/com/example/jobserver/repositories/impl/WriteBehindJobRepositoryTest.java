@@ -0,0 +1,102 @@
+package com.example.jobserver.repositories.impl;
+
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({VertxExtension.class, MockitoExtension.class})
+class WriteBehindJobRepositoryTest {
+
+    @Mock
+    private JobRepository delegate;
+
+    @Test
+    @DisplayName("should write a full batch in one flush, in id order, and tell each caller whether it applied")
+    @SuppressWarnings("unchecked")
+    void shouldFlushFullBatchInIdOrder(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.applyTransitions(anyList())).thenReturn(Future.succeededFuture(Set.of("job-a", "job-c")));
+        WriteBehindJobRepository repository = new WriteBehindJobRepository(delegate, vertx, 60_000, 3);
+
+        // When
+        Future<Boolean> c = repository.complete("job-c", "worker-1", new JobResult(new JsonObject()));
+        Future<Boolean> b = repository.fail("job-b", "worker-1", JobStatus.FAILED, "bad input");
+        Future<Boolean> a = repository.scheduleRetry("job-a", "worker-1", Instant.now().plusSeconds(5), "timeout");
+
+        Future.all(a, b, c).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            // Then
+            assertThat(a.result()).isTrue();
+            assertThat(b.result()).isFalse();
+            assertThat(c.result()).isTrue();
+            ArgumentCaptor<List<JobTransition>> flushed = ArgumentCaptor.forClass(List.class);
+            verify(delegate, times(1)).applyTransitions(flushed.capture());
+            assertThat(flushed.getValue()).extracting(JobTransition::jobId).containsExactly("job-a", "job-b", "job-c");
+            assertThat(flushed.getValue().get(0).status()).isEqualTo(JobStatus.SCHEDULED);
+            assertThat(flushed.getValue()).extracting(JobTransition::workerId).containsOnly("worker-1");
+            assertThat(repository.metrics().getLong("flushes")).isEqualTo(1L);
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("should flush a partial batch once the maximum delay has passed")
+    void shouldFlushAfterMaxDelay(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.applyTransitions(anyList())).thenReturn(Future.succeededFuture(Set.of("job-1")));
+        WriteBehindJobRepository repository = new WriteBehindJobRepository(delegate, vertx, 20, 100);
+        long start = System.nanoTime();
+
+        // When
+        repository.complete("job-1", "worker-1", new JobResult(new JsonObject()))
+            .onComplete(testContext.succeeding(completed -> testContext.verify(() -> {
+                // Then
+                assertThat(completed).isTrue();
+                assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(15);
+                verify(delegate, times(1)).applyTransitions(anyList());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("should fail every caller of a batch whose transaction failed")
+    void shouldFailAllCallers_whenFlushFails(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(delegate.applyTransitions(any())).thenReturn(Future.failedFuture(new RuntimeException("deadlock")));
+        WriteBehindJobRepository repository = new WriteBehindJobRepository(delegate, vertx, 60_000, 2);
+
+        // When
+        Future<Boolean> first = repository.complete("job-1", "worker-1", new JobResult(new JsonObject()));
+        Future<Boolean> second = repository.fail("job-2", "worker-1", JobStatus.DEAD_LETTER, "gave up");
+
+        Future.join(first, second).onComplete(ar -> testContext.verify(() -> {
+            // Then
+            assertThat(first.failed()).isTrue();
+            assertThat(second.failed()).isTrue();
+            assertThat(first.cause()).hasMessage("deadlock");
+            assertThat(repository.metrics().getLong("failedFlushes")).isEqualTo(1L);
+            testContext.completeNow();
+        }));
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.jobserver.service.impl;
 
 import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobState;
 import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobSummaryPage;
+import com.example.jobserver.model.SubmissionOutcome;
 import com.example.jobserver.repositories.JobRepository;
 import com.example.jobserver.repositories.ProjectRepository;
 import com.example.jobserver.repositories.UserRepository;
+import com.example.jobserver.service.QueueFullException;
 import com.example.jobserver.worker.JobWorkerVerticle;
+import com.example.jobserver.worker.ScheduledJobDispatcherVerticle;
+import com.example.jobserver.worker.WorkerLoad;
 
 import io.vertx.core.Future;
 import io.vertx.core.eventbus.EventBus;
@@ -26,6 +35,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -44,11 +56,14 @@ class JobServiceImplTest {
     @Mock
     private EventBus eventBus;
 
+    private WorkerLoad workerLoad;
+
     private JobServiceImpl jobService;
 
     @BeforeEach
     void setUp() {
-        jobService = new JobServiceImpl(jobRepository, userRepository, projectRepository, eventBus);
+        workerLoad = new WorkerLoad(10, 100);
+        jobService = new JobServiceImpl(jobRepository, userRepository, projectRepository, eventBus, workerLoad);
     }
 
     @Test
@@ -151,11 +166,184 @@ class JobServiceImplTest {
             })));
     }
 
+    @Test
+    @DisplayName("submitJob - should reject with QueueFullException above the high-water mark")
+    void submitJob_shouldReject_whenQueueIsFull(VertxTestContext testContext) {
+        // Given
+        workerLoad.updatePendingBacklog(100);
+
+        // When
+        jobService.submitJob(1L, null, new JsonObject())
+            .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(QueueFullException.class);
+                verify(userRepository, never()).existsById(anyLong());
+                verify(jobRepository, never()).save(any());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJob - should store the requested priority")
+    void submitJob_shouldStorePriority(VertxTestContext testContext) {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(Future.succeededFuture(true));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        JobSubmission submission = JobSubmission.builder()
+            .userId(1L)
+            .parameters(new JsonObject())
+            .priority(Job.MAX_PRIORITY)
+            .build();
+
+        // When
+        jobService.submitJob(submission)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                ArgumentCaptor<Job> saved = ArgumentCaptor.forClass(Job.class);
+                verify(jobRepository).save(saved.capture());
+                assertThat(saved.getValue().getPriority()).isEqualTo(Job.MAX_PRIORITY);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJob - should fail when priority is out of range")
+    void submitJob_shouldFail_whenPriorityOutOfRange(VertxTestContext testContext) {
+        // Given
+        JobSubmission submission = JobSubmission.builder()
+            .userId(1L)
+            .parameters(new JsonObject())
+            .priority(Job.MAX_PRIORITY + 1)
+            .build();
+
+        // When
+        jobService.submitJob(submission)
+            .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(IllegalArgumentException.class);
+                assertThat(err.getMessage()).contains("Priority");
+                verify(jobRepository, never()).save(any());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJob - should store a future job as SCHEDULED and notify the scheduler instead of workers")
+    void submitJob_shouldSchedule_whenRunAtInFuture(VertxTestContext testContext) {
+        // Given
+        Instant runAt = Instant.now().plusSeconds(600);
+        when(userRepository.existsById(1L)).thenReturn(Future.succeededFuture(true));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        JobSubmission submission = JobSubmission.builder()
+            .userId(1L)
+            .parameters(new JsonObject())
+            .runAt(runAt)
+            .build();
+
+        // When
+        jobService.submitJob(submission)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                assertThat(job.getStatus()).isEqualTo(JobStatus.SCHEDULED);
+                assertThat(job.getRunAt()).isEqualTo(runAt);
+
+                ArgumentCaptor<JsonObject> messageCaptor = ArgumentCaptor.forClass(JsonObject.class);
+                verify(eventBus).send(eq(ScheduledJobDispatcherVerticle.JOB_SCHEDULED_ADDRESS), messageCaptor.capture());
+                assertThat(messageCaptor.getValue().getLong("runAt")).isEqualTo(runAt.toEpochMilli());
+                verify(eventBus, never()).send(eq(JobWorkerVerticle.JOB_PROCESS_ADDRESS), any());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJob - should queue a job right away when runAt is in the past")
+    void submitJob_shouldQueue_whenRunAtInPast(VertxTestContext testContext) {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(Future.succeededFuture(true));
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        JobSubmission submission = JobSubmission.builder()
+            .userId(1L)
+            .parameters(new JsonObject())
+            .runAt(Instant.now().minusSeconds(5))
+            .build();
+
+        // When
+        jobService.submitJob(submission)
+            .onComplete(testContext.succeeding(job -> testContext.verify(() -> {
+                // Then
+                assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+                assertThat(job.getRunAt()).isNull();
+                verify(eventBus).send(eq(JobWorkerVerticle.JOB_PROCESS_ADDRESS), any(JsonObject.class));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJob - should reject a timeout outside 1..MAX_TIMEOUT_SECONDS")
+    void submitJob_shouldFail_whenTimeoutOutOfRange(VertxTestContext testContext) {
+        // Given
+        JobSubmission submission = JobSubmission.builder()
+            .userId(1L)
+            .parameters(new JsonObject())
+            .timeoutSeconds(0)
+            .build();
+
+        // When
+        jobService.submitJob(submission)
+            .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(IllegalArgumentException.class);
+                assertThat(err.getMessage()).contains("timeoutSeconds");
+                verify(jobRepository, never()).save(any());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("cancelJob - should cancel the job and tell the workers")
+    void cancelJob_shouldCancelAndNotifyWorkers(VertxTestContext testContext) {
+        // Given
+        String jobId = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
+        JobState cancelled = state(jobId, JobStatus.CANCELLED);
+        when(jobRepository.cancel(jobId)).thenReturn(Future.succeededFuture(true));
+        when(jobRepository.findStateById(jobId)).thenReturn(Future.succeededFuture(Optional.of(cancelled)));
+
+        // When
+        jobService.cancelJob(jobId)
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                // Then
+                assertThat(result).map(JobState::status).contains(JobStatus.CANCELLED);
+                ArgumentCaptor<JsonObject> messageCaptor = ArgumentCaptor.forClass(JsonObject.class);
+                verify(eventBus).publish(eq(JobWorkerVerticle.JOB_CANCEL_ADDRESS), messageCaptor.capture());
+                assertThat(messageCaptor.getValue().getString("jobId")).isEqualTo(jobId);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("cancelJob - should leave a finished job alone")
+    void cancelJob_shouldNotNotify_whenJobFinished(VertxTestContext testContext) {
+        // Given
+        String jobId = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
+        JobState completed = state(jobId, JobStatus.COMPLETED);
+        when(jobRepository.cancel(jobId)).thenReturn(Future.succeededFuture(false));
+        when(jobRepository.findStateById(jobId)).thenReturn(Future.succeededFuture(Optional.of(completed)));
+
+        // When
+        jobService.cancelJob(jobId)
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                // Then
+                assertThat(result).map(JobState::status).contains(JobStatus.COMPLETED);
+                verify(eventBus, never()).publish(anyString(), any());
+                testContext.completeNow();
+            })));
+    }
+
     @Test
     @DisplayName("getJob - should return job when found")
     void getJob_shouldReturnJob_whenFound(VertxTestContext testContext) {
         // Given
-        String jobId = "test-job-id";
+        String jobId = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
         Job expectedJob = Job.builder()
                 .id(jobId)
                 .userId(1L)
@@ -181,7 +369,7 @@ class JobServiceImplTest {
     @DisplayName("getJob - should return empty when job not found")
     void getJob_shouldReturnEmpty_whenNotFound(VertxTestContext testContext) {
         // Given
-        String jobId = "non-existent-job";
+        String jobId = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4eff";
 
         when(jobRepository.findById(jobId)).thenReturn(Future.succeededFuture(Optional.empty()));
 
@@ -195,43 +383,178 @@ class JobServiceImplTest {
     }
 
     @Test
-    @DisplayName("getJobsByUser - should return user's jobs")
-    void getJobsByUser_shouldReturnUserJobs(VertxTestContext testContext) {
+    @DisplayName("getJob - should return empty for a malformed id without querying")
+    void getJob_shouldReturnEmpty_whenIdMalformed(VertxTestContext testContext) {
+        // When
+        jobService.getJob("not-a-job-id")
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                // Then
+                assertThat(result).isEmpty();
+                verifyNoInteractions(jobRepository);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("getJobStatus - should read the job's state without its payloads")
+    void getJobStatus_shouldReadStateOnly(VertxTestContext testContext) {
+        // Given
+        String jobId = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01";
+        when(jobRepository.findStateById(jobId))
+                .thenReturn(Future.succeededFuture(Optional.of(state(jobId, JobStatus.PROCESSING))));
+
+        // When
+        jobService.getJobStatus(jobId)
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                // Then
+                assertThat(result).map(JobState::status).contains(JobStatus.PROCESSING);
+                verify(jobRepository, never()).findById(anyString());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("getJobStatus - should return empty for a malformed id without querying")
+    void getJobStatus_shouldReturnEmpty_whenIdMalformed(VertxTestContext testContext) {
+        // When
+        jobService.getJobStatus("not-a-job-id")
+            .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                // Then
+                assertThat(result).isEmpty();
+                verifyNoInteractions(jobRepository);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("getJobsByUser - should return the last page without a next cursor")
+    void getJobsByUser_shouldReturnLastPage(VertxTestContext testContext) {
         // Given
         long userId = 1L;
-        List<Job> expectedJobs = List.of(
-                Job.builder().id("job1").userId(userId).status(JobStatus.PENDING)
-                        .parameters(new JsonObject()).createdAt(Instant.now()).updatedAt(Instant.now()).build(),
-                Job.builder().id("job2").userId(userId).status(JobStatus.COMPLETED)
-                        .parameters(new JsonObject()).createdAt(Instant.now()).updatedAt(Instant.now()).build()
+        List<JobSummary> expectedJobs = List.of(
+                new JobSummary("job1", userId, null, JobStatus.PENDING, 5, Instant.now()),
+                new JobSummary("job2", userId, null, JobStatus.COMPLETED, 5, Instant.now())
         );
 
-        when(jobRepository.findByUserId(userId)).thenReturn(Future.succeededFuture(expectedJobs));
+        when(jobRepository.findSummariesByUserId(userId, null, 51)).thenReturn(Future.succeededFuture(expectedJobs));
 
         // When
-        jobService.getJobsByUser(userId)
-            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+        jobService.getJobsByUser(userId, null, 50)
+            .onComplete(testContext.succeeding(page -> testContext.verify(() -> {
                 // Then
-                assertThat(jobs).hasSize(2);
-                assertThat(jobs).extracting(Job::getUserId).containsOnly(userId);
+                assertThat(page.jobs()).hasSize(2);
+                assertThat(page.jobs()).extracting(JobSummary::userId).containsOnly(userId);
+                assertThat(page.next()).isNull();
                 testContext.completeNow();
             })));
     }
 
     @Test
-    @DisplayName("getJobsByUser - should return empty list when no jobs found")
-    void getJobsByUser_shouldReturnEmptyList_whenNoJobsFound(VertxTestContext testContext) {
+    @DisplayName("getJobsByUser - should cut the extra row and point the cursor at the last job of the page")
+    void getJobsByUser_shouldReturnNextCursor_whenMoreJobsExist(VertxTestContext testContext) {
         // Given
-        long userId = 999L;
+        long userId = 1L;
+        Instant now = Instant.parse("2030-01-01T09:00:00Z");
+        JobCursor after = new JobCursor(now, "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e00");
+        String first = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e03";
+        String second = "01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e02";
+        List<JobSummary> jobs = List.of(
+                new JobSummary(first, userId, null, JobStatus.PENDING, 5, now.minusSeconds(1)),
+                new JobSummary(second, userId, null, JobStatus.PENDING, 5, now.minusSeconds(2)),
+                new JobSummary("01926f3a-8b2c-7d41-9e5f-0a1b2c3d4e01", userId, null, JobStatus.PENDING, 5,
+                        now.minusSeconds(3))
+        );
 
-        when(jobRepository.findByUserId(userId)).thenReturn(Future.succeededFuture(List.of()));
+        when(jobRepository.findSummariesByUserId(userId, after, 3)).thenReturn(Future.succeededFuture(jobs));
 
         // When
-        jobService.getJobsByUser(userId)
-            .onComplete(testContext.succeeding(jobs -> testContext.verify(() -> {
+        jobService.getJobsByUser(userId, after, 2)
+            .onComplete(testContext.succeeding(page -> testContext.verify(() -> {
                 // Then
-                assertThat(jobs).isEmpty();
+                assertThat(page.jobs()).extracting(JobSummary::id).containsExactly(first, second);
+                assertThat(page.next()).isEqualTo(new JobCursor(now.minusSeconds(2), second));
+                assertThat(JobCursor.decode(page.next().encode())).isEqualTo(page.next());
                 testContext.completeNow();
             })));
     }
+
+    @Test
+    @DisplayName("getJobsByUser - should reject a limit above the maximum")
+    void getJobsByUser_shouldFail_whenLimitTooLarge(VertxTestContext testContext) {
+        // When
+        jobService.getJobsByUser(1L, null, JobSummaryPage.MAX_LIMIT + 1)
+            .onComplete(testContext.failing(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(IllegalArgumentException.class);
+                verifyNoInteractions(jobRepository);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJobs - should store valid jobs with one insert and reject the others individually")
+    @SuppressWarnings("unchecked")
+    void submitJobs_shouldStoreValidJobsTogether(VertxTestContext testContext) {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(Future.succeededFuture(true));
+        when(userRepository.existsById(2L)).thenReturn(Future.succeededFuture(false));
+        when(jobRepository.saveAll(anyList())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        List<JobSubmission> submissions = List.of(
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).build(),
+            JobSubmission.builder().userId(2L).parameters(new JsonObject()).build(),
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).priority(42).build(),
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).priority(9).build());
+
+        // When
+        jobService.submitJobs(submissions)
+            .onComplete(testContext.succeeding(outcomes -> testContext.verify(() -> {
+                // Then
+                assertThat(outcomes).extracting(SubmissionOutcome::isAccepted).containsExactly(true, false, false, true);
+                assertThat(outcomes.get(1).error()).isEqualTo("User not found: 2");
+                assertThat(outcomes.get(2).error()).startsWith("Priority must be between");
+                assertThat(outcomes.get(3).job().getPriority()).isEqualTo(9);
+
+                // One lookup per distinct user, one multi-row insert, one wake-up per user
+                verify(userRepository, times(1)).existsById(1L);
+                ArgumentCaptor<List<Job>> saved = ArgumentCaptor.forClass(List.class);
+                verify(jobRepository).saveAll(saved.capture());
+                assertThat(saved.getValue()).hasSize(2);
+                verify(jobRepository, never()).save(any());
+                verify(eventBus, times(1)).publish(eq(JobWorkerVerticle.JOB_PROCESS_ADDRESS), any(JsonObject.class));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("submitJobs - should accept only as many valid jobs as fit below the high-water mark")
+    @SuppressWarnings("unchecked")
+    void submitJobs_shouldRejectOverflow_pastHighWaterMark(VertxTestContext testContext) {
+        // Given - room for two more jobs
+        workerLoad.updatePendingBacklog(98);
+        when(userRepository.existsById(1L)).thenReturn(Future.succeededFuture(true));
+        when(jobRepository.saveAll(anyList())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        List<JobSubmission> submissions = List.of(
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).priority(42).build(),
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).build(),
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).build(),
+            JobSubmission.builder().userId(1L).parameters(new JsonObject()).build());
+
+        // When
+        jobService.submitJobs(submissions)
+            .onComplete(testContext.succeeding(outcomes -> testContext.verify(() -> {
+                // Then - the invalid job takes no room; the last valid one is past the mark
+                assertThat(outcomes).extracting(SubmissionOutcome::isAccepted).containsExactly(false, true, true, false);
+                assertThat(outcomes.get(3).error()).startsWith("Job queue is full");
+                ArgumentCaptor<List<Job>> saved = ArgumentCaptor.forClass(List.class);
+                verify(jobRepository).saveAll(saved.capture());
+                assertThat(saved.getValue()).hasSize(2);
+                assertThat(workerLoad.isOverloaded()).isTrue();
+                testContext.completeNow();
+            })));
+    }
+
+    private static JobState state(String jobId, JobStatus status) {
+        Instant now = Instant.now();
+        return new JobState(jobId, 1L, status, Job.DEFAULT_PRIORITY, null, 1, null, now, now);
+    }
 }
@@ -0,0 +1,188 @@
+package com.example.jobserver.web;
+
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSubmission;
+import com.example.jobserver.model.SubmissionOutcome;
+import com.example.jobserver.service.JobService;
+import com.example.jobserver.service.QueueFullException;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({VertxExtension.class, MockitoExtension.class})
+class BatchSubmitHandlerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private JobService jobService;
+
+    private HttpServer server;
+    private WebClient client;
+
+    @BeforeEach
+    void setUp(Vertx vertx) throws Exception {
+        Router router = Router.router(vertx);
+        router.routeWithRegex(HttpMethod.POST, "/jobs:batch").handler(new BatchSubmitHandler(jobService, CHUNK_SIZE));
+        server = vertx.createHttpServer().requestHandler(router).listen(0)
+            .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        client = WebClient.create(vertx);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("should store a JSON array in chunks and stream one line per item")
+    @SuppressWarnings("unchecked")
+    void shouldStoreArrayInChunks(VertxTestContext testContext) {
+        // Given
+        when(jobService.submitJobs(anyList())).thenAnswer(invocation -> {
+            List<JobSubmission> submissions = invocation.getArgument(0);
+            List<SubmissionOutcome> outcomes = new ArrayList<>();
+            submissions.forEach(submission -> outcomes.add(SubmissionOutcome.accepted(job(submission))));
+            return Future.succeededFuture(outcomes);
+        });
+        String body = "[{\"userId\":1},{\"userId\":2},{\"userId\":3,\"priority\":7},{\"userId\":4},{\"userId\":5}]";
+
+        // When
+        client.post(server.actualPort(), "localhost", "/jobs:batch")
+            .putHeader("Content-Type", "application/json")
+            .sendBuffer(Buffer.buffer(body))
+            .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                // Then
+                assertThat(response.statusCode()).isEqualTo(200);
+                assertThat(response.getHeader("Content-Type")).isEqualTo("application/x-ndjson");
+                List<JsonObject> lines = lines(response.bodyAsString());
+                assertThat(lines).hasSize(6);
+                assertThat(lines.get(2).getString("jobId")).isEqualTo("job-3");
+                assertThat(lines.get(4).getInteger("index")).isEqualTo(4);
+                assertThat(lines.get(5)).isEqualTo(new JsonObject().put("accepted", 5).put("rejected", 0));
+
+                ArgumentCaptor<List<JobSubmission>> chunks = ArgumentCaptor.forClass(List.class);
+                verify(jobService, times(3)).submitJobs(chunks.capture());
+                assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+                assertThat(chunks.getAllValues().get(1).get(0).getPriority()).isEqualTo(7);
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("should parse an NDJSON stream across writes and reject bad items without failing the rest")
+    void shouldRejectBadItemsOnly(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(jobService.submitJobs(anyList())).thenAnswer(invocation -> {
+            List<JobSubmission> submissions = invocation.getArgument(0);
+            List<SubmissionOutcome> outcomes = new ArrayList<>();
+            submissions.forEach(submission -> outcomes.add(submission.getUserId() == 99
+                ? SubmissionOutcome.rejected("User not found: 99")
+                : SubmissionOutcome.accepted(job(submission))));
+            return Future.succeededFuture(outcomes);
+        });
+        HttpClient httpClient = vertx.createHttpClient();
+
+        // When
+        httpClient.request(HttpMethod.POST, server.actualPort(), "localhost", "/jobs:batch")
+            .compose(request -> {
+                request.setChunked(true).putHeader("Content-Type", "application/x-ndjson");
+                request.write("{\"userId\":1}\n{\"priori");
+                request.write("ty\":3}\n42\n{\"userId\":99}\n");
+                request.end("{\"userId\":2,\"runAt\":\"tomorrow\"}\n{\"userId\":5}\n");
+                return request.response();
+            })
+            .compose(response -> response.body().map(body -> {
+                assertThat(response.statusCode()).isEqualTo(200);
+                return body.toString();
+            }))
+            .onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+                // Then
+                List<JsonObject> lines = lines(body);
+                assertThat(lines).hasSize(7);
+                assertThat(lines.get(0).getString("jobId")).isEqualTo("job-1");
+                assertThat(lines.get(1).getString("error")).isEqualTo("userId is required");
+                assertThat(lines.get(2).getString("error")).isEqualTo("Job spec must be a JSON object");
+                assertThat(lines.get(3).getString("error")).isEqualTo("User not found: 99");
+                assertThat(lines.get(4).getString("error")).isEqualTo("Invalid runAt: tomorrow");
+                assertThat(lines.get(5).getString("jobId")).isEqualTo("job-5");
+                assertThat(lines.get(6)).isEqualTo(new JsonObject().put("accepted", 2).put("rejected", 4));
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("should answer 429 when the queue is full before anything was stored")
+    void shouldRejectWithTooManyRequests_whenQueueFull(VertxTestContext testContext) {
+        // Given
+        when(jobService.submitJobs(anyList())).thenReturn(Future.failedFuture(new QueueFullException("Job queue is full")));
+
+        // When
+        client.post(server.actualPort(), "localhost", "/jobs:batch")
+            .sendBuffer(Buffer.buffer("[{\"userId\":1},{\"userId\":2},{\"userId\":3}]"))
+            .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                // Then
+                assertThat(response.statusCode()).isEqualTo(429);
+                assertThat(response.getHeader("Retry-After")).isEqualTo("5");
+                verify(jobService, times(1)).submitJobs(anyList());
+                testContext.completeNow();
+            })));
+    }
+
+    @Test
+    @DisplayName("should answer 400 for malformed JSON")
+    void shouldRejectMalformedJson(VertxTestContext testContext) {
+        // When
+        client.post(server.actualPort(), "localhost", "/jobs:batch")
+            .sendBuffer(Buffer.buffer("[{\"userId\":1,]"))
+            .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                // Then
+                assertThat(response.statusCode()).isEqualTo(400);
+                assertThat(response.bodyAsJsonObject().getString("error")).startsWith("Malformed JSON");
+                verifyNoInteractions(jobService);
+                testContext.completeNow();
+            })));
+    }
+
+    private static Job job(JobSubmission submission) {
+        Instant now = Instant.now();
+        return Job.builder().id("job-" + submission.getUserId()).userId(submission.getUserId())
+            .status(JobStatus.PENDING).parameters(new JsonObject()).createdAt(now).updatedAt(now).build();
+    }
+
+    private static List<JsonObject> lines(String body) {
+        List<JsonObject> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(new JsonObject(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.jobserver.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveThrottleTest {
+
+    @Test
+    @DisplayName("nextPauseMs - should back off by how far a slow chunk overshot the target, up to the cap")
+    void nextPauseMs_shouldBackOffOnSlowChunks() {
+        // Given
+        ArchiveThrottle throttle = new ArchiveThrottle(100, 10, 1000);
+
+        // When / Then - target 100 ms, so every chunk here is slow
+        assertThat(throttle.nextPauseMs(250)).isEqualTo(625);
+        assertThat(throttle.nextPauseMs(150)).isEqualTo(225);
+        assertThat(throttle.nextPauseMs(150)).isEqualTo(225);
+        assertThat(throttle.nextPauseMs(5000)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("nextPauseMs - should halve the pause while chunks stay fast, down to the floor")
+    void nextPauseMs_shouldRecoverOnFastChunks() {
+        // Given - backed off after a slow chunk
+        ArchiveThrottle throttle = new ArchiveThrottle(100, 10, 1000);
+        throttle.nextPauseMs(800);
+
+        // When / Then
+        assertThat(throttle.nextPauseMs(20)).isEqualTo(500);
+        assertThat(throttle.nextPauseMs(20)).isEqualTo(250);
+        assertThat(throttle.nextPauseMs(100)).isEqualTo(125);
+        for (int i = 0; i < 10; i++) {
+            throttle.nextPauseMs(20);
+        }
+        assertThat(throttle.getPauseMs()).isEqualTo(10);
+    }
+}
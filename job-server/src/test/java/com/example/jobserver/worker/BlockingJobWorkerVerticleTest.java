@@ -0,0 +1,145 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.clients.ExternalServiceException;
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({VertxExtension.class, MockitoExtension.class})
+class BlockingJobWorkerVerticleTest {
+
+    private static final String JOB_ID = "job-1";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ExternalJobProcessor externalProcessor;
+
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        job = Job.builder().id(JOB_ID).userId(1L).status(JobStatus.PROCESSING).attempts(1)
+            .parameters(new JsonObject()).createdAt(now).updatedAt(now).build();
+        when(jobRepository.claimPending(anyString(), anyInt(), any(Duration.class)))
+            .thenReturn(Future.succeededFuture(List.of(job)), Future.succeededFuture(List.of()));
+        // Once the job's user is known, further claims go through its fair-share grant
+        lenient().when(jobRepository.claimPendingForUser(anyString(), anyLong(), anyInt(), any(Duration.class)))
+            .thenReturn(Future.succeededFuture(List.of()));
+    }
+
+    @Test
+    @DisplayName("runJob - should call the external service and complete the job on a virtual thread")
+    void runJob_shouldCompleteJob_onVirtualThread(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        JobResult result = new JobResult(new JsonObject().put("ok", true));
+        when(externalProcessor.process(eq(job), any())).thenReturn(Future.succeededFuture(result));
+        when(jobRepository.complete(eq(JOB_ID), anyString(), eq(result))).thenAnswer(invocation -> {
+            // Then - stored from straight-line code running on the job's own virtual thread
+            testContext.verify(() -> assertThat(Thread.currentThread().isVirtual()).isTrue());
+            testContext.completeNow();
+            return Future.succeededFuture(true);
+        });
+
+        // When
+        deploy(vertx, testContext);
+    }
+
+    @Test
+    @DisplayName("runJob - should schedule a retry when the awaited external call fails")
+    void runJob_shouldScheduleRetry_whenExternalCallFails(Vertx vertx, VertxTestContext testContext) {
+        // Given
+        when(externalProcessor.process(eq(job), any()))
+            .thenReturn(Future.failedFuture(new ExternalServiceException(503, "unavailable")));
+        when(jobRepository.scheduleRetry(eq(JOB_ID), anyString(), any(Instant.class), eq("unavailable")))
+            .thenAnswer(invocation -> {
+                // Then
+                testContext.completeNow();
+                return Future.succeededFuture(true);
+            });
+
+        // When
+        deploy(vertx, testContext);
+    }
+
+    @Test
+    @DisplayName("renewLeases - should abort a running job whose lease could not be renewed")
+    @SuppressWarnings("unchecked")
+    void renewLeases_shouldAbortJob_whenLeaseWasLost(Vertx vertx, VertxTestContext testContext) {
+        // Given - the reaper handed the job to another worker while its external call was running
+        when(jobRepository.renewLeases(anyString(), eq(List.of(JOB_ID)), any(Duration.class)))
+            .thenReturn(Future.succeededFuture(Set.of()));
+        when(externalProcessor.process(eq(job), any())).thenAnswer(invocation -> {
+            Future<Void> abort = invocation.getArgument(1);
+            abort.onFailure(err -> testContext.verify(() -> {
+                // Then
+                assertThat(err).isInstanceOf(CancellationException.class).hasMessageContaining("lease was lost");
+                testContext.completeNow();
+            }));
+            return abort.map(v -> (JobResult) null);
+        });
+
+        // When
+        deploy(vertx, testContext, 1);
+    }
+
+    private void deploy(Vertx vertx, VertxTestContext testContext) {
+        deploy(vertx, testContext, 60);
+    }
+
+    private void deploy(Vertx vertx, VertxTestContext testContext, int leaseSeconds) {
+        AppConfig config = AppConfig.builder()
+            .workerClaimBatchSize(1)
+            .workerMaxInFlight(1)
+            .workerLocalQueueSize(0)
+            .workerPollIntervalMs(60_000)
+            .jobLeaseSeconds(leaseSeconds)
+            .jobDefaultTimeoutSeconds(60)
+            .build();
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+            .maxAttempts(3)
+            .baseDelay(Duration.ofSeconds(1))
+            .maxDelay(Duration.ofSeconds(1))
+            .jitter(0)
+            .build();
+        BlockingJobWorkerVerticle worker = new BlockingJobWorkerVerticle(jobRepository, externalProcessor,
+            new WorkerLoad(1, Integer.MAX_VALUE), new FairShareScheduler(1, Map.of()), retryPolicy, config);
+        vertx.deployVerticle(worker, new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD))
+            .onComplete(testContext.succeeding(id -> { }));
+    }
+}
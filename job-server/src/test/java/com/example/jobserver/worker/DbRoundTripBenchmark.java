@@ -0,0 +1,296 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.ScheduledJob;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Jobs per second one DB connection sustains, with the DB as the only bottleneck: the external
+ * service answers at once and every statement holds the single simulated connection for
+ * {@code bench.dbLatencyMs}. Compares the former per-job statement sequence (status update and
+ * {@code findById} on dispatch, result and status written separately) with the batched claim and the
+ * single-statement {@link JobRepository#complete}. Both include the insert.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.jobs}, {@code bench.dbLatencyMs} and {@code bench.claimBatch}.
+ */
+class DbRoundTripBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 5000);
+    private static final long DB_LATENCY_MS = Long.getLong("bench.dbLatencyMs", 1L);
+    private static final int CLAIM_BATCH = Integer.getInteger("bench.claimBatch", 10);
+    private static final int USERS = 10;
+
+    @Test
+    @DisplayName("benchmark - split status writes vs claim + complete")
+    void compareRoundTrips() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(run(false));
+        rows.add(run(true));
+
+        System.out.printf("%nDB round trips per job: %d jobs, %d ms per statement, claim batch %d, 1 connection%n",
+            JOBS, DB_LATENCY_MS, CLAIM_BATCH);
+        System.out.printf("%-26s %14s %16s%n", "write path", "jobs/s/conn", "round trips/job");
+        rows.forEach(System.out::println);
+    }
+
+    private String run(boolean combined) throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            SingleConnectionJobRepository repository = new SingleConnectionJobRepository(vertx, combined, JOBS);
+            ExternalJobProcessor external = job -> Future.succeededFuture(new JobResult(new JsonObject().put("ok", true)));
+            AppConfig config = AppConfig.builder()
+                .workerClaimBatchSize(CLAIM_BATCH)
+                .workerMaxInFlight(CLAIM_BATCH * 10)
+                .workerLocalQueueSize(CLAIM_BATCH)
+                .workerPollIntervalMs(50)
+                .jobLeaseSeconds(600)
+                .jobDefaultTimeoutSeconds(60)
+                .build();
+            WorkerLoad workerLoad = new WorkerLoad(CLAIM_BATCH * 10, Integer.MAX_VALUE);
+            FairShareScheduler fairShare = new FairShareScheduler(CLAIM_BATCH, Map.of());
+            RetryPolicy retryPolicy = RetryPolicy.builder()
+                .maxAttempts(1)
+                .baseDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(1))
+                .build();
+
+            long start = System.nanoTime();
+            vertx.deployVerticle(new JobWorkerVerticle(repository, external, workerLoad, fairShare, retryPolicy, config))
+                .toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+            Instant now = Instant.now();
+            for (int i = 0; i < JOBS; i++) {
+                repository.save(Job.builder().id("job-" + i).userId(i % USERS).status(JobStatus.PENDING)
+                        .parameters(new JsonObject()).createdAt(now).updatedAt(now).build())
+                    .onSuccess(job -> vertx.eventBus().publish(JobWorkerVerticle.JOB_PROCESS_ADDRESS,
+                        new JsonObject().put("jobId", job.getId()).put("userId", job.getUserId())));
+            }
+
+            assertThat(repository.done.await(JOBS * DB_LATENCY_MS * 20 + 30_000, TimeUnit.MILLISECONDS))
+                .as("all jobs completed (combined=%s)", combined)
+                .isTrue();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            return String.format("%-26s %14.1f %16.2f", combined ? "claim + complete (after)" : "split writes (before)",
+                JOBS / seconds, repository.roundTrips.get() / (double) JOBS);
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * The jobs table behind one connection: statements run one at a time, each taking
+     * {@code DB_LATENCY_MS}. In {@code combined = false} mode every operation issues the statements the
+     * worker needed before they were merged.
+     */
+    private static class SingleConnectionJobRepository implements JobRepository {
+
+        private final Vertx vertx;
+        private final boolean combined;
+        private final Queue<Job> pending = new ArrayDeque<>();
+        private final Queue<Promise<Void>> statements = new ArrayDeque<>();
+        private final AtomicLong roundTrips = new AtomicLong();
+        private final CountDownLatch done;
+        private boolean busy;
+
+        SingleConnectionJobRepository(Vertx vertx, boolean combined, int jobs) {
+            this.vertx = vertx;
+            this.combined = combined;
+            this.done = new CountDownLatch(jobs);
+        }
+
+        /**
+         * Runs {@code count} statements back to back on the connection.
+         */
+        private Future<Void> execute(int count) {
+            Future<Void> chain = Future.succeededFuture();
+            for (int i = 0; i < count; i++) {
+                chain = chain.compose(v -> statement());
+            }
+            return chain;
+        }
+
+        private synchronized Future<Void> statement() {
+            roundTrips.incrementAndGet();
+            Promise<Void> promise = Promise.promise();
+            statements.add(promise);
+            if (!busy) {
+                runNext();
+            }
+            return promise.future();
+        }
+
+        private synchronized void runNext() {
+            Promise<Void> next = statements.poll();
+            busy = next != null;
+            if (next != null) {
+                vertx.setTimer(DB_LATENCY_MS, id -> {
+                    next.complete();
+                    runNext();
+                });
+            }
+        }
+
+        @Override
+        public Future<Job> save(Job job) {
+            return execute(1).map(v -> {
+                synchronized (pending) {
+                    pending.add(job);
+                }
+                return job;
+            });
+        }
+
+        @Override
+        public Future<List<Job>> claimPending(String workerId, int limit, Duration leaseDuration) {
+            List<Job> claimed = new ArrayList<>();
+            synchronized (pending) {
+                while (claimed.size() < limit && !pending.isEmpty()) {
+                    claimed.add(pending.poll());
+                }
+            }
+            claimed.forEach(job -> {
+                job.setStatus(JobStatus.PROCESSING);
+                job.setAttempts(job.getAttempts() + 1);
+            });
+            // BEGIN, SELECT ... SKIP LOCKED, UPDATE, COMMIT for the batch, versus status update + findById per job
+            return execute(combined ? 4 : 2 * claimed.size()).map(v -> claimed);
+        }
+
+        @Override
+        public Future<List<Job>> claimPendingForUser(String workerId, long userId, int limit, Duration leaseDuration) {
+            return claimPending(workerId, limit, leaseDuration);
+        }
+
+        @Override
+        public Future<Boolean> complete(String jobId, String workerId, JobResult result) {
+            // One conditional UPDATE, versus updateResult followed by the status update
+            return execute(combined ? 1 : 2).map(v -> {
+                done.countDown();
+                return true;
+            });
+        }
+
+        @Override
+        public Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage) {
+            return execute(combined ? 1 : 2).map(true);
+        }
+
+        @Override
+        public Future<Set<String>> renewLeases(String workerId, Collection<String> jobIds, Duration leaseDuration) {
+            return Future.succeededFuture(Set.copyOf(jobIds));
+        }
+
+        @Override
+        public Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Job>> saveAll(List<Job> jobs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Set<String>> applyTransitions(List<JobTransition> transitions) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Optional<Job>> findById(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Optional<JobState>> findStateById(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Job>> findByUserId(long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<JobSummary>> findSummariesByUserId(long userId, JobCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Boolean> cancel(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Long>> findUsersWithPending(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> requeueExpiredLeases(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> countPending(int cap) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<ScheduledJob>> findScheduled(Instant until, ScheduledJob after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> releaseScheduled(Collection<String> jobIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> releaseOverdueScheduled(Instant runAtBefore, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> agePending(int priority, Duration minAge, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<JobCursor>> archive(JobStatus status, int priority, Instant before, JobCursor after,
+                                               int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
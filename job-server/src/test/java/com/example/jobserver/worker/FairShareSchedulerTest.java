@@ -0,0 +1,106 @@
+package com.example.jobserver.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairShareSchedulerTest {
+
+    @Test
+    @DisplayName("next - should give the only active user the whole request")
+    void next_shouldGrantEverything_whenSingleUser() {
+        // Given
+        FairShareScheduler scheduler = new FairShareScheduler(5, Map.of());
+        scheduler.activate(1L);
+
+        // When
+        FairShareScheduler.Grant grant = scheduler.next(10);
+
+        // Then
+        assertThat(grant).isEqualTo(new FairShareScheduler.Grant(1L, 10));
+    }
+
+    @Test
+    @DisplayName("next - should return null when no user has pending jobs")
+    void next_shouldReturnNull_whenNoActiveUsers() {
+        FairShareScheduler scheduler = new FairShareScheduler(5, Map.of());
+
+        assertThat(scheduler.next(10)).isNull();
+    }
+
+    @Test
+    @DisplayName("next - should split dispatches in proportion to user weights")
+    void next_shouldHonourWeights() {
+        // Given - user 1 has a huge backlog but weight 1, user 2 has weight 3
+        FairShareScheduler scheduler = new FairShareScheduler(2, Map.of(2L, 3));
+        scheduler.activate(1L);
+        scheduler.activate(2L);
+
+        // When
+        Map<Long, Integer> granted = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            FairShareScheduler.Grant grant = scheduler.next(1);
+            granted.merge(grant.userId(), grant.jobs(), Integer::sum);
+        }
+
+        // Then
+        assertThat(granted.get(2L)).isEqualTo(3 * granted.get(1L));
+    }
+
+    @Test
+    @DisplayName("next - should cap each grant at the user's remaining deficit")
+    void next_shouldCapGrantAtQuantum() {
+        // Given
+        FairShareScheduler scheduler = new FairShareScheduler(5, Map.of());
+        scheduler.activate(1L);
+        scheduler.activate(2L);
+
+        // When / Then - each user gets one quantum per turn, in ring order
+        assertThat(scheduler.next(10)).isEqualTo(new FairShareScheduler.Grant(1L, 5));
+        assertThat(scheduler.next(10)).isEqualTo(new FairShareScheduler.Grant(2L, 5));
+        assertThat(scheduler.next(3)).isEqualTo(new FairShareScheduler.Grant(1L, 3));
+        assertThat(scheduler.next(10)).isEqualTo(new FairShareScheduler.Grant(1L, 2));
+    }
+
+    @Test
+    @DisplayName("onClaimed - should drop a user whose claim came back short until re-activated")
+    void onClaimed_shouldDeactivateUser_whenQueueRanDry() {
+        // Given
+        FairShareScheduler scheduler = new FairShareScheduler(5, Map.of());
+        scheduler.activate(1L);
+        scheduler.activate(2L);
+        FairShareScheduler.Grant grant = scheduler.next(10);
+
+        // When
+        scheduler.onClaimed(grant, 2);
+
+        // Then
+        assertThat(scheduler.getActiveUsers()).isEqualTo(1);
+        assertThat(scheduler.next(10).userId()).isEqualTo(2L);
+        assertThat(scheduler.next(10).userId()).isEqualTo(2L);
+
+        scheduler.activate(1L);
+        assertThat(scheduler.getActiveUsers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("recordQueueWait - should expose per-user percentiles")
+    void recordQueueWait_shouldExposePercentiles() {
+        // Given
+        FairShareScheduler scheduler = new FairShareScheduler(5, Map.of());
+
+        // When
+        for (int i = 1; i <= 100; i++) {
+            scheduler.recordQueueWait(7L, i);
+        }
+
+        // Then - buckets are accurate to within 25%
+        long p99 = scheduler.metrics().getJsonObject("queueWaitMs").getJsonObject("7").getLong("p99");
+        assertThat(p99).isBetween(99L, 100L);
+        assertThat(scheduler.metrics().getJsonObject("queueWaitMs").getJsonObject("7").getLong("count")).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.jobserver.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionRotationTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    @DisplayName("initial - should cover today and the days ahead, one partition each")
+    void initial_shouldReachAheadDays() {
+        PartitionRotation rotation = new PartitionRotation(2, 30);
+
+        assertThat(rotation.initial(TODAY)).containsExactly(
+            LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20));
+    }
+
+    @Test
+    @DisplayName("missing - should add only the days between the last partition and the days ahead")
+    void missing_shouldContinueAfterTheLastPartition() {
+        PartitionRotation rotation = new PartitionRotation(2, 30);
+        List<LocalDate> existing = List.of(LocalDate.of(2026, 10, 17), LocalDate.of(2026, 10, 18));
+
+        assertThat(rotation.missing(existing, TODAY))
+            .containsExactly(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20));
+        assertThat(rotation.missing(rotation.initial(TODAY), TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("expired - should only expire partitions whose every row is older than the retention")
+    void expired_shouldKeepPartitionsWithinRetention() {
+        PartitionRotation rotation = new PartitionRotation(2, 7);
+        List<LocalDate> existing = List.of(LocalDate.of(2026, 10, 9), LocalDate.of(2026, 10, 10),
+            LocalDate.of(2026, 10, 11), LocalDate.of(2026, 10, 18));
+
+        // The partition ending before 10-11 still holds rows from 10-10, only seven days old
+        assertThat(rotation.expired(existing, TODAY))
+            .containsExactly(LocalDate.of(2026, 10, 9), LocalDate.of(2026, 10, 10));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalServiceException;
+import com.example.jobserver.model.Job;
+
+import io.vertx.core.json.DecodeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryPolicyTest {
+
+    private static RetryPolicy.RetryPolicyBuilder policy() {
+        return RetryPolicy.builder()
+            .maxAttempts(3)
+            .baseDelay(Duration.ofSeconds(1))
+            .maxDelay(Duration.ofSeconds(10))
+            .jitter(0);
+    }
+
+    private static Job jobWithAttempts(int attempts) {
+        return Job.builder().id("job-1").userId(1L).attempts(attempts).build();
+    }
+
+    @Test
+    @DisplayName("isRetryable - should retry transient errors only")
+    void isRetryable_shouldClassifyErrors() {
+        RetryPolicy retryPolicy = policy().build();
+
+        assertThat(retryPolicy.isRetryable(new ExternalServiceException(503, "unavailable"))).isTrue();
+        assertThat(retryPolicy.isRetryable(new ExternalServiceException(429, "slow down"))).isTrue();
+        assertThat(retryPolicy.isRetryable(new ExternalServiceException(408, "timeout"))).isTrue();
+        assertThat(retryPolicy.isRetryable(new ConnectException("Connection refused"))).isTrue();
+        assertThat(retryPolicy.isRetryable(new TimeoutException())).isTrue();
+
+        assertThat(retryPolicy.isRetryable(new ExternalServiceException(400, "bad request"))).isFalse();
+        assertThat(retryPolicy.isRetryable(new IllegalArgumentException("bad parameters"))).isFalse();
+        assertThat(retryPolicy.isRetryable(new DecodeException("not json"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("backoff - should double per attempt up to the cap")
+    void backoff_shouldGrowExponentiallyAndCap() {
+        RetryPolicy retryPolicy = policy().build();
+
+        assertThat(retryPolicy.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(retryPolicy.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(retryPolicy.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(retryPolicy.backoff(5)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(retryPolicy.backoff(100)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("backoff - should spread full-jitter delays over [0, delay]")
+    void backoff_shouldApplyJitter() {
+        RetryPolicy retryPolicy = policy().jitter(1.0).build();
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < 1_000; i++) {
+            long delayMs = retryPolicy.backoff(3).toMillis();
+            min = Math.min(min, delayMs);
+            max = Math.max(max, delayMs);
+        }
+
+        assertThat(min).isBetween(0L, 400L);
+        assertThat(max).isBetween(3_600L, 4_000L);
+    }
+
+    @Test
+    @DisplayName("onFailure - should retry, then dead-letter once attempts run out, and fail non-retryable errors")
+    void onFailure_shouldDecideByAttemptsAndError() {
+        RetryPolicy retryPolicy = policy().build();
+        RuntimeException transientError = new ExternalServiceException(502, "bad gateway");
+
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), transientError))
+            .isEqualTo(new RetryPolicy.Decision(RetryPolicy.Outcome.RETRY, Duration.ofSeconds(1)));
+        assertThat(retryPolicy.onFailure(jobWithAttempts(2), transientError))
+            .isEqualTo(new RetryPolicy.Decision(RetryPolicy.Outcome.RETRY, Duration.ofSeconds(2)));
+        assertThat(retryPolicy.onFailure(jobWithAttempts(3), transientError).outcome())
+            .isEqualTo(RetryPolicy.Outcome.DEAD_LETTER);
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), new ExternalServiceException(404, "not found")).outcome())
+            .isEqualTo(RetryPolicy.Outcome.FAIL);
+
+        assertThat(retryPolicy.isAbandoned(jobWithAttempts(3))).isFalse();
+        assertThat(retryPolicy.isAbandoned(jobWithAttempts(4))).isTrue();
+    }
+
+    @Test
+    @DisplayName("onFailure - should dead-letter once the retry budget is spent, until it refills")
+    void onFailure_shouldRespectRetryBudget() {
+        // Given - 2 tokens, refilled at 1 per second on a fake clock
+        AtomicLong nanos = new AtomicLong();
+        RetryPolicy retryPolicy = policy().budget(new RetryBudget(1, 2, nanos::get)).build();
+        RuntimeException transientError = new ExternalServiceException(503, "unavailable");
+
+        // When / Then
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), transientError).outcome()).isEqualTo(RetryPolicy.Outcome.RETRY);
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), transientError).outcome()).isEqualTo(RetryPolicy.Outcome.RETRY);
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), transientError).outcome())
+            .isEqualTo(RetryPolicy.Outcome.DEAD_LETTER);
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(retryPolicy.onFailure(jobWithAttempts(1), transientError).outcome()).isEqualTo(RetryPolicy.Outcome.RETRY);
+        assertThat(retryPolicy.metrics().getLong("budgetExhausted")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jobserver.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final int SIZE = 8;
+
+    @Test
+    @DisplayName("add - should reject deadlines that have already passed")
+    void add_shouldReject_whenDeadlinePassed() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 10_000);
+
+        assertThat(wheel.add(9_999, "late")).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance - should fire items in their tick, never early")
+    void advance_shouldFireWithinOneTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(250, "a");
+        List<String> fired = new ArrayList<>();
+
+        // When / Then
+        wheel.advance(249, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(300, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance - should cascade far deadlines through overflow levels")
+    void advance_shouldCascadeOverflowLevels() {
+        // Given - one level spans 800 ms, so these need two and three levels
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(5_000L, 5_000L);
+        wheel.add(70_123L, 70_123L);
+        List<Long> fired = new ArrayList<>();
+
+        // When
+        wheel.advance(4_999, fired::add);
+        // Then
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        wheel.advance(5_100, fired::add);
+        assertThat(fired).containsExactly(5_000L);
+
+        wheel.advance(70_100, fired::add);
+        assertThat(fired).containsExactly(5_000L);
+        wheel.advance(70_200, fired::add);
+        assertThat(fired).containsExactly(5_000L, 70_123L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance - should fire every random deadline exactly once and within one tick")
+    void advance_shouldHandleRandomDeadlines() {
+        // Given
+        long start = 1_234;
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, SIZE, start);
+        Random random = new Random(42);
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            long deadline = start + random.nextInt(200_000);
+            assertThat(wheel.add(deadline, deadline)).isTrue();
+        }
+        List<long[]> fired = new ArrayList<>();
+
+        // When - advance in uneven steps
+        for (long now = start; now <= start + 201_000; now += 1 + random.nextInt(700)) {
+            long at = now;
+            wheel.advance(now, deadline -> fired.add(new long[] {deadline, at}));
+        }
+
+        // Then
+        assertThat(fired).hasSize(count);
+        assertThat(wheel.size()).isZero();
+        for (long[] event : fired) {
+            assertThat(event[1]).isGreaterThanOrEqualTo(event[0]);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.jobserver.worker;
+
+import com.example.jobserver.clients.ExternalJobProcessor;
+import com.example.jobserver.config.AppConfig;
+import com.example.jobserver.metrics.LatencyHistogram;
+import com.example.jobserver.model.Job;
+import com.example.jobserver.model.JobCursor;
+import com.example.jobserver.model.JobResult;
+import com.example.jobserver.model.JobState;
+import com.example.jobserver.model.JobStatus;
+import com.example.jobserver.model.JobSummary;
+import com.example.jobserver.model.JobTransition;
+import com.example.jobserver.model.ScheduledJob;
+import com.example.jobserver.repositories.JobRepository;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the worker threading models under the external service's latency profile (3 s per call):
+ * throughput, latency from the start of the external call until the job is stored as completed, and
+ * threads used. The jobs table and the external service are simulated in memory, with a small delay on
+ * every DB call, so only the worker's own overhead differs.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbench}. Tunable via system properties
+ * {@code bench.jobs}, {@code bench.latencyMs}, {@code bench.dbLatencyMs}, {@code bench.instances} and
+ * {@code bench.maxInFlight}.
+ */
+class WorkerThreadingBenchmark {
+
+    private static final int JOBS = Integer.getInteger("bench.jobs", 2000);
+    private static final long EXTERNAL_LATENCY_MS = Long.getLong("bench.latencyMs", 3000L);
+    private static final long DB_LATENCY_MS = Long.getLong("bench.dbLatencyMs", 2L);
+    private static final int INSTANCES = Integer.getInteger("bench.instances", 4);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("bench.maxInFlight", 100);
+    private static final int USERS = 10;
+
+    @Test
+    @DisplayName("benchmark - EVENT_LOOP vs WORKER vs VIRTUAL_THREAD")
+    void compareThreadingModels() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (ThreadingModel model : List.of(ThreadingModel.EVENT_LOOP, ThreadingModel.WORKER,
+                ThreadingModel.VIRTUAL_THREAD)) {
+            rows.add(run(model));
+        }
+
+        System.out.printf("%nWorker threading models: %d jobs, %d ms external latency, %d x %d in flight%n",
+            JOBS, EXTERNAL_LATENCY_MS, INSTANCES, MAX_IN_FLIGHT);
+        System.out.printf("%-15s %10s %9s %9s %9s %16s %16s%n",
+            "model", "jobs/s", "p50 ms", "p99 ms", "max ms", "peak platform", "handler threads");
+        rows.forEach(System.out::println);
+    }
+
+    private String run(ThreadingModel model) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Vertx vertx = Vertx.vertx();
+        try {
+            InMemoryJobRepository repository = new InMemoryJobRepository(vertx, JOBS);
+            ExternalJobProcessor external = job -> {
+                repository.startedAtNanos.put(job.getId(), System.nanoTime());
+                Promise<JobResult> promise = Promise.promise();
+                vertx.setTimer(EXTERNAL_LATENCY_MS, id -> promise.complete(new JobResult(new JsonObject().put("ok", true))));
+                return promise.future();
+            };
+            AppConfig config = AppConfig.builder()
+                .workerClaimBatchSize(MAX_IN_FLIGHT)
+                .workerMaxInFlight(MAX_IN_FLIGHT)
+                .workerLocalQueueSize(MAX_IN_FLIGHT)
+                .workerPollIntervalMs(1000)
+                .jobLeaseSeconds(60)
+                .jobDefaultTimeoutSeconds(60)
+                .build();
+            WorkerLoad workerLoad = new WorkerLoad(INSTANCES * MAX_IN_FLIGHT, Integer.MAX_VALUE);
+            FairShareScheduler fairShare = new FairShareScheduler(MAX_IN_FLIGHT, Map.of());
+            RetryPolicy retryPolicy = RetryPolicy.builder()
+                .maxAttempts(1)
+                .baseDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(1))
+                .build();
+
+            threads.resetPeakThreadCount();
+            long start = System.nanoTime();
+            DeploymentOptions options = new DeploymentOptions().setThreadingModel(model).setInstances(INSTANCES);
+            vertx.deployVerticle(() -> model == ThreadingModel.VIRTUAL_THREAD
+                    ? new BlockingJobWorkerVerticle(repository, external, workerLoad, fairShare, retryPolicy, config)
+                    : new JobWorkerVerticle(repository, external, workerLoad, fairShare, retryPolicy, config), options)
+                .toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+            long expectedMs = JOBS / (INSTANCES * MAX_IN_FLIGHT) * EXTERNAL_LATENCY_MS;
+            assertThat(repository.done.await(expectedMs * 3 + 30_000, TimeUnit.MILLISECONDS))
+                .as("all jobs completed with %s", model)
+                .isTrue();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            LatencyHistogram latency = repository.latency;
+            return String.format("%-15s %10.1f %9d %9d %9d %16d %16d", model, JOBS / seconds,
+                latency.percentile(0.5), latency.percentile(0.99), latency.percentile(1.0),
+                threads.getPeakThreadCount(), repository.handlerThreads.size());
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Just enough of the jobs table for the worker's happy path. Every call completes after
+     * {@code DB_LATENCY_MS}, on the caller's context, like the MySQL client.
+     */
+    private static class InMemoryJobRepository implements JobRepository {
+
+        private final Vertx vertx;
+        private final Queue<Job> pending = new ArrayDeque<>();
+        private final Map<String, Long> startedAtNanos = new ConcurrentHashMap<>();
+        private final Set<Thread> handlerThreads = ConcurrentHashMap.newKeySet();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final CountDownLatch done;
+
+        InMemoryJobRepository(Vertx vertx, int jobs) {
+            this.vertx = vertx;
+            this.done = new CountDownLatch(jobs);
+            Instant now = Instant.now();
+            for (int i = 0; i < jobs; i++) {
+                pending.add(Job.builder().id("job-" + i).userId(i % USERS).status(JobStatus.PENDING)
+                    .parameters(new JsonObject()).createdAt(now).updatedAt(now).build());
+            }
+        }
+
+        private <T> Future<T> later(T value) {
+            Promise<T> promise = Promise.promise();
+            vertx.setTimer(DB_LATENCY_MS, id -> promise.complete(value));
+            return promise.future();
+        }
+
+        @Override
+        public Future<List<Job>> claimPending(String workerId, int limit, Duration leaseDuration) {
+            List<Job> claimed = new ArrayList<>();
+            synchronized (pending) {
+                while (claimed.size() < limit && !pending.isEmpty()) {
+                    claimed.add(pending.poll());
+                }
+            }
+            claimed.forEach(job -> {
+                job.setStatus(JobStatus.PROCESSING);
+                job.setAttempts(job.getAttempts() + 1);
+            });
+            return later(claimed);
+        }
+
+        @Override
+        public Future<List<Job>> claimPendingForUser(String workerId, long userId, int limit, Duration leaseDuration) {
+            // User order does not matter here; the scheduler only needs the batch sizes
+            return claimPending(workerId, limit, leaseDuration);
+        }
+
+        @Override
+        public Future<Boolean> complete(String jobId, String workerId, JobResult result) {
+            handlerThreads.add(Thread.currentThread());
+            Long startedAt = startedAtNanos.remove(jobId);
+            if (startedAt != null) {
+                // Everything above EXTERNAL_LATENCY_MS is the worker's overhead (plus one DB call)
+                latency.record((System.nanoTime() - startedAt) / 1_000_000);
+                done.countDown();
+            }
+            return later(true);
+        }
+
+        @Override
+        public Future<Set<String>> renewLeases(String workerId, Collection<String> jobIds, Duration leaseDuration) {
+            return later(Set.copyOf(jobIds));
+        }
+
+        @Override
+        public Future<Boolean> fail(String jobId, String workerId, JobStatus status, String errorMessage) {
+            return later(true);
+        }
+
+        @Override
+        public Future<Boolean> scheduleRetry(String jobId, String workerId, Instant runAt, String errorMessage) {
+            return later(false);
+        }
+
+        @Override
+        public Future<Job> save(Job job) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Job>> saveAll(List<Job> jobs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Set<String>> applyTransitions(List<JobTransition> transitions) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Optional<Job>> findById(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Optional<JobState>> findStateById(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Job>> findByUserId(long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<JobSummary>> findSummariesByUserId(long userId, JobCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Boolean> cancel(String jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<Long>> findUsersWithPending(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> requeueExpiredLeases(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> countPending(int cap) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<ScheduledJob>> findScheduled(Instant until, ScheduledJob after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> releaseScheduled(Collection<String> jobIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> releaseOverdueScheduled(Instant runAtBefore, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> agePending(int priority, Duration minAge, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<List<JobCursor>> archive(JobStatus status, int priority, Instant before, JobCursor after,
+                                               int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}